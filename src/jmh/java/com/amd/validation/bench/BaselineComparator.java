@@ -0,0 +1,95 @@
+package com.amd.validation.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.json> <result.json> [thresholdPercent]}.
+ * Each benchmark (name + parameters) present in both files is printed with its relative
+ * change. A change worse than the threshold (slower for time modes, lower for throughput)
+ * is flagged as a regression and makes the tool exit with status 1. A missing baseline
+ * is reported and ignored, so the first run can produce one:
+ * {@code cp target/jmh-result.json src/jmh/baseline.json}.
+ * </p>
+ */
+public final class BaselineComparator {
+
+    private BaselineComparator() { /* utility class */ }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        Path baselinePath = Paths.get(args[0]);
+        Path resultPath = Paths.get(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        if (!Files.exists(baselinePath)) {
+            System.out.println("No JMH baseline at " + baselinePath + "; skipping comparison.");
+            return;
+        }
+        if (!Files.exists(resultPath)) {
+            System.out.println("No JMH result at " + resultPath + "; nothing to compare.");
+            return;
+        }
+
+        Map<String, JsonNode> baseline = load(baselinePath);
+        Map<String, JsonNode> current = load(resultPath);
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> e : current.entrySet()) {
+            JsonNode base = baseline.get(e.getKey());
+            if (base == null) {
+                continue;
+            }
+            double before = base.path("primaryMetric").path("score").asDouble();
+            double after = e.getValue().path("primaryMetric").path("score").asDouble();
+            String unit = e.getValue().path("primaryMetric").path("scoreUnit").asText();
+            boolean higherIsBetter = "thrpt".equals(e.getValue().path("mode").asText());
+
+            double changePct = before == 0 ? 0 : (after - before) / before * 100.0;
+            double worsePct = higherIsBetter ? -changePct : changePct;
+            boolean regressed = worsePct > threshold;
+            if (regressed) regressions++;
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %s%s%n",
+                e.getKey(), before, after, changePct, unit, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + threshold + "%");
+    }
+
+    /**
+     * Indexes a JMH result file by benchmark name plus parameters.
+     */
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            Iterator<Map.Entry<String, JsonNode>> it = params.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> p = it.next();
+                key.append(' ').append(p.getKey()).append('=').append(p.getValue().asText());
+            }
+            byKey.put(key.toString(), run);
+        }
+        return byKey;
+    }
+}
@@ -0,0 +1,90 @@
+package com.amd.validation.bench;
+
+import com.amd.validation.BatchThresholdEvaluator;
+import com.amd.validation.FanSpeedValidation;
+import com.amd.validation.FleetTelemetryColumns;
+import com.amd.validation.GpuHealthValidation;
+import com.amd.validation.GpuMemoryUsageValidation;
+import com.amd.validation.PassBitmaps;
+import com.amd.validation.PowerConsumptionValidation;
+import com.amd.validation.TestContext;
+import com.amd.validation.ValidationTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating the fan, power, memory and health checks over a fleet:
+ * <ul>
+ *   <li>{@code tasks} - one {@link ValidationTask#execute} call per device and task, the
+ *       way {@code TestRunner} does it, collecting verdicts into bitmaps;</li>
+ *   <li>{@code scalar} / {@code vector} - {@link BatchThresholdEvaluator} over prebuilt
+ *       {@link FleetTelemetryColumns};</li>
+ *   <li>{@code columnsAndVector} - the vector path including laying out the columns.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchEvaluationBenchmark {
+
+    @Param({"10000", "100000"})
+    public int devices;
+
+    private List<TestContext> fleet;
+    private FleetTelemetryColumns columns;
+
+    private final ValidationTask[] tasks = {
+        new FanSpeedValidation(), new PowerConsumptionValidation(),
+        new GpuMemoryUsageValidation(), new GpuHealthValidation()
+    };
+
+    @Setup
+    public void setUp() {
+        fleet = BenchFixtures.fleet(devices);
+        columns = FleetTelemetryColumns.of(fleet);
+    }
+
+    @Benchmark
+    public long[][] tasks() {
+        long[][] bits = new long[tasks.length][(devices + 63) >>> 6];
+        for (int i = 0; i < devices; i++) {
+            TestContext ctx = fleet.get(i);
+            for (int t = 0; t < tasks.length; t++) {
+                if (tasks[t].execute(ctx).isPassed()) {
+                    bits[t][i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return bits;
+    }
+
+    @Benchmark
+    public PassBitmaps scalar() {
+        return BatchThresholdEvaluator.scalar().evaluate(columns);
+    }
+
+    @Benchmark
+    public PassBitmaps vector() {
+        return BatchThresholdEvaluator.vector().evaluate(columns);
+    }
+
+    @Benchmark
+    public PassBitmaps columnsAndVector() {
+        return BatchThresholdEvaluator.vector().evaluate(FleetTelemetryColumns.of(fleet));
+    }
+}
@@ -0,0 +1,77 @@
+package com.amd.validation.bench;
+
+import com.amd.validation.FanSpeedValidation;
+import com.amd.validation.GpuMemoryUsageValidation;
+import com.amd.validation.PCIeLinkValidation;
+import com.amd.validation.PowerConsumptionValidation;
+import com.amd.validation.SystemInfoFetcher;
+import com.amd.validation.TestContext;
+import com.amd.validation.TestReport;
+import com.amd.validation.ThermalMonitorCheck;
+import com.amd.validation.ValidationResult;
+import com.amd.validation.ValidationTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Shared inputs for the benchmarks: populated contexts, task lists and prebuilt reports.
+ */
+final class BenchFixtures {
+
+    private BenchFixtures() { /* utility class */ }
+
+    /** @return a context populated with the mock sensor values */
+    static TestContext context(String deviceId) {
+        TestContext ctx = new TestContext(deviceId);
+        SystemInfoFetcher.populate(ctx);
+        return ctx;
+    }
+
+    /** @return the five built-in CLI tasks, repeated until {@code count} tasks are listed */
+    static List<ValidationTask> tasks(int count) {
+        List<ValidationTask> builtIn = List.of(
+            new PCIeLinkValidation(true),
+            new ThermalMonitorCheck(true),
+            new GpuMemoryUsageValidation(),
+            new FanSpeedValidation(),
+            new PowerConsumptionValidation()
+        );
+        List<ValidationTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(builtIn.get(i % builtIn.size()));
+        }
+        return tasks;
+    }
+
+    /**
+     * @return {@code count} contexts with readings spread around the default limits, so
+     *         that every check fails on a few percent of devices (fixed seed)
+     */
+    static List<TestContext> fleet(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<TestContext> fleet = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TestContext ctx = context(String.format("GPU-%05d", i));
+            ctx.setGpuTemperature(40 + random.nextDouble() * 50);
+            ctx.setFanSpeedRPM(700 + random.nextInt(2900));
+            ctx.setPowerWatts(90 + random.nextInt(120));
+            ctx.setMemoryUsedGB(random.nextDouble() * 7.6);
+            fleet.add(ctx);
+        }
+        return fleet;
+    }
+
+    /** @return a report with {@code count} results (every 50th one failing) */
+    static TestReport report(int count) {
+        TestReport report = new TestReport();
+        for (int i = 0; i < count; i++) {
+            boolean pass = i % 50 != 0;
+            report.add(new ValidationResult("Task-" + (i % 5), pass,
+                pass ? "Within limits" : "Out of range: sample " + i));
+        }
+        report.setContext(context("GPU-BENCH"));
+        return report;
+    }
+}
@@ -0,0 +1,85 @@
+package com.amd.validation.bench;
+
+import com.amd.validation.CsvReportExporter;
+import com.amd.validation.JsonReportExporter;
+import com.amd.validation.TestReport;
+import com.amd.validation.ZipReportBundler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures export throughput of the CSV, JSON and ZIP writers for large reports, including
+ * ZIP bundles streamed from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportBenchmark {
+
+    @Param({"10000", "1000000"})
+    int results;
+
+    private TestReport report;
+    private Path dir;
+    private Path bundleSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        report = BenchFixtures.report(results);
+        dir = Files.createTempDirectory("export-bench");
+
+        // Pre-rendered files for the ZIP benchmark, kept apart from the timed outputs
+        bundleSource = Files.createDirectories(dir.resolve("bundle"));
+        CsvReportExporter.export(report, bundleSource.resolve("report.csv"));
+        JsonReportExporter.export(report, bundleSource.resolve("report.json"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void csv() throws IOException {
+        CsvReportExporter.export(report, dir.resolve("out.csv"));
+    }
+
+    @Benchmark
+    public void json() throws IOException {
+        JsonReportExporter.export(report, dir.resolve("out.json"));
+    }
+
+    @Benchmark
+    public void zip() throws IOException {
+        ZipReportBundler.bundleReports(bundleSource, dir.resolve("out.zip"));
+    }
+
+    @Benchmark
+    public void zipStreamed() throws IOException {
+        ZipReportBundler.bundleReports(List.of(report), dir.resolve("streamed.zip"));
+    }
+}
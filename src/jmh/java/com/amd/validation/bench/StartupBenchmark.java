@@ -0,0 +1,138 @@
+package com.amd.validation.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures CLI startup of the shaded jar with and without its AppCDS archive.
+ * <p>
+ * JMH cannot measure a cold JVM, so this launches {@code java -jar} as a child process and
+ * times two things per run: time-to-first-result (until the first report header appears
+ * on stdout) and total wall time until the process exits. Runs alternate between the two
+ * variants so that drift on the machine affects both equally.
+ * </p>
+ * <p>
+ * Usage: {@code StartupBenchmark <jar> <archive.jsa> [runs] [app args...]}. It only uses the
+ * JDK, so it can run as a single-file program without compiling:
+ * {@code java src/jmh/java/com/amd/validation/bench/StartupBenchmark.java target/app.jar target/app.jsa 20}.
+ * The archive variant runs with {@code -Xshare:on}, so an archive that does not match the
+ * jar or the JDK fails the benchmark instead of silently measuring nothing.
+ * </p>
+ */
+public final class StartupBenchmark {
+
+    /** First line of every printed report */
+    static final String FIRST_RESULT = "=== Test Summary ===";
+
+    private static final List<String> DEFAULT_APP_ARGS = List.of("--summary-only");
+
+    private StartupBenchmark() { /* utility class */ }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: StartupBenchmark <jar> <archive.jsa> [runs] [app args...]");
+            System.exit(2);
+        }
+        Path jar = Path.of(args[0]).toAbsolutePath();
+        Path archive = Path.of(args[1]).toAbsolutePath();
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        List<String> appArgs = args.length > 3 ? Arrays.asList(args).subList(3, args.length) : DEFAULT_APP_ARGS;
+
+        if (!Files.exists(archive)) {
+            System.err.println("No CDS archive at " + archive + "; build it with mvn -Pappcds package");
+            System.exit(2);
+        }
+        List<String> plain = List.of();
+        List<String> cds = List.of("-Xshare:on", "-XX:SharedArchiveFile=" + archive);
+
+        // one untimed launch each warms the page cache
+        launch(jar, plain, appArgs);
+        launch(jar, cds, appArgs);
+
+        long[][] plainTimes = new long[2][runs];
+        long[][] cdsTimes = new long[2][runs];
+        for (int i = 0; i < runs; i++) {
+            long[] p = launch(jar, plain, appArgs);
+            long[] c = launch(jar, cds, appArgs);
+            plainTimes[0][i] = p[0];
+            plainTimes[1][i] = p[1];
+            cdsTimes[0][i] = c[0];
+            cdsTimes[1][i] = c[1];
+        }
+
+        System.out.printf("Startup of %s, %d runs, args %s%n", jar.getFileName(), runs, appArgs);
+        System.out.printf("%-28s %12s %12s %12s %12s%n", "", "first p50", "first p90", "exit p50", "exit p90");
+        print("default", plainTimes);
+        print("AppCDS", cdsTimes);
+        System.out.printf("Time-to-first-result speedup: %.2fx%n",
+            (double) percentile(plainTimes[0], 50) / percentile(cdsTimes[0], 50));
+    }
+
+    /**
+     * Runs the jar once.
+     *
+     * @return {time to first result, time to exit} in nanoseconds
+     */
+    private static long[] launch(Path jar, List<String> jvmArgs, List<String> appArgs)
+            throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(jvmArgs);
+        cmd.add("-jar");
+        cmd.add(jar.toString());
+        cmd.addAll(appArgs);
+
+        Path scratch = Files.createTempDirectory("startup-bench");
+        long start = System.nanoTime();
+        Process p = new ProcessBuilder(cmd).directory(scratch.toFile()).redirectErrorStream(true).start();
+        long first = -1;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (first < 0 && line.contains(FIRST_RESULT)) {
+                    first = System.nanoTime() - start;
+                }
+                output.append(line).append('\n');
+            }
+        }
+        int status = p.waitFor();
+        long exit = System.nanoTime() - start;
+        deleteTree(scratch);
+
+        if (status != 0 || first < 0) {
+            System.err.print(output);
+            throw new IllegalStateException("Run failed (exit " + status + "): " + String.join(" ", cmd));
+        }
+        return new long[] {first, exit};
+    }
+
+    private static void print(String label, long[][] times) {
+        System.out.printf("%-28s %10.1fms %10.1fms %10.1fms %10.1fms%n", label,
+            percentile(times[0], 50) / 1e6, percentile(times[0], 90) / 1e6,
+            percentile(times[1], 50) / 1e6, percentile(times[1], 90) / 1e6);
+    }
+
+    private static long percentile(long[] values, int pct) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(pct / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.amd.validation.bench;
+
+import com.amd.validation.MetricsRegistry;
+import com.amd.validation.TestContext;
+import com.amd.validation.TestReport;
+import com.amd.validation.TestRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TestRunner#runAll(TestContext)} end to end for growing task lists, with
+ * and without a {@link MetricsRegistry} attached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestRunnerBenchmark {
+
+    @Param({"1", "10", "1000"})
+    int taskCount;
+
+    private TestRunner runner;
+    private TestRunner instrumented;
+    private TestContext context;
+
+    @Setup
+    public void setUp() {
+        runner = new TestRunner(BenchFixtures.tasks(taskCount));
+        instrumented = new TestRunner(BenchFixtures.tasks(taskCount)).withMetrics(new MetricsRegistry());
+        context = BenchFixtures.context("GPU-BENCH");
+    }
+
+    @Benchmark
+    public TestReport runAll() {
+        return runner.runAll(context);
+    }
+
+    @Benchmark
+    public TestReport runAllInstrumented() {
+        return instrumented.runAll(context);
+    }
+}
@@ -0,0 +1,88 @@
+package com.amd.validation.bench;
+
+import com.amd.validation.FanSpeedValidation;
+import com.amd.validation.GpuHealthValidation;
+import com.amd.validation.GpuMemoryUsageValidation;
+import com.amd.validation.PCIeLinkValidation;
+import com.amd.validation.PCIeLocationValidation;
+import com.amd.validation.PowerConsumptionValidation;
+import com.amd.validation.TestContext;
+import com.amd.validation.ThermalMonitorCheck;
+import com.amd.validation.ValidationResult;
+import com.amd.validation.ValidationTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single {@link ValidationTask#execute(TestContext)} call for each built-in task.
+ * Run with {@code -prof gc} to see allocation per evaluation; passing evaluations should
+ * report {@code gc.alloc.rate.norm} of about 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationTaskBenchmark {
+
+    private TestContext context;
+
+    private final ValidationTask pcieLink = new PCIeLinkValidation(true);
+    private final ValidationTask pcieLocation = new PCIeLocationValidation("PCI bus 4, device 0, function 0");
+    private final ValidationTask thermal = new ThermalMonitorCheck(true);
+    private final ValidationTask memory = new GpuMemoryUsageValidation();
+    private final ValidationTask fan = new FanSpeedValidation();
+    private final ValidationTask power = new PowerConsumptionValidation();
+    private final ValidationTask health = new GpuHealthValidation(85.0, 7.0);
+
+    @Setup
+    public void setUp() {
+        context = BenchFixtures.context("GPU-BENCH");
+    }
+
+    @Benchmark
+    public ValidationResult pcieLink() {
+        return pcieLink.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult pcieLocation() {
+        return pcieLocation.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult thermal() {
+        return thermal.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult memory() {
+        return memory.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult fan() {
+        return fan.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult power() {
+        return power.execute(context);
+    }
+
+    @Benchmark
+    public ValidationResult health() {
+        return health.execute(context);
+    }
+}
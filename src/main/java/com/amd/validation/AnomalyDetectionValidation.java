@@ -0,0 +1,146 @@
+package com.amd.validation;
+
+/**
+ * AnomalyDetectionValidation fails a device whose telemetry is an outlier among devices of
+ * the same SKU, even when it is within every fixed limit, e.g. a card running 15 °C hotter
+ * than its siblings but still below {@code health.maxTempC}.
+ * <p>
+ * Each metric of {@link FleetStatistics.Metric} is scored against the device's SKU in a
+ * shared {@link FleetStatistics} baseline:
+ * </p>
+ * <pre>
+ * MAD      (default) modified z = 0.6745 * (x - median) / MAD, limit 3.5
+ * Z_SCORE            z = (x - mean) / stddev,                limit 3.0
+ * </pre>
+ * <p>
+ * The median-based score is the default because one hot card barely moves the median,
+ * while it inflates the mean and standard deviation it is measured against; when the
+ * baseline includes the device itself, a z-score can never exceed (n − 1) / √n. The scale
+ * is floored at 1% of the centre, so a fleet of identical readings does not flag rounding
+ * noise. SKUs with fewer than {@link #MIN_PEERS} observed devices are not judged.
+ * </p>
+ */
+public class AnomalyDetectionValidation implements ValidationTask {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(AnomalyDetectionValidation.class);
+
+    /** Fewest devices of a SKU needed before its outliers are judged */
+    public static final int MIN_PEERS = 5;
+
+    /** How a value's distance from its siblings is measured */
+    public enum Method {
+        /** Modified z-score from the median and median absolute deviation */
+        MAD(3.5),
+        /** Standard score from the mean and standard deviation */
+        Z_SCORE(3.0);
+
+        private final double defaultLimit;
+
+        Method(double defaultLimit) {
+            this.defaultLimit = defaultLimit;
+        }
+
+        /** @return the score above which a value is an outlier by default */
+        public double defaultLimit() {
+            return defaultLimit;
+        }
+    }
+
+    /** Consistency constant relating the MAD to the standard deviation of a normal distribution */
+    private static final double MAD_SCALE = 0.6745;
+
+    private final FleetStatistics baseline;
+    private final Method method;
+    private final double limit;
+
+    /**
+     * Constructs a check using modified z-scores with the default limit.
+     *
+     * @param baseline the fleet distributions to compare against
+     */
+    public AnomalyDetectionValidation(FleetStatistics baseline) {
+        this(baseline, Method.MAD, Method.MAD.defaultLimit());
+    }
+
+    /**
+     * Constructs a check.
+     *
+     * @param baseline the fleet distributions to compare against
+     * @param method   how to score values
+     * @param limit    highest acceptable absolute score
+     */
+    public AnomalyDetectionValidation(FleetStatistics baseline, Method method, double limit) {
+        if (!(limit > 0)) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        this.baseline = baseline;
+        this.method = method;
+        this.limit = limit;
+    }
+
+    /**
+     * Scores each metric of the device against its SKU and fails on the worst outlier.
+     *
+     * @param context the device
+     * @return the result; when failed, its value and limit are the outlying reading and the
+     *         bound it crossed, otherwise the largest absolute score and the score limit
+     */
+    @Override
+    public ValidationResult execute(TestContext context) {
+        String sku = FleetStatistics.skuOf(context);
+        FleetStatistics.Metric worstMetric = null;
+        double worstScore = 0, worstValue = Double.NaN, worstCentre = Double.NaN, worstScale = Double.NaN;
+        long peers = 0;
+
+        for (FleetStatistics.Metric m : FleetStatistics.Metric.values()) {
+            FleetStatistics.Summary s = baseline.summary(sku, m);
+            double x = m.of(context);
+            if (s == null || s.count() < MIN_PEERS || Double.isNaN(x)) {
+                continue;
+            }
+            peers = Math.max(peers, s.count());
+            double centre = method == Method.MAD ? s.median() : s.mean();
+            double spread = method == Method.MAD ? s.mad() / MAD_SCALE : s.stddev();
+            double scale = Math.max(spread, Math.abs(centre) * 0.01);
+            if (!(scale > 0)) {
+                continue;
+            }
+            double score = (x - centre) / scale;
+            if (Math.abs(score) > Math.abs(worstScore)) {
+                worstMetric = m;
+                worstScore = score;
+                worstValue = x;
+                worstCentre = centre;
+                worstScale = scale;
+            }
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Anomaly score of {} among {} {} devices: {}", context.getDeviceId(), peers, sku, worstScore);
+        }
+        if (peers == 0) {
+            return new ValidationResult("AnomalyDetectionValidation", true,
+                () -> String.format("Not judged: fewer than %d %s devices observed", MIN_PEERS, sku),
+                Double.NaN, Double.NaN);
+        }
+        long n = peers;
+        if (Math.abs(worstScore) <= limit) {
+            double score = worstScore;
+            return new ValidationResult("AnomalyDetectionValidation", true,
+                () -> String.format("Within %.1f of %d %s devices (largest score %.2f)", limit, n, sku, score),
+                Math.abs(score), limit);
+        }
+
+        FleetStatistics.Metric metric = worstMetric;
+        double value = worstValue, centre = worstCentre, score = worstScore;
+        double bound = centre + Math.signum(score) * limit * worstScale;
+        String what = method == Method.MAD ? "median" : "mean";
+        return new ValidationResult("AnomalyDetectionValidation", false,
+            () -> String.format("%s %.1f %s is %.1f %s %s the %s %s of %.1f %s (%d devices)",
+                metric.label(), value, metric.unit(), Math.abs(score),
+                method == Method.MAD ? "robust deviations" : "standard deviations",
+                score > 0 ? "above" : "below", sku, what, centre, metric.unit(), n),
+            value, bound);
+    }
+}
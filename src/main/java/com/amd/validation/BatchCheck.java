@@ -0,0 +1,31 @@
+package com.amd.validation;
+
+/**
+ * The threshold checks a {@link BatchThresholdEvaluator} runs, each equivalent to one of
+ * the built-in task classes.
+ */
+public enum BatchCheck {
+
+    /** {@link FanSpeedValidation}: {@code fan.minRpm <= rpm <= fan.maxRpm} */
+    FAN("FanSpeedValidation"),
+
+    /** {@link PowerConsumptionValidation}: {@code watts <= power.maxWatts} */
+    POWER("PowerConsumptionValidation"),
+
+    /** {@link GpuMemoryUsageValidation}: {@code total > 0 && used / total * 100 < memory.maxPercent} */
+    MEMORY("GpuMemoryUsageValidation"),
+
+    /** {@link GpuHealthValidation}: {@code temp <= health.maxTempC && used <= health.maxMemoryGB} */
+    HEALTH("GpuHealthValidation");
+
+    private final String taskName;
+
+    BatchCheck(String taskName) {
+        this.taskName = taskName;
+    }
+
+    /** @return the name of the equivalent task, as in its results */
+    public String taskName() {
+        return taskName;
+    }
+}
@@ -0,0 +1,86 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evaluates the built-in threshold checks ({@link BatchCheck}) for a whole fleet at once.
+ * <p>
+ * Instead of one {@link ValidationTask#execute} call per device and task, the checks run
+ * as tight loops over {@link FleetTelemetryColumns}, producing {@link PassBitmaps}. The
+ * verdicts are the same as the task classes'; only passed/failed is computed, so callers
+ * wanting failure details re-run the task for the failed rows.
+ * </p>
+ * <p>
+ * Two implementations exist: a scalar loop that runs everywhere, and one using the
+ * incubating Vector API ({@code jdk.incubator.vector}), which is used when the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}.
+ * </p>
+ * <p>
+ * {@link #screen} is the fleet entry point (the CLI's {@code --screen}): it keeps only the
+ * devices that failed a check, so the full task run reports on far fewer devices.
+ * </p>
+ */
+public interface BatchThresholdEvaluator {
+
+    /**
+     * Evaluates every check for every row.
+     *
+     * @param columns the fleet telemetry
+     * @return one pass bitmap per check
+     */
+    PassBitmaps evaluate(FleetTelemetryColumns columns);
+
+    /**
+     * Evaluates a fleet and returns the devices that failed at least one of {@code checks},
+     * in their original order.
+     *
+     * @param contexts populated device contexts
+     * @param checks   the checks that count; the others are evaluated but ignored
+     * @return the devices to validate in full
+     */
+    default List<TestContext> screen(List<TestContext> contexts, Collection<BatchCheck> checks) {
+        PassBitmaps bitmaps = evaluate(FleetTelemetryColumns.of(contexts));
+        List<TestContext> failed = new ArrayList<>();
+        for (int row = 0; row < contexts.size(); row++) {
+            for (BatchCheck check : checks) {
+                if (!bitmaps.isPassed(check, row)) {
+                    failed.add(contexts.get(row));
+                    break;
+                }
+            }
+        }
+        return failed;
+    }
+
+    /** @return a short name for logs and benchmarks, e.g. {@code scalar} */
+    String name();
+
+    /** @return the portable scalar implementation */
+    static BatchThresholdEvaluator scalar() {
+        return ScalarThresholdEvaluator.INSTANCE;
+    }
+
+    /**
+     * @return the Vector API implementation
+     * @throws UnsupportedOperationException if {@code jdk.incubator.vector} is not loaded
+     */
+    static BatchThresholdEvaluator vector() {
+        if (!vectorAvailable()) {
+            throw new UnsupportedOperationException(
+                "Vector API not available; start the JVM with --add-modules jdk.incubator.vector");
+        }
+        return VectorThresholdEvaluator.INSTANCE;
+    }
+
+    /** @return the Vector API implementation if available, otherwise the scalar one */
+    static BatchThresholdEvaluator best() {
+        return vectorAvailable() ? VectorThresholdEvaluator.INSTANCE : ScalarThresholdEvaluator.INSTANCE;
+    }
+
+    /** @return whether the {@code jdk.incubator.vector} module is loaded in this JVM */
+    static boolean vectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,375 @@
+package com.amd.validation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BinaryResultLog is an append-only, memory-mapped log of validation results.
+ * <p>
+ * Every result becomes one fixed-width record, so appending costs a dictionary lookup
+ * and a few stores into mapped memory; the OS writes the pages back, and a process crash
+ * loses nothing that was already appended. Task names and device IDs are stored once in
+ * a side dictionary ({@code <log>.dict}, one tab-separated entry per line) and referenced
+ * by index. Messages are not stored; the measured value and limit are. The dictionary
+ * also keeps each device's name, driver and PCIe location, written again only when they
+ * change, so an export fills the same columns as a live run.
+ * </p>
+ * <pre>
+ * header (64 bytes): magic "GPURLOG1" | version int | record size int | record count long | reserved
+ * record (40 bytes): device index int | task id int | timestamp millis long |
+ *                    value double | limit double | flags int (bit 0 = passed) | reserved int
+ * </pre>
+ * <p>
+ * Opening an existing log appends to it. The log is a {@link ResultSink}, so a
+ * {@link TestRunner} writes to it with {@link TestRunner#withSink(ResultSink)}. Use
+ * {@link BinaryResultLogReader} to scan it or convert it to CSV/JSON.
+ * </p>
+ */
+public class BinaryResultLog implements ResultSink {
+
+    static final long MAGIC = 0x47505552_4C4F4731L; // "GPURLOG1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 40;
+
+    static final int OFF_COUNT = 16;
+
+    static final int REC_DEVICE = 0;
+    static final int REC_TASK = 4;
+    static final int REC_TIMESTAMP = 8;
+    static final int REC_VALUE = 16;
+    static final int REC_LIMIT = 24;
+    static final int REC_FLAGS = 32;
+
+    static final int FLAG_PASSED = 1;
+
+    /** Records per mapped segment (40 MB); records never straddle segments */
+    static final int SEGMENT_RECORDS = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final Writer dictionary;
+
+    private final Map<String, Integer> deviceIndex = new HashMap<>();
+    private final Map<String, Integer> taskIndex = new HashMap<>();
+    private final Map<Integer, DeviceInfo> deviceInfo = new HashMap<>();
+
+    private MappedByteBuffer segment;
+    private long segmentNumber = -1;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Opens a log for appending, creating it if it does not exist.
+     *
+     * @param file the log file; the dictionary is written next to it
+     * @throws IOException if the file cannot be opened or is not a result log
+     */
+    public BinaryResultLog(Path file) throws IOException {
+        this.file = file;
+        Path dictFile = dictionaryPath(file);
+        boolean existing = Files.exists(file) && Files.size(file) >= HEADER_SIZE;
+
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+        if (existing) {
+            if (header.getLong(0) != MAGIC || header.getInt(12) != RECORD_SIZE) {
+                channel.close();
+                throw new IOException("Not a binary result log: " + file);
+            }
+            count = header.getLong(OFF_COUNT);
+            try {
+                loadDictionary(dictFile, deviceIndex, taskIndex, deviceInfo);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } else {
+            header.putLong(0, MAGIC);
+            header.putInt(8, VERSION);
+            header.putInt(12, RECORD_SIZE);
+            header.putLong(OFF_COUNT, 0);
+        }
+
+        this.dictionary = Files.newBufferedWriter(dictFile, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /** @return the side dictionary file that belongs to a log */
+    public static Path dictionaryPath(Path log) {
+        return log.resolveSibling(log.getFileName() + ".dict");
+    }
+
+    /** @return the log file */
+    public Path getFile() {
+        return file;
+    }
+
+    /** @return the number of records in the log */
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Device properties kept in the dictionary; {@code null} where the context had none.
+     */
+    record DeviceInfo(String name, String driver, String pciLocation) {
+
+        static final DeviceInfo NONE = new DeviceInfo(null, null, null);
+
+        static DeviceInfo of(TestContext c) {
+            return new DeviceInfo(c.getDeviceName(), c.getDriverVersion(), c.getPciLocation());
+        }
+
+        void applyTo(TestContext c) {
+            c.setDeviceName(name);
+            c.setDriverVersion(driver);
+            c.setPciLocation(pciLocation);
+        }
+    }
+
+    @Override
+    public void accept(TestContext context, ValidationResult result) {
+        accept(context, result, System.currentTimeMillis());
+    }
+
+    @Override
+    public synchronized void accept(TestContext context, ValidationResult result, long timestampMillis) {
+        append(context.getDeviceId(), result.getTaskName(), result.isPassed(),
+               result.getValue(), result.getLimit(), timestampMillis);
+        DeviceInfo info = DeviceInfo.of(context);
+        int dev = deviceIndex.get(context.getDeviceId() != null ? context.getDeviceId() : "");
+        if (!info.equals(deviceInfo.getOrDefault(dev, DeviceInfo.NONE))) {
+            deviceInfo.put(dev, info);
+            try {
+                dictionary.write("M\t" + dev + "\t" + escape(info.name()) + "\t" + escape(info.driver())
+                                 + "\t" + escape(info.pciLocation()) + "\n");
+                dictionary.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Appends one record.
+     *
+     * @param deviceId        the device identifier
+     * @param taskName        the task name
+     * @param passed          the verdict
+     * @param value           measured value (NaN if none)
+     * @param limit           limit compared against (NaN if none)
+     * @param timestampMillis epoch milliseconds
+     */
+    public synchronized void append(String deviceId, String taskName, boolean passed,
+                                    double value, double limit, long timestampMillis) {
+        if (closed) {
+            throw new IllegalStateException("Log is closed: " + file);
+        }
+        try {
+            int dev = intern(deviceIndex, 'D', deviceId);
+            int task = intern(taskIndex, 'T', taskName);
+
+            MappedByteBuffer seg = segmentFor(count);
+            int off = (int) (count % SEGMENT_RECORDS) * RECORD_SIZE;
+            seg.putInt(off + REC_DEVICE, dev);
+            seg.putInt(off + REC_TASK, task);
+            seg.putLong(off + REC_TIMESTAMP, timestampMillis);
+            seg.putDouble(off + REC_VALUE, value);
+            seg.putDouble(off + REC_LIMIT, limit);
+            seg.putInt(off + REC_FLAGS, passed ? FLAG_PASSED : 0);
+            seg.putInt(off + REC_FLAGS + 4, 0);
+
+            // Publish the record only after its bytes are in place
+            header.putLong(OFF_COUNT, ++count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to " + file, e);
+        }
+    }
+
+    /**
+     * Forces mapped pages and the dictionary to storage.
+     */
+    @Override
+    public synchronized void flush() {
+        if (closed) return;
+        try {
+            dictionary.flush();
+            if (segment != null) segment.force();
+            header.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush " + file, e);
+        }
+    }
+
+    /**
+     * Flushes the log and trims the file to the records actually written.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        flush();
+        closed = true;
+        try {
+            dictionary.close();
+            channel.truncate(HEADER_SIZE + count * RECORD_SIZE);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close " + file, e);
+        }
+    }
+
+    /**
+     * Returns the mapped segment holding record {@code index}, mapping (and growing the
+     * file) when the previous segment is full.
+     */
+    private MappedByteBuffer segmentFor(long index) throws IOException {
+        long seg = index / SEGMENT_RECORDS;
+        if (seg != segmentNumber) {
+            if (segment != null) segment.force();
+            long pos = HEADER_SIZE + seg * SEGMENT_RECORDS * (long) RECORD_SIZE;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, pos, (long) SEGMENT_RECORDS * RECORD_SIZE);
+            segmentNumber = seg;
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the index of a string, adding it to the dictionary on first use.
+     */
+    private int intern(Map<String, Integer> index, char kind, String value) throws IOException {
+        String key = value != null ? value : "";
+        Integer id = index.get(key);
+        if (id == null) {
+            id = index.size();
+            index.put(key, id);
+            dictionary.write(kind + "\t" + id + "\t" + escape(key) + "\n");
+            dictionary.flush();
+        }
+        return id;
+    }
+
+    /**
+     * Reads a dictionary file into device and task index maps and the devices' properties
+     * (the last entry per device wins). A line repeated verbatim is tolerated; a name
+     * listed under two IDs, an ID listed for two names, or IDs that are not exactly
+     * {@code 0..n-1} fail the load, since records would resolve to wrong names and new
+     * entries would reuse taken IDs.
+     *
+     * @throws IOException if the file cannot be read or is inconsistent
+     */
+    static void loadDictionary(Path dictFile, Map<String, Integer> devices, Map<String, Integer> tasks,
+                               Map<Integer, DeviceInfo> info) throws IOException {
+        if (!Files.exists(dictFile)) return;
+        try (BufferedReader in = Files.newBufferedReader(dictFile, StandardCharsets.UTF_8)) {
+            String line;
+            for (int lineNo = 1; (line = in.readLine()) != null; lineNo++) {
+                String[] parts = line.split("\t", 3);
+                if (parts.length < 3) continue;
+                int id;
+                try {
+                    id = Integer.parseInt(parts[1]);
+                } catch (NumberFormatException e) {
+                    throw new IOException(dictFile + ":" + lineNo + ": invalid ID '" + parts[1] + "'");
+                }
+                if (parts[0].equals("M")) {
+                    String[] fields = parts[2].split("\t", -1);
+                    if (fields.length != 3) {
+                        throw new IOException(dictFile + ":" + lineNo + ": device entry needs 3 fields");
+                    }
+                    info.put(id, new DeviceInfo(unescapeOrNull(fields[0]), unescapeOrNull(fields[1]),
+                                                unescapeOrNull(fields[2])));
+                    continue;
+                }
+                Map<String, Integer> target = parts[0].equals("D") ? devices : tasks;
+                String name = unescape(parts[2]);
+                Integer previous = target.putIfAbsent(name, id);
+                if (previous != null && previous != id) {
+                    throw new IOException(dictFile + ":" + lineNo + ": '" + name + "' is listed as both "
+                                          + previous + " and " + id);
+                }
+            }
+        }
+        checkIds(dictFile, "device", devices);
+        checkIds(dictFile, "task", tasks);
+        for (int id : info.keySet()) {
+            if (id < 0 || id >= devices.size()) {
+                throw new IOException(dictFile + ": properties listed for unknown device ID " + id);
+            }
+        }
+    }
+
+    private static void checkIds(Path dictFile, String kind, Map<String, Integer> index) throws IOException {
+        String[] names = new String[index.size()];
+        for (Map.Entry<String, Integer> e : index.entrySet()) {
+            int id = e.getValue();
+            if (id < 0 || id >= names.length) {
+                throw new IOException(dictFile + ": " + kind + " IDs have gaps; '" + e.getKey() + "' has ID "
+                                      + id + " but only " + names.length + " " + kind + "s are listed");
+            }
+            if (names[id] != null) {
+                throw new IOException(dictFile + ": " + kind + " ID " + id + " is listed for both '"
+                                      + names[id] + "' and '" + e.getKey() + "'");
+            }
+            names[id] = e.getKey();
+        }
+    }
+
+    /**
+     * Reads a dictionary file into index-ordered name lists and the devices' properties.
+     */
+    static void loadDictionary(Path dictFile, List<String> devices, List<String> tasks,
+                               Map<Integer, DeviceInfo> info) throws IOException {
+        Map<String, Integer> d = new HashMap<>();
+        Map<String, Integer> t = new HashMap<>();
+        loadDictionary(dictFile, d, t, info);
+        fill(devices, d);
+        fill(tasks, t);
+    }
+
+    /** Lists names by ID; {@link #loadDictionary} has checked the IDs are exactly 0..n-1 */
+    private static void fill(List<String> names, Map<String, Integer> index) {
+        List<String> ordered = new ArrayList<>(Collections.nCopies(index.size(), (String) null));
+        index.forEach((name, id) -> ordered.set(id, name));
+        names.addAll(ordered);
+    }
+
+    private static String escape(String s) {
+        if (s == null) return "";
+        return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    private static String unescapeOrNull(String s) {
+        return s.isEmpty() ? null : unescape(s);
+    }
+
+    private static String unescape(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                sb.append(n == 't' ? '\t' : n == 'n' ? '\n' : n);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.amd.validation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a {@link BinaryResultLog}.
+ * <p>
+ * Records are scanned sequentially through read-only memory-mapped segments and handed to
+ * a {@link RecordVisitor} as primitives, so a scan runs at roughly disk (or page cache)
+ * speed without allocating per record. {@link #exportTo(ResultSink)} converts the log back
+ * to {@link ValidationResult}s, e.g. into a {@link CsvResultSink} or
+ * {@link JsonLinesResultSink} to produce the usual CSV/JSON formats on demand.
+ * </p>
+ */
+public class BinaryResultLogReader implements AutoCloseable {
+
+    /**
+     * Receives one record of the log.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+
+        /**
+         * @param deviceIndex     index into {@link #deviceId(int)}
+         * @param taskId          index into {@link #taskName(int)}
+         * @param passed          the verdict
+         * @param timestampMillis epoch milliseconds when the result was logged
+         * @param value           measured value (NaN if none)
+         * @param limit           limit compared against (NaN if none)
+         */
+        void visit(int deviceIndex, int taskId, boolean passed, long timestampMillis, double value, double limit);
+    }
+
+    private final FileChannel channel;
+    private final long count;
+    private final List<String> deviceIds = new ArrayList<>();
+    private final List<String> taskNames = new ArrayList<>();
+    private final Map<Integer, BinaryResultLog.DeviceInfo> deviceInfo = new HashMap<>();
+
+    /**
+     * Opens a log for reading.
+     *
+     * @param file the log file (its dictionary must sit next to it)
+     * @throws IOException if the file cannot be read or is not a result log
+     */
+    public BinaryResultLogReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryResultLog.HEADER_SIZE);
+        if (header.getLong(0) != BinaryResultLog.MAGIC || header.getInt(12) != BinaryResultLog.RECORD_SIZE) {
+            channel.close();
+            throw new IOException("Not a binary result log: " + file);
+        }
+        // Never read past what is actually on disk, even if the header is ahead of a crash
+        long onDisk = (channel.size() - BinaryResultLog.HEADER_SIZE) / BinaryResultLog.RECORD_SIZE;
+        this.count = Math.min(header.getLong(BinaryResultLog.OFF_COUNT), onDisk);
+        try {
+            BinaryResultLog.loadDictionary(BinaryResultLog.dictionaryPath(file), deviceIds, taskNames, deviceInfo);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** @return the number of records in the log */
+    public long size() {
+        return count;
+    }
+
+    /** @return the device ID for a dictionary index */
+    public String deviceId(int index) {
+        return deviceIds.get(index);
+    }
+
+    /** @return the task name for a dictionary index */
+    public String taskName(int index) {
+        return taskNames.get(index);
+    }
+
+    /**
+     * Visits every record in append order.
+     *
+     * @param visitor receives each record
+     * @throws IOException if a segment cannot be mapped
+     */
+    public void forEach(RecordVisitor visitor) throws IOException {
+        long done = 0;
+        for (long seg = 0; done < count; seg++) {
+            int n = (int) Math.min(BinaryResultLog.SEGMENT_RECORDS, count - done);
+            long pos = BinaryResultLog.HEADER_SIZE + seg * BinaryResultLog.SEGMENT_RECORDS * (long) BinaryResultLog.RECORD_SIZE;
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, (long) n * BinaryResultLog.RECORD_SIZE);
+            for (int i = 0; i < n; i++) {
+                int off = i * BinaryResultLog.RECORD_SIZE;
+                visitor.visit(
+                    buf.getInt(off + BinaryResultLog.REC_DEVICE),
+                    buf.getInt(off + BinaryResultLog.REC_TASK),
+                    (buf.getInt(off + BinaryResultLog.REC_FLAGS) & BinaryResultLog.FLAG_PASSED) != 0,
+                    buf.getLong(off + BinaryResultLog.REC_TIMESTAMP),
+                    buf.getDouble(off + BinaryResultLog.REC_VALUE),
+                    buf.getDouble(off + BinaryResultLog.REC_LIMIT));
+            }
+            done += n;
+        }
+    }
+
+    /**
+     * Replays every record into a sink as a {@link ValidationResult}, with the time it was
+     * logged. Each device gets a {@link TestContext} with the ID, name, driver and PCIe
+     * location from the dictionary (the latest ones logged); the message is derived from
+     * the stored value and limit.
+     *
+     * @param sink the destination, e.g. a {@link CsvResultSink}
+     * @throws IOException if the log cannot be read
+     */
+    public void exportTo(ResultSink sink) throws IOException {
+        Map<Integer, TestContext> contexts = new HashMap<>();
+        forEach((dev, task, passed, ts, value, limit) -> {
+            TestContext ctx = contexts.computeIfAbsent(dev, i -> {
+                TestContext c = new TestContext(deviceIds.get(i));
+                deviceInfo.getOrDefault(i, BinaryResultLog.DeviceInfo.NONE).applyTo(c);
+                return c;
+            });
+            sink.accept(ctx, new ValidationResult(taskNames.get(task), passed,
+                () -> describe(passed, value, limit), value, limit), ts);
+        });
+        sink.flush();
+    }
+
+    private static String describe(boolean passed, double value, double limit) {
+        String verdict = passed ? "PASS" : "FAIL";
+        if (Double.isNaN(value)) {
+            return verdict;
+        }
+        return Double.isNaN(limit)
+            ? String.format("%s: value %.3f", verdict, value)
+            : String.format("%s: value %.3f, limit %.3f", verdict, value, limit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
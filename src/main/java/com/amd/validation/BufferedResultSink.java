@@ -0,0 +1,157 @@
+package com.amd.validation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for streaming sinks that write through a bounded buffer.
+ * <p>
+ * Results are written into the subclass's buffered stream and flushed to storage every
+ * {@code flushEvery} results or once {@code flushInterval} has passed since the last flush,
+ * whichever comes first. The interval is also checked on a timer, started with the first
+ * result, so results written before a long-running or hung task still reach storage. At most one interval's worth of
+ * results can be lost if the process dies, and memory use is bounded by the buffer size.
+ * All public methods are synchronized.
+ * </p>
+ */
+public abstract class BufferedResultSink implements ResultSink {
+
+    /** Default number of results between flushes */
+    public static final int DEFAULT_FLUSH_EVERY = 256;
+
+    /** Default maximum time between flushes */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /** Default size of the write buffer (in chars) */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(BufferedResultSink.class);
+
+    /** One daemon thread runs the timed flushes of every open sink */
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "result-sink-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int flushEvery;
+    private final long flushIntervalNanos;
+    private ScheduledFuture<?> timer;
+
+    private int pending;
+    private long lastFlush = System.nanoTime();
+    private boolean closed;
+
+    /**
+     * @param flushEvery    number of results between flushes (must be positive)
+     * @param flushInterval maximum time between flushes
+     */
+    protected BufferedResultSink(int flushEvery, Duration flushInterval) {
+        if (flushEvery <= 0) {
+            throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+        }
+        this.flushEvery = flushEvery;
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    /**
+     * Wraps a writer in the bounded write buffer, unless it is buffered already.
+     *
+     * @param out the destination
+     * @return a buffered writer
+     */
+    protected static BufferedWriter buffered(Writer out) {
+        return out instanceof BufferedWriter b ? b : new BufferedWriter(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public final void accept(TestContext context, ValidationResult result) {
+        accept(context, result, System.currentTimeMillis());
+    }
+
+    @Override
+    public final synchronized void accept(TestContext context, ValidationResult result, long timestampMillis) {
+        if (closed) {
+            throw new IllegalStateException("Sink is closed");
+        }
+        if (timer == null && flushIntervalNanos > 0) {
+            // Scheduled here rather than in the constructor, so the flusher never sees a
+            // half-constructed subclass and a failed constructor leaves nothing scheduled
+            timer = FLUSHER.scheduleWithFixedDelay(this::flushIfDue, flushIntervalNanos, flushIntervalNanos,
+                                                   TimeUnit.NANOSECONDS);
+        }
+        try {
+            write(context, result, timestampMillis);
+            pending++;
+            long now = System.nanoTime();
+            if (pending >= flushEvery || now - lastFlush >= flushIntervalNanos) {
+                flushBuffer();
+                pending = 0;
+                lastFlush = now;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write result " + result.getTaskName(), e);
+        }
+    }
+
+    /**
+     * Timer task: flushes results that have waited for the interval without a new result.
+     */
+    private synchronized void flushIfDue() {
+        if (closed || pending == 0 || System.nanoTime() - lastFlush < flushIntervalNanos) {
+            return;
+        }
+        try {
+            flushBuffer();
+            pending = 0;
+            lastFlush = System.nanoTime();
+        } catch (IOException e) {
+            // Leave the results pending; the next result or explicit flush reports the failure
+            LOG.warn("Timed flush of result sink failed: {}", e.toString());
+        }
+    }
+
+    @Override
+    public final synchronized void flush() {
+        if (closed) return;
+        try {
+            flushBuffer();
+            pending = 0;
+            lastFlush = System.nanoTime();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush results", e);
+        }
+    }
+
+    @Override
+    public final synchronized void close() {
+        if (closed) return;
+        closed = true;
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        try {
+            closeStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close result sink", e);
+        }
+    }
+
+    /** Writes one result, produced at the given epoch milliseconds, into the buffer. */
+    protected abstract void write(TestContext context, ValidationResult result, long timestampMillis)
+            throws IOException;
+
+    /** Pushes buffered output to storage. */
+    protected abstract void flushBuffer() throws IOException;
+
+    /** Flushes and closes the underlying stream. */
+    protected abstract void closeStream() throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.amd.validation;
+
+import java.util.List;
+
+/**
+ * A {@link ValidationTask} whose verdict is a pure function of its configuration and of
+ * context fields that only change when the hardware or software under test changes, such
+ * as {@link PCIeLocationValidation}.
+ * <p>
+ * A {@link TestRunner} with a {@link ResultCache} fingerprints the task's class, version
+ * and {@link #cacheInputs(TestContext) inputs} and reuses the stored result when the
+ * fingerprint was seen before, so a station retest only re-executes tasks whose inputs
+ * changed. Tasks that judge live sensor readings should not implement this interface:
+ * their inputs differ on every read, so they would only fill the cache.
+ * </p>
+ */
+public interface CacheableTask extends ValidationTask {
+
+    /**
+     * Returns the version of the task's logic. Bump it whenever a verdict or message for
+     * the same inputs could change, so results of the old version are no longer reused.
+     *
+     * @return the logic version
+     */
+    int version();
+
+    /**
+     * Lists everything the result depends on: the task's configuration and every context
+     * field {@link #execute(TestContext)} reads. Elements are compared by their string
+     * form and may be {@code null}.
+     *
+     * @param context the device context
+     * @return the inputs, in a fixed order
+     */
+    List<Object> cacheInputs(TestContext context);
+}
@@ -0,0 +1,16 @@
+package com.amd.validation;
+
+/**
+ * One device read back from a capture file.
+ *
+ * @param context          the rebuilt context, with its telemetry series if the device was
+ *                         sampled
+ * @param timestampsMillis wall-clock time of each captured sample, oldest first
+ */
+public record CapturedDevice(TestContext context, long[] timestampsMillis) {
+
+    /** @return the number of captured samples */
+    public int sampleCount() {
+        return timestampsMillis.length;
+    }
+}
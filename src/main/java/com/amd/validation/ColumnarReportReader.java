@@ -0,0 +1,337 @@
+package com.amd.validation;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a file written by {@link ColumnarReportWriter}.
+ * <p>
+ * A {@link #scan(Set, Consumer) scan} names the columns it needs; the chunks of every other
+ * column are skipped on disk without being inflated or decoded, so counting failures per
+ * task reads only the task and status columns. Each row group is handed to the visitor as
+ * a {@link RowGroup} of primitive arrays. String columns stay dictionary-encoded, so
+ * grouping by a string column can work on its integer codes.
+ * </p>
+ */
+public class ColumnarReportReader {
+
+    private final Path file;
+
+    /**
+     * Opens a columnar file.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be read or is not a columnar report
+     */
+    public ColumnarReportReader(Path file) throws IOException {
+        this.file = file;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            readHeader(in);
+        }
+    }
+
+    /** @return the file being read */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * The projected columns of one row group. Accessing a column that was not projected
+     * throws {@link IllegalStateException}.
+     */
+    public static final class RowGroup {
+        private final int rows;
+        private final String[][] dictionaries = new String[ReportColumn.values().length][];
+        private final int[][] codes = new int[ReportColumn.values().length][];
+        private final double[][] doubles = new double[ReportColumn.values().length][];
+        private boolean[] passed;
+        private int passedCount;
+
+        RowGroup(int rows) {
+            this.rows = rows;
+        }
+
+        /** @return the number of rows in the group */
+        public int rowCount() {
+            return rows;
+        }
+
+        /**
+         * @param column a string column
+         * @param row    the row within the group
+         * @return the row's value (may be {@code null})
+         */
+        public String string(ReportColumn column, int row) {
+            return dictionary(column)[codes(column)[row]];
+        }
+
+        /**
+         * @param column a string column
+         * @return the group's distinct values of the column, indexed by code
+         */
+        public String[] dictionary(ReportColumn column) {
+            return require(dictionaries[column.ordinal()], column);
+        }
+
+        /**
+         * @param column a string column
+         * @return one dictionary code per row
+         */
+        public int[] codes(ReportColumn column) {
+            return require(codes[column.ordinal()], column);
+        }
+
+        /** @return the verdict of each row */
+        public boolean[] passed() {
+            return require(passed, ReportColumn.PASSED);
+        }
+
+        /** @return the number of passed rows, counted from the run lengths */
+        public int passedCount() {
+            require(passed, ReportColumn.PASSED);
+            return passedCount;
+        }
+
+        /**
+         * @param column {@link ReportColumn#VALUE} or {@link ReportColumn#LIMIT}
+         * @return one value per row (NaN if none)
+         */
+        public double[] doubles(ReportColumn column) {
+            return require(doubles[column.ordinal()], column);
+        }
+
+        private static <T> T require(T data, ReportColumn column) {
+            if (data == null) {
+                throw new IllegalStateException("Column " + column + " was not projected");
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Visits every row group, decoding only the requested columns.
+     *
+     * @param columns the columns to decode
+     * @param visitor receives each row group in file order
+     * @return the number of rows scanned
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public long scan(Set<ReportColumn> columns, Consumer<RowGroup> visitor) throws IOException {
+        ReportColumn[] all = ReportColumn.values();
+        long total = 0;
+        byte[] compressed = new byte[1 << 16];
+        byte[] raw = new byte[1 << 16];
+        Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            readHeader(in);
+            int rows;
+            while ((rows = in.readInt()) > 0) {
+                RowGroup group = new RowGroup(rows);
+                for (ReportColumn c : all) {
+                    int rawLength = in.readInt();
+                    int length = in.readInt();
+                    if (!columns.contains(c)) {
+                        in.skipNBytes(length);
+                        continue;
+                    }
+                    if (compressed.length < length) compressed = new byte[length];
+                    if (raw.length < rawLength) raw = new byte[rawLength];
+                    in.readFully(compressed, 0, length);
+                    inflate(inflater, compressed, length, raw, rawLength);
+                    decode(c, group, new Chunk(raw, rawLength));
+                }
+                visitor.accept(group);
+                total += rows;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Truncated columnar report: " + file, e);
+        } finally {
+            inflater.end();
+        }
+        return total;
+    }
+
+    /**
+     * Replays every row into a sink as a {@link ValidationResult}. Each device gets one
+     * {@link TestContext} carrying its name, driver and PCIe location.
+     *
+     * @param sink the destination, e.g. a {@link CsvResultSink}
+     * @return the number of rows replayed
+     * @throws IOException if the file cannot be read
+     */
+    public long exportTo(ResultSink sink) throws IOException {
+        Map<String, TestContext> contexts = new HashMap<>();
+        long rows = scan(EnumSet.allOf(ReportColumn.class), g -> {
+            boolean[] passed = g.passed();
+            double[] values = g.doubles(ReportColumn.VALUE);
+            double[] limits = g.doubles(ReportColumn.LIMIT);
+            for (int i = 0; i < g.rowCount(); i++) {
+                int row = i;
+                TestContext ctx = contexts.computeIfAbsent(g.string(ReportColumn.DEVICE_ID, row), id -> {
+                    TestContext c = new TestContext(id);
+                    c.setDeviceName(g.string(ReportColumn.DEVICE_NAME, row));
+                    c.setDriverVersion(g.string(ReportColumn.DRIVER, row));
+                    c.setPciLocation(g.string(ReportColumn.PCI_LOCATION, row));
+                    return c;
+                });
+                sink.accept(ctx, new ValidationResult(g.string(ReportColumn.TASK, row), passed[row],
+                                                      g.string(ReportColumn.MESSAGE, row), values[row], limits[row]));
+            }
+        });
+        sink.flush();
+        return rows;
+    }
+
+    private void readHeader(DataInput in) throws IOException {
+        try {
+            if (in.readLong() != ColumnarReportWriter.MAGIC) {
+                throw new IOException("Not a columnar report: " + file);
+            }
+            int version = in.readInt();
+            int columns = in.readInt();
+            if (version != ColumnarReportWriter.VERSION || columns != ReportColumn.values().length) {
+                throw new IOException("Unsupported columnar report version " + version + ": " + file);
+            }
+        } catch (EOFException e) {
+            throw new IOException("Not a columnar report: " + file, e);
+        }
+    }
+
+    private void inflate(Inflater inflater, byte[] compressed, int length, byte[] raw, int rawLength)
+            throws IOException {
+        inflater.reset();
+        inflater.setInput(compressed, 0, length);
+        try {
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int got = inflater.inflate(raw, n, rawLength - n);
+                if (got == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += got;
+            }
+            if (n != rawLength) {
+                throw new IOException("Corrupt column chunk in " + file);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column chunk in " + file, e);
+        }
+    }
+
+    private static void decode(ReportColumn c, RowGroup group, Chunk chunk) throws IOException {
+        int rows = group.rows;
+        switch (c.kind()) {
+            case STRING -> {
+                String[] dictionary = new String[(int) chunk.readVarLong()];
+                for (int i = 0; i < dictionary.length; i++) {
+                    int length = (int) chunk.readVarLong();
+                    if (length > 0) {
+                        dictionary[i] = chunk.readString(length - 1);
+                    }
+                }
+                int[] codes = new int[rows];
+                for (int i = 0; i < rows; i++) {
+                    long code = chunk.readVarLong();
+                    if (code >= dictionary.length) {
+                        throw new IOException("Dictionary code out of range in column " + c);
+                    }
+                    codes[i] = (int) code;
+                }
+                group.dictionaries[c.ordinal()] = dictionary;
+                group.codes[c.ordinal()] = codes;
+            }
+            case BOOLEAN -> {
+                boolean[] passed = new boolean[rows];
+                boolean bit = chunk.readByte() != 0;
+                int runs = (int) chunk.readVarLong();
+                int row = 0;
+                for (int r = 0; r < runs; r++, bit = !bit) {
+                    long length = chunk.readVarLong();
+                    if (length > rows - row) {
+                        throw new IOException("Run lengths exceed the row group in column " + c);
+                    }
+                    if (bit) {
+                        Arrays.fill(passed, row, row + (int) length, true);
+                        group.passedCount += (int) length;
+                    }
+                    row += (int) length;
+                }
+                group.passed = passed;
+            }
+            case DOUBLE -> {
+                double[] values = new double[rows];
+                for (int i = 0; i < rows; i++) {
+                    values[i] = Double.longBitsToDouble(chunk.readLong());
+                }
+                group.doubles[c.ordinal()] = values;
+            }
+        }
+    }
+
+    /**
+     * Cursor over an inflated chunk; decoding straight from the array avoids a stream call per byte.
+     */
+    private static final class Chunk {
+        private final byte[] bytes;
+        private final int limit;
+        private int pos;
+
+        Chunk(byte[] bytes, int limit) {
+            this.bytes = bytes;
+            this.limit = limit;
+        }
+
+        byte readByte() throws IOException {
+            if (pos >= limit) {
+                throw new IOException("Column chunk ends early");
+            }
+            return bytes[pos++];
+        }
+
+        long readVarLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return v;
+                }
+            }
+            throw new IOException("Malformed varint in column chunk");
+        }
+
+        long readLong() throws IOException {
+            if (limit - pos < 8) {
+                throw new IOException("Column chunk ends early");
+            }
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | (bytes[pos++] & 0xFF);
+            }
+            return v;
+        }
+
+        String readString(int length) throws IOException {
+            if (limit - pos < length) {
+                throw new IOException("Column chunk ends early");
+            }
+            String s = new String(bytes, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return s;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.amd.validation;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * ColumnarReportWriter stores validation results column by column, for analytics over
+ * millions of rows.
+ * <p>
+ * {@code report.csv} repeats the device name, driver and PCIe location on every row and
+ * has to be parsed in full to read any one column. This format buffers up to
+ * {@code rowsPerGroup} rows and then writes each {@link ReportColumn} of the group as its
+ * own deflated chunk: strings as a per-chunk dictionary plus varint codes, the verdicts as
+ * run lengths of alternating pass/fail, values and limits as raw doubles. Repeated strings
+ * are stored once per group, and {@link ColumnarReportReader} skips the chunks of columns a
+ * scan does not ask for without inflating them.
+ * </p>
+ * <pre>
+ * header:    magic "GPUCOL01" long | version int | column count int
+ * row group: row count int | per column, in {@link ReportColumn} order:
+ *            raw length int | deflated length int | deflated chunk
+ * end:       row count int = 0
+ *
+ * string chunk:  entry count varint | entries (varint UTF-8 length + 1, 0 for null; bytes) |
+ *                one code varint per row
+ * boolean chunk: first value byte | run count varint | run length varints
+ * double chunk:  one raw IEEE 754 long per row
+ * </pre>
+ * <p>
+ * The writer is a {@link ResultSink}, so a {@link TestRunner} streams into it with
+ * {@link TestRunner#withSink(ResultSink)}; {@link #flush()} ends the current row group early.
+ * Rows are only readable once their group is written, and the file is complete after
+ * {@link #close()}. All methods are thread-safe.
+ * </p>
+ */
+public class ColumnarReportWriter implements ResultSink {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(ColumnarReportWriter.class);
+
+    static final long MAGIC = 0x47505543_4F4C3031L; // "GPUCOL01"
+    static final int VERSION = 1;
+
+    /** Default rows buffered per row group */
+    public static final int DEFAULT_ROWS_PER_GROUP = 65_536;
+
+    private static final ReportColumn[] COLUMNS = ReportColumn.values();
+
+    private final Path file;
+    private final DataOutputStream out;
+    private final int rowsPerGroup;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+
+    /** Per string column (by ordinal): the group's dictionary and codes; unused for other kinds */
+    private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+    private final List<List<String>> entries = new ArrayList<>();
+    private final int[][] codes = new int[COLUMNS.length][];
+    private final boolean[] passed;
+    private final double[] values;
+    private final double[] limits;
+
+    private final ByteArrayOutputStream raw = new ByteArrayOutputStream(1 << 16);
+    private byte[] deflated = new byte[1 << 16];
+
+    private int rows;
+    private long totalRows;
+    private boolean closed;
+
+    /**
+     * Creates (or replaces) a columnar file with the default row group size.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be created
+     */
+    public ColumnarReportWriter(Path file) throws IOException {
+        this(file, DEFAULT_ROWS_PER_GROUP);
+    }
+
+    /**
+     * Creates (or replaces) a columnar file.
+     *
+     * @param file         the file to write
+     * @param rowsPerGroup rows buffered before a row group is written (must be positive)
+     * @throws IOException if the file cannot be created
+     */
+    public ColumnarReportWriter(Path file, int rowsPerGroup) throws IOException {
+        if (rowsPerGroup <= 0) {
+            throw new IllegalArgumentException("rowsPerGroup must be positive: " + rowsPerGroup);
+        }
+        this.file = file;
+        this.rowsPerGroup = rowsPerGroup;
+        for (ReportColumn c : COLUMNS) {
+            boolean string = c.kind() == ReportColumn.Kind.STRING;
+            dictionaries.add(string ? new HashMap<>() : null);
+            entries.add(string ? new ArrayList<>() : null);
+            codes[c.ordinal()] = string ? new int[rowsPerGroup] : null;
+        }
+        this.passed = new boolean[rowsPerGroup];
+        this.values = new double[rowsPerGroup];
+        this.limits = new double[rowsPerGroup];
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeLong(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(COLUMNS.length);
+    }
+
+    /**
+     * Writes every result of the given reports.
+     *
+     * @param reports the reports, each with its context set
+     * @param file    the file to write
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public static long export(Collection<TestReport> reports, Path file) throws IOException {
+        try (ColumnarReportWriter writer = new ColumnarReportWriter(file)) {
+            for (TestReport report : reports) {
+                writer.write(report);
+            }
+            return writer.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** @return the file being written */
+    public Path getFile() {
+        return file;
+    }
+
+    /** @return the number of rows accepted so far */
+    public synchronized long getRowCount() {
+        return totalRows;
+    }
+
+    /**
+     * Appends one row per result of the report.
+     *
+     * @param report a report with its context set
+     */
+    public void write(TestReport report) {
+        for (ValidationResult r : report.getResults()) {
+            accept(report.getContext(), r);
+        }
+    }
+
+    @Override
+    public synchronized void accept(TestContext context, ValidationResult result) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed: " + file);
+        }
+        for (ReportColumn c : COLUMNS) {
+            if (c.kind() == ReportColumn.Kind.STRING) {
+                codes[c.ordinal()][rows] = intern(c.ordinal(), c.stringOf(context, result));
+            }
+        }
+        passed[rows] = result.isPassed();
+        values[rows] = result.getValue();
+        limits[rows] = result.getLimit();
+        rows++;
+        totalRows++;
+        if (rows == rowsPerGroup) {
+            writeGroup();
+        }
+    }
+
+    /**
+     * Writes the rows buffered so far as a (short) row group.
+     */
+    @Override
+    public synchronized void flush() {
+        if (closed) return;
+        writeGroup();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush " + file, e);
+        }
+    }
+
+    /**
+     * Writes the last row group and the end marker.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        writeGroup();
+        closed = true;
+        try (out) {
+            out.writeInt(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close " + file, e);
+        } finally {
+            deflater.end();
+        }
+        LOG.debug("Wrote {} rows to {}", totalRows, file);
+    }
+
+    private int intern(int column, String value) {
+        Map<String, Integer> dictionary = dictionaries.get(column);
+        Integer code = dictionary.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.put(value, code);
+            entries.get(column).add(value);
+        }
+        return code;
+    }
+
+    private void writeGroup() {
+        if (rows == 0) {
+            return;
+        }
+        try {
+            out.writeInt(rows);
+            for (ReportColumn c : COLUMNS) {
+                raw.reset();
+                DataOutputStream chunk = new DataOutputStream(raw);
+                switch (c.kind()) {
+                    case STRING -> encodeStrings(chunk, c.ordinal());
+                    case BOOLEAN -> encodeRuns(chunk, passed, rows);
+                    case DOUBLE -> encodeDoubles(chunk, c == ReportColumn.VALUE ? values : limits, rows);
+                }
+                writeDeflated(raw.toByteArray());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (dictionaries.get(i) != null) {
+                dictionaries.get(i).clear();
+                entries.get(i).clear();
+            }
+        }
+        rows = 0;
+    }
+
+    private void encodeStrings(DataOutputStream chunk, int column) throws IOException {
+        List<String> dictionary = entries.get(column);
+        TelemetryCaptureWriter.writeVarLong(chunk, dictionary.size());
+        for (String s : dictionary) {
+            if (s == null) {
+                TelemetryCaptureWriter.writeVarLong(chunk, 0);
+                continue;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            TelemetryCaptureWriter.writeVarLong(chunk, bytes.length + 1L);
+            chunk.write(bytes);
+        }
+        int[] c = codes[column];
+        for (int i = 0; i < rows; i++) {
+            TelemetryCaptureWriter.writeVarLong(chunk, c[i]);
+        }
+    }
+
+    /**
+     * Run-length encodes a bitmap: the first value, then the lengths of the alternating runs.
+     */
+    private static void encodeRuns(DataOutputStream chunk, boolean[] bits, int n) throws IOException {
+        int runs = 1;
+        for (int i = 1; i < n; i++) {
+            if (bits[i] != bits[i - 1]) runs++;
+        }
+        chunk.writeBoolean(bits[0]);
+        TelemetryCaptureWriter.writeVarLong(chunk, runs);
+        int start = 0;
+        for (int i = 1; i <= n; i++) {
+            if (i == n || bits[i] != bits[start]) {
+                TelemetryCaptureWriter.writeVarLong(chunk, i - start);
+                start = i;
+            }
+        }
+    }
+
+    private static void encodeDoubles(DataOutputStream chunk, double[] v, int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            chunk.writeLong(Double.doubleToRawLongBits(v[i]));
+        }
+    }
+
+    private void writeDeflated(byte[] bytes) throws IOException {
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == deflated.length) {
+                deflated = Arrays.copyOf(deflated, deflated.length * 2);
+            }
+            length += deflater.deflate(deflated, length, deflated.length - length);
+        }
+        out.writeInt(bytes.length);
+        out.writeInt(length);
+        out.write(deflated, 0, length);
+    }
+}
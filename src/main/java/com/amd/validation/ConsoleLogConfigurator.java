@@ -0,0 +1,78 @@
+package com.amd.validation;
+
+import ch.qos.logback.classic.ClassicConstants;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.layout.TTLLLayout;
+import ch.qos.logback.classic.spi.Configurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.spi.ContextAwareBase;
+
+import java.util.Collection;
+
+/**
+ * Configures Logback in code, registered through {@code META-INF/services}.
+ * <p>
+ * The output is what Logback's own fallback produces (console, TTLL layout, DEBUG), but
+ * it skips the configuration-file search and the Joran machinery, which is a large part
+ * of CLI startup. When a {@code logback.xml}, {@code logback-test.xml} or
+ * {@code -Dlogback.configurationFile} is present this configurator steps aside and the
+ * file is used as usual.
+ * </p>
+ * <p>
+ * {@link #raiseToWarn(Collection)} quiets the tasks' own loggers while a {@link TaskLog}
+ * reports their progress.
+ * </p>
+ */
+public class ConsoleLogConfigurator extends ContextAwareBase implements Configurator {
+
+    @Override
+    public ExecutionStatus configure(LoggerContext context) {
+        if (System.getProperty(ClassicConstants.CONFIG_FILE_PROPERTY) != null
+                || hasResource("logback-test.xml") || hasResource("logback.xml")) {
+            return ExecutionStatus.INVOKE_NEXT_IF_ANY;
+        }
+
+        TTLLLayout layout = new TTLLLayout();
+        layout.setContext(context);
+        layout.start();
+
+        LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+        encoder.setContext(context);
+        encoder.setLayout(layout);
+
+        ConsoleAppender<ILoggingEvent> console = new ConsoleAppender<>();
+        console.setContext(context);
+        console.setName("console");
+        console.setEncoder(encoder);
+        console.start();
+
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(console);
+        return ExecutionStatus.DO_NOT_INVOKE_NEXT_IF_ANY;
+    }
+
+    /**
+     * Raises loggers to WARN unless they are already at least that quiet. Does nothing
+     * unless SLF4J is bound to Logback.
+     *
+     * @param names logger names, e.g. task class names
+     */
+    static void raiseToWarn(Collection<String> names) {
+        if (!(org.slf4j.LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (String name : names) {
+            Logger logger = context.getLogger(name);
+            if (!logger.getEffectiveLevel().isGreaterOrEqual(Level.WARN)) {
+                logger.setLevel(Level.WARN);
+            }
+        }
+    }
+
+    private static boolean hasResource(String name) {
+        return ConsoleLogConfigurator.class.getClassLoader().getResource(name) != null;
+    }
+}
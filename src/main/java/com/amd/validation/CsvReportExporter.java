@@ -4,6 +4,7 @@ import com.opencsv.CSVWriter;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Path;
 
 /**
@@ -14,24 +15,33 @@ public final class CsvReportExporter {
     private CsvReportExporter() { /* utility class */ }
 
     public static void export(TestReport report, Path out) throws IOException {
-        try (CSVWriter w = new CSVWriter(new FileWriter(out.toFile()))) {
-            // header
+        try (Writer file = new FileWriter(out.toFile())) {
+            export(report, file);
+        }
+    }
+
+    /**
+     * Writes the report to an open writer, which is flushed but left open.
+     */
+    public static void export(TestReport report, Writer out) throws IOException {
+        CSVWriter w = new CSVWriter(out);
+        // header
+        w.writeNext(new String[]{
+            "Task", "Status", "Message",
+            "Device ID", "Device Name", "Driver", "PCIe Location"
+        });
+        for (ValidationResult r : report.getResults()) {
+            TestContext c = report.getContext();
             w.writeNext(new String[]{
-                "Task", "Status", "Message",
-                "Device ID", "Device Name", "Driver", "PCIe Location"
+                r.getTaskName(),
+                r.isPassed() ? "PASS" : "FAIL",
+                r.getMessage(),
+                c.getDeviceId(),
+                c.getDeviceName(),
+                c.getDriverVersion(),
+                c.getPciLocation()
             });
-            for (ValidationResult r : report.getResults()) {
-                TestContext c = report.getContext();
-                w.writeNext(new String[]{
-                    r.getTaskName(),
-                    r.isPassed() ? "PASS" : "FAIL",
-                    r.getMessage(),
-                    c.getDeviceId(),
-                    c.getDeviceName(),
-                    c.getDriverVersion(),
-                    c.getPciLocation()
-                });
-            }
         }
+        w.flush();
     }
 }
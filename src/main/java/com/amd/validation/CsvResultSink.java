@@ -0,0 +1,74 @@
+package com.amd.validation;
+
+import com.opencsv.CSVWriter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Streams results to CSV, one row per result, in the same column layout as
+ * {@link CsvReportExporter}.
+ */
+public class CsvResultSink extends BufferedResultSink {
+
+    static final String[] HEADER = {
+        "Task", "Status", "Message",
+        "Device ID", "Device Name", "Driver", "PCIe Location"
+    };
+
+    private final CSVWriter writer;
+
+    /** Reused row buffer; rows are written one at a time under the sink lock */
+    private final String[] row = new String[HEADER.length];
+
+    /**
+     * Creates (or truncates) a CSV file with the default flush policy.
+     *
+     * @param out the file to write
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvResultSink(Path out) throws IOException {
+        this(buffered(new OutputStreamWriter(Files.newOutputStream(out), StandardCharsets.UTF_8)),
+             DEFAULT_FLUSH_EVERY, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Writes CSV to an arbitrary writer.
+     *
+     * @param out           destination; wrapped in a bounded buffer unless already buffered
+     * @param flushEvery    number of results between flushes
+     * @param flushInterval maximum time between flushes
+     */
+    public CsvResultSink(Writer out, int flushEvery, Duration flushInterval) {
+        super(flushEvery, flushInterval);
+        this.writer = new CSVWriter(buffered(out));
+        writer.writeNext(HEADER);
+    }
+
+    @Override
+    protected void write(TestContext c, ValidationResult r, long timestampMillis) {
+        row[0] = r.getTaskName();
+        row[1] = r.isPassed() ? "PASS" : "FAIL";
+        row[2] = r.getMessage();
+        row[3] = c.getDeviceId();
+        row[4] = c.getDeviceName();
+        row[5] = c.getDriverVersion();
+        row[6] = c.getPciLocation();
+        writer.writeNext(row);
+    }
+
+    @Override
+    protected void flushBuffer() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    protected void closeStream() throws IOException {
+        writer.close();
+    }
+}
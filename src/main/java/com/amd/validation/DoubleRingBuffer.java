@@ -0,0 +1,194 @@
+package com.amd.validation;
+
+/**
+ * Fixed-size ring buffer of primitive {@code double} samples.
+ * <p>
+ * Once full, each new sample overwrites the oldest one, so the buffer always holds the
+ * most recent window. Adding a sample never allocates; window statistics reuse a scratch
+ * array sized at construction. The buffer is meant for a single writer (the sampler), with
+ * statistics read after sampling or from the same thread.
+ * </p>
+ */
+public class DoubleRingBuffer {
+
+    /** Sample storage; {@code head} is the slot the next sample is written to */
+    private final double[] values;
+
+    /** Scratch space for percentile selection (never shared outside this buffer) */
+    private final double[] scratch;
+
+    private int head;
+    private int size;
+
+    /** Running sum of the samples currently in the window */
+    private double sum;
+
+    /**
+     * Constructs an empty ring buffer.
+     *
+     * @param capacity maximum number of samples kept (must be positive)
+     */
+    public DoubleRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.values = new double[capacity];
+        this.scratch = new double[capacity];
+    }
+
+    /**
+     * Appends a sample, evicting the oldest one if the buffer is full.
+     *
+     * @param value the sample value
+     */
+    public void add(double value) {
+        if (size == values.length) {
+            sum -= values[head];
+        } else {
+            size++;
+        }
+        values[head] = value;
+        sum += value;
+        head = (head + 1) % values.length;
+        if (head == 0) {
+            // Re-sum once per lap so rounding error from evictions cannot build up over long runs
+            double exact = 0;
+            for (int i = 0; i < size; i++) {
+                exact += values[i];
+            }
+            sum = exact;
+        }
+    }
+
+    /**
+     * Returns a sample by age.
+     *
+     * @param i index from 0 (oldest) to {@code getSize() - 1} (newest)
+     * @return the sample value
+     */
+    public double get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        }
+        return values[(head - size + i + values.length) % values.length];
+    }
+
+    /** @return the oldest sample in the window, or NaN if empty */
+    public double oldest() {
+        return size == 0 ? Double.NaN : get(0);
+    }
+
+    /** @return the newest sample in the window, or NaN if empty */
+    public double latest() {
+        return size == 0 ? Double.NaN : get(size - 1);
+    }
+
+    /** @return the number of samples currently held */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return the maximum number of samples held */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /** @return true once the window has wrapped and every slot holds a sample */
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    /** Removes all samples. */
+    public void clear() {
+        head = 0;
+        size = 0;
+        sum = 0;
+    }
+
+    /** @return the smallest sample in the window, or NaN if empty */
+    public double getMin() {
+        if (size == 0) return Double.NaN;
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /** @return the largest sample in the window, or NaN if empty */
+    public double getMax() {
+        if (size == 0) return Double.NaN;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /** @return the arithmetic mean of the window, or NaN if empty */
+    public double getMean() {
+        return size == 0 ? Double.NaN : sum / size;
+    }
+
+    /** @return the 99th percentile of the window, or NaN if empty */
+    public double getP99() {
+        return percentile(99.0);
+    }
+
+    /**
+     * Computes a percentile of the window using nearest-rank selection.
+     *
+     * @param p percentile in the range [0, 100]
+     * @return the percentile value, or NaN if empty
+     */
+    public double percentile(double p) {
+        if (size == 0) return Double.NaN;
+        // Slot order does not matter for order statistics, so copy the raw slots
+        System.arraycopy(values, 0, scratch, 0, size);
+        return select(scratch, size, rank(p, size));
+    }
+
+    /**
+     * Nearest-rank index (0-based) of percentile {@code p} among {@code n} samples.
+     */
+    static int rank(double p, int n) {
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("percentile out of range: " + p);
+        }
+        int k = (int) Math.ceil(p / 100.0 * n) - 1;
+        return Math.max(0, Math.min(n - 1, k));
+    }
+
+    /**
+     * Returns the k-th smallest of the first {@code n} elements, reordering them in place
+     * (Hoare quickselect; no allocation).
+     */
+    static double select(double[] a, int n, int k) {
+        int lo = 0;
+        int hi = n - 1;
+        while (lo < hi) {
+            double pivot = a[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) i++;
+                while (a[j] > pivot) j--;
+                if (i <= j) {
+                    double t = a[i];
+                    a[i] = a[j];
+                    a[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return a[k];
+            }
+        }
+        return a[k];
+    }
+}
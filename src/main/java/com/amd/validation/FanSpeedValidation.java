@@ -7,7 +7,8 @@ import org.slf4j.LoggerFactory;
  * FanSpeedValidation checks whether the GPU fan speed is operating within
  * a safe and expected range.
  * 
- * Acceptable range: 800 - 3500 RPM.
+ * The acceptable range comes from the device's {@link ThresholdProfile}
+ * ({@code fan.minRpm} / {@code fan.maxRpm}, 800 - 3500 RPM by default).
  * 
  * This validation helps detect:
  * - Overcooling or undercooling issues
@@ -18,6 +19,31 @@ public class FanSpeedValidation implements ValidationTask {
 
     private static final Logger LOG = LoggerFactory.getLogger(FanSpeedValidation.class);
 
+    /** Shared PASS result; results are immutable so one instance serves every call */
+    private static final ValidationResult PASS =
+            new ValidationResult("FanSpeedValidation", true, "Fan speed normal");
+
+    /** Limits fixed at construction; {@code null} to apply the device's profile */
+    private final ThresholdProfile limits;
+
+    /**
+     * Constructs a fan check that applies each device's threshold profile.
+     */
+    public FanSpeedValidation() {
+        this.limits = null;
+    }
+
+    /**
+     * Constructs a fan check with a fixed range, whatever the device's profile says.
+     *
+     * @param minRpm lowest acceptable fan speed
+     * @param maxRpm highest acceptable fan speed
+     */
+    public FanSpeedValidation(int minRpm, int maxRpm) {
+        this.limits = ThresholdProfile.DEFAULTS.with(Threshold.FAN_MIN_RPM, minRpm)
+                                               .with(Threshold.FAN_MAX_RPM, maxRpm);
+    }
+
     /**
      * Executes the fan speed validation task.
      *
@@ -27,18 +53,27 @@ public class FanSpeedValidation implements ValidationTask {
     @Override
     public ValidationResult execute(TestContext context) {
         int fanRpm = context.getFanSpeedRPM();
-        
-        // Log current fan speed for traceability
-        LOG.info("Validating Fan Speed for {}: {} RPM", context.getDeviceId(), fanRpm);
 
-        // Define valid RPM range (device-specific tuning can replace these values)
-        boolean isHealthy = fanRpm >= 800 && fanRpm <= 3500;
+        // Log current fan speed for traceability (guarded: boxing the RPM allocates)
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating Fan Speed for {}: {} RPM", context.getDeviceId(), fanRpm);
+        }
+
+        // Valid RPM range for this device's SKU
+        ThresholdProfile t = limits != null ? limits : context.getThresholds();
+        int minRpm = (int) t.get(Threshold.FAN_MIN_RPM);
+        int maxRpm = (int) t.get(Threshold.FAN_MAX_RPM);
+        if (fanRpm >= minRpm && fanRpm <= maxRpm) {
+            return PASS;
+        }
 
-        // Return result with outcome and explanation
+        // Return failure with the violated bound as evidence
         return new ValidationResult(
             "FanSpeedValidation",
-            isHealthy,
-            isHealthy ? "Fan speed normal" : "Fan speed out of range"
+            false,
+            "Fan speed out of range",
+            fanRpm,
+            fanRpm < minRpm ? minRpm : maxRpm
         );
     }
 }
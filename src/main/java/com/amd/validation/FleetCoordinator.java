@@ -0,0 +1,598 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * FleetCoordinator splits a lot of devices into shards and has {@link FleetWorker}s on
+ * other JVMs or hosts validate them.
+ * <p>
+ * Workers connect to the coordinator's TCP port and pull one shard at a time (see
+ * {@link FleetProtocol}), streaming back a report per device as it finishes. The reports
+ * are merged into one {@link FleetReport} in the order the jobs were given. Because
+ * workers pull, a fast worker simply takes more shards than a slow one. Stragglers are
+ * handled on top of that:
+ * </p>
+ * <ul>
+ *   <li><b>Work stealing</b> - once the queue is empty, a worker asking for work is given
+ *       the back half of the unfinished devices of the busiest other worker's shard (or
+ *       its last device). The victim is not interrupted; whichever report arrives first
+ *       is kept and the other is dropped. A device is never out on more than two workers
+ *       at once.</li>
+ *   <li><b>Re-dispatch</b> - when a worker's connection drops, or it asks for more work
+ *       without having reported every device of its shard, the devices of that shard that
+ *       have no report and are not out on another worker go back to the front of the
+ *       queue.</li>
+ * </ul>
+ * <p>
+ * If no worker is connected for {@link #withWorkerWait(Duration) the worker wait}, or the
+ * lot outlasts {@link #withLotTimeout(Duration) the lot timeout} (for instance because a
+ * worker's connection went half-open), the devices still outstanding get a failed report
+ * rather than blocking the lot forever. Connections also use TCP keep-alive, so a dead
+ * peer is eventually dropped and its devices re-dispatched.
+ * Workers stay connected between lots and are told to stop when the coordinator closes.
+ * {@link #spawnLocalWorkers(int, List)} starts worker processes on this machine.
+ * </p>
+ */
+public class FleetCoordinator implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(FleetCoordinator.class);
+
+    /** Default number of devices per shard: small enough to balance, large enough to amortize a round trip */
+    public static final int DEFAULT_SHARD_SIZE = 4;
+
+    /** Default time a lot waits with no worker connected before failing its remaining devices */
+    public static final Duration DEFAULT_WORKER_WAIT = Duration.ofSeconds(30);
+
+    /** Default time a lot may run before its remaining devices fail */
+    public static final Duration DEFAULT_LOT_TIMEOUT = Duration.ofHours(1);
+
+    /** Most workers a device is out on at the same time */
+    private static final int MAX_COPIES = 2;
+
+    /** Time {@link #close()} gives connected workers to take their stop message */
+    private static final Duration STOP_GRACE = Duration.ofSeconds(2);
+
+    private final ServerSocket server;
+    private final int shardSize;
+    private final List<Process> processes = new CopyOnWriteArrayList<>();
+    private Duration workerWait = DEFAULT_WORKER_WAIT;
+    private Duration lotTimeout = DEFAULT_LOT_TIMEOUT;
+
+    // Guarded by this
+    private final List<Connection> connections = new ArrayList<>();
+    private Lot lot;
+    private long nextLotId = 1;
+    private int nextShardId;
+    private boolean closed;
+    private long stolenDevices;
+    private long requeuedDevices;
+    private long duplicateReports;
+
+    /**
+     * Starts a coordinator listening on an ephemeral loopback port.
+     *
+     * @param shardSize devices per shard (must be positive)
+     * @throws IOException if the port cannot be bound
+     */
+    public FleetCoordinator(int shardSize) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), shardSize);
+    }
+
+    /**
+     * Starts a coordinator listening on the given address.
+     *
+     * @param bind      address to accept workers on; use a non-loopback address for remote hosts
+     * @param shardSize devices per shard (must be positive)
+     * @throws IOException if the address cannot be bound
+     */
+    public FleetCoordinator(InetSocketAddress bind, int shardSize) throws IOException {
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("shardSize must be positive: " + shardSize);
+        }
+        this.shardSize = shardSize;
+        this.server = new ServerSocket();
+        server.bind(bind);
+        Thread.ofPlatform().daemon().name("fleet-coordinator-accept").start(this::acceptLoop);
+        LOG.info("Fleet coordinator listening on {}", server.getLocalSocketAddress());
+    }
+
+    /**
+     * Sets how long a lot waits with no worker connected before failing its remaining devices.
+     *
+     * @param wait the wait
+     * @return this coordinator
+     */
+    public FleetCoordinator withWorkerWait(Duration wait) {
+        synchronized (this) {
+            this.workerWait = wait;
+        }
+        return this;
+    }
+
+    /**
+     * Sets how long a lot may run, workers connected or not, before failing its remaining devices.
+     *
+     * @param timeout the timeout
+     * @return this coordinator
+     */
+    public FleetCoordinator withLotTimeout(Duration timeout) {
+        synchronized (this) {
+            this.lotTimeout = timeout;
+        }
+        return this;
+    }
+
+    /** @return the port workers connect to */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /** @return the address workers connect to */
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+    }
+
+    /** @return the number of workers currently connected */
+    public synchronized int connectedWorkers() {
+        return connections.size();
+    }
+
+    /** @return devices handed to a second worker because their first one was slow */
+    public synchronized long getStolenDevices() {
+        return stolenDevices;
+    }
+
+    /** @return devices put back on the queue because their worker went away */
+    public synchronized long getRequeuedDevices() {
+        return requeuedDevices;
+    }
+
+    /** @return reports dropped because another worker's report for the device came first */
+    public synchronized long getDuplicateReports() {
+        return duplicateReports;
+    }
+
+    /**
+     * Starts worker processes on this machine, running {@code MainApp --worker} on the
+     * current JVM's class path. The processes exit when the coordinator closes; their
+     * standard output is discarded and their standard error inherited.
+     *
+     * @param count      number of workers
+     * @param workerArgs further CLI flags for the workers, e.g. the sensor provider
+     * @return the started processes
+     * @throws IOException if a process cannot be started
+     */
+    public List<Process> spawnLocalWorkers(int count, List<String> workerArgs) throws IOException {
+        String java = ProcessHandle.current().info().command()
+                .orElse(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        InetAddress host = server.getInetAddress().isAnyLocalAddress()
+                ? InetAddress.getLoopbackAddress() : server.getInetAddress();
+        List<String> command = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+                MainApp.class.getName(), "--worker", host.getHostAddress() + ":" + getPort()));
+        command.addAll(workerArgs);
+
+        List<Process> started = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Process p = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            processes.add(p);
+            started.add(p);
+        }
+        LOG.info("Started {} local workers", count);
+        return started;
+    }
+
+    /**
+     * Waits until at least the given number of workers are connected.
+     *
+     * @param count   number of workers to wait for
+     * @param timeout how long to wait
+     * @return whether that many workers connected in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean awaitWorkers(int count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (connections.size() < count) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, left);
+        }
+        return true;
+    }
+
+    /**
+     * Validates a lot of devices on the connected workers and merges their reports.
+     * <p>
+     * Reports are returned in the same order as the jobs. Only one lot runs at a time.
+     * </p>
+     *
+     * @param jobs one job per device
+     * @return the merged reports
+     * @throws InterruptedException if interrupted while waiting for reports
+     * @throws IllegalStateException if another lot is running or the coordinator is closed
+     */
+    public FleetReport run(List<ValidationJob> jobs) throws InterruptedException {
+        long start = System.nanoTime();
+        Lot current;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Coordinator is closed");
+            }
+            if (lot != null) {
+                throw new IllegalStateException("Lot " + lot.id + " is still running");
+            }
+            current = new Lot(nextLotId++, jobs);
+            for (int from = 0; from < jobs.size(); from += shardSize) {
+                int[] devices = IntStream.range(from, Math.min(from + shardSize, jobs.size())).toArray();
+                current.queue.add(new Shard(current, nextShardId++, devices));
+            }
+            lot = current;
+            LOG.info("Lot {}: {} devices in {} shards for {} workers",
+                     current.id, jobs.size(), current.queue.size(), connections.size());
+            notifyAll();
+
+            try {
+                long deadline = start + lotTimeout.toNanos();
+                long idleSince = -1;
+                while (current.remaining > 0 && !closed) {
+                    long now = System.nanoTime();
+                    long left = deadline - now;
+                    if (left <= 0) {
+                        LOG.warn("Lot {}: not done after {}; failing {} devices", current.id, lotTimeout, current.remaining);
+                        break;
+                    }
+                    if (!connections.isEmpty()) {
+                        idleSince = -1;
+                        TimeUnit.NANOSECONDS.timedWait(this, left);
+                        continue;
+                    }
+                    if (idleSince < 0) {
+                        idleSince = now;
+                    }
+                    long idleLeft = idleSince + workerWait.toNanos() - now;
+                    if (idleLeft <= 0) {
+                        LOG.warn("Lot {}: no worker for {}; failing {} devices", current.id, workerWait, current.remaining);
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, Math.min(left, idleLeft));
+                }
+            } finally {
+                lot = null;
+                notifyAll();
+            }
+        }
+
+        List<TestReport> reports = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            TestReport r = current.reports[i];
+            reports.add(r != null ? r : unassignedReport(jobs.get(i)));
+        }
+        return new FleetReport(reports, System.nanoTime() - start);
+    }
+
+    private static TestReport unassignedReport(ValidationJob job) {
+        TestReport report = new TestReport();
+        report.add(new ValidationResult("FleetCoordinator", false, "No worker validated the device"));
+        report.setContext(new TestContext(job.getDeviceId()));
+        return report;
+    }
+
+    /**
+     * Stops accepting workers, tells the connected ones to stop (giving busy ones a moment
+     * to finish their shard) and closes their connections.
+     */
+    @Override
+    public void close() {
+        List<Connection> open;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+            long deadline = System.nanoTime() + STOP_GRACE.toNanos();
+            try {
+                for (long left; !connections.isEmpty() && (left = deadline - System.nanoTime()) > 0; ) {
+                    TimeUnit.NANOSECONDS.timedWait(this, left);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            open = new ArrayList<>(connections);
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close coordinator socket: {}", e.toString());
+        }
+        for (Connection c : open) {
+            c.close();
+        }
+        for (Process p : processes) {
+            try {
+                if (!p.waitFor(5, TimeUnit.SECONDS)) {
+                    p.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                p.destroyForcibly();
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                socket.setKeepAlive(true);
+                Connection c = new Connection(socket);
+                synchronized (this) {
+                    if (closed) {
+                        c.close();
+                        return;
+                    }
+                    connections.add(c);
+                    notifyAll();
+                }
+                LOG.info("Worker {} connected", c.name);
+                Thread.ofPlatform().daemon().name("fleet-worker-" + c.name).start(c::serve);
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    LOG.warn("Could not accept worker: {}", e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the next shard for an idle worker, waiting until there is one.
+     *
+     * @return the shard, or {@code null} once the coordinator is closed or the worker gone
+     */
+    private synchronized Shard nextShard(Connection c) throws InterruptedException {
+        release(c, "finished its shard");
+        while (!closed && !c.gone) {
+            if (lot != null && lot.remaining > 0) {
+                Shard s = lot.queue.poll();
+                if (s == null) {
+                    s = steal(c);
+                }
+                if (s != null) {
+                    c.assign(s);
+                    return s;
+                }
+            }
+            wait();
+        }
+        return null;
+    }
+
+    /**
+     * Takes devices off the busiest other worker for an idle one.
+     */
+    private Shard steal(Connection thief) {
+        int[] best = new int[0];
+        for (Connection c : connections) {
+            if (c == thief || c.shard == null || c.shard.lot != lot) {
+                continue;
+            }
+            int[] pending = Arrays.stream(c.shard.devices)
+                                  .filter(d -> lot.reports[d] == null && lot.copies[d] < MAX_COPIES)
+                                  .toArray();
+            if (pending.length > best.length) {
+                best = pending;
+            }
+        }
+        if (best.length == 0) {
+            return null;
+        }
+        // The victim works front to back, so its back half is the least likely to have started
+        int[] taken = Arrays.copyOfRange(best, best.length / 2, best.length);
+        stolenDevices += taken.length;
+        LOG.debug("Lot {}: worker {} steals {} devices", lot.id, thief.name, taken.length);
+        return new Shard(lot, nextShardId++, taken);
+    }
+
+    private synchronized void received(Connection c, JsonNode msg, TestReport report) {
+        int device = msg.path("device").asInt(-1);
+        if (lot == null || msg.path("lot").asLong() != lot.id || device < 0 || device >= lot.reports.length) {
+            LOG.debug("Dropping report from worker {} for a finished lot", c.name);
+            return;
+        }
+        if (lot.reports[device] != null) {
+            duplicateReports++;
+            return;
+        }
+        lot.reports[device] = report;
+        lot.remaining--;
+        // Wakes the lot when it is done and idle workers that may now steal something else
+        notifyAll();
+    }
+
+    private synchronized void disconnected(Connection c) {
+        connections.remove(c);
+        c.gone = true;
+        release(c, "left");
+        notifyAll();
+    }
+
+    /**
+     * Takes a worker's shard back, putting the devices that have no report and are not
+     * out on another worker at the front of the queue.
+     */
+    private void release(Connection c, String why) {
+        if (c.shard != null && c.shard.lot == lot) {
+            int[] orphaned = Arrays.stream(c.shard.devices)
+                                   .filter(d -> lot.reports[d] == null && lot.copies[d] == 1)
+                                   .toArray();
+            if (orphaned.length > 0) {
+                lot.queue.addFirst(new Shard(lot, nextShardId++, orphaned));
+                requeuedDevices += orphaned.length;
+                LOG.warn("Worker {} {} with {} devices outstanding; re-dispatching them", c.name, why, orphaned.length);
+                notifyAll();
+            }
+        }
+        c.release();
+    }
+
+    /**
+     * The devices of one run and the reports received so far.
+     */
+    private static final class Lot {
+        final long id;
+        final List<ValidationJob> jobs;
+        final TestReport[] reports;
+        /** Number of workers each device is currently out on */
+        final int[] copies;
+        final Deque<Shard> queue = new ArrayDeque<>();
+        int remaining;
+
+        Lot(long id, List<ValidationJob> jobs) {
+            this.id = id;
+            this.jobs = List.copyOf(jobs);
+            this.reports = new TestReport[jobs.size()];
+            this.copies = new int[jobs.size()];
+            this.remaining = jobs.size();
+        }
+    }
+
+    /** Devices handed to one worker, as indices into the lot */
+    private record Shard(Lot lot, int id, int[] devices) {}
+
+    /**
+     * One connected worker and the shard it is working on.
+     */
+    private final class Connection {
+        final Socket socket;
+        final String name;
+        final BufferedReader in;
+        final Writer out;
+
+        // Guarded by the coordinator
+        Shard shard;
+        boolean gone;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.name = socket.getRemoteSocketAddress().toString();
+            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        void assign(Shard shard) {
+            this.shard = shard;
+            for (int d : shard.devices) {
+                shard.lot.copies[d]++;
+            }
+        }
+
+        void release() {
+            if (shard != null) {
+                for (int d : shard.devices) {
+                    shard.lot.copies[d]--;
+                }
+            }
+            shard = null;
+        }
+
+        /**
+         * Reads the worker's messages until it goes away. Shards are sent from a separate
+         * thread, so a worker that dies while waiting for work is noticed at once.
+         */
+        void serve() {
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    JsonNode msg = FleetProtocol.MAPPER.readTree(line);
+                    String type = msg.path("type").asText();
+                    if (FleetProtocol.REPORT.equals(type)) {
+                        received(this, msg, FleetProtocol.decodeReport(msg));
+                    } else if (FleetProtocol.READY.equals(type)) {
+                        Thread.ofPlatform().daemon().name("fleet-dispatch-" + name).start(this::dispatch);
+                    } else {
+                        LOG.warn("Ignoring unknown message from worker {}: {}", name, type);
+                    }
+                }
+            } catch (SocketException e) {
+                LOG.debug("Worker {} connection closed: {}", name, e.toString());
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.warn("Dropping worker {}: {}", name, e.toString());
+            } finally {
+                disconnected(this);
+                close();
+            }
+        }
+
+        /**
+         * Sends the worker its next shard once there is one, or tells it to stop.
+         */
+        private void dispatch() {
+            try {
+                Shard s = nextShard(this);
+                if (s == null) {
+                    if (!isGone()) {
+                        FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.STOP));
+                    }
+                    return;
+                }
+                ObjectNode msg = FleetProtocol.message(FleetProtocol.SHARD).put("lot", s.lot().id).put("shard", s.id());
+                ArrayNode jobs = msg.putArray("jobs");
+                for (int d : s.devices()) {
+                    jobs.addObject().put("device", d).set("job", FleetProtocol.MAPPER.valueToTree(s.lot().jobs.get(d)));
+                }
+                FleetProtocol.send(out, msg);
+            } catch (IOException e) {
+                // The reader sees the closed socket and re-dispatches the shard
+                LOG.warn("Could not send to worker {}: {}", name, e.toString());
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean isGone() {
+            synchronized (FleetCoordinator.this) {
+                return gone;
+            }
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOG.debug("Could not close worker {}: {}", name, e.toString());
+            }
+        }
+    }
+}
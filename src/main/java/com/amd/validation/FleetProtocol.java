@@ -0,0 +1,138 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Messages exchanged between a {@link FleetCoordinator} and its {@link FleetWorker}s: one
+ * JSON object per line over a TCP connection.
+ * <pre>
+ * worker      -&gt; coordinator  {"type":"ready"}
+ *                             {"type":"report","lot":1,"device":7,"context":{...},"results":[...]}
+ * coordinator -&gt; worker       {"type":"shard","lot":1,"shard":3,"jobs":[{"device":7,"job":{...}}, ...]}
+ *                             {"type":"stop"}
+ * </pre>
+ * <p>
+ * A worker asks for work with {@code ready}, sends one {@code report} per device as soon as
+ * the device finishes, and asks again once its shard is done. {@code device} is the index
+ * of the device in the coordinator's lot and {@code job} a serialized {@link ValidationJob}.
+ * Reports carry the device's context fields and limits but not its telemetry windows,
+ * which workers do not sample.
+ * </p>
+ */
+final class FleetProtocol {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static final String READY = "ready";
+    static final String REPORT = "report";
+    static final String SHARD = "shard";
+    static final String STOP = "stop";
+
+    private FleetProtocol() { /* utility class */ }
+
+    /** @return a new message of the given type */
+    static ObjectNode message(String type) {
+        return MAPPER.createObjectNode().put("type", type);
+    }
+
+    /**
+     * Writes one message line; concurrent senders on the same writer do not interleave.
+     */
+    static void send(Writer out, ObjectNode message) throws IOException {
+        String line = MAPPER.writeValueAsString(message);
+        synchronized (out) {
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    /**
+     * Encodes a device's report.
+     *
+     * @param lot    the lot the device belongs to
+     * @param device the device's index in the lot
+     * @param report the report, with its context set
+     */
+    static ObjectNode encodeReport(long lot, int device, TestReport report) {
+        ObjectNode msg = message(REPORT).put("lot", lot).put("device", device);
+        TestContext ctx = report.getContext();
+        ObjectNode c = msg.putObject("context")
+            .put("deviceId", ctx.getDeviceId())
+            .put("deviceName", ctx.getDeviceName())
+            .put("pciLocation", ctx.getPciLocation())
+            .put("driverVersion", ctx.getDriverVersion())
+            .put("totalMemoryGB", ctx.getTotalMemoryGB())
+            .put("memoryUsedGB", ctx.getMemoryUsedGB())
+            .put("dedicatedMemoryGB", ctx.getDedicatedMemoryGB())
+            .put("sharedMemoryGB", ctx.getSharedMemoryGB())
+            .put("gpuTemperature", ctx.getGpuTemperature())
+            .put("fanSpeedRPM", ctx.getFanSpeedRPM())
+            .put("powerWatts", ctx.getPowerWatts());
+        ObjectNode limits = c.putObject("thresholds").put("name", ctx.getThresholds().getName())
+                             .putObject("limits");
+        ctx.getThresholds().asMap().forEach(limits::put);
+
+        ArrayNode results = msg.putArray("results");
+        for (ValidationResult r : report.getResults()) {
+            results.addObject()
+                   .put("taskName", r.getTaskName())
+                   .put("passed", r.isPassed())
+                   .put("message", r.getMessage())
+                   .put("value", r.getValue())
+                   .put("limit", r.getLimit());
+        }
+        return msg;
+    }
+
+    /**
+     * Rebuilds a report from a {@code report} message.
+     *
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    static TestReport decodeReport(JsonNode msg) {
+        JsonNode c = msg.path("context");
+        if (!c.path("deviceId").isTextual() || !msg.path("results").isArray()) {
+            throw new IllegalArgumentException("Malformed report: " + msg);
+        }
+        TestContext ctx = new TestContext(c.get("deviceId").asText());
+        ctx.setDeviceName(text(c, "deviceName"));
+        ctx.setPciLocation(text(c, "pciLocation"));
+        ctx.setDriverVersion(text(c, "driverVersion"));
+        ctx.setTotalMemoryGB(c.path("totalMemoryGB").asDouble());
+        ctx.setMemoryUsedGB(c.path("memoryUsedGB").asDouble());
+        ctx.setDedicatedMemoryGB(c.path("dedicatedMemoryGB").asDouble());
+        ctx.setSharedMemoryGB(c.path("sharedMemoryGB").asDouble());
+        ctx.setGpuTemperature(c.path("gpuTemperature").asDouble());
+        ctx.setFanSpeedRPM(c.path("fanSpeedRPM").asInt());
+        ctx.setPowerWatts(c.path("powerWatts").asInt());
+        JsonNode thresholds = c.path("thresholds");
+        Map<String, Double> limits = new LinkedHashMap<>();
+        thresholds.path("limits").fields().forEachRemaining(e -> limits.put(e.getKey(), e.getValue().asDouble()));
+        String name = thresholds.path("name").asText(ThresholdProfile.DEFAULTS.getName());
+        ctx.setThresholds(ThresholdProfile.DEFAULTS.derive(name, limits));
+
+        TestReport report = new TestReport();
+        for (JsonNode r : msg.get("results")) {
+            report.add(new ValidationResult(r.path("taskName").asText(), r.path("passed").asBoolean(),
+                                            text(r, "message"),
+                                            r.path("value").asDouble(Double.NaN),
+                                            r.path("limit").asDouble(Double.NaN)));
+        }
+        report.setContext(ctx);
+        return report;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode v = node.get(field);
+        return v == null || v.isNull() ? null : v.asText();
+    }
+}
@@ -0,0 +1,117 @@
+package com.amd.validation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FleetReport aggregates the per-device {@link TestReport}s produced by a {@link FleetRunner}.
+ * <p>
+ * Besides the individual reports, it provides a fleet summary: how many devices were
+ * validated, how many passed every task, and the total wall-clock time of the sweep.
+ * A device with no results at all (for example because its run aborted before any task
+ * ran) counts as failed, never as passed.
+ * </p>
+ */
+public class FleetReport {
+
+    /** Per-device reports, in the order the devices were submitted */
+    private final List<TestReport> reports;
+
+    /** Wall-clock duration of the whole fleet run (in nanoseconds) */
+    private final long elapsedNanos;
+
+    /** Summary counts, taken once from the reports' running totals */
+    private final long passedDevices;
+    private final long totalResults;
+
+    /**
+     * Constructs a FleetReport.
+     *
+     * @param reports      per-device reports in submission order
+     * @param elapsedNanos wall-clock duration of the fleet run in nanoseconds
+     */
+    public FleetReport(List<TestReport> reports, long elapsedNanos) {
+        this.reports = Collections.unmodifiableList(reports);
+        this.elapsedNanos = elapsedNanos;
+        long passed = 0, total = 0;
+        for (TestReport r : reports) {
+            TestReport.Summary summary = r.snapshot();
+            if (passed(summary)) passed++;
+            total += summary.total();
+        }
+        this.passedDevices = passed;
+        this.totalResults = total;
+    }
+
+    /** @return the per-device reports in submission order */
+    public List<TestReport> getReports() {
+        return reports;
+    }
+
+    /**
+     * Looks up the report for a given device.
+     *
+     * @param deviceId the device identifier
+     * @return the first report whose context has the given ID, or {@code null} if none
+     */
+    public TestReport getReport(String deviceId) {
+        for (TestReport r : reports) {
+            if (r.getContext() != null && deviceId.equals(r.getContext().getDeviceId())) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /** @return the number of devices validated */
+    public int deviceCount() {
+        return reports.size();
+    }
+
+    /** @return the number of devices that produced results and passed every task */
+    public long passedDevices() {
+        return passedDevices;
+    }
+
+    /** @return the number of devices with at least one failed task, or with no results */
+    public long failedDevices() {
+        return deviceCount() - passedDevices();
+    }
+
+    /** @return the total number of task results across all devices */
+    public long totalResults() {
+        return totalResults;
+    }
+
+    /** @return wall-clock duration of the fleet run */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Returns a human-readable fleet summary with one line per device.
+     *
+     * @return formatted multi-line fleet summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("\n=== Fleet Summary ===\n");
+        for (TestReport r : reports) {
+            String id = r.getContext() != null ? r.getContext().getDeviceId() : "?";
+            TestReport.Summary summary = r.snapshot();
+            sb.append(String.format("• %-25s : %s (%d/%d passed)%n",
+                id,
+                passed(summary) ? "PASS" : "FAIL",
+                summary.passed(),
+                summary.total()));
+        }
+        sb.append(String.format("Devices: %d  Passed: %d  Failed: %d  Elapsed: %d ms%n",
+            deviceCount(), passedDevices(), failedDevices(), getElapsed().toMillis()));
+        return sb.toString();
+    }
+
+    private static boolean passed(TestReport.Summary summary) {
+        return summary.total() > 0 && summary.failed() == 0;
+    }
+}
@@ -0,0 +1,138 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * FleetRunner validates many GPU devices at the same time.
+ * <p>
+ * Each {@link TestContext} is handed to the shared {@link TestRunner} on its own virtual
+ * thread, so a rack sweep takes roughly as long as the slowest device rather than the sum
+ * of all devices. A per-host concurrency cap bounds how many devices are validated at once,
+ * which keeps sensor buses and driver queues from being flooded on dense chassis.
+ * </p>
+ * <p>
+ * If the runner has a {@link MetricsRegistry}, the number of devices waiting for a permit
+ * and the number being validated are reported to it.
+ * </p>
+ */
+public class FleetRunner {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(FleetRunner.class);
+
+    /** Default number of devices validated concurrently on one host (one 8-GPU chassis) */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /** Runner applied to every device in the fleet */
+    private final TestRunner runner;
+
+    /** Maximum number of devices validated at the same time */
+    private final int maxConcurrency;
+
+    /**
+     * Constructs a FleetRunner with the default concurrency cap.
+     *
+     * @param runner the runner applied to each device
+     */
+    public FleetRunner(TestRunner runner) {
+        this(runner, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Constructs a FleetRunner with an explicit concurrency cap.
+     *
+     * @param runner         the runner applied to each device
+     * @param maxConcurrency maximum number of devices validated at once (must be positive)
+     */
+    public FleetRunner(TestRunner runner, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.runner = runner;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /** @return the maximum number of devices validated at once */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Validates every device context concurrently and collects one report per device.
+     * <p>
+     * Reports are returned in the same order as the supplied contexts. If a device run
+     * aborts with an exception, its report contains a single failed result describing the
+     * error; the remaining devices are unaffected.
+     * </p>
+     *
+     * @param contexts the devices to validate
+     * @return a {@link FleetReport} with per-device reports and a fleet summary
+     */
+    public FleetReport runFleet(Collection<TestContext> contexts) {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<TestReport>> futures = new ArrayList<>(contexts.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TestContext ctx : contexts) {
+                futures.add(executor.submit(() -> runDevice(ctx, permits)));
+            }
+
+            List<TestReport> reports = new ArrayList<>(futures.size());
+            int i = 0;
+            for (TestContext ctx : contexts) {
+                reports.add(await(futures.get(i++), ctx));
+            }
+            return new FleetReport(reports, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs a single device once a concurrency permit is available.
+     */
+    private TestReport runDevice(TestContext ctx, Semaphore permits) throws InterruptedException {
+        MetricsRegistry metrics = runner.getMetrics();
+        if (metrics != null) metrics.deviceQueued();
+        try {
+            permits.acquire();
+        } finally {
+            if (metrics != null) metrics.deviceDequeued();
+        }
+        if (metrics != null) metrics.deviceStarted();
+        try {
+            return runner.runAll(ctx);
+        } finally {
+            if (metrics != null) metrics.deviceFinished();
+            permits.release();
+        }
+    }
+
+    /**
+     * Waits for a device run and converts an aborted run into a failed report.
+     */
+    private static TestReport await(Future<TestReport> future, TestContext ctx) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abortedReport(ctx, e);
+        } catch (ExecutionException e) {
+            return abortedReport(ctx, e.getCause());
+        }
+    }
+
+    private static TestReport abortedReport(TestContext ctx, Throwable cause) {
+        LOG.warn("Validation aborted for {}: {}", ctx.getDeviceId(), cause.toString());
+        TestReport report = new TestReport();
+        report.add(new ValidationResult("FleetRunner", false, "Device run aborted: " + cause));
+        report.setContext(ctx);
+        return report;
+    }
+}
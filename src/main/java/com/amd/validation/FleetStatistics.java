@@ -0,0 +1,223 @@
+package com.amd.validation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FleetStatistics keeps streaming distributions of device telemetry per SKU and metric,
+ * so a device can be compared with its siblings rather than with a fixed limit.
+ * <p>
+ * Each (SKU, metric) pair has a running count, mean and variance (Welford's method) and a
+ * {@link QuantileSketch} for the median and quartiles, so memory per metric is constant
+ * however many devices are observed. Observing is thread-safe and locks only the one
+ * distribution being updated. Statistics gathered separately, on other threads, shards
+ * or hosts, combine with {@link #merge(FleetStatistics)}: the moments are merged exactly
+ * (Chan et al.) and the sketches by feeding one's centroids into the other.
+ * </p>
+ * <p>
+ * A device's SKU is its threshold profile name, or its device name when it runs under the
+ * {@code default} profile.
+ * </p>
+ */
+public class FleetStatistics {
+
+    /** The telemetry each device contributes one value of */
+    public enum Metric {
+        TEMPERATURE("Temperature", "°C"),
+        FAN_SPEED("Fan speed", "RPM"),
+        POWER("Power", "W"),
+        MEMORY_USED("Memory used", "GB");
+
+        private final String label;
+        private final String unit;
+
+        Metric(String label, String unit) {
+            this.label = label;
+            this.unit = unit;
+        }
+
+        /** @return a display name such as {@code Temperature} */
+        public String label() {
+            return label;
+        }
+
+        /** @return the unit of the metric's values */
+        public String unit() {
+            return unit;
+        }
+
+        /**
+         * Reads the metric from a device: the mean of its sampled window if it has one,
+         * else its latest reading.
+         *
+         * @param ctx the device
+         * @return the value
+         */
+        public double of(TestContext ctx) {
+            TelemetrySeries t = ctx.getTelemetry();
+            boolean sampled = t != null && t.getTemperature().getSize() > 0;
+            return switch (this) {
+                case TEMPERATURE -> sampled ? t.getTemperature().getMean() : ctx.getGpuTemperature();
+                case FAN_SPEED -> sampled ? t.getFanSpeedRPM().getMean() : ctx.getFanSpeedRPM();
+                case POWER -> sampled ? t.getPowerWatts().getMean() : ctx.getPowerWatts();
+                case MEMORY_USED -> sampled ? t.getMemoryUsedGB().getMean() : ctx.getMemoryUsedGB();
+            };
+        }
+    }
+
+    /**
+     * A consistent view of one distribution.
+     *
+     * @param count    values observed
+     * @param mean     arithmetic mean
+     * @param variance sample variance (NaN below two values)
+     * @param q1       estimated first quartile
+     * @param median   estimated median
+     * @param q3       estimated third quartile
+     */
+    public record Summary(long count, double mean, double variance, double q1, double median, double q3) {
+
+        /** @return the sample standard deviation */
+        public double stddev() {
+            return Math.sqrt(variance);
+        }
+
+        /**
+         * Estimates the median absolute deviation from the quartiles: for a symmetric
+         * distribution the MAD is half the interquartile range.
+         *
+         * @return the estimated MAD
+         */
+        public double mad() {
+            return (q3 - q1) / 2;
+        }
+    }
+
+    /** Key of one distribution */
+    private record Key(String sku, Metric metric) {
+    }
+
+    /** Running moments and quantile sketch of one distribution; guarded by its own monitor */
+    private static final class Distribution {
+        private long count;
+        private double mean;
+        private double m2;
+        private final QuantileSketch sketch = new QuantileSketch();
+
+        synchronized void add(double x) {
+            count++;
+            double delta = x - mean;
+            mean += delta / count;
+            m2 += delta * (x - mean);
+            sketch.add(x);
+        }
+
+        synchronized void merge(long n, double otherMean, double otherM2, QuantileSketch otherSketch) {
+            if (n == 0) return;
+            long total = count + n;
+            double delta = otherMean - mean;
+            mean += delta * n / total;
+            m2 += otherM2 + delta * delta * count * n / total;
+            count = total;
+            sketch.merge(otherSketch);
+        }
+
+        void mergeInto(Distribution target) {
+            // Copy first, so two instances merging into each other never hold both monitors
+            long n;
+            double mu, sq;
+            QuantileSketch copy = new QuantileSketch();
+            synchronized (this) {
+                n = count;
+                mu = mean;
+                sq = m2;
+                copy.merge(sketch);
+            }
+            target.merge(n, mu, sq, copy);
+        }
+
+        synchronized Summary summary() {
+            return new Summary(count, mean, count > 1 ? m2 / (count - 1) : Double.NaN,
+                               sketch.quantile(0.25), sketch.quantile(0.5), sketch.quantile(0.75));
+        }
+    }
+
+    private final Map<Key, Distribution> distributions = new ConcurrentHashMap<>();
+
+    /**
+     * @param ctx a device
+     * @return the SKU the device is grouped under
+     */
+    public static String skuOf(TestContext ctx) {
+        ThresholdProfile profile = ctx.getThresholds();
+        if (profile != null && !ThresholdProfile.DEFAULTS.getName().equals(profile.getName())) {
+            return profile.getName();
+        }
+        return Objects.requireNonNullElse(ctx.getDeviceName(), "unknown");
+    }
+
+    /**
+     * Adds every metric of a device to its SKU's distributions.
+     *
+     * @param ctx the device
+     */
+    public void observe(TestContext ctx) {
+        String sku = skuOf(ctx);
+        for (Metric m : Metric.values()) {
+            double x = m.of(ctx);
+            if (!Double.isNaN(x)) {
+                distribution(sku, m).add(x);
+            }
+        }
+    }
+
+    /**
+     * Observes several devices.
+     *
+     * @param contexts the devices
+     * @return this instance, for chaining
+     */
+    public FleetStatistics observeAll(Collection<TestContext> contexts) {
+        contexts.forEach(this::observe);
+        return this;
+    }
+
+    /**
+     * Adds everything another instance has observed.
+     *
+     * @param other statistics gathered elsewhere; unchanged apart from compressing its sketches
+     * @return this instance, for chaining
+     */
+    public FleetStatistics merge(FleetStatistics other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge statistics into themselves");
+        }
+        other.distributions.forEach((key, d) -> d.mergeInto(distribution(key.sku(), key.metric())));
+        return this;
+    }
+
+    private Distribution distribution(String sku, Metric metric) {
+        return distributions.computeIfAbsent(new Key(sku, metric), k -> new Distribution());
+    }
+
+    /**
+     * @param sku    a SKU, as returned by {@link #skuOf(TestContext)}
+     * @param metric the metric
+     * @return the distribution's summary, or {@code null} if nothing was observed
+     */
+    public Summary summary(String sku, Metric metric) {
+        Distribution d = distributions.get(new Key(sku, metric));
+        return d == null ? null : d.summary();
+    }
+
+    /** @return the SKUs observed so far, sorted */
+    public Set<String> skus() {
+        Set<String> skus = new TreeSet<>();
+        distributions.keySet().forEach(k -> skus.add(k.sku()));
+        return skus;
+    }
+}
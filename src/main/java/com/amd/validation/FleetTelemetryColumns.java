@@ -0,0 +1,133 @@
+package com.amd.validation;
+
+import java.util.Collection;
+
+/**
+ * Fleet telemetry laid out as primitive columns, one array per reading and per limit,
+ * for {@link BatchThresholdEvaluator}.
+ * <p>
+ * Row {@code i} holds one device (or one recorded sample): its readings and the limits of
+ * the {@link ThresholdProfile} it is judged against. Readings are taken exactly as the
+ * task classes take them, including the p99 of a sampled power window, so a batch
+ * evaluation gives the same verdicts as running the tasks.
+ * </p>
+ */
+public final class FleetTelemetryColumns {
+
+    final String[] deviceIds;
+
+    final double[] temperatureC;
+    final int[] fanRpm;
+    final double[] powerWatts;
+    final double[] memoryUsedGB;
+    final double[] totalMemoryGB;
+
+    final int[] fanMinRpm;
+    final int[] fanMaxRpm;
+    final double[] powerMaxWatts;
+    final double[] memoryMaxPercent;
+    final double[] healthMaxTempC;
+    final double[] healthMaxMemoryGB;
+
+    private int size;
+
+    /**
+     * Creates empty columns.
+     *
+     * @param capacity the number of rows the columns can hold
+     */
+    public FleetTelemetryColumns(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        deviceIds = new String[capacity];
+        temperatureC = new double[capacity];
+        fanRpm = new int[capacity];
+        powerWatts = new double[capacity];
+        memoryUsedGB = new double[capacity];
+        totalMemoryGB = new double[capacity];
+        fanMinRpm = new int[capacity];
+        fanMaxRpm = new int[capacity];
+        powerMaxWatts = new double[capacity];
+        memoryMaxPercent = new double[capacity];
+        healthMaxTempC = new double[capacity];
+        healthMaxMemoryGB = new double[capacity];
+    }
+
+    /**
+     * Lays out the current readings of a fleet.
+     *
+     * @param contexts populated device contexts
+     * @return one row per context, in iteration order
+     */
+    public static FleetTelemetryColumns of(Collection<TestContext> contexts) {
+        FleetTelemetryColumns columns = new FleetTelemetryColumns(contexts.size());
+        for (TestContext ctx : contexts) {
+            columns.add(ctx);
+        }
+        return columns;
+    }
+
+    /**
+     * Appends a device's readings and limits.
+     *
+     * @param ctx a populated context
+     * @return the row index
+     * @throws IllegalStateException if the columns are full
+     */
+    public int add(TestContext ctx) {
+        TelemetrySeries telemetry = ctx.getTelemetry();
+        double watts = telemetry != null && telemetry.getPowerWatts().getSize() > 0
+                ? telemetry.getPowerWatts().getP99()
+                : ctx.getPowerWatts();
+        return add(ctx.getDeviceId(), ctx.getGpuTemperature(), ctx.getFanSpeedRPM(), watts,
+                   ctx.getMemoryUsedGB(), ctx.getTotalMemoryGB(), ctx.getThresholds());
+    }
+
+    /**
+     * Appends one row of raw readings, e.g. a recorded sample.
+     *
+     * @param deviceId      device the row belongs to
+     * @param temperatureC  GPU temperature
+     * @param fanRpm        fan speed
+     * @param powerWatts    power draw
+     * @param memoryUsedGB  memory in use
+     * @param totalMemoryGB total memory
+     * @param limits        the limits to judge the row against
+     * @return the row index
+     * @throws IllegalStateException if the columns are full
+     */
+    public int add(String deviceId, double temperatureC, int fanRpm, double powerWatts,
+                   double memoryUsedGB, double totalMemoryGB, ThresholdProfile limits) {
+        if (size == deviceIds.length) {
+            throw new IllegalStateException("Columns are full (" + size + " rows)");
+        }
+        int i = size++;
+        this.deviceIds[i] = deviceId;
+        this.temperatureC[i] = temperatureC;
+        this.fanRpm[i] = fanRpm;
+        this.powerWatts[i] = powerWatts;
+        this.memoryUsedGB[i] = memoryUsedGB;
+        this.totalMemoryGB[i] = totalMemoryGB;
+        this.fanMinRpm[i] = (int) limits.get(Threshold.FAN_MIN_RPM);
+        this.fanMaxRpm[i] = (int) limits.get(Threshold.FAN_MAX_RPM);
+        this.powerMaxWatts[i] = limits.get(Threshold.POWER_MAX_WATTS);
+        this.memoryMaxPercent[i] = limits.get(Threshold.MEMORY_MAX_PERCENT);
+        this.healthMaxTempC[i] = limits.get(Threshold.HEALTH_MAX_TEMP_C);
+        this.healthMaxMemoryGB[i] = limits.get(Threshold.HEALTH_MAX_MEMORY_GB);
+        return i;
+    }
+
+    /** @return the number of rows */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row a row index
+     * @return the device the row belongs to
+     */
+    public String getDeviceId(int row) {
+        return deviceIds[row];
+    }
+}
@@ -0,0 +1,163 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FleetWorker validates the shards a {@link FleetCoordinator} hands it.
+ * <p>
+ * The worker connects to the coordinator, asks for a shard, validates its devices with
+ * this host's sensors (at most {@code maxConcurrency} at once, each with its own
+ * {@link TestRunner}) and sends each device's report back as soon as it finishes; a device
+ * whose run throws, even an {@link Error}, is reported as failed rather than left without
+ * a report. It then
+ * asks for the next shard, so fast workers pull more of the lot than slow ones. It returns
+ * when the coordinator tells it to stop or the connection closes.
+ * </p>
+ * <p>
+ * Run one per host or per JVM with {@code MainApp --worker <host:port>}.
+ * </p>
+ */
+public class FleetWorker {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(FleetWorker.class);
+
+    private final SensorProvider sensors;
+    private final ThresholdProfiles profiles;
+    private final int maxConcurrency;
+
+    /**
+     * Constructs a worker.
+     *
+     * @param sensors        source of device readings on this host
+     * @param profiles       per-SKU limits for the jobs
+     * @param maxConcurrency maximum number of devices validated at once (must be positive)
+     */
+    public FleetWorker(SensorProvider sensors, ThresholdProfiles profiles, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.sensors = sensors;
+        this.profiles = profiles;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Works for a coordinator until it stops the worker or goes away.
+     *
+     * @param coordinator the coordinator's address
+     * @return the number of devices this worker validated
+     * @throws IOException if the coordinator cannot be reached
+     */
+    public int run(InetSocketAddress coordinator) throws IOException {
+        AtomicInteger validated = new AtomicInteger();
+        try (Socket socket = new Socket()) {
+            socket.connect(coordinator);
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            LOG.info("Connected to coordinator {}", coordinator);
+
+            FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.READY));
+            String line;
+            while ((line = in.readLine()) != null) {
+                JsonNode msg = FleetProtocol.MAPPER.readTree(line);
+                String type = msg.path("type").asText();
+                if (FleetProtocol.STOP.equals(type)) {
+                    break;
+                }
+                if (FleetProtocol.SHARD.equals(type)) {
+                    validated.addAndGet(runShard(msg, out));
+                    FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.READY));
+                } else {
+                    LOG.warn("Ignoring unknown message from coordinator: {}", type);
+                }
+            }
+        }
+        LOG.info("Coordinator {} finished; validated {} devices", coordinator, validated.get());
+        return validated.get();
+    }
+
+    /**
+     * Validates every device of a shard, streaming each report back as it completes.
+     *
+     * @throws IOException if a report cannot be sent; the coordinator then re-dispatches
+     *                     the devices it has no report for
+     */
+    private int runShard(JsonNode shard, Writer out) throws IOException {
+        long lot = shard.path("lot").asLong();
+        JsonNode jobs = shard.path("jobs");
+        LOG.debug("Shard {} of lot {}: {} devices", shard.path("shard").asInt(), lot, jobs.size());
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<Void>> sends = new ArrayList<>(jobs.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (JsonNode entry : jobs) {
+                int device = entry.path("device").asInt();
+                ValidationJob job = FleetProtocol.MAPPER.treeToValue(entry.path("job"), ValidationJob.class);
+                sends.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        TestReport report = validate(job);
+                        FleetProtocol.send(out, FleetProtocol.encodeReport(lot, device, report));
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<Void> send : sends) {
+            try {
+                send.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException io ? io
+                        : new IOException("Could not report a device of lot " + lot, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reporting lot " + lot, e);
+            }
+        }
+        return jobs.size();
+    }
+
+    /**
+     * Validates one device; a job that cannot run, or whose run throws anything at all,
+     * yields a failed report, so the coordinator always gets one.
+     */
+    TestReport validate(ValidationJob job) {
+        TestContext ctx = new TestContext(String.valueOf(job.getDeviceId()));
+        try {
+            List<ValidationTask> tasks = job.resolveTasks();
+            sensors.populate(ctx);
+            ctx.setThresholds(job.resolveThresholds(profiles, ctx.getDeviceName()));
+            TestRunner runner = job.isParallel() ? new TestRunner(TaskCatalog.graph(tasks)) : new TestRunner(tasks);
+            return runner.runAll(ctx);
+        } catch (RuntimeException | Error e) {
+            LOG.warn("Validation aborted for {}: {}", ctx.getDeviceId(), e.toString());
+            TestReport report = new TestReport();
+            report.add(new ValidationResult("FleetWorker", false, "Device run aborted: " + e));
+            report.setContext(ctx);
+            return report;
+        }
+    }
+}
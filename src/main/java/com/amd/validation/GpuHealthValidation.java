@@ -2,14 +2,27 @@ package com.amd.validation;
 
 /**
  * GpuHealthValidation performs a combined check on the GPU's temperature and memory usage.
- * It validates whether both metrics are within specified safety thresholds.
+ * It validates whether both metrics are within specified safety thresholds, taken from the
+ * device's {@link ThresholdProfile} ({@code health.maxTempC}, {@code health.maxMemoryGB})
+ * unless fixed at construction.
  */
 public class GpuHealthValidation implements ValidationTask {
 
     private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(GpuHealthValidation.class);
 
-    private final double maxTemp;
-    private final double maxMem;
+    /** Shared PASS result; results are immutable so one instance serves every call */
+    private static final ValidationResult PASS =
+            new ValidationResult("GpuHealthValidation", true, "Temperature and memory within limits");
+
+    /** Limits fixed at construction; {@code null} to apply the device's profile */
+    private final ThresholdProfile limits;
+
+    /**
+     * Constructs a GpuHealthValidation task that applies each device's threshold profile.
+     */
+    public GpuHealthValidation() {
+        this.limits = null;
+    }
 
     /**
      * Constructs a GpuHealthValidation task with given max thresholds.
@@ -18,8 +31,8 @@ public class GpuHealthValidation implements ValidationTask {
      * @param maxMem  Maximum allowed GPU memory usage in GB
      */
     public GpuHealthValidation(double maxTemp, double maxMem) {
-        this.maxTemp = maxTemp;
-        this.maxMem = maxMem;
+        this.limits = ThresholdProfile.DEFAULTS.with(Threshold.HEALTH_MAX_TEMP_C, maxTemp)
+                                               .with(Threshold.HEALTH_MAX_MEMORY_GB, maxMem);
     }
 
     /**
@@ -33,16 +46,28 @@ public class GpuHealthValidation implements ValidationTask {
         double temp = context.getGpuTemperature();
         double mem = context.getMemoryUsedGB();
 
-        // Log the current sensor readings
-        LOG.info("Validating GPU Health for {}: Temp={}°C, Mem Used={}GB",
-                 context.getDeviceId(), temp, mem);
+        // Log the current sensor readings (guarded: boxing the readings allocates)
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating GPU Health for {}: Temp={}°C, Mem Used={}GB",
+                      context.getDeviceId(), temp, mem);
+        }
 
         // Determine if both metrics are within acceptable limits
-        boolean pass = temp <= maxTemp && mem <= maxMem;
-
-        // Construct a readable validation message
-        String msg = String.format("Temp: %.1f°C, Mem: %.1fGB", temp, mem);
+        ThresholdProfile t = limits != null ? limits : context.getThresholds();
+        double maxTemp = t.get(Threshold.HEALTH_MAX_TEMP_C);
+        double maxMem = t.get(Threshold.HEALTH_MAX_MEMORY_GB);
+        if (temp <= maxTemp && mem <= maxMem) {
+            return PASS;
+        }
 
-        return new ValidationResult("GpuHealthValidation", pass, msg);
+        // Evidence is the first metric over its limit; the message is built on demand
+        boolean tempFailed = temp > maxTemp;
+        return new ValidationResult(
+            "GpuHealthValidation",
+            false,
+            () -> String.format("Temp: %.1f°C, Mem: %.1fGB", temp, mem),
+            tempFailed ? temp : mem,
+            tempFailed ? maxTemp : maxMem
+        );
     }
 }
@@ -2,13 +2,39 @@ package com.amd.validation;
 
 /**
  * GpuMemoryUsageValidation checks that GPU memory usage is within a safe threshold.
- * It ensures that usage remains below 90% of the total memory capacity.
+ * The limit comes from the device's {@link ThresholdProfile} ({@code memory.maxPercent});
+ * by default usage must remain below 90% of the total memory capacity.
  */
 public class GpuMemoryUsageValidation implements ValidationTask {
 
     // SLF4J logger for runtime diagnostics
     private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(GpuMemoryUsageValidation.class);
 
+    /** Shared results; results are immutable so one instance serves every call */
+    private static final ValidationResult PASS =
+            new ValidationResult("GpuMemoryUsageValidation", true, "GPU memory usage within limit");
+    private static final ValidationResult NO_TOTAL =
+            new ValidationResult("GpuMemoryUsageValidation", false, "Total memory reported as 0 GB");
+
+    /** Limits fixed at construction; {@code null} to apply the device's profile */
+    private final ThresholdProfile limits;
+
+    /**
+     * Constructs a memory check that applies each device's threshold profile.
+     */
+    public GpuMemoryUsageValidation() {
+        this.limits = null;
+    }
+
+    /**
+     * Constructs a memory check with a fixed limit, whatever the device's profile says.
+     *
+     * @param maxUsagePercent usage (percent of total memory) at or above which the check fails
+     */
+    public GpuMemoryUsageValidation(double maxUsagePercent) {
+        this.limits = ThresholdProfile.DEFAULTS.with(Threshold.MEMORY_MAX_PERCENT, maxUsagePercent);
+    }
+
     /**
      * Executes the memory usage validation.
      *
@@ -20,29 +46,32 @@ public class GpuMemoryUsageValidation implements ValidationTask {
         double used = context.getMemoryUsedGB();
         double total = context.getTotalMemoryGB();
 
-        LOG.info("Validating GPU Memory Usage for {}", context.getDeviceId());
-        LOG.info("Memory Used: {} GB / {} GB", used, total);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating GPU Memory Usage for {}: {} GB / {} GB",
+                      context.getDeviceId(), used, total);
+        }
 
         // Edge case: if total memory is not properly detected
         if (total <= 0) {
-            return new ValidationResult(
-                "GpuMemoryUsageValidation",
-                false,
-                "Total memory reported as 0 GB"
-            );
+            return NO_TOTAL;
         }
 
         // Compute usage percentage
         double usagePercent = (used / total) * 100;
 
-        // Define acceptable threshold for memory usage
-        boolean isHealthy = usagePercent < 90;
+        // Acceptable threshold for memory usage on this device's SKU
+        double maxUsagePercent = (limits != null ? limits : context.getThresholds()).get(Threshold.MEMORY_MAX_PERCENT);
+        if (usagePercent < maxUsagePercent) {
+            return PASS;
+        }
 
-        // Return the validation result
+        // Return the failure; the message is only formatted if someone reads it
         return new ValidationResult(
             "GpuMemoryUsageValidation",
-            isHealthy,
-            String.format("Used %.1f%% of GPU memory", usagePercent)
+            false,
+            () -> String.format("Used %.1f%% of GPU memory", usagePercent),
+            usagePercent,
+            maxUsagePercent
         );
     }
 }
@@ -0,0 +1,137 @@
+package com.amd.validation;
+
+/**
+ * Fixed-size ring buffer of primitive {@code int} samples (e.g. fan RPM, power in watts).
+ * <p>
+ * Behaves like {@link DoubleRingBuffer}: adding a sample never allocates, the oldest
+ * sample is overwritten once the buffer is full, and window statistics reuse a scratch
+ * array sized at construction.
+ * </p>
+ */
+public class IntRingBuffer {
+
+    /** Sample storage; {@code head} is the slot the next sample is written to */
+    private final int[] values;
+
+    /** Scratch space for percentile selection */
+    private final double[] scratch;
+
+    private int head;
+    private int size;
+
+    /** Running sum of the samples currently in the window */
+    private long sum;
+
+    /**
+     * Constructs an empty ring buffer.
+     *
+     * @param capacity maximum number of samples kept (must be positive)
+     */
+    public IntRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.values = new int[capacity];
+        this.scratch = new double[capacity];
+    }
+
+    /**
+     * Appends a sample, evicting the oldest one if the buffer is full.
+     *
+     * @param value the sample value
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            sum -= values[head];
+        } else {
+            size++;
+        }
+        values[head] = value;
+        sum += value;
+        head = (head + 1) % values.length;
+    }
+
+    /**
+     * Returns a sample by age.
+     *
+     * @param i index from 0 (oldest) to {@code getSize() - 1} (newest)
+     * @return the sample value
+     */
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        }
+        return values[(head - size + i + values.length) % values.length];
+    }
+
+    /** @return the newest sample in the window, or 0 if empty */
+    public int latest() {
+        return size == 0 ? 0 : get(size - 1);
+    }
+
+    /** @return the number of samples currently held */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return the maximum number of samples held */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /** @return true once the window has wrapped and every slot holds a sample */
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    /** Removes all samples. */
+    public void clear() {
+        head = 0;
+        size = 0;
+        sum = 0;
+    }
+
+    /** @return the smallest sample in the window, or NaN if empty */
+    public double getMin() {
+        if (size == 0) return Double.NaN;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /** @return the largest sample in the window, or NaN if empty */
+    public double getMax() {
+        if (size == 0) return Double.NaN;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /** @return the arithmetic mean of the window, or NaN if empty */
+    public double getMean() {
+        return size == 0 ? Double.NaN : (double) sum / size;
+    }
+
+    /** @return the 99th percentile of the window, or NaN if empty */
+    public double getP99() {
+        return percentile(99.0);
+    }
+
+    /**
+     * Computes a percentile of the window using nearest-rank selection.
+     *
+     * @param p percentile in the range [0, 100]
+     * @return the percentile value, or NaN if empty
+     */
+    public double percentile(double p) {
+        if (size == 0) return Double.NaN;
+        for (int i = 0; i < size; i++) {
+            scratch[i] = values[i];
+        }
+        return DoubleRingBuffer.select(scratch, size, DoubleRingBuffer.rank(p, size));
+    }
+}
@@ -0,0 +1,73 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Streams results as JSON Lines: one JSON object per line, written with Jackson's
+ * streaming {@link JsonGenerator} so no object tree is built.
+ *
+ * <pre>
+ * {"timestamp":1718000000000,"deviceId":"GPU-001","taskName":"FanSpeedValidation","passed":true,"message":"Fan speed normal"}
+ * </pre>
+ */
+public class JsonLinesResultSink extends BufferedResultSink {
+
+    private static final JsonFactory FACTORY = new JsonFactory().setRootValueSeparator(null);
+
+    private final JsonGenerator gen;
+
+    /**
+     * Creates (or truncates) a JSON Lines file with the default flush policy.
+     *
+     * @param out the file to write
+     * @throws IOException if the file cannot be opened
+     */
+    public JsonLinesResultSink(Path out) throws IOException {
+        this(buffered(new OutputStreamWriter(Files.newOutputStream(out), StandardCharsets.UTF_8)),
+             DEFAULT_FLUSH_EVERY, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Writes JSON Lines to an arbitrary writer.
+     *
+     * @param out           destination; wrapped in a bounded buffer unless already buffered
+     * @param flushEvery    number of results between flushes
+     * @param flushInterval maximum time between flushes
+     * @throws IOException if the generator cannot be created
+     */
+    public JsonLinesResultSink(Writer out, int flushEvery, Duration flushInterval) throws IOException {
+        super(flushEvery, flushInterval);
+        this.gen = FACTORY.createGenerator(buffered(out));
+    }
+
+    @Override
+    protected void write(TestContext c, ValidationResult r, long timestampMillis) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("timestamp", timestampMillis);
+        gen.writeStringField("deviceId", c.getDeviceId());
+        gen.writeStringField("taskName", r.getTaskName());
+        gen.writeBooleanField("passed", r.isPassed());
+        gen.writeStringField("message", r.getMessage());
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    @Override
+    protected void flushBuffer() throws IOException {
+        gen.flush();
+    }
+
+    @Override
+    protected void closeStream() throws IOException {
+        gen.close();
+    }
+}
@@ -1,9 +1,11 @@
 package com.amd.validation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
 /**
@@ -12,11 +14,19 @@ import java.nio.file.Path;
 public final class JsonReportExporter {
 
     private static final ObjectMapper MAPPER =
-            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                              .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
     private JsonReportExporter() { /* utility class */ }
 
     public static void export(TestReport report, Path out) throws IOException {
         MAPPER.writeValue(out.toFile(), report);
     }
+
+    /**
+     * Writes the report to an open stream, which is flushed but left open.
+     */
+    public static void export(TestReport report, OutputStream out) throws IOException {
+        MAPPER.writeValue(out, report);
+    }
 }
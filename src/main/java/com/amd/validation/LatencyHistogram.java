@@ -0,0 +1,133 @@
+package com.amd.validation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram records durations in nanoseconds into fixed log-linear buckets.
+ * <p>
+ * The layout follows HdrHistogram: values below 128 ns get a bucket each, and every
+ * further power of two is split into 64 linear sub-buckets, so any recorded value is
+ * reported with at most ~1.6% relative error. Values from 1 ns to about 73 minutes are
+ * tracked; larger values land in the last bucket. Recording is a handful of arithmetic
+ * operations and one atomic increment, with no locks and no allocation, so it can sit on
+ * the validation hot path and be read concurrently by an exporter.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;      // 128
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;     // 64
+
+    /** Largest trackable value: 2^42 - 1 ns (~73 minutes) */
+    static final long MAX_TRACKABLE = (1L << 42) - 1;
+
+    static final int BUCKET_COUNT = index(MAX_TRACKABLE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long v = Math.max(0, nanos);
+        buckets.incrementAndGet(index(Math.min(v, MAX_TRACKABLE)));
+        count.increment();
+        sum.add(v);
+        long m = max.get();
+        while (v > m && !max.compareAndSet(m, v)) {
+            m = max.get();
+        }
+    }
+
+    /** @return the number of recorded values */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** @return the sum of all recorded values in nanoseconds */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /** @return the largest recorded value in nanoseconds, or 0 if empty */
+    public long getMax() {
+        return max.get();
+    }
+
+    /** @return the mean of the recorded values in nanoseconds, or NaN if empty */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? Double.NaN : (double) getSum() / n;
+    }
+
+    /**
+     * Returns the value at a percentile: the highest value equivalent to the bucket that
+     * holds the given rank, capped at the recorded maximum.
+     *
+     * @param percentile in [0, 100]
+     * @return the value in nanoseconds, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+
+        double p = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears all recorded values. Not atomic with respect to concurrent recording.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Maps a value to its bucket.
+     */
+    static int index(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(v) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) ((v >>> shift) - HALF_SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value that maps to a bucket.
+     */
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long mantissa = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -1,8 +1,14 @@
 package com.amd.validation;
 
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 
 /**
@@ -10,11 +16,84 @@ import java.util.stream.Collectors;
  *
  * Supported CLI flags
  * -------------------
- * --device-id <id>          : GPU identifier (default: GPU-001)
+ * --device-id <id>[,<id>]  : GPU identifier(s) (default: GPU-001); several IDs
+ *                             are validated concurrently as a fleet
+ * --discover                : Validate every AMD GPU found under the sysfs PCI tree
+ *                             instead of --device-id; devices are named by address
+ *                             (e.g. GPU-0000:03:00.0) and the topology is printed
+ * --max-concurrency <n>     : Devices validated at once in fleet mode (default: 8)
+ * --screen                  : Run the fan, power, memory and health checks over all
+ *                             devices at once and report only on the devices that
+ *                             failed one of them
  * --tasks pcie,thermal,...  : Comma‑separated list of tasks to run
- *                             (pcie, thermal, memory, fan, power)
- * --export                  : Write report.csv / report.json and ZIP bundle
+ *                             (pcie, thermal, memory, fan, power, health, location,
+ *                             anomaly - outliers among the run's devices of each SKU)
+ * --expected-pci-location <loc> : Expected PCIe location for the location task
+ * --threshold-profiles <json> : Per-SKU task limits; the daemon reloads the file
+ *                             whenever it changes
+ * --sku <name>              : Threshold profile to apply (default: matched from
+ *                             the device name, else the "default" profile)
+ * --serve                   : Run as a validation daemon accepting jobs over HTTP
+ * --port <port>             : Daemon port on 127.0.0.1 (default: 8085)
+ * --workers <n>             : Jobs the daemon runs at once (default: 8)
+ * --queue-capacity <n>      : Jobs the daemon queues before rejecting (default: 256)
+ * --parallel                : Run independent tasks concurrently (thermal waits
+ *                             for PCIe link training)
+ * --task-timeout <ms>       : Fail any task attempt that runs longer than this
+ * --retries <n>             : Retry a task that throws or times out up to n times,
+ *                             with exponential backoff from 100 ms
+ * --result-cache <file>     : Reuse results of deterministic tasks (location) whose
+ *                             inputs are unchanged since an earlier run within 24 h
+ * --sensor-provider <name> : Sensor source: mock (default), sysfs or replay
+ * --sysfs-root <dir>        : Root of the sysfs tree for the sysfs provider (default: /sys)
+ * --replay-file <csv>       : Recorded samples for the replay provider
+ * --sample-hz <hz>          : Poll sensors at this rate before validating
+ * --sample-seconds <s>      : Sampling duration (default: 60 when --sample-hz is set)
+ * --soak <duration>         : Burn-in: sample every device for the duration (e.g. 4h,
+ *                             90m, 600s) at --sample-hz (default 10) and judge thermal
+ *                             slope, fan oscillation, power spikes and memory creep
+ *                             over sliding windows instead of running tasks
+ * --soak-window <s>         : Sliding window length in seconds (default: 60)
+ * --soak-checkpoints <dir>  : Where each device's interim report is rewritten once per
+ *                             window (default: target/soak)
+ * --capture <file>          : Record every device's fields and samples to a capture
+ *                             file for later re-validation
+ * --revalidate <file|dir>   : Validate captured devices (one capture or every .gcap
+ *                             file in a directory) instead of reading sensors; limits
+ *                             are the captured ones unless --threshold-profiles or
+ *                             --sku is given
+ * --stream <dir>            : Stream results to <dir>/results.csv and results.jsonl
+ *                             as each task completes
+ * --binary-log <file>       : Append every result to a memory-mapped binary log
+ * --columnar <file>         : Write every result to a compressed columnar file for
+ *                             analytics (dictionary-encoded strings, RLE verdicts)
+ * --metrics-file <file>     : Write task/device latency metrics in Prometheus text
+ *                             format when the run completes
+ * --metrics-port <port>     : Serve the same metrics at http://127.0.0.1:<port>/metrics
+ *                             while the run is in progress
+ * --shard-workers <n>       : Start n local worker processes and validate the devices
+ *                             on them in shards through a fleet coordinator
+ * --coordinator <host:port> : Address the coordinator accepts workers on (default: an
+ *                             ephemeral loopback port); implies coordinator mode
+ * --shard-size <n>          : Devices per shard handed to a worker (default: 4)
+ * --worker <host:port>      : Run as a fleet worker for the coordinator at host:port,
+ *                             validating the shards it hands out until it stops
+ * --trends [dir]            : Print per-day task failure rates, per-driver pass rates
+ *                             and per-SKU temperatures over the stored runs in dir
+ *                             (default: target/reports) and exit
+ * --trends-days <n>         : Days covered by --trends, ending today (default: 30)
+ * --trends-index <file>     : Keep the run index in this file, so only new runs are
+ *                             parsed
+ * --export                  : Write report.csv / report.json and ZIP bundle; in
+ *                             fleet mode reports are streamed into one ZIP
  * --summary-only            : Suppress per‑task info logs
+ * --task-log <levels>       : Log each task's start and verdict through a background
+ *                             writer instead of on the validation threads, e.g.
+ *                             info,ThermalMonitorCheck=debug,FanSpeedValidation=off;
+ *                             implies --summary-only for the tasks' own logs
+ * --task-log-file <file>    : Write the task log to a file instead of SLF4J
+ * --task-log-overflow <p>   : When the task log queue is full: drop-newest (default),
+ *                             drop-oldest or block
  */
 public class MainApp {
 
@@ -29,26 +108,230 @@ public class MainApp {
          * ----------------------------------------------------- */
         Map<String, String> flags   = parseArgs(args);
         boolean export              = flags.containsKey("--export");
-        boolean summaryOnly         = flags.containsKey("--summary-only");
-        String deviceId             = flags.getOrDefault("--device-id", "GPU-001");
+        boolean summaryOnly         = flags.containsKey("--summary-only") || flags.containsKey("--task-log");
+        boolean parallel            = flags.containsKey("--parallel");
+        String deviceIds            = flags.getOrDefault("--device-id", "GPU-001");
         String taskCsv              = flags.getOrDefault("--tasks",
                                      "pcie,thermal,memory,fan,power");
+        int maxConcurrency          = Integer.parseInt(flags.getOrDefault("--max-concurrency",
+                                     String.valueOf(FleetRunner.DEFAULT_MAX_CONCURRENCY)));
+
+        if (flags.containsKey("--trends")) {
+            trends(flags);
+            return;
+        }
+        if (flags.containsKey("--shard-workers") || flags.containsKey("--coordinator")) {
+            coordinate(flags, export);
+            return;
+        }
 
         /* -------------------------------------------------------
-         * 2. Build test context (metadata + telemetry)
+         * 2. Build test contexts (metadata + telemetry)
          * ----------------------------------------------------- */
-        TestContext ctx = new TestContext(deviceId);
-        SystemInfoFetcher.populate(ctx);   // mock data; replace with real sensors
+        if (flags.containsKey("--sysfs-root")) {
+            System.setProperty(SysfsSensorProvider.ROOT_PROPERTY, flags.get("--sysfs-root"));
+        }
+        if (flags.containsKey("--replay-file")) {
+            System.setProperty(ReplaySensorProvider.FILE_PROPERTY, flags.get("--replay-file"));
+        }
+        boolean revalidate = flags.containsKey("--revalidate");
+        List<TestContext> contexts = new ArrayList<>();
+        ThresholdProfiles profiles;
+        try (SensorProvider sensors = SensorProviders.load(
+                 flags.getOrDefault("--sensor-provider", SensorProviders.DEFAULT_PROVIDER))) {
+            profiles = flags.containsKey("--threshold-profiles")
+                    ? ThresholdProfiles.load(Path.of(flags.get("--threshold-profiles")))
+                    : new ThresholdProfiles();
+
+            if (flags.containsKey("--serve")) {
+                serve(flags, sensors, profiles);
+                return;
+            }
+            if (flags.containsKey("--worker")) {
+                new FleetWorker(sensors, profiles, maxConcurrency).run(parseAddress(flags.get("--worker")));
+                return;
+            }
+
+            if (!revalidate) {
+                Map<String, PciDeviceScanner.PciDevice> discovered = Map.of();
+                if (flags.containsKey("--discover")) {
+                    try {
+                        discovered = discover(sensors);
+                    } catch (java.io.UncheckedIOException e) {
+                        System.err.println(e.getMessage());
+                    }
+                    if (discovered.isEmpty()) {
+                        // Falling back to --device-id would validate a phantom mock device;
+                        // System.exit skips the try-with-resources, so close here
+                        sensors.close();
+                        System.exit(1);
+                    }
+                    deviceIds = String.join(",", discovered.keySet());
+                }
+                for (String id : deviceIds.split(",")) {
+                    if (id.isBlank()) continue;
+                    TestContext ctx = new TestContext(id.trim());
+                    sensors.populate(ctx);
+                    if (discovered.containsKey(ctx.getDeviceId())) {
+                        discovered.get(ctx.getDeviceId()).applyTo(ctx);
+                    }
+                    try {
+                        ctx.setThresholds(profiles.resolve(flags.get("--sku"), ctx.getDeviceName()));
+                    } catch (IllegalArgumentException e) {
+                        System.err.println(e.getMessage());
+                        return;
+                    }
+                    contexts.add(ctx);
+                }
+                if (flags.containsKey("--soak")) {
+                    soak(flags, contexts, sensors, export);
+                    return;
+                }
+                sampleAndCapture(flags, contexts, sensors);
+            }
+        }
 
         /* -------------------------------------------------------
          * 3. Resolve and execute validation tasks
          * ----------------------------------------------------- */
-        List<ValidationTask> tasks  = resolveTasks(taskCsv, summaryOnly);
+        List<String> taskNames = cliTaskNames(taskCsv);
+        // The anomaly task compares each device with the others of this run; a replay
+        // fills the baseline from the captured devices instead
+        FleetStatistics baseline = taskNames.contains("anomaly") ? new FleetStatistics() : null;
+        if (baseline != null && !revalidate) {
+            baseline.observeAll(contexts);
+        }
+        List<ValidationTask> tasks;
+        try {
+            tasks = TaskCatalog.resolve(taskNames, flags.get("--expected-pci-location"), summaryOnly, baseline);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
         if (tasks.isEmpty()) {
             System.err.println("No valid tasks requested. Exiting.");
             return;
         }
-        TestReport report = new TestRunner(tasks).runAll(ctx);
+        if (contexts.isEmpty() && !revalidate) {
+            System.err.println("No device IDs given. Exiting.");
+            return;
+        }
+        if (flags.containsKey("--screen")) {
+            contexts = screen(contexts, taskNames, revalidate);
+            if (contexts == null) {
+                return;
+            }
+            if (contexts.isEmpty()) {
+                System.out.println("Validation complete.");
+                return;
+            }
+        }
+        TestRunner runner = parallel ? new TestRunner(TaskCatalog.graph(tasks)) : new TestRunner(tasks);
+        if (flags.containsKey("--task-timeout")) {
+            runner.withTimeout(Duration.ofMillis(Long.parseLong(flags.get("--task-timeout"))));
+        }
+        if (flags.containsKey("--retries")) {
+            int retries = Integer.parseInt(flags.get("--retries"));
+            runner.withRetry(RetryPolicy.exponential(retries + 1, Duration.ofMillis(100)));
+        }
+
+        ResultCache cache = null;
+        if (flags.containsKey("--result-cache")) {
+            cache = ResultCache.load(Path.of(flags.get("--result-cache")),
+                                     ResultCache.DEFAULT_MAX_ENTRIES, ResultCache.DEFAULT_TTL);
+            runner.withResultCache(cache);
+        }
+
+        List<ResultSink> sinks = new ArrayList<>();
+        if (flags.containsKey("--stream")) {
+            Path streamDir = Path.of(flags.get("--stream"));
+            Files.createDirectories(streamDir);
+            sinks.add(new CsvResultSink(streamDir.resolve("results.csv")));
+            sinks.add(new JsonLinesResultSink(streamDir.resolve("results.jsonl")));
+        }
+        if (flags.containsKey("--binary-log")) {
+            sinks.add(new BinaryResultLog(Path.of(flags.get("--binary-log"))));
+        }
+        if (flags.containsKey("--columnar")) {
+            sinks.add(new ColumnarReportWriter(Path.of(flags.get("--columnar"))));
+        }
+        sinks.forEach(runner::withSink);
+
+        Writer taskLogFile = flags.containsKey("--task-log-file")
+                ? Files.newBufferedWriter(Path.of(flags.get("--task-log-file")))
+                : null;
+        TaskLog taskLog = null;
+        if (flags.containsKey("--task-log") || taskLogFile != null) {
+            try {
+                taskLog = new TaskLog(TaskLog.DEFAULT_CAPACITY,
+                                      TaskLog.Overflow.parse(flags.getOrDefault("--task-log-overflow", "drop-newest")),
+                                      taskLogFile != null ? TaskLog.toWriter(taskLogFile) : TaskLog::toSlf4j);
+                taskLog.withLevels(flags.getOrDefault("--task-log", "info"));
+            } catch (IllegalArgumentException e) {
+                closeTaskLog(taskLog, taskLogFile);
+                System.err.println(e.getMessage());
+                return;
+            }
+            runner.withTaskLog(taskLog);
+        }
+
+        MetricsRegistry metrics = null;
+        MetricsServer metricsServer = null;
+        if (flags.containsKey("--metrics-file") || flags.containsKey("--metrics-port")) {
+            metrics = new MetricsRegistry();
+            runner.withMetrics(metrics);
+        }
+        if (flags.containsKey("--metrics-port")) {
+            metricsServer = new MetricsServer(metrics, Integer.parseInt(flags.get("--metrics-port")));
+        }
+
+        if (revalidate) {
+            ReplayEngine engine = new ReplayEngine(runner);
+            if (flags.containsKey("--threshold-profiles") || flags.containsKey("--sku")) {
+                engine.withThresholdProfiles(profiles, flags.get("--sku"));
+            }
+            if (baseline != null) {
+                engine.withBaseline(baseline);
+            }
+            FleetReport fleet;
+            try {
+                fleet = engine.replay(TelemetryCaptureReader.list(Path.of(flags.get("--revalidate"))));
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                return;
+            }
+            sinks.forEach(ResultSink::close);
+            closeTaskLog(taskLog, taskLogFile);
+            saveCache(cache);
+            finishMetrics(flags, metrics, metricsServer);
+            System.out.println(fleet);
+            if (export) {
+                exportFleet(fleet);
+            }
+            System.out.println("Validation complete.");
+            return;
+        }
+
+        if (contexts.size() > 1) {
+            FleetReport fleet = new FleetRunner(runner, maxConcurrency).runFleet(contexts);
+            sinks.forEach(ResultSink::close);
+            closeTaskLog(taskLog, taskLogFile);
+            saveCache(cache);
+            finishMetrics(flags, metrics, metricsServer);
+            fleet.getReports().forEach(System.out::println);
+            System.out.println(fleet);
+            if (export) {
+                exportFleet(fleet);
+            }
+            System.out.println("Validation complete.");
+            return;
+        }
+
+        TestReport report = runner.runAll(contexts.get(0));
+        sinks.forEach(ResultSink::close);
+        closeTaskLog(taskLog, taskLogFile);
+        saveCache(cache);
+        finishMetrics(flags, metrics, metricsServer);
 
         /* -------------------------------------------------------
          * 4. Console summary
@@ -78,6 +361,283 @@ public class MainApp {
 
     /* ========== helper methods =========================================== */
 
+    /**
+     * Runs the validation daemon until the JVM is asked to shut down.
+     */
+    private static void serve(Map<String, String> flags, SensorProvider sensors,
+                              ThresholdProfiles profiles) throws Exception {
+        int port = Integer.parseInt(flags.getOrDefault("--port", String.valueOf(ValidationDaemon.DEFAULT_PORT)));
+        int workers = Integer.parseInt(flags.getOrDefault("--workers",
+                                       String.valueOf(ValidationDaemon.DEFAULT_WORKERS)));
+        int capacity = Integer.parseInt(flags.getOrDefault("--queue-capacity",
+                                        String.valueOf(ValidationDaemon.DEFAULT_QUEUE_CAPACITY)));
+
+        ValidationDaemon daemon = new ValidationDaemon(port, sensors, workers, capacity)
+            .withThresholdProfiles(profiles.watch());
+        if (flags.containsKey("--task-timeout")) {
+            daemon.withTaskTimeout(Duration.ofMillis(Long.parseLong(flags.get("--task-timeout"))));
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            daemon.close();
+            profiles.close();
+            sensors.close();
+            stopped.countDown();
+        }, "daemon-shutdown"));
+        System.out.println("Validation daemon listening on http://127.0.0.1:" + daemon.getPort());
+        stopped.await();
+    }
+
+    /** Flags passed through to the worker processes a coordinator starts */
+    private static final List<String> WORKER_FLAGS = List.of("--sensor-provider", "--sysfs-root",
+        "--replay-file", "--threshold-profiles", "--max-concurrency", "--summary-only");
+
+    /**
+     * Validates the devices on fleet workers, starting local ones if requested.
+     */
+    private static void coordinate(Map<String, String> flags, boolean export) throws Exception {
+        List<String> taskNames = cliTaskNames(flags.getOrDefault("--tasks", "pcie,thermal,memory,fan,power"));
+        try {
+            // Workers resolve the tasks again; this only reports bad flags before any process starts
+            if (TaskCatalog.resolve(taskNames, flags.get("--expected-pci-location"), true).isEmpty()) {
+                System.err.println("No valid tasks requested. Exiting.");
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        List<ValidationJob> jobs = new ArrayList<>();
+        for (String id : flags.getOrDefault("--device-id", "GPU-001").split(",")) {
+            if (id.isBlank()) continue;
+            ValidationJob job = new ValidationJob(id.trim(), taskNames);
+            job.setSku(flags.get("--sku"));
+            job.setExpectedPciLocation(flags.get("--expected-pci-location"));
+            job.setParallel(flags.containsKey("--parallel"));
+            jobs.add(job);
+        }
+        List<String> workerArgs = new ArrayList<>();
+        for (String flag : WORKER_FLAGS) {
+            if (flags.containsKey(flag)) {
+                workerArgs.add(flag);
+                workerArgs.add(flags.get(flag));
+            }
+        }
+
+        int localWorkers = Integer.parseInt(flags.getOrDefault("--shard-workers", "0"));
+        int shardSize = Integer.parseInt(flags.getOrDefault("--shard-size",
+                                         String.valueOf(FleetCoordinator.DEFAULT_SHARD_SIZE)));
+        InetSocketAddress bind = flags.containsKey("--coordinator")
+                ? parseAddress(flags.get("--coordinator"))
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+        FleetReport fleet;
+        try (FleetCoordinator coordinator = new FleetCoordinator(bind, shardSize)) {
+            System.out.println("Fleet coordinator listening on " + coordinator.getAddress());
+            coordinator.spawnLocalWorkers(localWorkers, workerArgs);
+            // Lets every local worker connect before the first shards go out
+            coordinator.awaitWorkers(Math.max(localWorkers, 1), FleetCoordinator.DEFAULT_WORKER_WAIT);
+            fleet = coordinator.run(jobs);
+            LOG.info("Coordinator: {} devices stolen from stragglers, {} re-dispatched from lost workers",
+                     coordinator.getStolenDevices(), coordinator.getRequeuedDevices());
+        }
+        fleet.getReports().forEach(System.out::println);
+        System.out.println(fleet);
+        if (export) {
+            exportFleet(fleet);
+        }
+        System.out.println("Validation complete.");
+    }
+
+    private static InetSocketAddress parseAddress(String hostPort) {
+        int colon = hostPort.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Expected <host:port>, got '" + hostPort + "'");
+        }
+        return new InetSocketAddress(hostPort.substring(0, colon), Integer.parseInt(hostPort.substring(colon + 1)));
+    }
+
+    /**
+     * Prints the trend summary over stored runs, updating the saved index if one is used.
+     */
+    private static void trends(Map<String, String> flags) throws Exception {
+        String dir = flags.get("--trends");
+        Path reportsDir = "true".equals(dir) ? RunIndex.DEFAULT_REPORTS_DIR : Path.of(dir);
+        Path indexFile = flags.containsKey("--trends-index") ? Path.of(flags.get("--trends-index")) : null;
+        int days = Integer.parseInt(flags.getOrDefault("--trends-days", "30"));
+
+        RunIndex index = indexFile != null ? RunIndex.load(indexFile, reportsDir) : new RunIndex(reportsDir);
+        int added = index.refresh();
+        if (indexFile != null && added > 0) {
+            index.save(indexFile);
+        }
+        LocalDate today = LocalDate.now();
+        System.out.println(index.summary(today.minusDays(days - 1L), today));
+    }
+
+    /**
+     * Scans the PCI tree for GPUs, prints the topology and binds each GPU's DRM card when
+     * reading sensors from sysfs.
+     *
+     * @return the GPUs by context ID, in address order; empty if none were found
+     */
+    private static Map<String, PciDeviceScanner.PciDevice> discover(SensorProvider sensors) {
+        PciDeviceScanner scanner = new PciDeviceScanner();
+        List<PciDeviceScanner.PciDevice> devices = scanner.scan();
+        System.out.println("Discovered " + devices.size() + " GPU(s) under " + scanner.getRoot() + ":");
+        Map<String, PciDeviceScanner.PciDevice> byId = new LinkedHashMap<>();
+        for (PciDeviceScanner.PciDevice d : devices) {
+            System.out.println("  " + d);
+            byId.put(d.contextId(), d);
+            if (d.card() != null && sensors instanceof SysfsSensorProvider sysfs) {
+                sysfs.bind(d.contextId(), d.card());
+            }
+        }
+        if (devices.isEmpty()) {
+            System.err.println("No GPUs found under " + scanner.getRoot() + "; nothing to validate.");
+        }
+        return byId;
+    }
+
+    /**
+     * Soaks the devices and prints their stability verdicts.
+     */
+    private static void soak(Map<String, String> flags, List<TestContext> contexts,
+                             SensorProvider sensors, boolean export) throws Exception {
+        double hz = Double.parseDouble(flags.getOrDefault("--sample-hz", "10"));
+        Duration window = Duration.ofMillis((long) (Double.parseDouble(flags.getOrDefault("--soak-window",
+            String.valueOf(SoakEngine.DEFAULT_WINDOW.toSeconds()))) * 1000));
+        Path checkpoints = Path.of(flags.getOrDefault("--soak-checkpoints", "target/soak"));
+        SoakEngine engine;
+        Duration duration;
+        try {
+            duration = parseDuration(flags.get("--soak"));
+            engine = new SoakEngine(sensors::populate, hz, window).withCheckpoints(checkpoints);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+        System.out.println("Soaking " + contexts.size() + " device(s) for " + duration
+                           + "; checkpoints in " + checkpoints.toAbsolutePath());
+        FleetReport fleet = engine.soakAll(contexts, duration);
+        fleet.getReports().forEach(System.out::println);
+        System.out.println(fleet);
+        if (engine.getFailedCheckpoints() > 0) {
+            System.err.println(engine.getFailedCheckpoints() + " soak checkpoint(s) could not be written to "
+                               + checkpoints.toAbsolutePath());
+        }
+        if (export) {
+            exportFleet(fleet);
+        }
+        System.out.println("Validation complete.");
+    }
+
+    /** Batch checks equivalent to the CLI tasks {@code --screen} accepts */
+    private static final Map<String, BatchCheck> SCREEN_CHECKS = Map.of(
+        "fan", BatchCheck.FAN, "power", BatchCheck.POWER, "memory", BatchCheck.MEMORY, "health", BatchCheck.HEALTH);
+
+    /**
+     * Screens the devices with the batch threshold checks and keeps those that failed one.
+     *
+     * @return the devices to validate in full, or {@code null} if the flags do not allow a screen
+     */
+    private static List<TestContext> screen(List<TestContext> contexts, List<String> taskNames, boolean revalidate) {
+        if (revalidate || !SCREEN_CHECKS.keySet().containsAll(taskNames)) {
+            // A device that passes the screen is not validated at all, so every task must be covered
+            System.err.println("--screen needs live devices and only the fan, power, memory and health tasks");
+            return null;
+        }
+        BatchThresholdEvaluator evaluator = BatchThresholdEvaluator.best();
+        List<TestContext> failed = evaluator.screen(contexts, taskNames.stream().map(SCREEN_CHECKS::get).toList());
+        System.out.println("Screened " + contexts.size() + " device(s) (" + evaluator.name() + "): "
+                           + (contexts.size() - failed.size()) + " passed every check, "
+                           + failed.size() + " failed and are validated in full");
+        return failed;
+    }
+
+    /**
+     * Parses a duration such as {@code 4h}, {@code 90m}, {@code 30s} or a plain number of seconds.
+     */
+    private static Duration parseDuration(String text) {
+        String t = text.trim().toLowerCase(Locale.ROOT);
+        try {
+            double amount = Double.parseDouble(t.replaceFirst("[hms]$", ""));
+            double seconds = t.endsWith("h") ? amount * 3600 : t.endsWith("m") ? amount * 60 : amount;
+            if (seconds > 0) {
+                return Duration.ofMillis((long) (seconds * 1000));
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid duration '" + text + "'; use e.g. 4h, 90m or 600s");
+    }
+
+    /**
+     * Samples the devices if requested, recording them to a capture if one is requested.
+     */
+    private static void sampleAndCapture(Map<String, String> flags, List<TestContext> contexts,
+                                         SensorProvider sensors) throws Exception {
+        TelemetryCaptureWriter capture = flags.containsKey("--capture")
+                ? new TelemetryCaptureWriter(Path.of(flags.get("--capture")))
+                : null;
+        try {
+            if (flags.containsKey("--sample-hz")) {
+                double hz = Double.parseDouble(flags.get("--sample-hz"));
+                double seconds = Double.parseDouble(flags.getOrDefault("--sample-seconds", "60"));
+                new TelemetrySampler(hz, Duration.ofMillis((long) (seconds * 1000)))
+                    .withCapture(capture)
+                    .sampleAll(contexts, sensors::populate);
+            }
+            if (capture != null) {
+                for (TestContext ctx : contexts) {
+                    capture.write(ctx);
+                }
+                LOG.info("Captured {} devices to {}", capture.getDeviceCount(), capture.getFile().toAbsolutePath());
+            }
+        } finally {
+            if (capture != null) capture.close();
+        }
+    }
+
+    private static void closeTaskLog(TaskLog taskLog, Writer file) throws Exception {
+        if (taskLog != null) {
+            taskLog.close();
+        }
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    private static void saveCache(ResultCache cache) throws Exception {
+        if (cache != null) {
+            cache.save();
+            LOG.info("Result cache: {} reused, {} executed, {} entries in {}",
+                     cache.getHits(), cache.getMisses(), cache.size(), cache.getFile().toAbsolutePath());
+        }
+    }
+
+    private static void finishMetrics(Map<String, String> flags, MetricsRegistry metrics,
+                                      MetricsServer server) throws Exception {
+        if (server != null) {
+            server.close();
+        }
+        if (metrics != null && flags.containsKey("--metrics-file")) {
+            Path file = Path.of(flags.get("--metrics-file"));
+            metrics.writePrometheus(file);
+            LOG.info("Metrics written to {}", file.toAbsolutePath());
+        }
+    }
+
+    private static void exportFleet(FleetReport fleet) throws Exception {
+        // Reports are rendered and compressed in memory; no per-device files are written
+        Path zipPath = Path.of("target", "fleet_bundle.zip");
+        Files.createDirectories(zipPath.getParent());
+        ZipReportBundler.bundleReports(fleet.getReports(), zipPath);
+        LOG.info("Fleet reports written to {}", zipPath.toAbsolutePath());
+    }
+
     private static Map<String, String> parseArgs(String[] args) {
         Map<String, String> map = new HashMap<>();
         for (int i = 0; i < args.length; i++) {
@@ -93,18 +653,21 @@ public class MainApp {
         return map;
     }
 
-    private static List<ValidationTask> resolveTasks(String csv, boolean summaryOnly) {
+    /** Order in which CLI-selected tasks run, whatever order they were listed in */
+    private static final List<String> CLI_TASK_ORDER =
+        List.of("pcie", "thermal", "memory", "fan", "power", "health", "location", "anomaly");
+
+    private static List<String> cliTaskNames(String csv) {
         Set<String> want = Arrays.stream(csv.split(","))
                                  .map(String::trim)
                                  .map(String::toLowerCase)
                                  .collect(Collectors.toSet());
+        for (String name : want) {
+            if (!TaskCatalog.NAMES.contains(name)) {
+                LOG.warn("Ignoring unknown task '{}'", name);
+            }
+        }
 
-        List<ValidationTask> list = new ArrayList<>();
-        if (want.contains("pcie"))    list.add(new PCIeLinkValidation(summaryOnly));
-        if (want.contains("thermal")) list.add(new ThermalMonitorCheck(summaryOnly));
-        if (want.contains("memory"))  list.add(new GpuMemoryUsageValidation());
-        if (want.contains("fan"))     list.add(new FanSpeedValidation());
-        if (want.contains("power"))   list.add(new PowerConsumptionValidation());
-        return list;
+        return CLI_TASK_ORDER.stream().filter(want::contains).toList();
     }
 }
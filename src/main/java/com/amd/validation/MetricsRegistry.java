@@ -0,0 +1,261 @@
+package com.amd.validation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsRegistry collects runtime metrics for validation runs.
+ * <p>
+ * A {@link TestRunner} with {@link TestRunner#withMetrics(MetricsRegistry)} records how long
+ * every {@link ValidationTask#execute(TestContext)} call and every device run takes, in
+ * {@link LatencyHistogram}s, and counts passed and failed results per task. A
+ * {@link FleetRunner} using that runner also reports how many devices are waiting for a
+ * concurrency permit and how many are being validated.
+ * </p>
+ * <p>
+ * Device run latency is kept per device ID by default, which suits a run over a known set
+ * of devices. A long-lived process that sees an open-ended stream of devices, such as
+ * {@link ValidationDaemon}, turns that off with {@link #withDeviceLatency(boolean)} and
+ * records every run in one histogram labelled {@code device="all"}, so neither memory nor
+ * the number of exported series grows with the devices seen.
+ * </p>
+ * <p>
+ * All recording is lock-free. The registry is exported in the Prometheus text format,
+ * either to a file ({@link #writePrometheus(Path)}) or over HTTP with {@link MetricsServer}.
+ * </p>
+ */
+public class MetricsRegistry {
+
+    /** Quantiles reported for every latency summary */
+    static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final String PREFIX = "gpu_validation_";
+
+    /** Device label of the shared histogram used when per-device latency is off */
+    public static final String ALL_DEVICES = "all";
+
+    private final Map<String, TaskMetrics> tasks = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> devices = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger activeDevices = new AtomicInteger();
+
+    private volatile boolean perDevice = true;
+
+    /**
+     * Chooses whether device run latency is kept per device ID.
+     *
+     * @param perDevice {@code false} to record every device run under {@link #ALL_DEVICES}
+     * @return this registry, for chaining
+     */
+    public MetricsRegistry withDeviceLatency(boolean perDevice) {
+        this.perDevice = perDevice;
+        return this;
+    }
+
+    /**
+     * Records one task execution.
+     *
+     * @param taskName the task (result) name
+     * @param nanos    how long {@code execute} took
+     * @param passed   the verdict
+     */
+    public void recordTask(String taskName, long nanos, boolean passed) {
+        TaskMetrics m = task(taskName);
+        m.latency.record(nanos);
+        (passed ? m.passed : m.failed).increment();
+    }
+
+    /**
+     * Counts a result that was produced without executing its task (e.g. a skipped task).
+     *
+     * @param taskName the task (result) name
+     * @param passed   the verdict
+     */
+    public void recordResult(String taskName, boolean passed) {
+        TaskMetrics m = task(taskName);
+        (passed ? m.passed : m.failed).increment();
+    }
+
+    /**
+     * Records the duration of a complete device run.
+     *
+     * @param deviceId the device; ignored when per-device latency is off
+     * @param nanos    how long all of its tasks took
+     */
+    public void recordDevice(String deviceId, long nanos) {
+        String key = perDevice ? deviceId : ALL_DEVICES;
+        LatencyHistogram h = devices.get(key);
+        if (h == null) {
+            h = devices.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        h.record(nanos);
+    }
+
+    /** A device run was submitted and is waiting for a concurrency permit. */
+    public void deviceQueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    /** A queued device run left the queue (it obtained its permit or was interrupted). */
+    public void deviceDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    /** A device run started. */
+    public void deviceStarted() {
+        activeDevices.incrementAndGet();
+    }
+
+    /** A started device run finished. */
+    public void deviceFinished() {
+        activeDevices.decrementAndGet();
+    }
+
+    /** @return latency of a task, or {@code null} if it never ran */
+    public LatencyHistogram getTaskLatency(String taskName) {
+        TaskMetrics m = tasks.get(taskName);
+        return m != null ? m.latency : null;
+    }
+
+    /**
+     * @param deviceId a device, or {@link #ALL_DEVICES} when per-device latency is off
+     * @return run latency of the device, or {@code null} if it never ran
+     */
+    public LatencyHistogram getDeviceLatency(String deviceId) {
+        return devices.get(deviceId);
+    }
+
+    /** @return how many results of a task passed */
+    public long getPassCount(String taskName) {
+        TaskMetrics m = tasks.get(taskName);
+        return m != null ? m.passed.sum() : 0;
+    }
+
+    /** @return how many results of a task failed */
+    public long getFailCount(String taskName) {
+        TaskMetrics m = tasks.get(taskName);
+        return m != null ? m.failed.sum() : 0;
+    }
+
+    /** @return device runs waiting for a concurrency permit */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /** @return device runs in progress */
+    public int getActiveDevices() {
+        return activeDevices.get();
+    }
+
+    private TaskMetrics task(String taskName) {
+        TaskMetrics m = tasks.get(taskName);
+        if (m == null) {
+            m = tasks.computeIfAbsent(taskName, k -> new TaskMetrics());
+        }
+        return m;
+    }
+
+    /* ========== Prometheus export ========================================= */
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format (version 0.0.4).
+     *
+     * @param out the destination; flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(Writer out) throws IOException {
+        Map<String, TaskMetrics> taskSnapshot = new TreeMap<>(tasks);
+        Map<String, LatencyHistogram> deviceSnapshot = new TreeMap<>(devices);
+
+        header(out, "task_duration_seconds", "summary", "Duration of ValidationTask.execute per task");
+        for (Map.Entry<String, TaskMetrics> e : taskSnapshot.entrySet()) {
+            summary(out, "task_duration_seconds", "task", e.getKey(), e.getValue().latency);
+        }
+
+        header(out, "task_results_total", "counter", "Validation results per task and outcome");
+        for (Map.Entry<String, TaskMetrics> e : taskSnapshot.entrySet()) {
+            String task = escape(e.getKey());
+            out.write(PREFIX + "task_results_total{task=\"" + task + "\",result=\"pass\"} "
+                      + e.getValue().passed.sum() + "\n");
+            out.write(PREFIX + "task_results_total{task=\"" + task + "\",result=\"fail\"} "
+                      + e.getValue().failed.sum() + "\n");
+        }
+
+        header(out, "device_duration_seconds", "summary", "Duration of a full validation run per device");
+        for (Map.Entry<String, LatencyHistogram> e : deviceSnapshot.entrySet()) {
+            summary(out, "device_duration_seconds", "device", e.getKey(), e.getValue());
+        }
+
+        header(out, "runner_queue_depth", "gauge", "Device runs waiting for a concurrency permit");
+        out.write(PREFIX + "runner_queue_depth " + queueDepth.get() + "\n");
+
+        header(out, "devices_active", "gauge", "Device runs in progress");
+        out.write(PREFIX + "devices_active " + activeDevices.get() + "\n");
+
+        out.flush();
+    }
+
+    /**
+     * Writes the Prometheus text format to a file, replacing it atomically so a scraper
+     * (e.g. the node_exporter textfile collector) never sees a partial file.
+     *
+     * @param file the destination
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writePrometheus(w);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void header(Writer out, String name, String type, String help) throws IOException {
+        out.write("# HELP " + PREFIX + name + " " + help + "\n");
+        out.write("# TYPE " + PREFIX + name + " " + type + "\n");
+    }
+
+    private static void summary(Writer out, String name, String label, String value, LatencyHistogram h)
+            throws IOException {
+        String labels = label + "=\"" + escape(value) + "\"";
+        for (double q : QUANTILES) {
+            out.write(PREFIX + name + "{" + labels + ",quantile=\"" + q + "\"} "
+                      + seconds(h.valueAtPercentile(q * 100)) + "\n");
+        }
+        out.write(PREFIX + name + "_sum{" + labels + "} " + seconds(h.getSum()) + "\n");
+        out.write(PREFIX + name + "_count{" + labels + "} " + h.getCount() + "\n");
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Latency and outcome counters of one task.
+     */
+    private static final class TaskMetrics {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder passed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+}
@@ -0,0 +1,85 @@
+package com.amd.validation;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MetricsServer serves a {@link MetricsRegistry} at {@code http://127.0.0.1:<port>/metrics}
+ * in the Prometheus text format.
+ * <p>
+ * The server binds to the loopback interface only; expose it through a local agent or an
+ * SSH tunnel rather than on the factory network. Requests are handled on virtual threads.
+ * </p>
+ */
+public class MetricsServer implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(MetricsServer.class);
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts serving the registry.
+     *
+     * @param registry the metrics to expose
+     * @param port     the loopback port; 0 picks a free port
+     * @throws IOException if the port cannot be bound
+     */
+    public MetricsServer(MetricsRegistry registry, int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/metrics", exchange -> serve(registry, exchange));
+        server.start();
+        LOG.info("Serving metrics on http://127.0.0.1:{}/metrics", getPort());
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Writes the registry as the response to a GET request; shared with {@link ValidationDaemon}.
+     */
+    static void serve(MetricsRegistry registry, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+            Writer w = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+            registry.writePrometheus(w);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                body.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Stops the server.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.amd.validation;
+
+/**
+ * MockSensorProvider fills a {@link TestContext} with fixed sample GPU data.
+ * <p>
+ * Used for development, CI and the default CLI run, where no real GPU is present.
+ * </p>
+ */
+public class MockSensorProvider implements SensorProvider {
+
+    @Override
+    public String name() {
+        return "mock";
+    }
+
+    @Override
+    public void populate(TestContext ctx) {
+        // Static device properties
+        ctx.setDeviceName("AMD Radeon (TM) Graphics");
+        ctx.setPciLocation("PCI bus 4, device 0, function 0");
+        ctx.setDriverVersion("31.0.21914.6001");
+
+        // Memory telemetry (in GB)
+        ctx.setTotalMemoryGB(8.0);
+        ctx.setMemoryUsedGB(1.5);
+        ctx.setDedicatedMemoryGB(2.0);
+        ctx.setSharedMemoryGB(6.0);
+
+        // Real-time sensor values
+        ctx.setGpuTemperature(54.0);    // Temperature in Celsius
+        ctx.setFanSpeedRPM(1200);       // Fan speed in RPM
+        ctx.setPowerWatts(110);         // Power consumption in Watts
+    }
+}
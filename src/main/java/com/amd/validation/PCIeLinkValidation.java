@@ -12,6 +12,12 @@ public class PCIeLinkValidation implements ValidationTask {
     private static final org.slf4j.Logger LOG =
             org.slf4j.LoggerFactory.getLogger(PCIeLinkValidation.class);
 
+    // Shared results; results are immutable so one instance serves every call
+    private static final ValidationResult PASS =
+            new ValidationResult("PCIeLinkValidation", true, "Link OK");
+    private static final ValidationResult FAIL =
+            new ValidationResult("PCIeLinkValidation", false, "Link training failed");
+
     // Controls whether detailed logs are shown
     private final boolean summaryOnly;
 
@@ -46,10 +52,6 @@ public class PCIeLinkValidation implements ValidationTask {
         // Simulate successful PCIe link validation
         boolean isLinkTrained = true;
 
-        return new ValidationResult(
-            "PCIeLinkValidation",
-            isLinkTrained,
-            isLinkTrained ? "Link OK" : "Link training failed"
-        );
+        return isLinkTrained ? PASS : FAIL;
     }
 }
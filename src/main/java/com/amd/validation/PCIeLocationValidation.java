@@ -1,18 +1,30 @@
 package com.amd.validation;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * PCIeLocationValidation checks whether the GPU's actual PCIe bus/device/function
  * location matches the expected value.
  *
  * Useful for factory setups where GPU placement is deterministic and any deviation
  * may indicate incorrect assembly or board enumeration.
+ *
+ * The verdict depends only on the expected and actual location, so results are reused
+ * from a {@link ResultCache} until the device's PCIe location changes.
  */
-public class PCIeLocationValidation implements ValidationTask {
+public class PCIeLocationValidation implements CacheableTask {
 
     // SLF4J logger for structured logging
     private static final org.slf4j.Logger LOG =
             org.slf4j.LoggerFactory.getLogger(PCIeLocationValidation.class);
 
+    // Shared results; results are immutable so one instance serves every call
+    private static final ValidationResult PASS =
+            new ValidationResult("PCIeLocationValidation", true, "PCIe location matched");
+    private static final ValidationResult MISMATCH =
+            new ValidationResult("PCIeLocationValidation", false, "PCIe location mismatch");
+
     // Expected PCIe location string, e.g., "PCI bus 4, device 0, function 0"
     private final String expectedLocation;
 
@@ -36,12 +48,18 @@ public class PCIeLocationValidation implements ValidationTask {
         String actual = context.getPciLocation();
         boolean match = expectedLocation.equalsIgnoreCase(actual);
 
-        LOG.info("Validating PCIe location: Expected = {}, Actual = {}", expectedLocation, actual);
+        LOG.debug("Validating PCIe location: Expected = {}, Actual = {}", expectedLocation, actual);
+
+        return match ? PASS : MISMATCH;
+    }
 
-        return new ValidationResult(
-            "PCIeLocationValidation",
-            match,
-            match ? "PCIe location matched" : "PCIe location mismatch"
-        );
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public List<Object> cacheInputs(TestContext context) {
+        return Arrays.asList(expectedLocation, context.getPciLocation());
     }
 }
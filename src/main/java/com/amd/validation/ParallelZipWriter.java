@@ -0,0 +1,463 @@
+package com.amd.validation;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * ParallelZipWriter writes a ZIP archive whose entries are deflated concurrently.
+ * <p>
+ * {@link java.util.zip.ZipOutputStream} compresses each entry inline on the calling thread.
+ * This writer instead hands every entry to a pool of worker threads, which render (for
+ * in-memory entries) or read (for files), CRC and deflate it independently; only the
+ * compressed bytes are kept. The calling thread then appends the finished entries to the
+ * archive in the order they were added. At most a bounded number of entries are in flight
+ * at once, so memory use stays proportional to the number of workers rather than to the
+ * size of the archive. Files larger than {@value #INLINE_FILE_SIZE} bytes are not buffered
+ * at all: they are deflated straight into the archive on the calling thread when their
+ * turn comes, followed by a data descriptor.
+ * </p>
+ * <p>
+ * ZIP64 records are added where an entry, the archive or the number of entries exceeds
+ * the plain ZIP limits (4 GB, 65535 entries). Entry names are stored as UTF-8. If an entry
+ * fails, the partial archive is deleted and the failure is thrown from the call that
+ * found it. Instances are not thread-safe; add entries from one thread.
+ * </p>
+ */
+public class ParallelZipWriter implements Closeable {
+
+    /**
+     * Produces the content of an in-memory entry.
+     */
+    @FunctionalInterface
+    public interface EntryContent {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /** Files above this size are streamed into the archive instead of buffered */
+    static final long INLINE_FILE_SIZE = 8L << 20;
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIG = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIR_SIG = 0x06064b50;
+    private static final int ZIP64_END_LOCATOR_SIG = 0x07064b50;
+    private static final int END_OF_CENTRAL_DIR_SIG = 0x06054b50;
+
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private final Path zipPath;
+    private final OutputStream out;
+    private final ExecutorService workers;
+    private final int window;
+    private final Deque<Future<Entry>> pending = new ArrayDeque<>();
+    private final List<Entry> written = new ArrayList<>();
+
+    private long offset;
+    private boolean closed;
+
+    /**
+     * Opens a writer using one worker per available processor.
+     *
+     * @param zipPath the archive to create (replaced if it exists)
+     * @throws IOException if the file cannot be created
+     */
+    public ParallelZipWriter(Path zipPath) throws IOException {
+        this(zipPath, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Opens a writer with a given number of compression workers.
+     *
+     * @param zipPath     the archive to create (replaced if it exists)
+     * @param parallelism number of entries deflated concurrently
+     * @throws IOException if the file cannot be created
+     */
+    public ParallelZipWriter(Path zipPath, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+        }
+        this.zipPath = zipPath;
+        this.out = new BufferedOutputStream(Files.newOutputStream(zipPath), 1 << 16);
+        this.workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "zip-deflate");
+            t.setDaemon(true);
+            return t;
+        });
+        this.window = parallelism * 2;
+    }
+
+    /**
+     * Adds a file from disk. Small files are read and deflated on a worker thread; large
+     * ones are streamed into the archive when their turn comes.
+     *
+     * @param name entry name inside the archive ('/' separated)
+     * @param file the file to add
+     * @throws IOException if the file or a previously added entry failed, or the archive
+     *                     cannot be written; the archive is deleted
+     */
+    public void addFile(String name, Path file) throws IOException {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            abort(e);
+            throw e;
+        }
+        if (size > INLINE_FILE_SIZE) {
+            checkOpen();
+            Entry e = new Entry(name.getBytes(StandardCharsets.UTF_8), dosTime(LocalDateTime.now()));
+            e.source = file;
+            enqueue(CompletableFuture.completedFuture(e));
+        } else {
+            submit(name, entry -> Files.copy(file, entry));
+        }
+    }
+
+    /**
+     * Adds an entry rendered in memory; {@code content} runs on a worker thread, so nothing
+     * is written to disk besides the archive itself.
+     *
+     * @param name    entry name inside the archive ('/' separated)
+     * @param content writes the entry's uncompressed bytes
+     * @throws IOException if a previously added entry failed or the archive cannot be
+     *                     written; the archive is deleted
+     */
+    public void addEntry(String name, EntryContent content) throws IOException {
+        submit(name, content);
+    }
+
+    /**
+     * Waits for all entries, writes the central directory and closes the file.
+     *
+     * @throws IOException if an entry failed or the archive cannot be written; the archive
+     *                     is deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        try {
+            while (!pending.isEmpty()) {
+                writeNext();
+            }
+            writeCentralDirectory();
+            out.close();
+        } catch (Throwable t) {
+            abort(t);
+            throw t;
+        }
+        closed = true;
+        workers.shutdownNow();
+    }
+
+    /* ========== internals ================================================= */
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("ZIP writer is closed");
+        }
+    }
+
+    private void submit(String name, EntryContent content) throws IOException {
+        checkOpen();
+        int dosTime = dosTime(LocalDateTime.now());
+        enqueue(workers.submit(() -> compress(name, content, dosTime)));
+    }
+
+    private void enqueue(Future<Entry> entry) throws IOException {
+        pending.add(entry);
+        try {
+            while (pending.size() >= window) {
+                writeNext();
+            }
+        } catch (Throwable t) {
+            abort(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Stops the workers and deletes the partial archive after a failure.
+     */
+    private void abort(Throwable cause) {
+        if (closed) return;
+        closed = true;
+        for (Future<Entry> f : pending) {
+            f.cancel(true);
+        }
+        pending.clear();
+        workers.shutdownNow();
+        try {
+            out.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            Files.deleteIfExists(zipPath);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Deflates one entry into memory; runs on a worker thread.
+     */
+    private static Entry compress(String name, EntryContent content, int dosTime) throws IOException {
+        Entry e = new Entry(name.getBytes(StandardCharsets.UTF_8), dosTime);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(8192);
+        deflate(content, compressed, e);
+        e.data = compressed.toByteArray();
+        return e;
+    }
+
+    /**
+     * Deflates {@code content} into {@code sink} and records its CRC and sizes in {@code e}.
+     * The sink is not closed.
+     */
+    private static void deflate(EntryContent content, OutputStream sink, Entry e) throws IOException {
+        CRC32 crc = new CRC32();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            DeflaterOutputStream deflating = new DeflaterOutputStream(sink, deflater, 16 * 1024);
+            content.writeTo(new CheckedOutputStream(deflating, crc));
+            deflating.finish();
+            e.crc = crc.getValue();
+            e.uncompressedSize = deflater.getBytesRead();
+            e.compressedSize = deflater.getBytesWritten();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Waits for the oldest in-flight entry and appends it to the archive.
+     */
+    private void writeNext() throws IOException {
+        Entry e;
+        try {
+            e = pending.removeFirst().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing ZIP entries", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) throw io;
+            throw new IOException("Failed to compress ZIP entry", ex.getCause());
+        }
+
+        e.offset = offset;
+        if (e.source != null) {
+            writeStreamed(e);
+        } else {
+            boolean zip64 = e.uncompressedSize >= MAX_SIZE;
+            writeLocalHeader(e, 0, zip64);
+            write(e.data, 0, e.data.length);
+            e.data = null; // only the header fields are needed for the central directory
+        }
+        written.add(e);
+    }
+
+    /**
+     * Deflates a large file straight into the archive. Its CRC and sizes are not known
+     * until the end, so they follow the data in a data descriptor.
+     */
+    private void writeStreamed(Entry e) throws IOException {
+        writeLocalHeader(e, FLAG_DATA_DESCRIPTOR, false);
+        OutputStream archive = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ParallelZipWriter.this.write(b, off, len);
+            }
+        };
+        deflate(entry -> Files.copy(e.source, entry), archive, e);
+
+        writeInt(DATA_DESCRIPTOR_SIG);
+        writeInt((int) e.crc);
+        if (e.compressedSize >= MAX_SIZE || e.uncompressedSize >= MAX_SIZE) {
+            writeLong(e.compressedSize);
+            writeLong(e.uncompressedSize);
+        } else {
+            writeInt((int) e.compressedSize);
+            writeInt((int) e.uncompressedSize);
+        }
+    }
+
+    private void writeLocalHeader(Entry e, int flags, boolean zip64) throws IOException {
+        writeInt(LOCAL_HEADER_SIG);
+        writeShort(zip64 ? VERSION_ZIP64 : VERSION);
+        writeShort(FLAG_UTF8 | flags);
+        writeShort(METHOD_DEFLATED);
+        writeInt(e.dosTime);
+        if ((flags & FLAG_DATA_DESCRIPTOR) != 0) {
+            writeInt(0);
+            writeInt(0);
+            writeInt(0);
+        } else {
+            writeInt((int) e.crc);
+            writeInt(zip64 ? (int) MAX_SIZE : (int) e.compressedSize);
+            writeInt(zip64 ? (int) MAX_SIZE : (int) e.uncompressedSize);
+        }
+        writeShort(e.name.length);
+        writeShort(zip64 ? 20 : 0);
+        write(e.name, 0, e.name.length);
+        if (zip64) {
+            writeShort(ZIP64_EXTRA_ID);
+            writeShort(16);
+            writeLong(e.uncompressedSize);
+            writeLong(e.compressedSize);
+        }
+    }
+
+    private void writeCentralDirectory() throws IOException {
+        long start = offset;
+        for (Entry e : written) {
+            boolean bigSize = e.uncompressedSize >= MAX_SIZE;
+            boolean bigCompressed = e.compressedSize >= MAX_SIZE;
+            boolean bigOffset = e.offset >= MAX_SIZE;
+            int extra = (bigSize ? 8 : 0) + (bigCompressed ? 8 : 0) + (bigOffset ? 8 : 0);
+            int version = extra > 0 ? VERSION_ZIP64 : VERSION;
+
+            writeInt(CENTRAL_HEADER_SIG);
+            writeShort(version);
+            writeShort(version);
+            writeShort(FLAG_UTF8 | (e.source != null ? FLAG_DATA_DESCRIPTOR : 0));
+            writeShort(METHOD_DEFLATED);
+            writeInt(e.dosTime);
+            writeInt((int) e.crc);
+            writeInt(bigCompressed ? (int) MAX_SIZE : (int) e.compressedSize);
+            writeInt(bigSize ? (int) MAX_SIZE : (int) e.uncompressedSize);
+            writeShort(e.name.length);
+            writeShort(extra > 0 ? extra + 4 : 0);
+            writeShort(0); // comment length
+            writeShort(0); // disk number
+            writeShort(0); // internal attributes
+            writeInt(0);   // external attributes
+            writeInt(bigOffset ? (int) MAX_SIZE : (int) e.offset);
+            write(e.name, 0, e.name.length);
+            if (extra > 0) {
+                // Only the fields that overflowed, in this order
+                writeShort(ZIP64_EXTRA_ID);
+                writeShort(extra);
+                if (bigSize) writeLong(e.uncompressedSize);
+                if (bigCompressed) writeLong(e.compressedSize);
+                if (bigOffset) writeLong(e.offset);
+            }
+        }
+        long size = offset - start;
+        int count = written.size();
+
+        if (count >= MAX_ENTRIES || size >= MAX_SIZE || start >= MAX_SIZE) {
+            long end = offset;
+            writeInt(ZIP64_END_OF_CENTRAL_DIR_SIG);
+            writeLong(44);           // size of the rest of this record
+            writeShort(VERSION_ZIP64);
+            writeShort(VERSION_ZIP64);
+            writeInt(0);             // this disk
+            writeInt(0);             // disk with the central directory
+            writeLong(count);
+            writeLong(count);
+            writeLong(size);
+            writeLong(start);
+
+            writeInt(ZIP64_END_LOCATOR_SIG);
+            writeInt(0);
+            writeLong(end);
+            writeInt(1);             // total disks
+        }
+
+        writeInt(END_OF_CENTRAL_DIR_SIG);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, MAX_ENTRIES));
+        writeShort(Math.min(count, MAX_ENTRIES));
+        writeInt((int) Math.min(size, MAX_SIZE));
+        writeInt((int) Math.min(start, MAX_SIZE));
+        writeShort(0);
+    }
+
+    private void writeShort(int v) throws IOException {
+        out.write(v & 0xFF);
+        out.write((v >>> 8) & 0xFF);
+        offset += 2;
+    }
+
+    private void writeInt(int v) throws IOException {
+        writeShort(v & 0xFFFF);
+        writeShort(v >>> 16);
+    }
+
+    private void writeLong(long v) throws IOException {
+        writeInt((int) v);
+        writeInt((int) (v >>> 32));
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        offset += len;
+    }
+
+    /**
+     * Encodes a timestamp as MS-DOS date (high 16 bits) and time (low 16 bits).
+     */
+    static int dosTime(LocalDateTime t) {
+        int year = Math.max(t.getYear(), 1980);
+        return (year - 1980) << 25
+             | t.getMonthValue() << 21
+             | t.getDayOfMonth() << 16
+             | t.getHour() << 11
+             | t.getMinute() << 5
+             | t.getSecond() >> 1;
+    }
+
+    /**
+     * An entry waiting to be (or already) written. Compressed entries carry their deflated
+     * {@code data}; large files carry their {@code source} and get their CRC and sizes as
+     * they are written.
+     */
+    private static final class Entry {
+        final byte[] name;
+        final int dosTime;
+        long crc;
+        long uncompressedSize;
+        long compressedSize;
+        byte[] data;
+        Path source;
+        long offset;
+
+        Entry(byte[] name, int dosTime) {
+            this.name = name;
+            this.dosTime = dosTime;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.amd.validation;
+
+import java.util.Arrays;
+
+/**
+ * The verdicts of a batch evaluation: one bitmap per {@link BatchCheck}, where bit
+ * {@code i} is set if row {@code i} of the {@link FleetTelemetryColumns} passed.
+ * <p>
+ * Bit {@code i} lives in word {@code i >>> 6} at position {@code i & 63}, as in
+ * {@link java.util.BitSet#valueOf(long[])}.
+ * </p>
+ */
+public final class PassBitmaps {
+
+    private final int size;
+    private final long[][] bits;
+
+    /**
+     * Creates all-failed bitmaps.
+     *
+     * @param size number of rows
+     */
+    PassBitmaps(int size) {
+        this.size = size;
+        this.bits = new long[BatchCheck.values().length][(size + 63) >>> 6];
+    }
+
+    /** @return the number of rows */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param check the check
+     * @param row   a row index
+     * @return whether the row passed the check
+     */
+    public boolean isPassed(BatchCheck check, int row) {
+        return (bits[check.ordinal()][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * @param row a row index
+     * @return whether the row passed every check
+     */
+    public boolean allPassed(int row) {
+        for (long[] b : bits) {
+            if ((b[row >>> 6] & (1L << row)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param check the check
+     * @return the number of rows that passed it
+     */
+    public int passCount(BatchCheck check) {
+        int n = 0;
+        for (long word : bits[check.ordinal()]) {
+            n += Long.bitCount(word);
+        }
+        return n;
+    }
+
+    /**
+     * @param check the check
+     * @return the bitmap of the check; written by the evaluator, read-only for callers
+     */
+    public long[] bits(BatchCheck check) {
+        return bits[check.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PassBitmaps p && size == p.size && Arrays.deepEquals(bits, p.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.deepHashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PassBitmaps{rows=").append(size);
+        for (BatchCheck c : BatchCheck.values()) {
+            sb.append(", ").append(c).append('=').append(passCount(c));
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,107 @@
+package com.amd.validation;
+
+/**
+ * A PCI bus/device/function address, e.g. {@code 0000:03:00.0}.
+ * <p>
+ * Parses the canonical sysfs form and renders the human-readable location string used by
+ * {@link TestContext#getPciLocation()} and {@link PCIeLocationValidation}
+ * (e.g. "PCI bus 3, device 0, function 0").
+ * </p>
+ */
+public final class PciAddress {
+
+    private final int domain;
+    private final int bus;
+    private final int device;
+    private final int function;
+
+    /**
+     * Constructs a PCI address.
+     *
+     * @param domain   PCI domain (segment)
+     * @param bus      bus number
+     * @param device   device number
+     * @param function function number
+     */
+    public PciAddress(int domain, int bus, int device, int function) {
+        this.domain = domain;
+        this.bus = bus;
+        this.device = device;
+        this.function = function;
+    }
+
+    /**
+     * Parses a sysfs-style address ({@code dddd:bb:dd.f} or {@code bb:dd.f}, hexadecimal).
+     *
+     * @param bdf the address string
+     * @return the parsed address
+     * @throws IllegalArgumentException if the string is not a valid address
+     */
+    public static PciAddress parse(String bdf) {
+        String s = bdf.trim();
+        try {
+            int dot = s.lastIndexOf('.');
+            int lastColon = s.lastIndexOf(':');
+            int firstColon = s.indexOf(':');
+            if (dot < 0 || lastColon < 0 || dot < lastColon) {
+                throw new IllegalArgumentException("Invalid PCI address: " + bdf);
+            }
+            int domain = firstColon != lastColon ? Integer.parseInt(s.substring(0, firstColon), 16) : 0;
+            int busStart = firstColon != lastColon ? firstColon + 1 : 0;
+            int bus = Integer.parseInt(s.substring(busStart, lastColon), 16);
+            int device = Integer.parseInt(s.substring(lastColon + 1, dot), 16);
+            int function = Integer.parseInt(s.substring(dot + 1), 16);
+            return new PciAddress(domain, bus, device, function);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid PCI address: " + bdf, e);
+        }
+    }
+
+    /** @return PCI domain (segment) */
+    public int getDomain() {
+        return domain;
+    }
+
+    /** @return bus number */
+    public int getBus() {
+        return bus;
+    }
+
+    /** @return device number */
+    public int getDevice() {
+        return device;
+    }
+
+    /** @return function number */
+    public int getFunction() {
+        return function;
+    }
+
+    /**
+     * @return the location in the framework's format, e.g. "PCI bus 3, device 0, function 0"
+     */
+    public String toLocationString() {
+        return "PCI bus " + bus + ", device " + device + ", function " + function;
+    }
+
+    /**
+     * @return the canonical sysfs form, e.g. "0000:03:00.0"
+     */
+    @Override
+    public String toString() {
+        return String.format("%04x:%02x:%02x.%x", domain, bus, device, function);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PciAddress other)) return false;
+        return domain == other.domain && bus == other.bus
+            && device == other.device && function == other.function;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((domain * 256 + bus) * 32 + device) * 8 + function;
+    }
+}
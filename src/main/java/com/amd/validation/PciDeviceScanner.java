@@ -0,0 +1,243 @@
+package com.amd.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PciDeviceScanner discovers AMD GPUs by enumerating a Linux PCI sysfs tree, so a node's
+ * devices need not be listed by hand.
+ * <p>
+ * Layout read (relative to the configurable sysfs root, {@code /sys} by default):
+ * </p>
+ * <pre>
+ * bus/pci/devices/&lt;bdf&gt;/vendor               0x1002 (AMD)
+ * bus/pci/devices/&lt;bdf&gt;/device               PCI device ID, e.g. 0x74a1
+ * bus/pci/devices/&lt;bdf&gt;/class                0x03xxxx (display) or 0x12xxxx (accelerator)
+ * bus/pci/devices/&lt;bdf&gt;/current_link_width   negotiated lanes
+ * bus/pci/devices/&lt;bdf&gt;/max_link_width       lanes the device supports
+ * bus/pci/devices/&lt;bdf&gt;/current_link_speed   e.g. "32.0 GT/s PCIe"
+ * bus/pci/devices/&lt;bdf&gt;/max_link_speed
+ * bus/pci/devices/&lt;bdf&gt;/product_name         device name (optional)
+ * bus/pci/devices/&lt;bdf&gt;/drm/card*            DRM card bound to the device (optional)
+ * </pre>
+ * <p>
+ * The vendor, class and device ID must be readable; the optional attributes (link state,
+ * product name) are treated as unknown when a read fails, as it does for the link of a
+ * device in a low-power state, so one bad attribute does not hide the GPU.
+ * </p>
+ * <p>
+ * Each function directory is probed on its own virtual thread, since every probe is a
+ * handful of small blocking reads; a node with hundreds of PCI functions is scanned in
+ * the time of the slowest one. Devices are returned sorted by address, so their IDs and
+ * order are stable across runs. Like {@link SysfsSensorProvider}, the root can be set with
+ * the {@code gpu.sysfs.root} system property to scan a fixture tree.
+ * </p>
+ */
+public class PciDeviceScanner {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(PciDeviceScanner.class);
+
+    /** PCI vendor ID of AMD/ATI */
+    public static final int AMD_VENDOR = 0x1002;
+
+    /** PCI base classes of GPUs: display controllers and processing accelerators */
+    private static final int DISPLAY_CLASS = 0x03;
+    private static final int ACCELERATOR_CLASS = 0x12;
+
+    /**
+     * One discovered GPU.
+     *
+     * @param address      PCI bus/device/function address
+     * @param deviceId     PCI device ID
+     * @param card         DRM card bound to the device (e.g. "card1"), or null if none
+     * @param name         product name, or null if the driver does not report one
+     * @param linkWidth    negotiated link width in lanes, or 0 if unknown
+     * @param maxLinkWidth supported link width in lanes, or 0 if unknown
+     * @param linkSpeed    negotiated link speed in GT/s, or NaN if unknown
+     * @param maxLinkSpeed supported link speed in GT/s, or NaN if unknown
+     */
+    public record PciDevice(PciAddress address, int deviceId, String card, String name,
+                            int linkWidth, int maxLinkWidth, double linkSpeed, double maxLinkSpeed) {
+
+        /** @return the identifier used for the device's {@link TestContext}, e.g. "GPU-0000:03:00.0" */
+        public String contextId() {
+            return "GPU-" + address;
+        }
+
+        /** @return whether the link trained below the width or speed the device supports */
+        public boolean isDegraded() {
+            return linkWidth < maxLinkWidth || linkSpeed < maxLinkSpeed;
+        }
+
+        /**
+         * Copies the discovered properties into a context, overriding whatever a sensor
+         * provider filled in.
+         *
+         * @param ctx the device's context
+         */
+        public void applyTo(TestContext ctx) {
+            ctx.setPciLocation(address.toLocationString());
+            if (name != null) ctx.setDeviceName(name);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s  %04x  %-6s x%d/x%d  %.1f/%.1f GT/s%s  %s", address, deviceId,
+                card == null ? "-" : card, linkWidth, maxLinkWidth, linkSpeed, maxLinkSpeed,
+                isDegraded() ? " (degraded)" : "", name == null ? "" : name).strip();
+        }
+    }
+
+    private final Path root;
+
+    /**
+     * Constructs a scanner rooted at {@code gpu.sysfs.root}, or {@code /sys} if unset.
+     */
+    public PciDeviceScanner() {
+        this(Paths.get(System.getProperty(SysfsSensorProvider.ROOT_PROPERTY, "/sys")));
+    }
+
+    /**
+     * Constructs a scanner rooted at an explicit directory.
+     *
+     * @param root the sysfs root (a real {@code /sys} or a fixture tree)
+     */
+    public PciDeviceScanner(Path root) {
+        this.root = root;
+    }
+
+    /** @return the sysfs root this scanner reads from */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Probes every PCI function in parallel and returns the AMD GPUs among them.
+     *
+     * @return the GPUs, sorted by address
+     * @throws UncheckedIOException if the PCI device directory cannot be listed
+     */
+    public List<PciDevice> scan() {
+        Path devices = root.resolve("bus").resolve("pci").resolve("devices");
+        List<Path> functions = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(devices)) {
+            ds.forEach(functions::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list PCI devices at " + devices, e);
+        }
+
+        List<Future<PciDevice>> probes = new ArrayList<>(functions.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path function : functions) {
+                probes.add(executor.submit(() -> probe(function)));
+            }
+        }
+
+        List<PciDevice> gpus = new ArrayList<>();
+        for (int i = 0; i < probes.size(); i++) {
+            try {
+                PciDevice gpu = probes.get(i).get();
+                if (gpu != null) gpus.add(gpu);
+            } catch (ExecutionException e) {
+                // A function that vanished or is unreadable must not hide the other GPUs
+                LOG.warn("Skipping PCI function {}: {}", functions.get(i).getFileName(), e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while scanning PCI devices", e);
+            }
+        }
+        gpus.sort(Comparator.comparing(PciDevice::address, Comparator.comparingInt(PciAddress::getDomain)
+            .thenComparingInt(PciAddress::getBus)
+            .thenComparingInt(PciAddress::getDevice)
+            .thenComparingInt(PciAddress::getFunction)));
+        LOG.debug("Found {} GPUs among {} PCI functions under {}", gpus.size(), functions.size(), devices);
+        return gpus;
+    }
+
+    /**
+     * Reads one PCI function directory.
+     *
+     * @return the GPU, or null if the function is not an AMD GPU
+     */
+    private static PciDevice probe(Path function) throws IOException {
+        if (parseHex(readString(function.resolve("vendor"))) != AMD_VENDOR) {
+            return null;
+        }
+        int baseClass = parseHex(readString(function.resolve("class"))) >>> 16;
+        if (baseClass != DISPLAY_CLASS && baseClass != ACCELERATOR_CLASS) {
+            return null;
+        }
+        return new PciDevice(
+            PciAddress.parse(function.getFileName().toString()),
+            parseHex(readString(function.resolve("device"))),
+            findCard(function.resolve("drm")),
+            readOptional(function.resolve("product_name")),
+            parseWidth(readOptional(function.resolve("current_link_width"))),
+            parseWidth(readOptional(function.resolve("max_link_width"))),
+            parseSpeed(readOptional(function.resolve("current_link_speed"))),
+            parseSpeed(readOptional(function.resolve("max_link_speed"))));
+    }
+
+    private static String findCard(Path drm) throws IOException {
+        if (!Files.isDirectory(drm)) return null;
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(drm, "card*")) {
+            for (Path p : ds) {
+                return p.getFileName().toString();
+            }
+        }
+        return null;
+    }
+
+    private static String readString(Path p) throws IOException {
+        return Files.isReadable(p) ? Files.readString(p).trim() : null;
+    }
+
+    /** Reads an optional attribute; null if absent or unreadable */
+    private static String readOptional(Path p) {
+        try {
+            return readString(p);
+        } catch (IOException e) {
+            LOG.debug("Treating {} as unknown: {}", p, e.toString());
+            return null;
+        }
+    }
+
+    /** Parses "0x1002"; -1 if absent */
+    private static int parseHex(String s) {
+        if (s == null) return -1;
+        return Integer.parseInt(s.startsWith("0x") || s.startsWith("0X") ? s.substring(2) : s, 16);
+    }
+
+    /** Parses "16"; 0 if absent or unknown (the kernel reports 0 for a link that is down) */
+    private static int parseWidth(String s) {
+        if (s == null) return 0;
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** Parses "32.0 GT/s PCIe"; NaN if absent or "Unknown" */
+    private static double parseSpeed(String s) {
+        if (s == null) return Double.NaN;
+        int space = s.indexOf(' ');
+        try {
+            return Double.parseDouble(space < 0 ? s : s.substring(0, space));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
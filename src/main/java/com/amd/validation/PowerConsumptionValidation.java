@@ -3,6 +3,8 @@ package com.amd.validation;
 /**
  * PowerConsumptionValidation checks whether the GPU's power draw
  * is within acceptable safe operational limits.
+ * The limit comes from the device's {@link ThresholdProfile}
+ * ({@code power.maxWatts}, 200 W by default).
  */
 public class PowerConsumptionValidation implements ValidationTask {
 
@@ -10,8 +12,28 @@ public class PowerConsumptionValidation implements ValidationTask {
     private static final org.slf4j.Logger LOG =
             org.slf4j.LoggerFactory.getLogger(PowerConsumptionValidation.class);
 
-    // Power threshold in watts beyond which GPU is considered unhealthy
-    private static final double MAX_SAFE_WATTS = 200.0;
+    /** Shared PASS result; results are immutable so one instance serves every call */
+    private static final ValidationResult PASS =
+            new ValidationResult("PowerConsumptionValidation", true, "GPU power within limit");
+
+    /** Limits fixed at construction; {@code null} to apply the device's profile */
+    private final ThresholdProfile limits;
+
+    /**
+     * Constructs a power check that applies each device's threshold profile.
+     */
+    public PowerConsumptionValidation() {
+        this.limits = null;
+    }
+
+    /**
+     * Constructs a power check with a fixed limit, whatever the device's profile says.
+     *
+     * @param maxWatts highest acceptable power draw in watts
+     */
+    public PowerConsumptionValidation(double maxWatts) {
+        this.limits = ThresholdProfile.DEFAULTS.with(Threshold.POWER_MAX_WATTS, maxWatts);
+    }
 
     /**
      * Executes power consumption validation.
@@ -21,20 +43,63 @@ public class PowerConsumptionValidation implements ValidationTask {
      */
     @Override
     public ValidationResult execute(TestContext context) {
+        double maxWatts = (limits != null ? limits : context.getThresholds()).get(Threshold.POWER_MAX_WATTS);
+
+        TelemetrySeries telemetry = context.getTelemetry();
+        if (telemetry != null && telemetry.getPowerWatts().getSize() > 0) {
+            return executeWindowed(context, telemetry.getPowerWatts(), maxWatts);
+        }
+
         double watts = context.getPowerWatts();
 
-        // Log the power usage for traceability
-        LOG.info("Validating Power Consumption for {}: {}W",
-                 context.getDeviceId(), watts);
+        // Log the power usage for traceability (guarded: boxing the wattage allocates)
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating Power Consumption for {}: {}W", context.getDeviceId(), watts);
+        }
 
         // Evaluate health based on threshold
-        boolean isHealthy = watts <= MAX_SAFE_WATTS;
+        if (watts <= maxWatts) {
+            return PASS;
+        }
+
+        // Return structured result; the message is only formatted if someone reads it
+        return new ValidationResult(
+            "PowerConsumptionValidation",
+            false,
+            () -> String.format("GPU Power Usage: %.1fW", watts),
+            watts,
+            maxWatts
+        );
+    }
+
+    /**
+     * Judges a sampled power window: the 99th percentile must stay within the limit,
+     * so a single outlier sample does not fail the device.
+     */
+    private ValidationResult executeWindowed(TestContext context, IntRingBuffer window, double maxWatts) {
+        double p99 = window.getP99();
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating Power Consumption for {}: p99 {}W over {} samples",
+                      context.getDeviceId(), p99, window.getSize());
+        }
+
+        if (p99 <= maxWatts) {
+            return PASS;
+        }
 
-        // Return structured result
+        // Window stats are captured now; the message is only formatted if someone reads it
+        double min = window.getMin();
+        double mean = window.getMean();
+        double max = window.getMax();
+        int samples = window.getSize();
         return new ValidationResult(
             "PowerConsumptionValidation",
-            isHealthy,
-            String.format("GPU Power Usage: %.1fW", watts)
+            false,
+            () -> String.format("GPU Power Usage: p99 %.1fW (min %.1fW, mean %.1fW, max %.1fW, %d samples)",
+                p99, min, mean, max, samples),
+            p99,
+            maxWatts
         );
     }
 }
@@ -0,0 +1,252 @@
+package com.amd.validation;
+
+import java.util.Arrays;
+
+/**
+ * Approximate quantiles of a stream in constant memory: a merging t-digest.
+ * <p>
+ * The sketch keeps at most about {@code compression} centroids (a mean and a weight each),
+ * sorted by mean. New values collect in a buffer; when it fills, buffer and centroids are
+ * merged in one pass, and adjacent centroids are combined as long as they stay within one
+ * unit of the scale function {@code k(q) = compression / 2π · asin(2q − 1)}. That scale
+ * keeps centroids small near the tails, so the extreme quantiles an outlier check needs stay
+ * accurate, while the middle of the distribution is summarized coarsely. Two sketches merge
+ * by feeding one's centroids into the other, so shards and threads can each keep their own.
+ * </p>
+ * <p>
+ * Not thread-safe; {@link FleetStatistics} guards each sketch.
+ * </p>
+ */
+public final class QuantileSketch {
+
+    /** Default compression; about 100 centroids */
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int buffered;
+
+    /** Output of a merge pass, swapped with the centroid arrays afterwards */
+    private double[] scratchMeans;
+    private double[] scratchWeights;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructs a sketch with the default compression.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructs a sketch.
+     *
+     * @param compression number of centroids to aim for (at least 10); higher is more accurate
+     */
+    public QuantileSketch(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 1;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.scratchMeans = new double[capacity];
+        this.scratchWeights = new double[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    /**
+     * Adds one value.
+     *
+     * @param x the value; NaN is ignored
+     */
+    public void add(double x) {
+        add(x, 1);
+    }
+
+    private void add(double mean, double weight) {
+        if (Double.isNaN(mean)) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = mean;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        totalWeight += weight;
+        min = Math.min(min, mean);
+        max = Math.max(max, mean);
+    }
+
+    /**
+     * Adds every value summarized by another sketch.
+     *
+     * @param other the sketch to merge in; it is compressed but otherwise unchanged
+     */
+    public void merge(QuantileSketch other) {
+        other.compress();
+        double otherMin = other.min, otherMax = other.max;
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        if (other.centroids > 0) {
+            min = Math.min(min, otherMin);
+            max = Math.max(max, otherMax);
+        }
+    }
+
+    /** @return the number of values added */
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    /** @return the number of centroids after compression */
+    int centroidCount() {
+        compress();
+        return centroids;
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param q the quantile, in [0, 1]
+     * @return the estimated value, or NaN if the sketch is empty
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("quantile out of range: " + q);
+        }
+        compress();
+        if (centroids == 0) return Double.NaN;
+        if (centroids == 1) return means[0];
+
+        double target = q * totalWeight;
+        // Each centroid's weight is centred on its mean; the extremes anchor both ends
+        double left = weights[0] / 2;
+        if (target < left) {
+            return interpolate(min, means[0], target / left);
+        }
+        double cumulative = left;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (target < cumulative + step) {
+                return interpolate(means[i], means[i + 1], (target - cumulative) / step);
+            }
+            cumulative += step;
+        }
+        double right = weights[centroids - 1] / 2;
+        return interpolate(means[centroids - 1], max, Math.min(1, (target - cumulative) / right));
+    }
+
+    private static double interpolate(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+    }
+
+    /**
+     * Merges the buffer into the centroids.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        sort(bufferMeans, bufferWeights, 0, buffered - 1);
+
+        int out = 0;
+        double seen = 0;
+        double kLeft = scale(0);
+        double mean = 0, weight = 0;
+        int i = 0, j = 0;
+        while (i < centroids || j < buffered) {
+            double m, w;
+            if (j >= buffered || (i < centroids && means[i] <= bufferMeans[j])) {
+                m = means[i];
+                w = weights[i++];
+            } else {
+                m = bufferMeans[j];
+                w = bufferWeights[j++];
+            }
+            if (weight == 0) {
+                mean = m;
+                weight = w;
+            } else if (scale((seen + weight + w) / totalWeight) - kLeft <= 1) {
+                weight += w;
+                mean += (m - mean) * w / weight;
+            } else {
+                out = emit(out, mean, weight);
+                seen += weight;
+                kLeft = scale(seen / totalWeight);
+                mean = m;
+                weight = w;
+            }
+        }
+        out = emit(out, mean, weight);
+
+        double[] t = means;
+        means = scratchMeans;
+        scratchMeans = t;
+        t = weights;
+        weights = scratchWeights;
+        scratchWeights = t;
+        centroids = out;
+        buffered = 0;
+    }
+
+    private int emit(int out, double mean, double weight) {
+        if (out == scratchMeans.length) {
+            // The scale function bounds the count; grow rather than lose weight on rounding
+            scratchMeans = Arrays.copyOf(scratchMeans, out * 2);
+            scratchWeights = Arrays.copyOf(scratchWeights, out * 2);
+        }
+        scratchMeans[out] = mean;
+        scratchWeights[out] = weight;
+        return out + 1;
+    }
+
+    /**
+     * Sorts a range of parallel arrays by key (quicksort; no allocation).
+     */
+    private static void sort(double[] keys, double[] values, int lo, int hi) {
+        while (lo < hi) {
+            double pivot = keys[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    double k = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = k;
+                    double v = values[i];
+                    values[i] = values[j];
+                    values[j] = v;
+                    i++;
+                    j--;
+                }
+            }
+            // Recurse into the smaller half so the stack stays logarithmic
+            if (j - lo < hi - i) {
+                sort(keys, values, lo, j);
+                lo = i;
+            } else {
+                sort(keys, values, i, hi);
+                hi = j;
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.amd.validation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ReplayEngine re-validates captured devices offline.
+ * <p>
+ * Each capture written by {@link TelemetryCaptureWriter} is decoded and its devices are run
+ * through the {@link TestRunner}'s tasks, without sensors and without waiting for the
+ * original sampling rate: a device sampled for a minute is re-judged in the time it takes
+ * to decode it. Captures are replayed in parallel, one per thread of a fixed pool sized to
+ * the CPUs, since replay is decoding and arithmetic rather than I/O waits.
+ * </p>
+ * <p>
+ * By default every device is judged against the limits it was captured with. With
+ * {@link #withThresholdProfiles(ThresholdProfiles, String)} the limits are resolved again
+ * from (updated) profiles, as for a live run. With {@link #withBaseline(FleetStatistics)}
+ * every captured device is observed into a fleet baseline before the first one is judged,
+ * so the {@code anomaly} task compares each device with the others of the replay.
+ * </p>
+ */
+public class ReplayEngine {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(ReplayEngine.class);
+
+    /** Runner applied to every captured device */
+    private final TestRunner runner;
+
+    /** Number of captures replayed at the same time */
+    private final int parallelism;
+
+    private ThresholdProfiles profiles;
+    private String sku;
+    private FleetStatistics baseline;
+
+    /**
+     * Constructs an engine replaying one capture per available processor.
+     *
+     * @param runner the runner applied to each device
+     */
+    public ReplayEngine(TestRunner runner) {
+        this(runner, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an engine with an explicit parallelism.
+     *
+     * @param runner      the runner applied to each device
+     * @param parallelism number of captures replayed at once (must be positive)
+     */
+    public ReplayEngine(TestRunner runner, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.runner = runner;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Judges devices against limits resolved from profiles instead of the captured ones.
+     *
+     * @param profiles the profiles to resolve from
+     * @param sku      profile name to apply, or {@code null} to match the device name
+     * @return this engine, for chaining
+     */
+    public ReplayEngine withThresholdProfiles(ThresholdProfiles profiles, String sku) {
+        this.profiles = profiles;
+        this.sku = sku;
+        return this;
+    }
+
+    /**
+     * Observes every captured device into a baseline before any device is judged, e.g. the
+     * one an {@link AnomalyDetectionValidation} of the runner compares against.
+     *
+     * @param baseline the statistics to fill
+     * @return this engine, for chaining
+     */
+    public ReplayEngine withBaseline(FleetStatistics baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
+    /** @return the number of captures replayed at once */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Replays every device of every capture.
+     * <p>
+     * Reports are returned in capture order, then in the order devices were written. A
+     * capture that cannot be read yields a single failed report named after the file; the
+     * remaining captures are unaffected.
+     * </p>
+     *
+     * @param captures the capture files, e.g. from {@link TelemetryCaptureReader#list(Path)}
+     * @return a {@link FleetReport} with one report per captured device
+     * @throws IllegalArgumentException if a {@code sku} was given that the profiles do not define
+     */
+    public FleetReport replay(Collection<Path> captures) {
+        if (profiles != null && sku != null) {
+            profiles.resolve(sku, null);
+        }
+        long start = System.nanoTime();
+        List<Future<List<TestContext>>> decoded = new ArrayList<>(captures.size());
+        List<Future<List<TestReport>>> judged = new ArrayList<>(captures.size());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (Path capture : captures) {
+                decoded.add(executor.submit(() -> decode(capture)));
+            }
+            if (baseline != null) {
+                // Every device is in the baseline before the first one is judged
+                for (Future<List<TestContext>> f : decoded) {
+                    try {
+                        baseline.observeAll(f.get());
+                    } catch (ExecutionException e) {
+                        // Reported as a failed capture below
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            // The pool runs tasks in submission order, so every decode has started before
+            // a judging task waits for it
+            for (Future<List<TestContext>> f : decoded) {
+                judged.add(executor.submit(() -> judge(f.get())));
+            }
+
+            List<TestReport> reports = new ArrayList<>();
+            int i = 0;
+            for (Path capture : captures) {
+                reports.addAll(await(judged.get(i++), capture));
+            }
+            return new FleetReport(reports, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Decodes one capture, resolving the devices' limits again if profiles are set.
+     */
+    private List<TestContext> decode(Path capture) throws Exception {
+        List<CapturedDevice> devices = TelemetryCaptureReader.read(capture);
+        List<TestContext> contexts = new ArrayList<>(devices.size());
+        for (CapturedDevice device : devices) {
+            TestContext ctx = device.context();
+            if (profiles != null) {
+                ctx.setThresholds(profiles.resolve(sku, ctx.getDeviceName()));
+            }
+            contexts.add(ctx);
+        }
+        LOG.debug("Decoded {} devices from {}", devices.size(), capture);
+        return contexts;
+    }
+
+    /**
+     * Validates decoded devices on the calling thread.
+     */
+    private List<TestReport> judge(List<TestContext> contexts) {
+        List<TestReport> reports = new ArrayList<>(contexts.size());
+        for (TestContext ctx : contexts) {
+            reports.add(runner.runAll(ctx));
+        }
+        return reports;
+    }
+
+    /**
+     * Waits for a capture and converts a failed replay into a failed report.
+     */
+    private static List<TestReport> await(Future<List<TestReport>> future, Path capture) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of(failedReport(capture, e));
+        } catch (ExecutionException e) {
+            // A capture that failed to decode fails its judging task with the decode error
+            Throwable cause = e.getCause() instanceof ExecutionException decode ? decode.getCause() : e.getCause();
+            return List.of(failedReport(capture, cause));
+        }
+    }
+
+    private static TestReport failedReport(Path capture, Throwable cause) {
+        LOG.warn("Replay failed for {}: {}", capture, cause.toString());
+        TestReport report = new TestReport();
+        report.add(new ValidationResult("ReplayEngine", false, "Capture replay failed: " + cause));
+        report.setContext(new TestContext(String.valueOf(capture.getFileName())));
+        return report;
+    }
+}
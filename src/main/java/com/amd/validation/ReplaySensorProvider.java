@@ -0,0 +1,179 @@
+package com.amd.validation;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReplaySensorProvider plays back recorded sensor samples from a CSV file.
+ * <p>
+ * Expected header (column order is free, unknown columns are ignored):
+ * </p>
+ * <pre>
+ * deviceId,temperatureC,fanRpm,powerWatts,memoryUsedGB
+ * </pre>
+ * <p>
+ * Each call to {@link #populate(TestContext)} advances to the device's next sample and
+ * wraps around at the end of the recording. Rows with device ID {@code *} are used for
+ * devices that have no rows of their own. The file is given by the constructor or by the
+ * {@code gpu.replay.file} system property, and is loaded on first use.
+ * </p>
+ */
+public class ReplaySensorProvider implements SensorProvider {
+
+    /** System property naming the CSV file to replay */
+    public static final String FILE_PROPERTY = "gpu.replay.file";
+
+    private static final String WILDCARD = "*";
+
+    private final Path file;
+
+    /** Recorded samples per device ID; loaded lazily */
+    private volatile Map<String, Track> tracks;
+
+    /**
+     * Constructs a provider replaying the file named by {@code gpu.replay.file}.
+     */
+    public ReplaySensorProvider() {
+        String prop = System.getProperty(FILE_PROPERTY);
+        this.file = prop != null ? Paths.get(prop) : null;
+    }
+
+    /**
+     * Constructs a provider replaying an explicit file.
+     *
+     * @param file the recorded samples
+     */
+    public ReplaySensorProvider(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String name() {
+        return "replay";
+    }
+
+    @Override
+    public void populate(TestContext ctx) {
+        Map<String, Track> t = tracks();
+        Track track = t.getOrDefault(ctx.getDeviceId(), t.get(WILDCARD));
+        if (track == null) {
+            throw new IllegalStateException("No replay samples for device " + ctx.getDeviceId());
+        }
+        track.next(ctx);
+    }
+
+    private Map<String, Track> tracks() {
+        Map<String, Track> t = tracks;
+        if (t == null) {
+            synchronized (this) {
+                if (tracks == null) {
+                    if (file == null) {
+                        throw new IllegalStateException(
+                            "No replay file configured; set -D" + FILE_PROPERTY + "=<csv>");
+                    }
+                    tracks = load(file);
+                }
+                t = tracks;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Parses the CSV recording into per-device primitive tracks.
+     */
+    private static Map<String, Track> load(Path file) {
+        Map<String, List<String[]>> rows = new HashMap<>();
+        int iDev, iTemp, iFan, iPower, iMem;
+
+        try (Reader in = Files.newBufferedReader(file); CSVReader csv = new CSVReader(in)) {
+            String[] header = csv.readNext();
+            if (header == null) {
+                throw new IOException("Empty replay file: " + file);
+            }
+            List<String> cols = new ArrayList<>();
+            for (String h : header) cols.add(h.trim());
+            iDev = cols.indexOf("deviceId");
+            iTemp = cols.indexOf("temperatureC");
+            iFan = cols.indexOf("fanRpm");
+            iPower = cols.indexOf("powerWatts");
+            iMem = cols.indexOf("memoryUsedGB");
+            if (iDev < 0) {
+                throw new IOException("Replay file lacks a deviceId column: " + file);
+            }
+
+            String[] line;
+            while ((line = csv.readNext()) != null) {
+                if (line.length <= iDev || line[iDev].isBlank()) continue;
+                rows.computeIfAbsent(line[iDev].trim(), k -> new ArrayList<>()).add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read replay file " + file, e);
+        } catch (CsvValidationException e) {
+            throw new UncheckedIOException(new IOException("Malformed replay file " + file, e));
+        }
+
+        Map<String, Track> result = new HashMap<>();
+        for (Map.Entry<String, List<String[]>> e : rows.entrySet()) {
+            result.put(e.getKey(), new Track(e.getValue(), iTemp, iFan, iPower, iMem));
+        }
+        return result;
+    }
+
+    /* ========== per-device samples ======================================== */
+
+    /**
+     * Samples of one device as primitive columns; absent columns are left unset.
+     */
+    private static final class Track {
+
+        private final double[] temperature;
+        private final int[] fanRpm;
+        private final int[] powerWatts;
+        private final double[] memoryUsedGB;
+        private int cursor;
+
+        Track(List<String[]> rows, int iTemp, int iFan, int iPower, int iMem) {
+            int n = rows.size();
+            temperature = iTemp >= 0 ? new double[n] : null;
+            fanRpm = iFan >= 0 ? new int[n] : null;
+            powerWatts = iPower >= 0 ? new int[n] : null;
+            memoryUsedGB = iMem >= 0 ? new double[n] : null;
+            for (int i = 0; i < n; i++) {
+                String[] r = rows.get(i);
+                if (temperature != null) temperature[i] = Double.parseDouble(r[iTemp].trim());
+                if (fanRpm != null) fanRpm[i] = Integer.parseInt(r[iFan].trim());
+                if (powerWatts != null) powerWatts[i] = Integer.parseInt(r[iPower].trim());
+                if (memoryUsedGB != null) memoryUsedGB[i] = Double.parseDouble(r[iMem].trim());
+            }
+        }
+
+        synchronized void next(TestContext ctx) {
+            int i = cursor;
+            if (temperature != null) ctx.setGpuTemperature(temperature[i]);
+            if (fanRpm != null) ctx.setFanSpeedRPM(fanRpm[i]);
+            if (powerWatts != null) ctx.setPowerWatts(powerWatts[i]);
+            if (memoryUsedGB != null) ctx.setMemoryUsedGB(memoryUsedGB[i]);
+            int len = length();
+            cursor = len == 0 ? 0 : (i + 1) % len;
+        }
+
+        private int length() {
+            if (temperature != null) return temperature.length;
+            if (fanRpm != null) return fanRpm.length;
+            if (powerWatts != null) return powerWatts.length;
+            return memoryUsedGB != null ? memoryUsedGB.length : 0;
+        }
+    }
+}
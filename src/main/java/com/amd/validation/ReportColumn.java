@@ -0,0 +1,64 @@
+package com.amd.validation;
+
+/**
+ * Columns of a result table, as written by {@link ColumnarReportWriter}: one row per
+ * {@link ValidationResult}, with the fields of {@code report.csv} plus the measured value
+ * and limit.
+ */
+public enum ReportColumn {
+
+    TASK("Task", Kind.STRING),
+    PASSED("Status", Kind.BOOLEAN),
+    MESSAGE("Message", Kind.STRING),
+    DEVICE_ID("Device ID", Kind.STRING),
+    DEVICE_NAME("Device Name", Kind.STRING),
+    DRIVER("Driver", Kind.STRING),
+    PCI_LOCATION("PCIe Location", Kind.STRING),
+    VALUE("Value", Kind.DOUBLE),
+    LIMIT("Limit", Kind.DOUBLE);
+
+    /** How a column's values are stored */
+    public enum Kind {
+        /** Dictionary-encoded strings */
+        STRING,
+        /** Run-length encoded bitmap */
+        BOOLEAN,
+        /** Raw IEEE 754 values */
+        DOUBLE
+    }
+
+    private final String header;
+    private final Kind kind;
+
+    ReportColumn(String header, Kind kind) {
+        this.header = header;
+        this.kind = kind;
+    }
+
+    /** @return the column's CSV header */
+    public String header() {
+        return header;
+    }
+
+    /** @return how the column's values are stored */
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * Reads the column's string value from a result and its device.
+     *
+     * @throws IllegalStateException if the column does not hold strings
+     */
+    String stringOf(TestContext context, ValidationResult result) {
+        return switch (this) {
+            case TASK -> result.getTaskName();
+            case MESSAGE -> result.getMessage();
+            case DEVICE_ID -> context.getDeviceId();
+            case DEVICE_NAME -> context.getDeviceName();
+            case DRIVER -> context.getDriverVersion();
+            case PCI_LOCATION -> context.getPciLocation();
+            default -> throw new IllegalStateException(this + " is not a string column");
+        };
+    }
+}
@@ -0,0 +1,314 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ResultCache stores the results of {@link CacheableTask}s keyed by a fingerprint of the
+ * task and its inputs, so unchanged checks are not re-executed on retest.
+ * <p>
+ * The key is the SHA-256 of the task's class name, {@link CacheableTask#version() version}
+ * and {@link CacheableTask#cacheInputs(TestContext) inputs}. The cache holds at most a
+ * fixed number of entries and evicts the least recently used one when full; an entry older
+ * than the time-to-live is dropped when it is next looked up. Only verdicts are cached:
+ * results of tasks that threw or timed out are always re-executed.
+ * </p>
+ * <p>
+ * A cache {@link #load(Path, int, Duration) loaded} from a file is written back to it by
+ * {@link #save()}, as JSON in least-to-most recently used order, so the LRU order and
+ * entry ages survive between runs. Expired entries are not persisted. All methods are
+ * thread-safe.
+ * </p>
+ */
+public class ResultCache {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(ResultCache.class);
+
+    /** Default maximum number of cached results */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /** Default time after which a cached result is re-executed: one shift plus margin */
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private static final int FILE_VERSION = 1;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    /** File the cache was loaded from and is saved to; {@code null} for a memory-only cache */
+    private final Path file;
+
+    /** Entries in access order: the eldest is the least recently used */
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs an empty, memory-only cache.
+     *
+     * @param maxEntries maximum number of entries (must be positive)
+     * @param ttl        age after which an entry is no longer reused
+     */
+    public ResultCache(int maxEntries, Duration ttl) {
+        this(null, maxEntries, ttl, Clock.systemUTC());
+    }
+
+    ResultCache(Path file, int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.file = file;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Opens a persistent cache, reading the entries saved in the file if it exists.
+     *
+     * @param file       the cache file
+     * @param maxEntries maximum number of entries (must be positive)
+     * @param ttl        age after which an entry is no longer reused
+     * @return the cache, bound to the file for {@link #save()}
+     * @throws IOException if the file exists but cannot be read or is not a result cache
+     */
+    public static ResultCache load(Path file, int maxEntries, Duration ttl) throws IOException {
+        return load(file, maxEntries, ttl, Clock.systemUTC());
+    }
+
+    static ResultCache load(Path file, int maxEntries, Duration ttl, Clock clock) throws IOException {
+        ResultCache cache = new ResultCache(file, maxEntries, ttl, clock);
+        if (Files.exists(file)) {
+            cache.read(file);
+        }
+        return cache;
+    }
+
+    /**
+     * Computes the cache key of a task for a context.
+     *
+     * @param task    the task
+     * @param context the device context
+     * @return the hex-encoded SHA-256 fingerprint
+     */
+    public String key(CacheableTask task, TestContext context) {
+        MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by the Java platform", e);
+        }
+        update(sha, task.getClass().getName());
+        update(sha, Integer.toString(task.version()));
+        for (Object input : task.cacheInputs(context)) {
+            update(sha, input == null ? null : input.toString());
+        }
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * Length-prefixes every part, so no two input lists share a byte stream.
+     */
+    private static void update(MessageDigest sha, String part) {
+        if (part == null) {
+            sha.update(new byte[] {-1, -1, -1, -1});
+            return;
+        }
+        byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+        int n = bytes.length;
+        sha.update(new byte[] {(byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n});
+        sha.update(bytes);
+    }
+
+    /**
+     * Looks up a result and marks it as recently used.
+     *
+     * @param key a key from {@link #key(CacheableTask, TestContext)}
+     * @return the cached result, or {@code null} if there is none or it expired
+     */
+    public synchronized ValidationResult get(String key) {
+        Entry e = entries.get(key);
+        if (e != null && isExpired(e, clock.millis())) {
+            entries.remove(key);
+            e = null;
+        }
+        if (e == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return e.result();
+    }
+
+    /**
+     * Stores a result, evicting the least recently used entry if the cache is full.
+     * Results with a {@link ValidationResult#getCause() cause} are not stored.
+     *
+     * @param key    a key from {@link #key(CacheableTask, TestContext)}
+     * @param result the task's result
+     */
+    public void put(String key, ValidationResult result) {
+        if (result.getCause() != null) {
+            return;
+        }
+        // Resolve a lazy message outside the lock
+        Entry e = new Entry(result.getTaskName(), result.isPassed(), result.getMessage(),
+                            result.getValue(), result.getLimit(), clock.millis());
+        synchronized (this) {
+            entries.put(key, e);
+        }
+    }
+
+    /** @return the number of entries, including expired ones not yet looked up */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** @return the number of lookups that returned a result */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /** @return the number of lookups that found nothing or an expired entry */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /** @return the file the cache is saved to, or {@code null} for a memory-only cache */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the live entries to the file the cache was loaded from, replacing it in one
+     * step so a concurrent reader never sees a partial file.
+     *
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the cache was not loaded from a file
+     */
+    public void save() throws IOException {
+        if (file == null) {
+            throw new IllegalStateException("Memory-only cache has no file");
+        }
+        save(file);
+    }
+
+    /**
+     * Writes the live entries to a file, replacing it in one step.
+     *
+     * @param target the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path target) throws IOException {
+        List<Map.Entry<String, Entry>> live;
+        long now = clock.millis();
+        synchronized (this) {
+            live = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (!isExpired(e.getValue(), now)) {
+                    live.add(Map.entry(e.getKey(), e.getValue()));
+                }
+            }
+        }
+
+        // Mapper built per save: the cache is saved once per run, and runs without a cache stay free of databind
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode().put("version", FILE_VERSION);
+        ArrayNode array = root.putArray("entries");
+        for (Map.Entry<String, Entry> e : live) {
+            Entry v = e.getValue();
+            array.addObject()
+                 .put("key", e.getKey())
+                 .put("task", v.taskName())
+                 .put("passed", v.passed())
+                 .put("message", v.message())
+                 .put("value", v.value())
+                 .put("limit", v.limit())
+                 .put("created", v.createdMillis());
+        }
+
+        // A temporary file of its own, so concurrent saves never write into each other's
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            mapper.writeValue(tmp.toFile(), root);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        LOG.debug("Saved {} cached results to {}", live.size(), target);
+    }
+
+    private void read(Path source) throws IOException {
+        JsonNode root;
+        try {
+            root = new ObjectMapper().readTree(Files.readAllBytes(source));
+        } catch (JsonProcessingException e) {
+            throw new IOException("Invalid JSON in " + source + ": " + e.getOriginalMessage(), e);
+        }
+        if (root == null || root.path("version").asInt() != FILE_VERSION || !root.path("entries").isArray()) {
+            throw new IOException(source + " is not a version " + FILE_VERSION + " result cache");
+        }
+
+        long now = clock.millis();
+        for (JsonNode n : root.get("entries")) {
+            if (!n.path("key").isTextual() || !n.path("task").isTextual()) {
+                throw new IOException("Malformed entry in " + source + ": " + n);
+            }
+            Entry e = new Entry(n.get("task").asText(), n.path("passed").asBoolean(),
+                                n.path("message").isTextual() ? n.get("message").asText() : null,
+                                n.path("value").asDouble(Double.NaN), n.path("limit").asDouble(Double.NaN),
+                                n.path("created").asLong());
+            if (!isExpired(e, now)) {
+                entries.put(n.get("key").asText(), e);
+            }
+        }
+        LOG.debug("Loaded {} cached results from {}", entries.size(), source);
+    }
+
+    private boolean isExpired(Entry e, long now) {
+        return now - e.createdMillis() >= ttlMillis;
+    }
+
+    /**
+     * A stored result and the time it was produced.
+     */
+    private record Entry(String taskName, boolean passed, String message,
+                         double value, double limit, long createdMillis) {
+
+        ValidationResult result() {
+            return new ValidationResult(taskName, passed, message, value, limit);
+        }
+    }
+}
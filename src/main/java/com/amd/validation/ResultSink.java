@@ -0,0 +1,50 @@
+package com.amd.validation;
+
+/**
+ * ResultSink receives each {@link ValidationResult} as soon as its task completes.
+ * <p>
+ * Sinks are attached to a {@link TestRunner} with {@link TestRunner#withSink(ResultSink)}.
+ * Unlike the report exporters, which need a finished {@link TestReport}, a sink writes
+ * results incrementally, so a process that dies mid-run still leaves everything completed
+ * so far on disk, and memory use does not grow with run length.
+ * </p>
+ * <p>
+ * A runner shared across devices (see {@link FleetRunner}) calls its sinks from several
+ * threads, so implementations must be thread-safe. I/O failures are reported as
+ * {@link java.io.UncheckedIOException}.
+ * </p>
+ */
+public interface ResultSink extends AutoCloseable {
+
+    /**
+     * Accepts one completed result.
+     *
+     * @param context the device the result belongs to
+     * @param result  the task outcome
+     */
+    void accept(TestContext context, ValidationResult result);
+
+    /**
+     * Accepts a result that completed at a known time, e.g. one replayed from a
+     * {@link BinaryResultLog}. Sinks that record a timestamp use the given one; the
+     * default ignores it.
+     *
+     * @param context         the device the result belongs to
+     * @param result          the task outcome
+     * @param timestampMillis epoch milliseconds when the result was produced
+     */
+    default void accept(TestContext context, ValidationResult result, long timestampMillis) {
+        accept(context, result);
+    }
+
+    /**
+     * Forces buffered results out to the underlying storage.
+     */
+    void flush();
+
+    /**
+     * Flushes and releases the underlying storage.
+     */
+    @Override
+    void close();
+}
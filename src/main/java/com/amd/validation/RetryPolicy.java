@@ -0,0 +1,78 @@
+package com.amd.validation;
+
+import java.time.Duration;
+
+/**
+ * RetryPolicy decides how often {@link TestRunner} re-runs a task that threw an exception
+ * or timed out, and how long it waits between attempts.
+ * <p>
+ * Only faults are retried. A task that returns a FAIL result has measured something and is
+ * never re-run. Backoff grows geometrically from the initial delay and is capped at the
+ * maximum delay.
+ * </p>
+ */
+public final class RetryPolicy {
+
+    /** A single attempt, no retries */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, 1.0, Duration.ZERO);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final double multiplier;
+    private final Duration maxBackoff;
+
+    /**
+     * Constructs a policy.
+     *
+     * @param maxAttempts    total attempts including the first (at least 1)
+     * @param initialBackoff delay before the second attempt
+     * @param multiplier     factor applied to the delay after each retry (at least 1)
+     * @param maxBackoff     upper bound on any single delay
+     */
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, double multiplier, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1: " + maxAttempts);
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be >= 1: " + multiplier);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.multiplier = multiplier;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Exponential backoff doubling from {@code initialBackoff}, capped at 30 seconds.
+     *
+     * @param maxAttempts    total attempts including the first
+     * @param initialBackoff delay before the second attempt
+     * @return the policy
+     */
+    public static RetryPolicy exponential(int maxAttempts, Duration initialBackoff) {
+        return new RetryPolicy(maxAttempts, initialBackoff, 2.0, Duration.ofSeconds(30));
+    }
+
+    /** @return total attempts including the first */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the delay before a retry.
+     *
+     * @param retry 1 for the first retry (second attempt), 2 for the next, ...
+     * @return the delay, never more than the maximum backoff
+     */
+    public Duration backoff(int retry) {
+        double nanos = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, retry - 1));
+        long capped = (long) Math.min(nanos, maxBackoff.toNanos());
+        return Duration.ofNanos(capped);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts + ", initialBackoff=" + initialBackoff
+               + ", multiplier=" + multiplier + ", maxBackoff=" + maxBackoff + '}';
+    }
+}
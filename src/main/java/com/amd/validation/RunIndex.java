@@ -0,0 +1,649 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * RunIndex aggregates the reports stored under {@code target/reports/run-*} for trend
+ * queries: per-task pass/failure rate per day, pass rate per driver version, and
+ * temperature distribution per SKU.
+ * <p>
+ * Each stored report is parsed once and appended to an in-memory columnar index: one
+ * table with a row per device report (day, driver, SKU, temperature, overall verdict) and
+ * one with a row per task result (day, task, verdict). Strings are dictionary-encoded to
+ * {@code int} ids. {@link #refresh()} indexes only runs that are not indexed yet, so the
+ * index grows as new runs land; a run whose {@code report.json} is missing or incomplete
+ * is retried on the next refresh. Queries aggregate the columns with parallel streams,
+ * each thread counting into its own array, and never block a concurrent refresh: they read
+ * an immutable view of the columns published when the refresh completed.
+ * </p>
+ * <p>
+ * The run day comes from the directory name ({@code run-yyyyMMdd-HHmmss}, local time). A
+ * run directory holds a {@code report.json}, or one sub-directory per device with its own
+ * {@code report.json} (an unpacked fleet bundle). The SKU is the device name, since reports
+ * do not record the threshold profile a run used. The index can be
+ * {@link #save(Path) saved} and {@link #load(Path, Path) loaded}, so a new process only
+ * parses the runs that landed since.
+ * </p>
+ */
+public class RunIndex {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(RunIndex.class);
+
+    /** Default directory written by {@link TestReportExporter} */
+    public static final Path DEFAULT_REPORTS_DIR = Path.of("target", "reports");
+
+    private static final String RUN_PREFIX = "run-";
+    private static final DateTimeFormatter RUN_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String UNKNOWN = "unknown";
+
+    static final long MAGIC = 0x47505552_49445831L; // "GPURIDX1"
+    static final int VERSION = 1;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Pass/fail counts of a group.
+     *
+     * @param passed number of passed rows
+     * @param total  number of rows
+     */
+    public record PassRate(long passed, long total) {
+
+        /** @return the share of rows that passed, or NaN for an empty group */
+        public double passRate() {
+            return total == 0 ? Double.NaN : (double) passed / total;
+        }
+
+        /** @return the share of rows that failed, or NaN for an empty group */
+        public double failureRate() {
+            return total == 0 ? Double.NaN : (double) (total - passed) / total;
+        }
+    }
+
+    /**
+     * Distribution of a group's temperatures in degrees Celsius.
+     *
+     * @param count number of readings
+     * @param min   lowest reading
+     * @param mean  average reading
+     * @param p50   median
+     * @param p90   90th percentile
+     * @param p99   99th percentile
+     * @param max   highest reading
+     */
+    public record TemperatureStats(int count, double min, double mean, double p50, double p90,
+                                   double p99, double max) {
+    }
+
+    private final Path reportsDir;
+
+    /* Writer state, guarded by this */
+    private final Set<String> indexedRuns = new HashSet<>();
+    private final Dictionary tasks = new Dictionary();
+    private final Dictionary drivers = new Dictionary();
+    private final Dictionary skus = new Dictionary();
+    private int[] deviceDay = new int[1024];
+    private int[] deviceDriver = new int[1024];
+    private int[] deviceSku = new int[1024];
+    private double[] deviceTemp = new double[1024];
+    private boolean[] devicePassed = new boolean[1024];
+    private int devices;
+    private int[] resultDay = new int[4096];
+    private int[] resultTask = new int[4096];
+    private boolean[] resultPassed = new boolean[4096];
+    private int results;
+
+    /** View read by queries; replaced, never modified, by each refresh */
+    private volatile Columns columns = Columns.EMPTY;
+
+    /**
+     * Constructs an empty index over a reports directory. Call {@link #refresh()} to index
+     * the runs in it.
+     *
+     * @param reportsDir directory holding the {@code run-*} directories
+     */
+    public RunIndex(Path reportsDir) {
+        this.reportsDir = reportsDir;
+    }
+
+    /** @return the directory holding the runs */
+    public Path getReportsDir() {
+        return reportsDir;
+    }
+
+    /** @return the number of runs indexed */
+    public synchronized int runCount() {
+        return indexedRuns.size();
+    }
+
+    /** @return the number of device reports indexed */
+    public int deviceCount() {
+        return columns.devices;
+    }
+
+    /** @return the number of task results indexed */
+    public int resultCount() {
+        return columns.results;
+    }
+
+    /* ========== indexing ================================================= */
+
+    /**
+     * Indexes every run directory that is not indexed yet. Runs are parsed in parallel and
+     * appended in name (that is, time) order.
+     *
+     * @return the number of runs added
+     * @throws IOException if the reports directory cannot be listed
+     */
+    public synchronized int refresh() throws IOException {
+        if (!Files.isDirectory(reportsDir)) {
+            return 0;
+        }
+        List<Path> pending;
+        try (Stream<Path> dirs = Files.list(reportsDir)) {
+            pending = dirs.filter(p -> p.getFileName().toString().startsWith(RUN_PREFIX))
+                          .filter(Files::isDirectory)
+                          .filter(p -> !indexedRuns.contains(p.getFileName().toString()))
+                          .sorted()
+                          .toList();
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Optional<List<Row>>> parsed = pending.parallelStream().map(RunIndex::parseRun).toList();
+        int added = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            Optional<List<Row>> rows = parsed.get(i);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            rows.get().forEach(this::append);
+            indexedRuns.add(pending.get(i).getFileName().toString());
+            added++;
+        }
+        publish();
+        LOG.debug("Indexed {} new runs from {} ({} devices, {} results)", added, reportsDir, devices, results);
+        return added;
+    }
+
+    /**
+     * One device report, already reduced to the indexed fields.
+     */
+    private record Row(int day, String driver, String sku, double temperature, boolean passed,
+                       String[] taskNames, boolean[] taskPassed) {
+    }
+
+    /**
+     * Parses every report of a run; empty if the run is not complete yet.
+     */
+    private static Optional<List<Row>> parseRun(Path runDir) {
+        try {
+            List<Path> reports;
+            Path single = runDir.resolve("report.json");
+            if (Files.isRegularFile(single)) {
+                reports = List.of(single);
+            } else {
+                try (Stream<Path> subdirs = Files.list(runDir)) {
+                    reports = subdirs.map(d -> d.resolve("report.json")).filter(Files::isRegularFile).sorted().toList();
+                }
+            }
+            if (reports.isEmpty()) {
+                return Optional.empty();
+            }
+            int day = runDay(runDir);
+            List<Row> rows = new ArrayList<>(reports.size());
+            for (Path report : reports) {
+                rows.add(parseReport(MAPPER.readTree(report.toFile()), day));
+            }
+            return Optional.of(rows);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Skipping run {} for now: {}", runDir, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static int runDay(Path runDir) throws IOException {
+        String stamp = runDir.getFileName().toString().substring(RUN_PREFIX.length());
+        try {
+            return (int) LocalDateTime.parse(stamp, RUN_STAMP).toLocalDate().toEpochDay();
+        } catch (DateTimeParseException e) {
+            return (int) LocalDate.ofInstant(Files.getLastModifiedTime(runDir).toInstant(), ZoneId.systemDefault())
+                                  .toEpochDay();
+        }
+    }
+
+    private static Row parseReport(JsonNode root, int day) throws IOException {
+        JsonNode results = root.path("results");
+        if (!results.isArray()) {
+            throw new IOException("report has no results array");
+        }
+        String[] names = new String[results.size()];
+        boolean[] passed = new boolean[results.size()];
+        boolean all = true;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = results.get(i).path("taskName").asText(UNKNOWN);
+            passed[i] = results.get(i).path("passed").asBoolean();
+            all &= passed[i];
+        }
+
+        JsonNode ctx = root.path("context");
+        String sku = ctx.path("deviceName").isTextual() ? ctx.get("deviceName").asText() : UNKNOWN;
+        String driver = ctx.path("driverVersion").isTextual() ? ctx.get("driverVersion").asText() : UNKNOWN;
+        double temperature = ctx.path("gpuTemperature").isNumber() ? ctx.get("gpuTemperature").asDouble() : Double.NaN;
+        return new Row(day, driver, sku, temperature, all, names, passed);
+    }
+
+    private void append(Row row) {
+        if (devices == deviceDay.length) {
+            int capacity = devices * 2;
+            deviceDay = Arrays.copyOf(deviceDay, capacity);
+            deviceDriver = Arrays.copyOf(deviceDriver, capacity);
+            deviceSku = Arrays.copyOf(deviceSku, capacity);
+            deviceTemp = Arrays.copyOf(deviceTemp, capacity);
+            devicePassed = Arrays.copyOf(devicePassed, capacity);
+        }
+        deviceDay[devices] = row.day();
+        deviceDriver[devices] = drivers.id(row.driver());
+        deviceSku[devices] = skus.id(row.sku());
+        deviceTemp[devices] = row.temperature();
+        devicePassed[devices] = row.passed();
+        devices++;
+
+        for (int i = 0; i < row.taskNames().length; i++) {
+            if (results == resultDay.length) {
+                int capacity = results * 2;
+                resultDay = Arrays.copyOf(resultDay, capacity);
+                resultTask = Arrays.copyOf(resultTask, capacity);
+                resultPassed = Arrays.copyOf(resultPassed, capacity);
+            }
+            resultDay[results] = row.day();
+            resultTask[results] = tasks.id(row.taskNames()[i]);
+            resultPassed[results] = row.taskPassed()[i];
+            results++;
+        }
+    }
+
+    /**
+     * Publishes the rows appended so far. Later appends write beyond the published counts
+     * or into new arrays, so the view never changes under a query.
+     */
+    private void publish() {
+        int minDay = Integer.MAX_VALUE, maxDay = Integer.MIN_VALUE;
+        for (int i = 0; i < devices; i++) {
+            minDay = Math.min(minDay, deviceDay[i]);
+            maxDay = Math.max(maxDay, deviceDay[i]);
+        }
+        columns = new Columns(devices, deviceDay, deviceDriver, deviceSku, deviceTemp, devicePassed,
+                              results, resultDay, resultTask, resultPassed,
+                              tasks.names(), drivers.names(), skus.names(), minDay, maxDay);
+    }
+
+    /**
+     * An immutable view of the index for queries.
+     */
+    private record Columns(int devices, int[] deviceDay, int[] deviceDriver, int[] deviceSku,
+                           double[] deviceTemp, boolean[] devicePassed,
+                           int results, int[] resultDay, int[] resultTask, boolean[] resultPassed,
+                           String[] taskNames, String[] driverNames, String[] skuNames,
+                           int minDay, int maxDay) {
+
+        static final Columns EMPTY = new Columns(0, new int[0], new int[0], new int[0], new double[0],
+                                                 new boolean[0], 0, new int[0], new int[0], new boolean[0],
+                                                 new String[0], new String[0], new String[0],
+                                                 Integer.MAX_VALUE, Integer.MIN_VALUE);
+
+        /** @return the first queried day: the later of {@code from} and the oldest run */
+        int first(LocalDate from) {
+            return from == null ? minDay : (int) Math.max(minDay, from.toEpochDay());
+        }
+
+        /** @return the last queried day: the earlier of {@code to} and the newest run */
+        int last(LocalDate to) {
+            return to == null ? maxDay : (int) Math.min(maxDay, to.toEpochDay());
+        }
+    }
+
+    /* ========== queries ================================================== */
+
+    /**
+     * Counts task results per day and task.
+     *
+     * @param from first day, inclusive; {@code null} for no lower bound
+     * @param to   last day, inclusive; {@code null} for no upper bound
+     * @return day, then task name, to pass counts; days and tasks without results are absent
+     */
+    public SortedMap<LocalDate, Map<String, PassRate>> taskRatesByDay(LocalDate from, LocalDate to) {
+        Columns c = columns;
+        int first = c.first(from), last = c.last(to);
+        SortedMap<LocalDate, Map<String, PassRate>> out = new TreeMap<>();
+        if (first > last) {
+            return out;
+        }
+        int taskCount = c.taskNames().length;
+        int cells = (last - first + 1) * taskCount;
+        int[] day = c.resultDay(), task = c.resultTask();
+        boolean[] passed = c.resultPassed();
+
+        // Per cell: [total, passed]
+        long[] counts = IntStream.range(0, c.results()).parallel().collect(
+            () -> new long[cells * 2],
+            (acc, i) -> {
+                int d = day[i];
+                if (d >= first && d <= last) {
+                    int cell = ((d - first) * taskCount + task[i]) * 2;
+                    acc[cell]++;
+                    if (passed[i]) acc[cell + 1]++;
+                }
+            },
+            RunIndex::addInto);
+
+        for (int d = 0; d <= last - first; d++) {
+            Map<String, PassRate> byTask = new LinkedHashMap<>();
+            for (int t = 0; t < taskCount; t++) {
+                int cell = (d * taskCount + t) * 2;
+                if (counts[cell] > 0) {
+                    byTask.put(c.taskNames()[t], new PassRate(counts[cell + 1], counts[cell]));
+                }
+            }
+            if (!byTask.isEmpty()) {
+                out.put(LocalDate.ofEpochDay(first + d), byTask);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Counts devices that passed every task, per driver version.
+     *
+     * @param from first day, inclusive; {@code null} for no lower bound
+     * @param to   last day, inclusive; {@code null} for no upper bound
+     * @return driver version to device pass counts, by driver version
+     */
+    public SortedMap<String, PassRate> passRateByDriver(LocalDate from, LocalDate to) {
+        Columns c = columns;
+        int first = c.first(from), last = c.last(to);
+        int driverCount = c.driverNames().length;
+        int[] day = c.deviceDay(), driver = c.deviceDriver();
+        boolean[] passed = c.devicePassed();
+
+        long[] counts = IntStream.range(0, c.devices()).parallel().collect(
+            () -> new long[driverCount * 2],
+            (acc, i) -> {
+                int d = day[i];
+                if (d >= first && d <= last) {
+                    acc[driver[i] * 2]++;
+                    if (passed[i]) acc[driver[i] * 2 + 1]++;
+                }
+            },
+            RunIndex::addInto);
+
+        SortedMap<String, PassRate> out = new TreeMap<>();
+        for (int v = 0; v < driverCount; v++) {
+            if (counts[v * 2] > 0) {
+                out.put(c.driverNames()[v], new PassRate(counts[v * 2 + 1], counts[v * 2]));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Computes the distribution of device temperatures per SKU. Reports without a
+     * temperature reading are left out.
+     *
+     * @param from first day, inclusive; {@code null} for no lower bound
+     * @param to   last day, inclusive; {@code null} for no upper bound
+     * @return SKU to temperature distribution, by SKU
+     */
+    public SortedMap<String, TemperatureStats> temperatureBySku(LocalDate from, LocalDate to) {
+        Columns c = columns;
+        int first = c.first(from), last = c.last(to);
+        int skuCount = c.skuNames().length;
+        int[] day = c.deviceDay(), sku = c.deviceSku();
+        double[] temp = c.deviceTemp();
+
+        long[] counts = IntStream.range(0, c.devices()).parallel().collect(
+            () -> new long[skuCount],
+            (acc, i) -> {
+                if (day[i] >= first && day[i] <= last && !Double.isNaN(temp[i])) acc[sku[i]]++;
+            },
+            RunIndex::addInto);
+
+        double[][] values = new double[skuCount][];
+        int[] fill = new int[skuCount];
+        for (int s = 0; s < skuCount; s++) {
+            values[s] = new double[(int) counts[s]];
+        }
+        for (int i = 0, n = c.devices(); i < n; i++) {
+            if (day[i] >= first && day[i] <= last && !Double.isNaN(temp[i])) {
+                values[sku[i]][fill[sku[i]]++] = temp[i];
+            }
+        }
+
+        TemperatureStats[] stats = new TemperatureStats[skuCount];
+        IntStream.range(0, skuCount).parallel().filter(s -> counts[s] > 0)
+                 .forEach(s -> stats[s] = distribution(values[s]));
+
+        SortedMap<String, TemperatureStats> out = new TreeMap<>();
+        for (int s = 0; s < skuCount; s++) {
+            if (stats[s] != null) {
+                out.put(c.skuNames()[s], stats[s]);
+            }
+        }
+        return out;
+    }
+
+    private static TemperatureStats distribution(double[] v) {
+        Arrays.sort(v);
+        double sum = 0;
+        for (double x : v) sum += x;
+        return new TemperatureStats(v.length, v[0], sum / v.length, rank(v, 50), rank(v, 90), rank(v, 99),
+                                    v[v.length - 1]);
+    }
+
+    /** Nearest-rank percentile, as in {@link DoubleRingBuffer#percentile(double)} */
+    private static double rank(double[] sorted, double p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static void addInto(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+    }
+
+    /**
+     * Renders the three trend queries for a day range as a console report.
+     *
+     * @param from first day, inclusive; {@code null} for no lower bound
+     * @param to   last day, inclusive; {@code null} for no upper bound
+     * @return formatted multi-line summary
+     */
+    public String summary(LocalDate from, LocalDate to) {
+        StringBuilder sb = new StringBuilder("\n=== Trend Summary ===\n");
+        sb.append(String.format("Runs: %d  Devices: %d  Results: %d%n", runCount(), deviceCount(), resultCount()));
+
+        sb.append("\nTask failure rate per day\n");
+        taskRatesByDay(from, to).forEach((day, byTask) -> byTask.forEach((task, r) ->
+            sb.append(String.format("• %s %-28s : %6.2f%% failed (%d/%d)%n",
+                day, task, 100 * r.failureRate(), r.total() - r.passed(), r.total()))));
+
+        sb.append("\nDevice pass rate per driver\n");
+        passRateByDriver(from, to).forEach((driver, r) ->
+            sb.append(String.format("• %-25s : %6.2f%% passed (%d/%d)%n",
+                driver, 100 * r.passRate(), r.passed(), r.total())));
+
+        sb.append("\nTemperature per SKU (°C)\n");
+        temperatureBySku(from, to).forEach((sku, t) ->
+            sb.append(String.format("• %-25s : n=%d min %.1f p50 %.1f p90 %.1f p99 %.1f max %.1f%n",
+                sku, t.count(), t.min(), t.p50(), t.p90(), t.p99(), t.max())));
+        return sb.toString();
+    }
+
+    /* ========== persistence ============================================== */
+
+    /**
+     * Writes the index, replacing the file in one step.
+     * <pre>
+     * magic "GPURIDX1" long | version int | deflated body:
+     *   task, driver and SKU dictionaries and indexed run names (count int, UTF strings) |
+     *   device count int | day, driver, SKU int columns | temperature double column |
+     *   passed byte column | result count int | day, task int columns | passed byte column
+     * </pre>
+     *
+     * @param file the index file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream raw = Files.newOutputStream(tmp)) {
+            DataOutputStream header = new DataOutputStream(raw);
+            header.writeLong(MAGIC);
+            header.writeInt(VERSION);
+            header.flush();
+            try (DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(new DeflaterOutputStream(raw), 1 << 16))) {
+                writeStrings(out, Arrays.asList(tasks.names()));
+                writeStrings(out, Arrays.asList(drivers.names()));
+                writeStrings(out, Arrays.asList(skus.names()));
+                writeStrings(out, indexedRuns.stream().sorted().toList());
+
+                out.writeInt(devices);
+                for (int i = 0; i < devices; i++) out.writeInt(deviceDay[i]);
+                for (int i = 0; i < devices; i++) out.writeInt(deviceDriver[i]);
+                for (int i = 0; i < devices; i++) out.writeInt(deviceSku[i]);
+                for (int i = 0; i < devices; i++) out.writeDouble(deviceTemp[i]);
+                for (int i = 0; i < devices; i++) out.writeBoolean(devicePassed[i]);
+
+                out.writeInt(results);
+                for (int i = 0; i < results; i++) out.writeInt(resultDay[i]);
+                for (int i = 0; i < results; i++) out.writeInt(resultTask[i]);
+                for (int i = 0; i < results; i++) out.writeBoolean(resultPassed[i]);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a saved index, or starts an empty one if the file does not exist. Call
+     * {@link #refresh()} afterwards to add the runs that landed since it was saved.
+     *
+     * @param file       the index file
+     * @param reportsDir directory holding the {@code run-*} directories
+     * @return the index
+     * @throws IOException if the file exists but cannot be read or is not a run index
+     */
+    public static RunIndex load(Path file, Path reportsDir) throws IOException {
+        RunIndex index = new RunIndex(reportsDir);
+        if (!Files.exists(file)) {
+            return index;
+        }
+        try (InputStream raw = Files.newInputStream(file)) {
+            DataInputStream header = new DataInputStream(raw);
+            if (header.readLong() != MAGIC || header.readInt() != VERSION) {
+                throw new IOException("Not a version " + VERSION + " run index: " + file);
+            }
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(raw), 1 << 16));
+            synchronized (index) {
+                readStrings(in).forEach(index.tasks::id);
+                readStrings(in).forEach(index.drivers::id);
+                readStrings(in).forEach(index.skus::id);
+                index.indexedRuns.addAll(readStrings(in));
+
+                int n = in.readInt();
+                index.deviceDay = readInts(in, n);
+                index.deviceDriver = readInts(in, n);
+                index.deviceSku = readInts(in, n);
+                index.deviceTemp = new double[Math.max(n, 1)];
+                for (int i = 0; i < n; i++) index.deviceTemp[i] = in.readDouble();
+                index.devicePassed = new boolean[Math.max(n, 1)];
+                for (int i = 0; i < n; i++) index.devicePassed[i] = in.readBoolean();
+                index.devices = n;
+
+                int m = in.readInt();
+                index.resultDay = readInts(in, m);
+                index.resultTask = readInts(in, m);
+                index.resultPassed = new boolean[Math.max(m, 1)];
+                for (int i = 0; i < m; i++) index.resultPassed[i] = in.readBoolean();
+                index.results = m;
+                index.publish();
+            }
+        }
+        return index;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) out.writeUTF(s);
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        List<String> strings = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) strings.add(in.readUTF());
+        return strings;
+    }
+
+    /** Reads a column into an array with room to append */
+    private static int[] readInts(DataInputStream in, int n) throws IOException {
+        int[] values = new int[Math.max(n, 1)];
+        for (int i = 0; i < n; i++) values[i] = in.readInt();
+        return values;
+    }
+
+    /**
+     * Assigns consecutive ids to distinct strings.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int id(String name) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                ids.put(name, id);
+                names.add(name);
+            }
+            return id;
+        }
+
+        String[] names() {
+            return names.toArray(String[]::new);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.amd.validation;
+
+/**
+ * Portable {@link BatchThresholdEvaluator}: one pass per check over the columns, with the
+ * comparisons written exactly as in the task classes.
+ */
+final class ScalarThresholdEvaluator implements BatchThresholdEvaluator {
+
+    static final ScalarThresholdEvaluator INSTANCE = new ScalarThresholdEvaluator();
+
+    private ScalarThresholdEvaluator() {
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public PassBitmaps evaluate(FleetTelemetryColumns c) {
+        PassBitmaps result = new PassBitmaps(c.size());
+        fan(c, 0, result.bits(BatchCheck.FAN));
+        power(c, 0, result.bits(BatchCheck.POWER));
+        memory(c, 0, result.bits(BatchCheck.MEMORY));
+        health(c, 0, result.bits(BatchCheck.HEALTH));
+        return result;
+    }
+
+    /* The loops start at 'from' so the vector evaluator can reuse them for its tail. */
+
+    static void fan(FleetTelemetryColumns c, int from, long[] bits) {
+        int[] rpm = c.fanRpm, min = c.fanMinRpm, max = c.fanMaxRpm;
+        for (int i = from, n = c.size(); i < n; i++) {
+            if (rpm[i] >= min[i] && rpm[i] <= max[i]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    static void power(FleetTelemetryColumns c, int from, long[] bits) {
+        double[] watts = c.powerWatts, max = c.powerMaxWatts;
+        for (int i = from, n = c.size(); i < n; i++) {
+            if (watts[i] <= max[i]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    static void memory(FleetTelemetryColumns c, int from, long[] bits) {
+        double[] used = c.memoryUsedGB, total = c.totalMemoryGB, max = c.memoryMaxPercent;
+        for (int i = from, n = c.size(); i < n; i++) {
+            if (total[i] > 0 && (used[i] / total[i]) * 100 < max[i]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    static void health(FleetTelemetryColumns c, int from, long[] bits) {
+        double[] temp = c.temperatureC, used = c.memoryUsedGB;
+        double[] maxTemp = c.healthMaxTempC, maxMem = c.healthMaxMemoryGB;
+        for (int i = from, n = c.size(); i < n; i++) {
+            if (temp[i] <= maxTemp[i] && used[i] <= maxMem[i]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+}
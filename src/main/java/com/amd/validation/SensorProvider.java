@@ -0,0 +1,42 @@
+package com.amd.validation;
+
+/**
+ * Service provider interface for GPU metadata and sensor readings.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader} (see
+ * {@link SensorProviders}) and selected by {@link #name()}. The framework ships three:
+ * </p>
+ * <ul>
+ *   <li>{@code mock}   – fixed sample values ({@link MockSensorProvider})</li>
+ *   <li>{@code sysfs}  – Linux hwmon/DRM sysfs reader ({@link SysfsSensorProvider})</li>
+ *   <li>{@code replay} – recorded samples from a CSV file ({@link ReplaySensorProvider})</li>
+ * </ul>
+ * <p>
+ * {@link #populate(TestContext)} is called once per sample during telemetry sampling, so
+ * implementations should make repeated reads cheap. I/O failures are reported as
+ * {@link java.io.UncheckedIOException} so a provider can be used directly as a
+ * {@code Consumer<TestContext>} sensor reader.
+ * </p>
+ */
+public interface SensorProvider extends AutoCloseable {
+
+    /**
+     * @return the short name used to select this provider (e.g. "sysfs")
+     */
+    String name();
+
+    /**
+     * Refreshes the given context with the latest metadata and sensor values.
+     *
+     * @param ctx the context to populate
+     * @throws java.io.UncheckedIOException if the underlying source cannot be read
+     */
+    void populate(TestContext ctx);
+
+    /**
+     * Releases any resources (open files, handles) held by the provider.
+     */
+    @Override
+    default void close() {
+    }
+}
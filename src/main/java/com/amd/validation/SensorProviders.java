@@ -0,0 +1,44 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Looks up {@link SensorProvider} implementations registered with {@link ServiceLoader}.
+ */
+public final class SensorProviders {
+
+    /** Name of the provider used when none is requested */
+    public static final String DEFAULT_PROVIDER = "mock";
+
+    private SensorProviders() { /* utility class */ }
+
+    /**
+     * Loads the provider with the given name.
+     *
+     * @param name provider name, e.g. "mock", "sysfs" or "replay"
+     * @return a new provider instance
+     * @throws IllegalArgumentException if no registered provider has that name
+     */
+    public static SensorProvider load(String name) {
+        for (SensorProvider p : ServiceLoader.load(SensorProvider.class)) {
+            if (p.name().equalsIgnoreCase(name)) {
+                return p;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Unknown sensor provider '" + name + "'; available: " + available());
+    }
+
+    /**
+     * @return the names of all registered providers
+     */
+    public static List<String> available() {
+        List<String> names = new ArrayList<>();
+        for (SensorProvider p : ServiceLoader.load(SensorProvider.class)) {
+            names.add(p.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,240 @@
+package com.amd.validation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * SoakEngine runs burn-in tests: it samples each device for hours and judges its
+ * stability over sliding windows with a {@link SoakMonitor}.
+ * <p>
+ * Each device is sampled on its own virtual thread at a fixed rate, like
+ * {@link TelemetrySampler}, but the samples only pass through the monitor's rules, so memory
+ * use depends on the window, not on the length of the run. At every checkpoint (by default
+ * once per window) the monitor's interim report is handed to the checkpoint listener and,
+ * if a checkpoint directory is set, written to {@code <dir>/<device>.soak.json} through a
+ * temporary file and an atomic rename, so a crash loses at most the samples since the last
+ * checkpoint and never leaves a half-written file. A checkpoint that cannot be written
+ * (full disk, removed directory) is logged and counted in {@link #getFailedCheckpoints()};
+ * sampling carries on, and the next checkpoint tries again.
+ * </p>
+ */
+public class SoakEngine {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(SoakEngine.class);
+
+    /** Default sliding window length */
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(60);
+
+    /** Refreshes a context's sensor fields before each sample */
+    private final Consumer<TestContext> reader;
+
+    /** Sampling rate in samples per second */
+    private final double rateHz;
+
+    /** Samples per sliding window */
+    private final int windowSamples;
+
+    /** Samples between checkpoints */
+    private long checkpointSamples;
+
+    /** Directory checkpoints are written to; {@code null} keeps them in memory only */
+    private Path checkpointDir;
+
+    /** Receives every interim report, if set */
+    private Consumer<TestReport> listener;
+
+    /** Checkpoint files that could not be written, across all devices */
+    private final AtomicLong failedCheckpoints = new AtomicLong();
+
+    /**
+     * Constructs a soak engine that checkpoints once per window.
+     *
+     * @param reader refreshes a context's sensor fields (e.g. {@code sensors::populate})
+     * @param rateHz sampling rate in samples per second (must be positive)
+     * @param window length of the sliding window; must span at least two samples
+     */
+    public SoakEngine(Consumer<TestContext> reader, double rateHz, Duration window) {
+        if (rateHz <= 0) {
+            throw new IllegalArgumentException("rateHz must be positive: " + rateHz);
+        }
+        this.reader = reader;
+        this.rateHz = rateHz;
+        this.windowSamples = samplesIn(window);
+        if (windowSamples < 2) {
+            throw new IllegalArgumentException("Window " + window + " holds fewer than 2 samples at " + rateHz + " Hz");
+        }
+        this.checkpointSamples = windowSamples;
+    }
+
+    /** @return the number of samples per sliding window */
+    public int getWindowSamples() {
+        return windowSamples;
+    }
+
+    /**
+     * Writes each device's interim report to {@code <dir>/<device>.soak.json} at every checkpoint.
+     *
+     * @param dir the checkpoint directory, created if missing
+     * @return this engine, for chaining
+     */
+    public SoakEngine withCheckpoints(Path dir) {
+        this.checkpointDir = dir;
+        return this;
+    }
+
+    /**
+     * Sets how often interim reports are taken.
+     *
+     * @param interval time between checkpoints (at least one sample)
+     * @return this engine, for chaining
+     */
+    public SoakEngine withCheckpointInterval(Duration interval) {
+        this.checkpointSamples = Math.max(1, samplesIn(interval));
+        return this;
+    }
+
+    /**
+     * Hands every interim report to a listener, on the device's sampling thread.
+     *
+     * @param listener receives each checkpoint report
+     * @return this engine, for chaining
+     */
+    public SoakEngine withCheckpointListener(Consumer<TestReport> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /** @return the number of checkpoint files that could not be written so far */
+    public long getFailedCheckpoints() {
+        return failedCheckpoints.get();
+    }
+
+    private int samplesIn(Duration d) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(rateHz * d.toNanos() / 1e9));
+    }
+
+    /**
+     * Soaks one device on the calling thread.
+     *
+     * @param ctx      the device; its threshold profile supplies the rule limits
+     * @param duration how long to sample
+     * @return the final report, one result per {@link SoakRule}
+     */
+    public TestReport soak(TestContext ctx, Duration duration) {
+        SoakMonitor monitor = new SoakMonitor(rateHz, windowSamples, ctx.getThresholds());
+        long periodNanos = (long) (1_000_000_000L / rateHz);
+        long samples = Math.max(1, (long) Math.ceil(rateHz * duration.toNanos() / 1e9));
+        long next = System.nanoTime();
+
+        for (long i = 0; i < samples && !Thread.currentThread().isInterrupted(); i++) {
+            reader.accept(ctx);
+            monitor.record(ctx);
+            if ((i + 1) % checkpointSamples == 0 && i + 1 < samples) {
+                checkpoint(monitor.report(ctx));
+            }
+
+            next += periodNanos;
+            long wait;
+            while (i + 1 < samples && (wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.currentThread().isInterrupted()) break;
+            }
+        }
+        TestReport report = monitor.report(ctx);
+        checkpoint(report);
+        LOG.debug("Soaked {} for {} samples: {} of {} rules passed",
+                  ctx.getDeviceId(), monitor.getSampleCount(), report.passed(), report.total());
+        return report;
+    }
+
+    /**
+     * Soaks several devices at the same time, one virtual thread per device. A device whose
+     * run aborts gets a single failed result; the others are unaffected.
+     *
+     * @param contexts the devices
+     * @param duration how long to sample each
+     * @return the final reports in the order of the contexts
+     */
+    public FleetReport soakAll(Collection<TestContext> contexts, Duration duration) {
+        long start = System.nanoTime();
+        List<Future<TestReport>> futures = new ArrayList<>(contexts.size());
+        List<TestReport> reports = new ArrayList<>(contexts.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TestContext ctx : contexts) {
+                futures.add(executor.submit(() -> soak(ctx, duration)));
+            }
+            int i = 0;
+            for (TestContext ctx : contexts) {
+                reports.add(await(futures.get(i++), ctx));
+            }
+        }
+        return new FleetReport(reports, System.nanoTime() - start);
+    }
+
+    private static TestReport await(Future<TestReport> future, TestContext ctx) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abortedReport(ctx, e);
+        } catch (ExecutionException e) {
+            return abortedReport(ctx, e.getCause());
+        }
+    }
+
+    private static TestReport abortedReport(TestContext ctx, Throwable cause) {
+        LOG.warn("Soak aborted for {}: {}", ctx.getDeviceId(), cause.toString());
+        TestReport report = new TestReport();
+        report.add(new ValidationResult("SoakEngine", false, "Soak aborted: " + cause));
+        report.setContext(ctx);
+        return report;
+    }
+
+    private void checkpoint(TestReport report) {
+        if (listener != null) {
+            listener.accept(report);
+        }
+        if (checkpointDir == null) {
+            return;
+        }
+        Path file = checkpointFile(checkpointDir, report.getContext().getDeviceId());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(checkpointDir);
+            JsonReportExporter.export(report, tmp);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Losing one checkpoint only widens what a crash would lose; the soak itself goes on
+            failedCheckpoints.incrementAndGet();
+            LOG.warn("Failed to write soak checkpoint {}: {}", file, e.toString());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // Already reported above
+            }
+        }
+    }
+
+    /**
+     * @param dir      the checkpoint directory
+     * @param deviceId a device ID
+     * @return the file the device's checkpoints are written to
+     */
+    public static Path checkpointFile(Path dir, String deviceId) {
+        return dir.resolve(deviceId.replaceAll("[^A-Za-z0-9._-]", "_") + ".soak.json");
+    }
+}
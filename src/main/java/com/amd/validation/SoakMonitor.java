@@ -0,0 +1,248 @@
+package com.amd.validation;
+
+import java.util.Arrays;
+
+/**
+ * SoakMonitor evaluates the {@link SoakRule}s of one device over a sliding window of
+ * samples, in constant time and without allocating per sample.
+ * <p>
+ * The temperature and memory slopes are least-squares fits kept as running sums
+ * (Σy and Σxy, with x counted from the oldest sample): adding a sample adds its term,
+ * evicting the oldest subtracts it and shifts every x down by one, which lowers Σxy by Σy.
+ * Fan reversals and power spikes are flags in a ring with a running count. Once the window
+ * is full, every sample ends a window that each rule judges; the monitor keeps each rule's
+ * worst window and how many windows broke its limit, so memory stays flat however long the
+ * run lasts.
+ * </p>
+ * <p>
+ * A monitor has a single writer, the device's sampling thread. {@link #report(TestContext)}
+ * is called from the same thread, e.g. at each checkpoint.
+ * </p>
+ */
+public final class SoakMonitor {
+
+    /** Smallest fan speed change that counts as a direction, so sensor jitter is no reversal */
+    public static final int FAN_STEP_RPM = 50;
+
+    private static final SoakRule[] RULES = SoakRule.values();
+
+    private final double rateHz;
+    private final int window;
+    private final ThresholdProfile limits;
+
+    private final SlidingSlope temperature;
+    private final SlidingSlope memory;
+    private final SlidingCount fanReversals;
+    private final SlidingCount powerSpikes;
+    private final double maxWatts;
+
+    private int lastFanRpm;
+    private int fanDirection;
+
+    private final double[] worst = new double[RULES.length];
+    private final long[] violations = new long[RULES.length];
+    private final long[] firstViolation = new long[RULES.length];
+    private long samples;
+
+    /**
+     * Constructs a monitor.
+     *
+     * @param rateHz sampling rate, used to convert slopes per sample into per minute/hour
+     * @param window samples per window (at least 2)
+     * @param limits the device's limits
+     */
+    public SoakMonitor(double rateHz, int window, ThresholdProfile limits) {
+        if (rateHz <= 0) {
+            throw new IllegalArgumentException("rateHz must be positive: " + rateHz);
+        }
+        if (window < 2) {
+            throw new IllegalArgumentException("window must hold at least 2 samples: " + window);
+        }
+        this.rateHz = rateHz;
+        this.window = window;
+        this.limits = limits;
+        this.temperature = new SlidingSlope(window);
+        this.memory = new SlidingSlope(window);
+        this.fanReversals = new SlidingCount(window);
+        this.powerSpikes = new SlidingCount(window);
+        this.maxWatts = limits.get(Threshold.POWER_MAX_WATTS);
+        Arrays.fill(worst, Double.NEGATIVE_INFINITY);
+        Arrays.fill(firstViolation, -1);
+    }
+
+    /** @return the number of samples per window */
+    public int getWindow() {
+        return window;
+    }
+
+    /** @return the number of samples recorded */
+    public long getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * Records the current sensor values of a context as one sample.
+     *
+     * @param ctx the context holding the latest readings
+     */
+    public void record(TestContext ctx) {
+        record(ctx.getGpuTemperature(), ctx.getFanSpeedRPM(), ctx.getPowerWatts(), ctx.getMemoryUsedGB());
+    }
+
+    /**
+     * Records one sample and judges the window it completes.
+     *
+     * @param temperatureC GPU temperature in Celsius
+     * @param fanRpm       fan speed in RPM
+     * @param watts        power draw in watts
+     * @param memUsedGB    used memory in GB
+     */
+    public void record(double temperatureC, int fanRpm, int watts, double memUsedGB) {
+        temperature.add(temperatureC);
+        memory.add(memUsedGB);
+        powerSpikes.add(watts > maxWatts);
+
+        boolean reversal = false;
+        if (samples > 0) {
+            int delta = fanRpm - lastFanRpm;
+            if (Math.abs(delta) >= FAN_STEP_RPM) {
+                int direction = Integer.signum(delta);
+                reversal = fanDirection != 0 && direction != fanDirection;
+                fanDirection = direction;
+            }
+        }
+        lastFanRpm = fanRpm;
+        fanReversals.add(reversal);
+
+        samples++;
+        if (samples >= window) {
+            judge(SoakRule.THERMAL_SLOPE, temperature.slope() * rateHz * 60);
+            judge(SoakRule.FAN_OSCILLATION, fanReversals.count());
+            judge(SoakRule.POWER_SPIKES, 100.0 * powerSpikes.count() / window);
+            judge(SoakRule.MEMORY_CREEP, memory.slope() * rateHz * 3600);
+        }
+    }
+
+    private void judge(SoakRule rule, double value) {
+        int i = rule.ordinal();
+        if (value > worst[i]) {
+            worst[i] = value;
+        }
+        if (value > limits.get(rule.threshold())) {
+            if (violations[i]++ == 0) {
+                firstViolation[i] = samples;
+            }
+        }
+    }
+
+    /**
+     * Reports each rule's verdict over the windows judged so far: a rule fails if any
+     * window broke its limit, or if no window has filled yet. The value is the rule's worst
+     * window.
+     *
+     * @param ctx the device, attached to the report
+     * @return a report with one result per {@link SoakRule}
+     */
+    public TestReport report(TestContext ctx) {
+        TestReport report = new TestReport();
+        for (SoakRule rule : RULES) {
+            report.add(result(rule));
+        }
+        report.setContext(ctx);
+        return report;
+    }
+
+    private ValidationResult result(SoakRule rule) {
+        int i = rule.ordinal();
+        double limit = limits.get(rule.threshold());
+        if (samples < window) {
+            long have = samples;
+            return new ValidationResult(rule.taskName(), false,
+                () -> String.format("Not evaluated: %d of %d samples, soak shorter than one window", have, window),
+                Double.NaN, limit);
+        }
+        double value = worst[i];
+        long windows = samples - window + 1;
+        long failed = violations[i];
+        double firstSeconds = firstViolation[i] / rateHz;
+        return new ValidationResult(rule.taskName(), failed == 0,
+            () -> failed == 0
+                ? String.format("%s at most %.2f %s over %d windows (limit %.2f)",
+                                rule.label(), value, rule.unit(), windows, limit)
+                : String.format("%s reached %.2f %s (limit %.2f) in %d of %d windows, first at %.1f s",
+                                rule.label(), value, rule.unit(), limit, failed, windows, firstSeconds),
+            value, limit);
+    }
+
+    /**
+     * Least-squares slope over a sliding window, in units per sample.
+     */
+    static final class SlidingSlope {
+        private final double[] values;
+        private int head;
+        private int size;
+        private double sumY;
+        private double sumXY;
+
+        SlidingSlope(int capacity) {
+            this.values = new double[capacity];
+        }
+
+        void add(double y) {
+            if (size == values.length) {
+                sumY -= values[head];
+                // Every remaining sample moves one step closer to the start of the window
+                sumXY -= sumY;
+                size--;
+            }
+            values[head] = y;
+            sumXY += size * y;
+            sumY += y;
+            size++;
+            head = (head + 1) % values.length;
+            if (head == 0) {
+                // Re-sum once per lap so rounding error from evictions cannot build up over long runs
+                double y0 = 0, xy = 0;
+                for (int x = 0; x < size; x++) {
+                    double v = values[(head - size + x + values.length) % values.length];
+                    y0 += v;
+                    xy += x * v;
+                }
+                sumY = y0;
+                sumXY = xy;
+            }
+        }
+
+        double slope() {
+            if (size < 2) return Double.NaN;
+            double n = size;
+            double sumX = n * (n - 1) / 2;
+            double sumXX = (n - 1) * n * (2 * n - 1) / 6;
+            return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+        }
+    }
+
+    /**
+     * Number of set flags among the most recent samples.
+     */
+    static final class SlidingCount {
+        private final boolean[] flags;
+        private int head;
+        private int count;
+
+        SlidingCount(int capacity) {
+            this.flags = new boolean[capacity];
+        }
+
+        void add(boolean flag) {
+            if (flags[head]) count--;
+            flags[head] = flag;
+            if (flag) count++;
+            head = (head + 1) % flags.length;
+        }
+
+        int count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.amd.validation;
+
+/**
+ * The stability rules a {@link SoakMonitor} evaluates over each sliding window of a
+ * soak run. Each rule reports as its own task and reads its limit from the device's
+ * {@link ThresholdProfile}.
+ */
+public enum SoakRule {
+
+    /** Least-squares temperature slope, in °C per minute; only rising temperatures count */
+    THERMAL_SLOPE("SoakThermalSlope", Threshold.SOAK_MAX_TEMP_SLOPE, "°C/min", "Temperature slope"),
+
+    /** Fan speed direction reversals of at least {@link SoakMonitor#FAN_STEP_RPM} within the window */
+    FAN_OSCILLATION("SoakFanOscillation", Threshold.SOAK_MAX_FAN_REVERSALS, "reversals", "Fan reversals"),
+
+    /** Share of the window's samples drawing more than {@code power.maxWatts}, in percent */
+    POWER_SPIKES("SoakPowerSpikes", Threshold.SOAK_MAX_POWER_SPIKE_PERCENT, "%", "Samples above the power limit"),
+
+    /** Least-squares slope of used memory, in GB per hour */
+    MEMORY_CREEP("SoakMemoryCreep", Threshold.SOAK_MAX_MEMORY_CREEP, "GB/h", "Memory growth");
+
+    private final String taskName;
+    private final Threshold threshold;
+    private final String unit;
+    private final String label;
+
+    SoakRule(String taskName, Threshold threshold, String unit, String label) {
+        this.taskName = taskName;
+        this.threshold = threshold;
+        this.unit = unit;
+        this.label = label;
+    }
+
+    /** @return the task name the rule's results are reported under */
+    public String taskName() {
+        return taskName;
+    }
+
+    /** @return the limit the rule's worst window is compared with */
+    public Threshold threshold() {
+        return threshold;
+    }
+
+    /** @return the unit of the rule's measurements */
+    public String unit() {
+        return unit;
+    }
+
+    /** @return a short description of what the rule measures */
+    String label() {
+        return label;
+    }
+}
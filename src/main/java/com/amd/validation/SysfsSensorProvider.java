@@ -0,0 +1,252 @@
+package com.amd.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SysfsSensorProvider reads GPU telemetry from a Linux DRM/hwmon sysfs tree.
+ * <p>
+ * Layout read (relative to the configurable sysfs root, {@code /sys} by default):
+ * </p>
+ * <pre>
+ * class/drm/&lt;card&gt;/device/uevent                  PCI_SLOT_NAME=0000:03:00.0
+ * class/drm/&lt;card&gt;/device/product_name            device name (optional)
+ * class/drm/&lt;card&gt;/device/mem_info_vram_total     bytes
+ * class/drm/&lt;card&gt;/device/mem_info_vram_used      bytes
+ * class/drm/&lt;card&gt;/device/hwmon/hwmon*&#47;temp1_input    millidegrees Celsius
+ * class/drm/&lt;card&gt;/device/hwmon/hwmon*&#47;fan1_input     RPM
+ * class/drm/&lt;card&gt;/device/hwmon/hwmon*&#47;power1_average microwatts (power1_input as fallback)
+ * module/amdgpu/version                              driver version (optional)
+ * </pre>
+ * <p>
+ * Sensor files are opened once per card and kept open; each sample re-reads them with a
+ * positional read at offset 0 into a reused buffer and parses the number in place, so
+ * steady-state sampling neither reopens files nor allocates. Static properties are read
+ * once when a card is first opened. Missing files leave the corresponding field unchanged.
+ * </p>
+ * <p>
+ * Devices are mapped to cards with {@link #bind(String, String)}; unbound devices read
+ * {@code card0}. The root can be set with the {@code gpu.sysfs.root} system property,
+ * which allows testing against a fake directory tree on machines without a GPU.
+ * </p>
+ */
+public class SysfsSensorProvider implements SensorProvider {
+
+    /** System property overriding the sysfs root directory */
+    public static final String ROOT_PROPERTY = "gpu.sysfs.root";
+
+    /** Card read for devices that were not bound explicitly */
+    public static final String DEFAULT_CARD = "card0";
+
+    private final Path root;
+
+    /** Device ID to DRM card name (e.g. "card1") */
+    private final Map<String, String> bindings = new ConcurrentHashMap<>();
+
+    /** Open channels per DRM card name */
+    private final Map<String, Card> cards = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a provider rooted at {@code gpu.sysfs.root}, or {@code /sys} if unset.
+     */
+    public SysfsSensorProvider() {
+        this(Paths.get(System.getProperty(ROOT_PROPERTY, "/sys")));
+    }
+
+    /**
+     * Constructs a provider rooted at an explicit directory.
+     *
+     * @param root the sysfs root (a real {@code /sys} or a fixture tree)
+     */
+    public SysfsSensorProvider(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public String name() {
+        return "sysfs";
+    }
+
+    /** @return the sysfs root this provider reads from */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Maps a device to a DRM card.
+     *
+     * @param deviceId the device identifier used in {@link TestContext}
+     * @param card     the DRM card name under {@code class/drm} (e.g. "card1")
+     * @return this provider, for chaining
+     */
+    public SysfsSensorProvider bind(String deviceId, String card) {
+        bindings.put(deviceId, card);
+        return this;
+    }
+
+    @Override
+    public void populate(TestContext ctx) {
+        String cardName = bindings.getOrDefault(ctx.getDeviceId(), DEFAULT_CARD);
+        Card card = cards.computeIfAbsent(cardName, this::open);
+        card.read(ctx);
+    }
+
+    @Override
+    public void close() {
+        for (Card card : cards.values()) {
+            card.close();
+        }
+        cards.clear();
+    }
+
+    private Card open(String cardName) {
+        Path device = root.resolve("class").resolve("drm").resolve(cardName).resolve("device");
+        if (!Files.isDirectory(device)) {
+            throw new UncheckedIOException(new IOException("No DRM device at " + device));
+        }
+        try {
+            return new Card(device, root.resolve("module").resolve("amdgpu").resolve("version"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open sensors for " + cardName, e);
+        }
+    }
+
+    /* ========== per-card state =========================================== */
+
+    /**
+     * Open sensor channels and cached static properties of one DRM card.
+     */
+    private static final class Card {
+
+        private static final double BYTES_PER_GB = 1024.0 * 1024 * 1024;
+
+        private final String deviceName;
+        private final String pciLocation;
+        private final String driverVersion;
+
+        private final FileChannel temp;
+        private final FileChannel fan;
+        private final FileChannel power;
+        private final FileChannel vramTotal;
+        private final FileChannel vramUsed;
+
+        /** Reused read buffer; sysfs attributes fit in one page */
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(64);
+
+        Card(Path device, Path driverVersionFile) throws IOException {
+            Path hwmon = findHwmon(device.resolve("hwmon"));
+
+            this.deviceName = readString(device.resolve("product_name"));
+            this.pciLocation = parsePciSlot(readString(device.resolve("uevent")));
+            this.driverVersion = readString(driverVersionFile);
+
+            this.temp = openIfExists(hwmon, "temp1_input");
+            this.fan = openIfExists(hwmon, "fan1_input");
+            FileChannel avg = openIfExists(hwmon, "power1_average");
+            this.power = avg != null ? avg : openIfExists(hwmon, "power1_input");
+            this.vramTotal = openIfExists(device, "mem_info_vram_total");
+            this.vramUsed = openIfExists(device, "mem_info_vram_used");
+        }
+
+        synchronized void read(TestContext ctx) {
+            if (deviceName != null) ctx.setDeviceName(deviceName);
+            if (pciLocation != null) ctx.setPciLocation(pciLocation);
+            if (driverVersion != null) ctx.setDriverVersion(driverVersion);
+
+            try {
+                long v;
+                if ((v = readLong(temp)) != Long.MIN_VALUE) ctx.setGpuTemperature(v / 1000.0);
+                if ((v = readLong(fan)) != Long.MIN_VALUE) ctx.setFanSpeedRPM((int) v);
+                if ((v = readLong(power)) != Long.MIN_VALUE) ctx.setPowerWatts((int) Math.round(v / 1_000_000.0));
+                if ((v = readLong(vramTotal)) != Long.MIN_VALUE) ctx.setTotalMemoryGB(v / BYTES_PER_GB);
+                if ((v = readLong(vramUsed)) != Long.MIN_VALUE) ctx.setMemoryUsedGB(v / BYTES_PER_GB);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Sensor read failed for " + ctx.getDeviceId(), e);
+            }
+        }
+
+        /**
+         * Re-reads an open attribute from offset 0 and parses a signed decimal integer.
+         *
+         * @return the value, or {@code Long.MIN_VALUE} if the channel is absent or empty
+         */
+        private long readLong(FileChannel ch) throws IOException {
+            if (ch == null) return Long.MIN_VALUE;
+            buf.clear();
+            int n = ch.read(buf, 0);
+            if (n <= 0) return Long.MIN_VALUE;
+
+            long value = 0;
+            boolean negative = false;
+            boolean digits = false;
+            for (int i = 0; i < n; i++) {
+                byte b = buf.get(i);
+                if (b == '-' && !digits) {
+                    negative = true;
+                } else if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    digits = true;
+                } else if (digits) {
+                    break;
+                }
+            }
+            if (!digits) return Long.MIN_VALUE;
+            return negative ? -value : value;
+        }
+
+        void close() {
+            for (FileChannel ch : new FileChannel[]{temp, fan, power, vramTotal, vramUsed}) {
+                if (ch != null) {
+                    try {
+                        ch.close();
+                    } catch (IOException ignored) {
+                        // closing a sysfs attribute cannot meaningfully fail
+                    }
+                }
+            }
+        }
+
+        private static FileChannel openIfExists(Path dir, String file) throws IOException {
+            if (dir == null) return null;
+            Path p = dir.resolve(file);
+            return Files.isReadable(p) ? FileChannel.open(p, StandardOpenOption.READ) : null;
+        }
+
+        private static Path findHwmon(Path hwmonRoot) throws IOException {
+            if (!Files.isDirectory(hwmonRoot)) return null;
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(hwmonRoot, "hwmon*")) {
+                for (Path p : ds) {
+                    return p;
+                }
+            }
+            return null;
+        }
+
+        private static String readString(Path p) throws IOException {
+            return Files.isReadable(p) ? Files.readString(p).trim() : null;
+        }
+
+        /**
+         * Converts the PCI_SLOT_NAME from a uevent file ("0000:03:00.0") into the
+         * framework's location format ("PCI bus 3, device 0, function 0").
+         */
+        private static String parsePciSlot(String uevent) {
+            if (uevent == null) return null;
+            for (String line : uevent.split("\n")) {
+                if (line.startsWith("PCI_SLOT_NAME=")) {
+                    return PciAddress.parse(line.substring("PCI_SLOT_NAME=".length())).toLocationString();
+                }
+            }
+            return null;
+        }
+    }
+}
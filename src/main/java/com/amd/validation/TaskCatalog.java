@@ -0,0 +1,146 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TaskCatalog turns task names into {@link ValidationTask} instances.
+ * <p>
+ * It is shared by the command line ({@code --tasks}) and {@link ValidationDaemon} jobs.
+ * Known task names:
+ * </p>
+ * <pre>
+ * pcie, thermal, memory, fan, power  - the default suite
+ * health                             - combined temperature / memory-used check
+ * location                           - PCIe location must equal the expected location
+ * anomaly                            - telemetry must not be an outlier among the device's SKU
+ * </pre>
+ * <p>
+ * Tasks built here take their limits from each device's {@link ThresholdProfile}
+ * ({@link TestContext#getThresholds()}), so one task list serves devices of any SKU.
+ * </p>
+ */
+public final class TaskCatalog {
+
+    /** Task names accepted by {@link #resolve} */
+    public static final Set<String> NAMES =
+        Set.of("pcie", "thermal", "memory", "fan", "power", "health", "location", "anomaly");
+
+    private TaskCatalog() { /* utility class */ }
+
+    /**
+     * Builds the tasks for a list of names, in the order given.
+     *
+     * @param names            task names (case-insensitive)
+     * @param expectedLocation expected PCIe location for the {@code location} task; may be
+     *                         {@code null} if that task is not requested
+     * @param summaryOnly      suppress per-task INFO logs
+     * @return the tasks
+     * @throws IllegalArgumentException for unknown task names, a {@code location} task
+     *                                  without an expected location, or an {@code anomaly} task
+     */
+    public static List<ValidationTask> resolve(Collection<String> names, String expectedLocation,
+                                               boolean summaryOnly) {
+        return resolve(names, expectedLocation, summaryOnly, null);
+    }
+
+    /**
+     * Builds the tasks for a list of names, in the order given.
+     *
+     * @param names            task names (case-insensitive)
+     * @param expectedLocation expected PCIe location for the {@code location} task; may be
+     *                         {@code null} if that task is not requested
+     * @param summaryOnly      suppress per-task INFO logs
+     * @param fleet            fleet baseline for the {@code anomaly} task; may be {@code null}
+     *                         if that task is not requested
+     * @return the tasks
+     * @throws IllegalArgumentException for unknown task names, or a {@code location} or
+     *                                  {@code anomaly} task without its input
+     */
+    public static List<ValidationTask> resolve(Collection<String> names, String expectedLocation,
+                                               boolean summaryOnly, FleetStatistics fleet) {
+        List<ValidationTask> list = new ArrayList<>();
+        for (String raw : names) {
+            String name = raw.trim().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "pcie"    -> list.add(new PCIeLinkValidation(summaryOnly));
+                case "thermal" -> list.add(new ThermalMonitorCheck(summaryOnly));
+                case "memory"  -> list.add(new GpuMemoryUsageValidation());
+                case "fan"     -> list.add(new FanSpeedValidation());
+                case "power"   -> list.add(new PowerConsumptionValidation());
+                case "health"  -> list.add(new GpuHealthValidation());
+                case "location" -> {
+                    if (expectedLocation == null || expectedLocation.isBlank()) {
+                        throw new IllegalArgumentException("Task 'location' needs an expected PCIe location");
+                    }
+                    list.add(new PCIeLocationValidation(expectedLocation));
+                }
+                case "anomaly" -> {
+                    if (fleet == null) {
+                        throw new IllegalArgumentException("Task 'anomaly' needs fleet statistics to compare against");
+                    }
+                    list.add(new AnomalyDetectionValidation(fleet));
+                }
+                default -> throw new IllegalArgumentException(
+                    "Unknown task '" + raw + "'; expected one of " + NAMES);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Builds the dependency graph for resolved tasks: thermal monitoring depends on
+     * PCIe link training when both are requested; everything else is independent.
+     * <p>
+     * The graph runs the same tasks as the list does sequentially, in the same order:
+     * a task listed more than once runs each time, its repeats named {@code <name>#2},
+     * {@code #3} and so on. The one exception is a thermal check listed before the first
+     * PCIe check, which moves to just after it, since a prerequisite must come first.
+     * </p>
+     *
+     * @param tasks the resolved tasks
+     * @return the graph
+     */
+    public static TaskGraph graph(List<ValidationTask> tasks) {
+        String pcie = null;
+        for (ValidationTask t : tasks) {
+            if (t instanceof PCIeLinkValidation) {
+                pcie = t.name();
+                break;
+            }
+        }
+
+        TaskGraph graph = new TaskGraph();
+        Map<String, Integer> seen = new HashMap<>();
+        List<ValidationTask> waiting = new ArrayList<>();
+        for (ValidationTask t : tasks) {
+            if (t instanceof ThermalMonitorCheck && pcie != null && !seen.containsKey(pcie)) {
+                waiting.add(t);
+                continue;
+            }
+            add(graph, seen, t, pcie);
+            if (t.name().equals(pcie) && seen.get(pcie) == 1) {
+                for (ValidationTask w : waiting) {
+                    add(graph, seen, w, pcie);
+                }
+                waiting.clear();
+            }
+        }
+        return graph;
+    }
+
+    private static void add(TaskGraph graph, Map<String, Integer> seen, ValidationTask t, String pcie) {
+        int n = seen.merge(t.name(), 1, Integer::sum);
+        String name = n == 1 ? t.name() : t.name() + "#" + n;
+        if (t instanceof ThermalMonitorCheck && pcie != null) {
+            graph.add(name, t, pcie);
+        } else {
+            graph.add(name, t);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TaskGraph describes validation tasks together with their prerequisites.
+ * <p>
+ * Tasks are registered in order, and a prerequisite must already be registered when a
+ * dependent task is added (e.g. PCIe link training before thermal monitoring). This keeps
+ * the graph acyclic by construction. A {@link TestRunner} built from a graph runs
+ * independent tasks concurrently and skips a task whose prerequisite did not pass.
+ * </p>
+ */
+public class TaskGraph {
+
+    /** Registered nodes, in registration order (which is also a valid topological order) */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /** Index of each node by name */
+    private final Map<String, Integer> indexByName = new HashMap<>();
+
+    /**
+     * Registers a task under its {@link ValidationTask#name() name}.
+     *
+     * @param task          the validation task
+     * @param prerequisites names of tasks that must pass before this one runs
+     * @return this graph, for chaining
+     */
+    public TaskGraph add(ValidationTask task, String... prerequisites) {
+        return add(task.name(), task, prerequisites);
+    }
+
+    /**
+     * Registers a task under an explicit name.
+     *
+     * @param name          unique name of the task within the graph
+     * @param task          the validation task
+     * @param prerequisites names of tasks that must pass before this one runs
+     * @return this graph, for chaining
+     * @throws IllegalArgumentException if the name is taken or a prerequisite is unknown
+     */
+    public TaskGraph add(String name, ValidationTask task, String... prerequisites) {
+        if (indexByName.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate task name: " + name);
+        }
+        int[] pre = new int[prerequisites.length];
+        for (int i = 0; i < prerequisites.length; i++) {
+            Integer idx = indexByName.get(prerequisites[i]);
+            if (idx == null) {
+                throw new IllegalArgumentException(
+                    "Unknown prerequisite '" + prerequisites[i] + "' for task " + name);
+            }
+            pre[i] = idx;
+        }
+        indexByName.put(name, nodes.size());
+        nodes.add(new Node(name, task, pre));
+        return this;
+    }
+
+    /** @return the registered nodes in registration order */
+    public List<Node> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /** @return the number of registered tasks */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * A single task in the graph along with the indices of its prerequisites.
+     */
+    public static final class Node {
+
+        private final String name;
+        private final ValidationTask task;
+        private final int[] prerequisites;
+
+        Node(String name, ValidationTask task, int[] prerequisites) {
+            this.name = name;
+            this.task = task;
+            this.prerequisites = prerequisites;
+        }
+
+        /** @return the unique name of the task within the graph */
+        public String getName() {
+            return name;
+        }
+
+        /** @return the validation task */
+        public ValidationTask getTask() {
+            return task;
+        }
+
+        /** @return indices (into the graph's node list) of this task's prerequisites */
+        int[] prerequisites() {
+            return prerequisites;
+        }
+    }
+}
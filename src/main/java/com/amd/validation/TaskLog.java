@@ -0,0 +1,408 @@
+package com.amd.validation;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * TaskLog takes task log output off the validation threads.
+ * <p>
+ * With fleet-wide sampling, every device thread logging through a synchronous appender
+ * contends on the appender's lock. A {@link TestRunner} with a TaskLog instead records an
+ * {@link Event} per task (a DEBUG line when it starts, an INFO line with its verdict, WARN
+ * when it faulted) into a bounded lock-free queue. A background thread drains the queue in
+ * batches and hands each batch to a writer, by default the SLF4J logger
+ * {@code com.amd.validation.TaskLog.<task>}, or {@link #toWriter(Writer)} to write each
+ * batch with a single call. Messages are formatted on the background thread, and events
+ * below a task's verbosity are never created.
+ * </p>
+ * <p>
+ * When the queue is full the {@link Overflow} policy decides: drop the new event
+ * (the default), evict the oldest, or wait for space. Only {@link Overflow#BLOCK} can make
+ * a validation thread wait, and only while the writer is behind. Dropped events are counted.
+ * </p>
+ */
+public final class TaskLog implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(TaskLog.class);
+
+    /** Default number of events the queue holds */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Events handed to the writer at most per batch */
+    static final int BATCH_SIZE = 512;
+
+    /** How long the writer sleeps when the queue is empty */
+    private static final long IDLE_NANOS = Duration.ofMillis(20).toNanos();
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS", Locale.ROOT).withZone(ZoneId.systemDefault());
+
+    /** Verbosity of a task, and severity of an event; an event is kept if its level is within the task's */
+    public enum Level {
+        OFF, WARN, INFO, DEBUG;
+
+        /**
+         * Parses a level name, ignoring case.
+         *
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static Level parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown log level '" + name + "'; use off, warn, info or debug");
+            }
+        }
+    }
+
+    /** What to do with an event when the queue is full */
+    public enum Overflow {
+        /** Discard the new event; the validation thread never waits */
+        DROP_NEWEST,
+        /** Discard the oldest queued event to make room; the validation thread never waits */
+        DROP_OLDEST,
+        /** Wait until the writer makes room */
+        BLOCK;
+
+        /**
+         * Parses a policy name such as {@code drop-oldest}, ignoring case.
+         *
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static Overflow parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "Unknown overflow policy '" + name + "'; use drop-newest, drop-oldest or block");
+            }
+        }
+    }
+
+    /**
+     * One log event. The message is formatted only when {@link #message()} is called.
+     *
+     * @param timestampMillis epoch milliseconds when the event was recorded
+     * @param thread          name of the recording thread, or {@code #<id>} if it has none
+     * @param task            the task name
+     * @param deviceId        the device the task ran on
+     * @param level           the event's severity
+     * @param format          SLF4J-style message pattern
+     * @param args            pattern arguments
+     */
+    public record Event(long timestampMillis, String thread, String task, String deviceId,
+                        Level level, String format, Object[] args) {
+
+        /** @return the formatted message */
+        public String message() {
+            return MessageFormatter.arrayFormat(format, args).getMessage();
+        }
+    }
+
+    private final int capacity;
+    private final Overflow overflow;
+    private final Consumer<List<Event>> writer;
+    private final ConcurrentLinkedQueue<Event> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Map<String, Level> taskLevels = new ConcurrentHashMap<>();
+    private volatile Level defaultLevel = Level.INFO;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    /**
+     * Starts a task log that forwards events to SLF4J, drops new events when full, and
+     * holds {@link #DEFAULT_CAPACITY} events.
+     */
+    public TaskLog() {
+        this(DEFAULT_CAPACITY, Overflow.DROP_NEWEST, TaskLog::toSlf4j);
+    }
+
+    /**
+     * Starts a task log.
+     *
+     * @param capacity events the queue holds (must be positive)
+     * @param overflow what to do when the queue is full
+     * @param writer   receives batches of events on the background thread, in recording order
+     *                 per validation thread
+     */
+    public TaskLog(int capacity, Overflow overflow, Consumer<List<Event>> writer) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.writer = writer;
+        this.drainer = Thread.ofPlatform().daemon().name("task-log-writer").start(this::drainLoop);
+    }
+
+    /**
+     * Sets the verbosity of tasks without their own level.
+     *
+     * @param level the default level
+     * @return this log
+     */
+    public TaskLog withLevel(Level level) {
+        this.defaultLevel = level;
+        return this;
+    }
+
+    /**
+     * Sets the verbosity of one task.
+     *
+     * @param task  the task name ({@link ValidationTask#name()})
+     * @param level the task's level
+     * @return this log
+     */
+    public TaskLog withLevel(String task, Level level) {
+        taskLevels.put(task, level);
+        return this;
+    }
+
+    /**
+     * Applies a verbosity spec such as {@code info,ThermalMonitorCheck=debug,FanSpeedValidation=off}:
+     * an optional default level, then per-task levels.
+     *
+     * @param spec the comma-separated spec
+     * @return this log
+     * @throws IllegalArgumentException for unknown level names
+     */
+    public TaskLog withLevels(String spec) {
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            int eq = part.indexOf('=');
+            if (eq < 0) {
+                withLevel(Level.parse(part));
+            } else {
+                withLevel(part.substring(0, eq).trim(), Level.parse(part.substring(eq + 1)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Tells whether an event of a task would be kept; callers check this before building
+     * arguments.
+     *
+     * @param task  the task name
+     * @param level the event's severity
+     * @return whether the task's verbosity includes the level
+     */
+    public boolean isEnabled(String task, Level level) {
+        return level != Level.OFF && level.compareTo(taskLevels.getOrDefault(task, defaultLevel)) <= 0;
+    }
+
+    /**
+     * Records an event if the task's verbosity includes its level.
+     *
+     * @param level    the event's severity
+     * @param task     the task name
+     * @param deviceId the device
+     * @param format   SLF4J-style message pattern; arguments are formatted on the writer thread,
+     *                 so they should not change after the call
+     * @param args     pattern arguments
+     */
+    public void log(Level level, String task, String deviceId, String format, Object... args) {
+        if (!isEnabled(task, level)) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        String name = thread.getName().isEmpty() ? "#" + thread.threadId() : thread.getName();
+        enqueue(new Event(System.currentTimeMillis(), name, task, deviceId, level, format, args));
+    }
+
+    /**
+     * Returns an argument that formats as the result's message, so a lazily built message
+     * is only built on the writer thread.
+     */
+    static Object messageOf(ValidationResult result) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return result.getMessage();
+            }
+        };
+    }
+
+    private void enqueue(Event event) {
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        switch (overflow) {
+            case DROP_NEWEST -> {
+                if (size.incrementAndGet() > capacity) {
+                    size.decrementAndGet();
+                    dropped.increment();
+                    return;
+                }
+            }
+            case DROP_OLDEST -> {
+                if (size.incrementAndGet() > capacity && queue.poll() != null) {
+                    size.decrementAndGet();
+                    evicted.increment();
+                    dropped.increment();
+                }
+            }
+            case BLOCK -> {
+                for (int s; (s = size.get()) >= capacity || !size.compareAndSet(s, s + 1); ) {
+                    if (closed) {
+                        dropped.increment();
+                        return;
+                    }
+                    LockSupport.unpark(drainer);
+                    Thread.onSpinWait();
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }
+        accepted.increment();
+        queue.offer(event);
+        if (size.get() >= BATCH_SIZE) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            Event e;
+            while (batch.size() < BATCH_SIZE && (e = queue.poll()) != null) {
+                batch.add(e);
+            }
+            if (batch.isEmpty()) {
+                if (closed) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_NANOS);
+                continue;
+            }
+            size.addAndGet(-batch.size());
+            try {
+                writer.accept(batch);
+            } catch (RuntimeException ex) {
+                LOG.warn("Task log writer failed on {} events: {}", batch.size(), ex.toString());
+            }
+            written.add(batch.size());
+            batch.clear();
+        }
+    }
+
+    /** @return events recorded and not dropped */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /** @return events handed to the writer */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /** @return events lost to a full queue or recorded after close */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Waits until every event recorded so far has been written or evicted.
+     *
+     * @param timeout how long to wait
+     * @return whether the queue drained in time
+     */
+    public boolean flush(Duration timeout) {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (written.sum() + evicted.sum() < target) {
+            if (System.nanoTime() - deadline >= 0 || !drainer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(200_000);
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting events, writes those still queued and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.sum() > 0) {
+            LOG.warn("Task log dropped {} events", dropped.sum());
+        }
+    }
+
+    /**
+     * Forwards a batch to the SLF4J logger of each event's task.
+     */
+    static void toSlf4j(List<Event> batch) {
+        for (Event e : batch) {
+            org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(TaskLog.class.getName() + "." + e.task());
+            switch (e.level()) {
+                case WARN -> logger.warn("[{}] {}", e.deviceId(), e.message());
+                case INFO -> logger.info("[{}] {}", e.deviceId(), e.message());
+                case DEBUG -> logger.debug("[{}] {}", e.deviceId(), e.message());
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Returns a writer that formats each batch as text lines and writes and flushes it in
+     * one call, e.g. to a file.
+     *
+     * @param out the destination; only the writer thread uses it
+     * @return the batch writer
+     */
+    public static Consumer<List<Event>> toWriter(Writer out) {
+        StringBuilder sb = new StringBuilder(BATCH_SIZE * 96);
+        return batch -> {
+            sb.setLength(0);
+            for (Event e : batch) {
+                sb.append(TIME.format(Instant.ofEpochMilli(e.timestampMillis())))
+                  .append(" [").append(e.thread()).append("] ")
+                  .append(e.level()).append(' ')
+                  .append(e.task()).append(' ')
+                  .append(e.deviceId()).append(" -- ")
+                  .append(e.message()).append('\n');
+            }
+            try {
+                out.write(sb.toString());
+                out.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+}
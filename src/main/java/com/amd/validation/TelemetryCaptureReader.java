@@ -0,0 +1,176 @@
+package com.amd.validation;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads capture files written by {@link TelemetryCaptureWriter}.
+ * <p>
+ * Each device comes back as a {@link TestContext} with the captured fields and threshold
+ * profile. A sampled device gets a {@link TelemetrySeries} of the captured window size into
+ * which every sample is recorded again in order, so its windows and statistics are the ones
+ * the original run judged.
+ * </p>
+ */
+public final class TelemetryCaptureReader {
+
+    private TelemetryCaptureReader() {
+    }
+
+    /**
+     * Reads every device of a capture.
+     *
+     * @param file the capture file
+     * @return the devices in the order they were written
+     * @throws IOException if the file cannot be read or is not a valid capture
+     */
+    public static List<CapturedDevice> read(Path file) throws IOException {
+        try (InputStream raw = Files.newInputStream(file)) {
+            DataInputStream header = new DataInputStream(raw);
+            if (header.readLong() != TelemetryCaptureWriter.MAGIC) {
+                throw new IOException("Not a telemetry capture: " + file);
+            }
+            int version = header.readInt();
+            if (version != TelemetryCaptureWriter.VERSION) {
+                throw new IOException("Unsupported capture version " + version + ": " + file);
+            }
+
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new InflaterInputStream(raw), 1 << 16));
+            List<CapturedDevice> devices = new ArrayList<>();
+            while (in.readByte() != 0) {
+                devices.add(readDevice(in, file));
+            }
+            return devices;
+        }
+    }
+
+    /**
+     * Lists the captures to replay: the file itself, or every {@code .gcap} file in a
+     * directory, sorted by name.
+     *
+     * @param fileOrDir a capture file or a directory of captures
+     * @return the capture files
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> list(Path fileOrDir) throws IOException {
+        if (!Files.isDirectory(fileOrDir)) {
+            return List.of(fileOrDir);
+        }
+        try (Stream<Path> files = Files.list(fileOrDir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(TelemetryCaptureWriter.EXTENSION))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .toList();
+        }
+    }
+
+    private static CapturedDevice readDevice(DataInput in, Path file) throws IOException {
+        TestContext ctx = new TestContext(in.readUTF());
+        ctx.setDeviceName(readOptional(in));
+        ctx.setPciLocation(readOptional(in));
+        ctx.setDriverVersion(readOptional(in));
+        ctx.setTotalMemoryGB(in.readDouble());
+        ctx.setMemoryUsedGB(in.readDouble());
+        ctx.setDedicatedMemoryGB(in.readDouble());
+        ctx.setSharedMemoryGB(in.readDouble());
+        ctx.setGpuTemperature(in.readDouble());
+        ctx.setFanSpeedRPM(in.readInt());
+        ctx.setPowerWatts(in.readInt());
+
+        String profile = in.readUTF();
+        int limitCount = (int) readVarLong(in);
+        Map<String, Double> limits = new HashMap<>();
+        for (int i = 0; i < limitCount; i++) {
+            limits.put(in.readUTF(), in.readDouble());
+        }
+        try {
+            ctx.setThresholds(ThresholdProfile.DEFAULTS.derive(profile, limits));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid limits for " + ctx.getDeviceId() + " in " + file + ": " + e.getMessage());
+        }
+
+        int windowSize = (int) readVarLong(in);
+        int n = (int) readVarLong(in);
+        long[] timestamps = readLongs(in, n);
+        double[] temperature = readDoubles(in, n, TelemetryCaptureWriter.TEMPERATURE_SCALE);
+        int[] fanRpm = readInts(in, n);
+        int[] watts = readInts(in, n);
+        double[] memoryUsedGB = readDoubles(in, n, TelemetryCaptureWriter.MEMORY_SCALE);
+
+        if (windowSize > 0) {
+            TelemetrySeries series = new TelemetrySeries(windowSize);
+            for (int i = 0; i < n; i++) {
+                series.record(temperature[i], fanRpm[i], watts[i], memoryUsedGB[i]);
+            }
+            ctx.setTelemetry(series);
+        }
+        return new CapturedDevice(ctx, timestamps);
+    }
+
+    /* ========== decoding ================================================= */
+
+    private static String readOptional(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed varint in capture");
+    }
+
+    static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static long[] readLongs(DataInput in, int n) throws IOException {
+        long[] values = new long[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            values[i] = prev += unzigzag(readVarLong(in));
+        }
+        return values;
+    }
+
+    private static int[] readInts(DataInput in, int n) throws IOException {
+        int[] values = new int[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            values[i] = (int) (prev += unzigzag(readVarLong(in)));
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInput in, int n, double scale) throws IOException {
+        double[] values = new double[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            long tagged = readVarLong(in);
+            if ((tagged & 1) != 0) {
+                values[i] = Double.longBitsToDouble(in.readLong());
+            } else {
+                prev += unzigzag(tagged >>> 1);
+                values[i] = prev / scale;
+            }
+        }
+        return values;
+    }
+}
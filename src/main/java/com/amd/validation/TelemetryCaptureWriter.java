@@ -0,0 +1,260 @@
+package com.amd.validation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * TelemetryCaptureWriter records devices to a capture file for offline re-validation.
+ * <p>
+ * A capture holds every context field of each device, its threshold profile, and every
+ * sensor sample taken while it was sampled, so {@link TelemetryCaptureReader} can rebuild
+ * a {@link TestContext} that validates exactly like the original. Samples are stored per
+ * channel as deltas: timestamps and integer channels as zigzag varints, temperature as
+ * millidegrees and used memory as bytes (the sysfs resolutions), falling back to the raw
+ * double for values that are not whole units. Everything after the header is deflated.
+ * </p>
+ * <pre>
+ * header:  magic "GPUCAP01" long | version int
+ * body:    { 1 byte | device } ... 0 byte               (deflated)
+ * device:  device ID | name? | PCI location? | driver? | total, used, dedicated,
+ *          shared memory GB double | temperature double | fan int | watts int |
+ *          profile name | limit count varint | { key | limit double } ... |
+ *          window size varint | sample count varint |
+ *          timestamps | temperatures | fan speeds | power | used memory
+ * </pre>
+ * <p>
+ * Strings are modified UTF-8; optional ones are preceded by a presence byte. A window size
+ * of 0 means the device was not sampled. Attach the writer to a {@link TelemetrySampler}
+ * with {@link TelemetrySampler#withCapture(TelemetryCaptureWriter)} and call
+ * {@link #write(TestContext)} once a device's sampling is done. Devices may be sampled
+ * concurrently; each device's samples must come from one thread at a time.
+ * </p>
+ */
+public class TelemetryCaptureWriter implements AutoCloseable {
+
+    static final long MAGIC = 0x47505543_41503031L; // "GPUCAP01"
+    static final int VERSION = 1;
+
+    /** File extension used for captures, e.g. by {@link TelemetryCaptureReader#list(Path)} */
+    public static final String EXTENSION = ".gcap";
+
+    /** Temperatures are encoded in millidegrees, the resolution of hwmon temp*_input */
+    static final double TEMPERATURE_SCALE = 1000;
+
+    /** Memory is encoded in bytes, the resolution of mem_info_vram_used */
+    static final double MEMORY_SCALE = 1L << 30;
+
+    private final Path file;
+    private final DataOutputStream out;
+
+    /** Samples recorded per device ID and not yet written */
+    private final Map<String, Track> tracks = new ConcurrentHashMap<>();
+
+    private int devices;
+    private boolean closed;
+
+    /**
+     * Creates (or truncates) a capture file.
+     *
+     * @param file the capture file
+     * @throws IOException if the file cannot be created
+     */
+    public TelemetryCaptureWriter(Path file) throws IOException {
+        this.file = file;
+        OutputStream raw = Files.newOutputStream(file);
+        try {
+            DataOutputStream header = new DataOutputStream(raw);
+            header.writeLong(MAGIC);
+            header.writeInt(VERSION);
+            this.out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(raw), 1 << 16));
+        } catch (IOException e) {
+            raw.close();
+            throw e;
+        }
+    }
+
+    /** @return the capture file */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records the context's current sensor readings as one sample, stamped with the wall
+     * clock.
+     *
+     * @param ctx the context holding the latest sensor readings
+     */
+    public void sample(TestContext ctx) {
+        tracks.computeIfAbsent(ctx.getDeviceId(), id -> new Track())
+              .add(System.currentTimeMillis(), ctx.getGpuTemperature(), ctx.getFanSpeedRPM(),
+                   ctx.getPowerWatts(), ctx.getMemoryUsedGB());
+    }
+
+    /**
+     * Writes a device with its fields as they are now and the samples recorded for it so
+     * far, which are then released.
+     *
+     * @param ctx the device to write
+     * @throws IOException if writing fails
+     */
+    public void write(TestContext ctx) throws IOException {
+        Track track = tracks.remove(ctx.getDeviceId());
+        if (track == null) {
+            track = new Track();
+        }
+        TelemetrySeries series = ctx.getTelemetry();
+        int windowSize = series != null ? series.getWindowSize()
+                                        : Math.min(track.size, TelemetrySampler.MAX_DEFAULT_WINDOW);
+
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Capture already closed: " + file);
+            }
+            out.writeByte(1);
+            out.writeUTF(ctx.getDeviceId());
+            writeOptional(out, ctx.getDeviceName());
+            writeOptional(out, ctx.getPciLocation());
+            writeOptional(out, ctx.getDriverVersion());
+            out.writeDouble(ctx.getTotalMemoryGB());
+            out.writeDouble(ctx.getMemoryUsedGB());
+            out.writeDouble(ctx.getDedicatedMemoryGB());
+            out.writeDouble(ctx.getSharedMemoryGB());
+            out.writeDouble(ctx.getGpuTemperature());
+            out.writeInt(ctx.getFanSpeedRPM());
+            out.writeInt(ctx.getPowerWatts());
+
+            ThresholdProfile limits = ctx.getThresholds();
+            out.writeUTF(limits.getName());
+            writeVarLong(out, Threshold.values().length);
+            for (Threshold t : Threshold.values()) {
+                out.writeUTF(t.key());
+                out.writeDouble(limits.get(t));
+            }
+
+            writeVarLong(out, windowSize);
+            writeVarLong(out, track.size);
+            writeLongs(out, track.timestamps, track.size);
+            writeDoubles(out, track.temperature, track.size, TEMPERATURE_SCALE);
+            writeInts(out, track.fanRpm, track.size);
+            writeInts(out, track.watts, track.size);
+            writeDoubles(out, track.memoryUsedGB, track.size, MEMORY_SCALE);
+            devices++;
+        }
+    }
+
+    /** @return the number of devices written so far */
+    public synchronized int getDeviceCount() {
+        return devices;
+    }
+
+    /**
+     * Ends the capture. Samples of devices that were never written are discarded.
+     *
+     * @throws IOException if the file cannot be completed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        tracks.clear();
+        try (out) {
+            out.writeByte(0);
+        }
+    }
+
+    /* ========== encoding ================================================= */
+
+    private static void writeOptional(DataOutput out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) out.writeUTF(s);
+    }
+
+    static void writeVarLong(DataOutput out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static void writeLongs(DataOutput out, long[] values, int n) throws IOException {
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            writeVarLong(out, zigzag(values[i] - prev));
+            prev = values[i];
+        }
+    }
+
+    private static void writeInts(DataOutput out, int[] values, int n) throws IOException {
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            writeVarLong(out, zigzag(values[i] - prev));
+            prev = values[i];
+        }
+    }
+
+    /**
+     * Writes each value as a delta of whole {@code 1/scale} units, tagged 0 in the low bit,
+     * or, if the value is not a whole number of units, as tag 1 followed by its raw bits.
+     * Decoding a unit count divides by {@code scale}, which reproduces the value bit for bit.
+     */
+    private static void writeDoubles(DataOutput out, double[] values, int n, double scale) throws IOException {
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            double v = values[i];
+            double scaled = v * scale;
+            if (Math.abs(scaled) < 0x1p53) {
+                long units = (long) Math.rint(scaled);
+                if (Double.doubleToRawLongBits(units / scale) == Double.doubleToRawLongBits(v)) {
+                    writeVarLong(out, zigzag(units - prev) << 1);
+                    prev = units;
+                    continue;
+                }
+            }
+            writeVarLong(out, 1);
+            out.writeLong(Double.doubleToRawLongBits(v));
+        }
+    }
+
+    /**
+     * Growable per-channel sample arrays of one device.
+     */
+    private static final class Track {
+        long[] timestamps = new long[64];
+        double[] temperature = new double[64];
+        int[] fanRpm = new int[64];
+        int[] watts = new int[64];
+        double[] memoryUsedGB = new double[64];
+        int size;
+
+        void add(long millis, double temperatureC, int rpm, int powerWatts, double memUsedGB) {
+            if (size == timestamps.length) {
+                int capacity = size * 2;
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                temperature = Arrays.copyOf(temperature, capacity);
+                fanRpm = Arrays.copyOf(fanRpm, capacity);
+                watts = Arrays.copyOf(watts, capacity);
+                memoryUsedGB = Arrays.copyOf(memoryUsedGB, capacity);
+            }
+            timestamps[size] = millis;
+            temperature[size] = temperatureC;
+            fanRpm[size] = rpm;
+            watts[size] = powerWatts;
+            memoryUsedGB[size] = memUsedGB;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.amd.validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * TelemetrySampler polls a device's sensors at a fixed rate for a fixed duration.
+ * <p>
+ * Each poll refreshes the {@link TestContext} scalars through a sensor reader and records
+ * them into the context's {@link TelemetrySeries}, so validations can judge the whole
+ * window instead of a single snapshot. Example: 100 Hz for 60 s yields 6000 samples per
+ * channel.
+ * </p>
+ */
+public class TelemetrySampler {
+
+    /** Upper bound for the default window size, to keep long runs at a fixed footprint */
+    public static final int MAX_DEFAULT_WINDOW = 65_536;
+
+    /** Polling rate in samples per second */
+    private final double rateHz;
+
+    /** Total sampling duration */
+    private final Duration duration;
+
+    /** Number of samples kept per channel window */
+    private final int windowSize;
+
+    /** Receives every sample as well, if set */
+    private TelemetryCaptureWriter capture;
+
+    /**
+     * Constructs a sampler whose window holds the whole run, capped at
+     * {@link #MAX_DEFAULT_WINDOW} samples.
+     *
+     * @param rateHz   polling rate in samples per second
+     * @param duration total sampling duration
+     */
+    public TelemetrySampler(double rateHz, Duration duration) {
+        this(rateHz, duration,
+             (int) Math.max(1, Math.min(MAX_DEFAULT_WINDOW, Math.ceil(rateHz * duration.toNanos() / 1e9))));
+    }
+
+    /**
+     * Constructs a sampler with an explicit window size.
+     *
+     * @param rateHz     polling rate in samples per second (must be positive)
+     * @param duration   total sampling duration
+     * @param windowSize number of samples kept per channel
+     */
+    public TelemetrySampler(double rateHz, Duration duration, int windowSize) {
+        if (rateHz <= 0) {
+            throw new IllegalArgumentException("rateHz must be positive: " + rateHz);
+        }
+        this.rateHz = rateHz;
+        this.duration = duration;
+        this.windowSize = windowSize;
+    }
+
+    /** @return the polling rate in samples per second */
+    public double getRateHz() {
+        return rateHz;
+    }
+
+    /** @return the number of samples kept per channel window */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Records every sample into a capture as well as into the device's series. The
+     * sampler does not write the devices; call {@link TelemetryCaptureWriter#write(TestContext)}
+     * after sampling.
+     *
+     * @param capture the capture to record into
+     * @return this sampler, for chaining
+     */
+    public TelemetrySampler withCapture(TelemetryCaptureWriter capture) {
+        this.capture = capture;
+        return this;
+    }
+
+    /**
+     * Samples one device for the configured duration on the calling thread.
+     * <p>
+     * The context's existing series is reused if its window matches, so repeated sampling
+     * runs keep a continuous history; otherwise a new series is attached.
+     * </p>
+     *
+     * @param ctx    the device context to refresh and record
+     * @param reader refreshes the context's sensor fields (e.g. {@code SystemInfoFetcher::populate})
+     * @return the series attached to the context
+     */
+    public TelemetrySeries sample(TestContext ctx, Consumer<TestContext> reader) {
+        TelemetrySeries series = ctx.getTelemetry();
+        if (series == null || series.getWindowSize() != windowSize) {
+            series = new TelemetrySeries(windowSize);
+            ctx.setTelemetry(series);
+        }
+
+        long periodNanos = (long) (1_000_000_000L / rateHz);
+        long samples = Math.max(1, (long) Math.ceil(rateHz * duration.toNanos() / 1e9));
+        long next = System.nanoTime();
+
+        for (long i = 0; i < samples && !Thread.currentThread().isInterrupted(); i++) {
+            reader.accept(ctx);
+            series.record(ctx);
+            if (capture != null) capture.sample(ctx);
+
+            next += periodNanos;
+            long wait;
+            while (i + 1 < samples && (wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.currentThread().isInterrupted()) break;
+            }
+        }
+        return series;
+    }
+
+    /**
+     * Samples several devices at the same time, one virtual thread per device.
+     *
+     * @param contexts the device contexts to sample
+     * @param reader   refreshes a context's sensor fields
+     */
+    public void sampleAll(Collection<TestContext> contexts, Consumer<TestContext> reader) {
+        List<Future<TelemetrySeries>> futures = new ArrayList<>(contexts.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TestContext ctx : contexts) {
+                futures.add(executor.submit(() -> sample(ctx, reader)));
+            }
+            for (Future<TelemetrySeries> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Telemetry sampling failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.amd.validation;
+
+/**
+ * TelemetrySeries holds a sliding window of sensor samples for one GPU device.
+ * <p>
+ * Each sensor channel has its own primitive ring buffer, so recording a sample never
+ * allocates and memory use stays fixed however long a burn-in run lasts. Validations read
+ * windowed statistics (min/max/mean/p99) from the channel buffers.
+ * </p>
+ */
+public class TelemetrySeries {
+
+    /** GPU temperature samples (in degrees Celsius) */
+    private final DoubleRingBuffer temperature;
+
+    /** Fan speed samples (in RPM) */
+    private final IntRingBuffer fanSpeedRPM;
+
+    /** Power draw samples (in watts) */
+    private final IntRingBuffer powerWatts;
+
+    /** Used memory samples (in gigabytes) */
+    private final DoubleRingBuffer memoryUsedGB;
+
+    /** Total number of samples recorded, including ones already evicted from the window */
+    private long sampleCount;
+
+    /**
+     * Constructs a series whose channels each keep the most recent {@code windowSize} samples.
+     *
+     * @param windowSize number of samples per channel window
+     */
+    public TelemetrySeries(int windowSize) {
+        this.temperature = new DoubleRingBuffer(windowSize);
+        this.fanSpeedRPM = new IntRingBuffer(windowSize);
+        this.powerWatts = new IntRingBuffer(windowSize);
+        this.memoryUsedGB = new DoubleRingBuffer(windowSize);
+    }
+
+    /**
+     * Records the current sensor values of a context as one sample.
+     *
+     * @param ctx the context holding the latest sensor readings
+     */
+    public void record(TestContext ctx) {
+        record(ctx.getGpuTemperature(), ctx.getFanSpeedRPM(), ctx.getPowerWatts(), ctx.getMemoryUsedGB());
+    }
+
+    /**
+     * Records one sample across all channels.
+     *
+     * @param temperatureC GPU temperature in Celsius
+     * @param fanRpm       fan speed in RPM
+     * @param watts        power draw in watts
+     * @param memUsedGB    used memory in GB
+     */
+    public void record(double temperatureC, int fanRpm, int watts, double memUsedGB) {
+        temperature.add(temperatureC);
+        fanSpeedRPM.add(fanRpm);
+        powerWatts.add(watts);
+        memoryUsedGB.add(memUsedGB);
+        sampleCount++;
+    }
+
+    /** @return the temperature window */
+    public DoubleRingBuffer getTemperature() {
+        return temperature;
+    }
+
+    /** @return the fan speed window */
+    public IntRingBuffer getFanSpeedRPM() {
+        return fanSpeedRPM;
+    }
+
+    /** @return the power draw window */
+    public IntRingBuffer getPowerWatts() {
+        return powerWatts;
+    }
+
+    /** @return the used memory window */
+    public DoubleRingBuffer getMemoryUsedGB() {
+        return memoryUsedGB;
+    }
+
+    /** @return total number of samples recorded since construction */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /** @return the number of samples per channel window */
+    public int getWindowSize() {
+        return temperature.getCapacity();
+    }
+}
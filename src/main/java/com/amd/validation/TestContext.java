@@ -1,5 +1,7 @@
 package com.amd.validation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * TestContext encapsulates the full runtime context of a GPU device during validation.
  * <p>
@@ -43,6 +45,12 @@ public class TestContext {
     /** Current power draw of the GPU (in watts) */
     private int powerWatts;
 
+    /** Sliding window of sensor samples; {@code null} unless telemetry sampling is active */
+    private TelemetrySeries telemetry;
+
+    /** Limits the validation tasks apply to this device (resolved once per run) */
+    private ThresholdProfile thresholds = ThresholdProfile.DEFAULTS;
+
     /**
      * Constructs a new {@code TestContext} for a given device ID.
      *
@@ -156,4 +164,36 @@ public class TestContext {
     public void setPowerWatts(int powerWatts) {
         this.powerWatts = powerWatts;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the sampled telemetry window. Not serialized; reports carry the latest readings
+     * and captures record the samples.
+     *
+     * @return the window, or {@code null} if sampling was not run
+     */
+    @JsonIgnore
+    public TelemetrySeries getTelemetry() {
+        return telemetry;
+    }
+
+    /** @param telemetry sets the sampled telemetry window */
+    public void setTelemetry(TelemetrySeries telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * Gets the limits applied to this device. Not serialized; the report records verdicts,
+     * and the profile's name alone says nothing about the limits.
+     *
+     * @return the limits; the built-in defaults unless a profile was set
+     */
+    @JsonIgnore
+    public ThresholdProfile getThresholds() {
+        return thresholds;
+    }
+
+    /** @param thresholds sets the limits applied to this device */
+    public void setThresholds(ThresholdProfile thresholds) {
+        this.thresholds = thresholds != null ? thresholds : ThresholdProfile.DEFAULTS;
+    }
+}
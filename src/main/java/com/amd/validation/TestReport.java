@@ -1,7 +1,13 @@
 package com.amd.validation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * TestReport encapsulates the full result of a GPU validation run.
@@ -17,50 +23,140 @@ import java.util.List;
  *   <li>Provide summary statistics (pass/fail/total)</li>
  *   <li>Export or print results via {@code toString()}</li>
  * </ul>
+ * <p>
+ * Reports are safe to fill from many threads at once, e.g. as a fleet-wide aggregate fed
+ * by a {@link ResultSink}. Each thread appends to one of a fixed set of lock-free segments
+ * picked by its thread ID, so writers rarely touch the same queue and share no counter.
+ * Every result is stamped with {@link System#nanoTime()} as it is added, and
+ * {@link #getResults()} merges the segments by stamp with a stable sort: results added by
+ * one thread keep their order, and results from different threads are ordered by when they
+ * were added (adds within the same clock tick are ordered by segment). Pass and fail
+ * totals are kept in striped counters as results arrive, so {@link #passed()},
+ * {@link #failed()} and {@link #snapshot()} cost the same however many results the report
+ * holds.
+ * </p>
  */
 public class TestReport {
 
-    /** List of results from each validation task */
-    private final List<ValidationResult> results = new ArrayList<>();
+    /** Number of append segments; a power of two */
+    private static final int SEGMENTS =
+            Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1));
+
+    /**
+     * Pass/fail totals of a report at one moment.
+     *
+     * @param passed results that passed
+     * @param failed results that failed
+     */
+    public record Summary(long passed, long failed) {
+
+        /** @return the number of results */
+        public long total() {
+            return passed + failed;
+        }
+    }
+
+    /** A result and when it was added */
+    private record Entry(long addedNanos, ValidationResult result) {
+    }
+
+    /** Append segments, created on first use; a thread always appends to the same one */
+    private final AtomicReferenceArray<ConcurrentLinkedQueue<Entry>> segments = new AtomicReferenceArray<>(SEGMENTS);
+
+    /** Running totals; incremented after the result is appended */
+    private final LongAdder passedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    /** Results in order, holding exactly the counted results at the time it was built */
+    private volatile List<ValidationResult> view = List.of();
 
     /** Metadata and runtime context of the GPU device (not serialized by default) */
-    private transient TestContext context;
+    private transient volatile TestContext context;
 
     /**
-     * Adds a validation result to the report.
+     * Adds a validation result to the report. Safe to call from any thread.
      *
      * @param result the result of a validation task
      */
     public void add(ValidationResult result) {
-        results.add(result);
+        Entry entry = new Entry(System.nanoTime(), result);
+        segment().offer(entry);
+        (result.isPassed() ? passedCount : failedCount).increment();
+    }
+
+    private ConcurrentLinkedQueue<Entry> segment() {
+        long id = Thread.currentThread().threadId();
+        int i = (int) (id ^ (id >>> 16)) & (SEGMENTS - 1);
+        ConcurrentLinkedQueue<Entry> segment = segments.get(i);
+        if (segment == null) {
+            segments.compareAndSet(i, null, new ConcurrentLinkedQueue<>());
+            segment = segments.get(i);
+        }
+        return segment;
     }
 
     /**
      * @return the number of validation tasks that passed
      */
     public long passed() {
-        return results.stream().filter(ValidationResult::isPassed).count();
+        return passedCount.sum();
     }
 
     /**
      * @return the number of validation tasks that failed
      */
     public long failed() {
-        return results.size() - passed();
+        return failedCount.sum();
     }
 
     /**
      * @return the total number of validation tasks executed
      */
     public int total() {
-        return results.size();
+        return (int) snapshot().total();
     }
 
     /**
+     * Reads the running totals without touching the results. While results are still
+     * being added, each count includes every result whose {@code add} has returned.
+     *
+     * @return the pass/fail totals
+     */
+    public Summary snapshot() {
+        return new Summary(passedCount.sum(), failedCount.sum());
+    }
+
+    /**
+     * Returns the results in the order they were added. The list is an unmodifiable
+     * snapshot; it is rebuilt only if results were added since the last call.
+     *
      * @return the list of all validation results
      */
     public List<ValidationResult> getResults() {
-        return results;
+        List<ValidationResult> current = view;
+        long counted = snapshot().total();
+        if (current.size() == counted) {
+            return current;
+        }
+        List<Entry> entries = new ArrayList<>(current.size() + 16);
+        for (int i = 0; i < SEGMENTS; i++) {
+            ConcurrentLinkedQueue<Entry> segment = segments.get(i);
+            if (segment != null) {
+                entries.addAll(segment);
+            }
+        }
+        // Stable: equal stamps keep segment and queue order, so one thread's results stay in order
+        entries.sort(Comparator.comparingLong(Entry::addedNanos));
+        ValidationResult[] results = new ValidationResult[entries.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = entries.get(i).result();
+        }
+        current = Collections.unmodifiableList(Arrays.asList(results));
+        if (results.length == counted) {
+            // No add was in flight, so the next call can reuse this list until more are counted
+            view = current;
+        }
+        return current;
     }
 
     /**
@@ -88,13 +184,16 @@ public class TestReport {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("\n=== Test Summary ===\n");
+        long passed = 0;
+        List<ValidationResult> results = getResults();
         for (ValidationResult r : results) {
+            if (r.isPassed()) passed++;
             sb.append(String.format("• %-25s : %s (%s)%n",
                 r.getTaskName(),
                 r.isPassed() ? "PASS" : "FAIL",
                 r.getMessage()));
         }
-        sb.append(String.format("Total: %d  Passed: %d  Failed: %d%n", total(), passed(), failed()));
+        sb.append(String.format("Total: %d  Passed: %d  Failed: %d%n", results.size(), passed, results.size() - passed));
         return sb.toString();
     }
 }
@@ -1,16 +1,11 @@
 package com.amd.validation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.opencsv.CSVWriter;
 
 import java.io.*;
 import java.nio.file.*;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 /**
  * TestReportExporter handles exporting a {@link TestReport} to multiple formats:
@@ -77,32 +72,17 @@ public class TestReportExporter {
     }
 
     /**
-     * Serializes the entire TestReport as indented JSON using Jackson.
+     * Serializes the entire TestReport as indented JSON using Jackson; the shared mapper
+     * is built on first use rather than per report.
      */
     private void writeJson(TestReport report, Path jsonPath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.enable(SerializationFeature.INDENT_OUTPUT); // Pretty print
-        ObjectWriter writer = mapper.writerWithDefaultPrettyPrinter();
-        writer.writeValue(jsonPath.toFile(), report);
+        JsonReportExporter.export(report, jsonPath);
     }
 
     /**
      * Creates a ZIP archive of the specified directory.
      */
     private void zipDirectory(Path sourceDir, Path zipFilePath) throws IOException {
-        try (ZipOutputStream zipOut = new ZipOutputStream(new FileOutputStream(zipFilePath.toFile()))) {
-            Files.walk(sourceDir)
-                 .filter(Files::isRegularFile)
-                 .forEach(path -> {
-                     ZipEntry entry = new ZipEntry(sourceDir.relativize(path).toString());
-                     try (InputStream in = new FileInputStream(path.toFile())) {
-                         zipOut.putNextEntry(entry);
-                         in.transferTo(zipOut);
-                         zipOut.closeEntry();
-                     } catch (IOException e) {
-                         throw new RuntimeException("Failed to zip report file: " + path, e);
-                     }
-                 });
-        }
+        ZipReportBundler.bundleReports(sourceDir, zipFilePath);
     }
 }
@@ -1,6 +1,19 @@
 package com.amd.validation;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * The TestRunner class executes a series of validation tasks against a specific GPU device.
@@ -9,12 +22,64 @@ import java.util.List;
  * into a {@link TestReport}, which includes pass/fail status for each task as well as
  * the full {@link TestContext} (device metadata).
  * </p>
+ * <p>
+ * When constructed from a {@link TaskGraph}, independent tasks run concurrently on virtual
+ * threads, and a task whose prerequisite failed is skipped and reported as failed. Results
+ * are still reported in registration order.
+ * </p>
+ * <p>
+ * Tasks are fault-isolated: a task that throws becomes a failed result carrying the
+ * exception as its {@link ValidationResult#getCause() cause}, and the run continues. With
+ * a timeout configured, each task runs on its own virtual thread and is interrupted and
+ * reported as failed when it overruns, so a hung sensor read cannot stall the device run.
+ * Faulted attempts can be retried with backoff according to a {@link RetryPolicy}.
+ * Timeouts and retry policies are configured per task name ({@link ValidationTask#name()},
+ * or the node name in a graph) with a runner-wide default.
+ * </p>
+ * <p>
+ * With a {@link ResultCache}, a {@link CacheableTask} whose fingerprint is cached returns
+ * the stored result without executing; otherwise its verdict is stored for the next run.
+ * </p>
+ * <p>
+ * With a {@link TaskLog}, each task's start and verdict are recorded as events that a
+ * background thread formats and writes, so logging never contends across device threads.
+ * The tasks' own loggers are raised to WARN, so their DEBUG and INFO lines do not reach
+ * the appender synchronously on the validation threads.
+ * </p>
  */
 public class TestRunner {
 
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(TestRunner.class);
+
     /** List of validation tasks to run (e.g., PCIe check, thermal check, etc.) */
     private final List<ValidationTask> tasks;
 
+    /** Optional dependency graph; when set, tasks are scheduled concurrently */
+    private final TaskGraph graph;
+
+    /** Sinks that receive each result as soon as its task completes */
+    private final List<ResultSink> sinks = new CopyOnWriteArrayList<>();
+
+    /** Optional latency and outcome metrics; {@code null} when not instrumented */
+    private MetricsRegistry metrics;
+
+    /** Timeout applied to tasks without their own; {@code null} runs tasks inline, unbounded */
+    private Duration defaultTimeout;
+
+    /** Retry policy applied to tasks without their own */
+    private RetryPolicy defaultRetry = RetryPolicy.NONE;
+
+    /** Optional cache of {@link CacheableTask} results; {@code null} executes every task */
+    private ResultCache cache;
+
+    /** Optional asynchronous task log; {@code null} records no task events */
+    private TaskLog taskLog;
+
+    /** Per-task overrides, keyed by task name */
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>();
+    private final Map<String, RetryPolicy> retries = new ConcurrentHashMap<>();
+
     /**
      * Constructs a TestRunner with a provided list of tasks.
      *
@@ -22,6 +87,122 @@ public class TestRunner {
      */
     public TestRunner(List<ValidationTask> tasks) {
         this.tasks = tasks;
+        this.graph = null;
+    }
+
+    /**
+     * Constructs a TestRunner that schedules tasks according to their dependencies.
+     *
+     * @param graph the tasks and their prerequisites
+     */
+    public TestRunner(TaskGraph graph) {
+        this.tasks = graph.getNodes().stream().map(TaskGraph.Node::getTask).toList();
+        this.graph = graph;
+    }
+
+    /**
+     * Streams every result to the given sink as soon as its task completes.
+     *
+     * @param sink the sink to attach
+     * @return this runner, for chaining
+     */
+    public TestRunner withSink(ResultSink sink) {
+        sinks.add(sink);
+        return this;
+    }
+
+    /**
+     * Records task and device latencies and result counts into the given registry.
+     *
+     * @param metrics the registry to record into
+     * @return this runner, for chaining
+     */
+    public TestRunner withMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the timeout for every task that has no timeout of its own.
+     *
+     * @param timeout the maximum time a single attempt may take
+     * @return this runner, for chaining
+     */
+    public TestRunner withTimeout(Duration timeout) {
+        this.defaultTimeout = requirePositive(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the timeout for one task.
+     *
+     * @param taskName the task name
+     * @param timeout  the maximum time a single attempt may take
+     * @return this runner, for chaining
+     */
+    public TestRunner withTimeout(String taskName, Duration timeout) {
+        timeouts.put(taskName, requirePositive(timeout));
+        return this;
+    }
+
+    /**
+     * Sets the retry policy for every task that has no policy of its own.
+     *
+     * @param policy the policy
+     * @return this runner, for chaining
+     */
+    public TestRunner withRetry(RetryPolicy policy) {
+        this.defaultRetry = policy;
+        return this;
+    }
+
+    /**
+     * Sets the retry policy for one task.
+     *
+     * @param taskName the task name
+     * @param policy   the policy
+     * @return this runner, for chaining
+     */
+    public TestRunner withRetry(String taskName, RetryPolicy policy) {
+        retries.put(taskName, policy);
+        return this;
+    }
+
+    /**
+     * Reuses cached results of {@link CacheableTask}s and caches their new verdicts.
+     *
+     * @param cache the cache to read and fill
+     * @return this runner, for chaining
+     */
+    public TestRunner withResultCache(ResultCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Records each task's start (DEBUG) and verdict (INFO, or WARN when it faulted) in an
+     * asynchronous task log, and raises the task classes' own loggers to WARN: only their
+     * warnings and errors are still logged synchronously.
+     *
+     * @param taskLog the log, which the caller closes
+     * @return this runner, for chaining
+     */
+    public TestRunner withTaskLog(TaskLog taskLog) {
+        this.taskLog = taskLog;
+        ConsoleLogConfigurator.raiseToWarn(tasks.stream().map(t -> t.getClass().getName()).distinct().toList());
+        return this;
+    }
+
+    private static Duration requirePositive(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        return timeout;
+    }
+
+    /** @return the attached metrics registry, or {@code null} */
+    MetricsRegistry getMetrics() {
+        return metrics;
     }
 
     /**
@@ -32,10 +213,19 @@ public class TestRunner {
      */
     public TestReport runAll(TestContext context) {
         TestReport report = new TestReport();
+        long start = System.nanoTime();
 
-        // Execute each validation task and collect its result
-        for (ValidationTask t : tasks) {
-            report.add(t.execute(context));
+        if (graph != null) {
+            runGraph(context, report);
+        } else {
+            // Execute each validation task and collect its result
+            for (ValidationTask t : tasks) {
+                report.add(runTask(t.name(), t, context));
+            }
+        }
+
+        if (metrics != null) {
+            metrics.recordDevice(context.getDeviceId(), System.nanoTime() - start);
         }
 
         // Attach device metadata (e.g., ID, memory, PCI info) to the report
@@ -43,4 +233,187 @@ public class TestRunner {
 
         return report;
     }
+
+    /**
+     * Executes a single task. All execution paths go through here.
+     */
+    private ValidationResult runTask(String name, ValidationTask task, TestContext context) {
+        TaskLog log = taskLog;
+        if (log != null) {
+            log.log(TaskLog.Level.DEBUG, name, context.getDeviceId(), "Running {}", name);
+        }
+        ValidationResult result;
+        if (metrics == null) {
+            result = executeCached(name, task, context);
+        } else {
+            long start = System.nanoTime();
+            result = executeCached(name, task, context);
+            // Recorded under the runner's name, like faults and skipped tasks
+            metrics.recordTask(name, System.nanoTime() - start, result.isPassed());
+        }
+        if (log != null) {
+            log.log(result.getCause() != null ? TaskLog.Level.WARN : TaskLog.Level.INFO, name,
+                    context.getDeviceId(), "{}: {}", result.isPassed() ? "PASS" : "FAIL",
+                    TaskLog.messageOf(result));
+        }
+        return publish(context, result);
+    }
+
+    /**
+     * Returns the cached result of a cacheable task, or executes the task and caches its
+     * verdict.
+     */
+    private ValidationResult executeCached(String name, ValidationTask task, TestContext context) {
+        if (cache == null || !(task instanceof CacheableTask cacheable)) {
+            return executeIsolated(name, task, context);
+        }
+        String key = cache.key(cacheable, context);
+        ValidationResult cached = cache.get(key);
+        if (cached != null) {
+            TaskLog log = taskLog;
+            if (log != null) {
+                log.log(TaskLog.Level.DEBUG, name, context.getDeviceId(), "Reusing cached result");
+            } else {
+                LOG.debug("Reusing cached result of {} for {}", name, context.getDeviceId());
+            }
+            return cached;
+        }
+        ValidationResult result = executeIsolated(name, task, context);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Runs a task under its timeout and retry policy. Exceptions and timeouts become
+     * failed results with a cause; they are retried, verdicts are not.
+     */
+    private ValidationResult executeIsolated(String name, ValidationTask task, TestContext context) {
+        Duration timeout = timeouts.getOrDefault(name, defaultTimeout);
+        RetryPolicy retry = retries.getOrDefault(name, defaultRetry);
+        int attempts = retry.getMaxAttempts();
+
+        for (int attempt = 1; ; attempt++) {
+            ValidationResult result = attempt(name, task, context, timeout);
+            if (result == null) {
+                result = new ValidationResult(name, "Returned no result",
+                                              new IllegalStateException("Task " + name + " returned null"));
+            }
+            Throwable cause = result.getCause();
+            if (cause == null) {
+                return result;
+            }
+
+            LOG.warn("Task {} on {} faulted (attempt {} of {}): {}",
+                     name, context.getDeviceId(), attempt, attempts, result.getMessage());
+            if (attempt >= attempts || cause instanceof InterruptedException) {
+                return attempt == 1 ? result : new ValidationResult(
+                    name, result.getMessage() + " (after " + attempt + " attempts)", cause);
+            }
+            try {
+                Thread.sleep(retry.backoff(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new ValidationResult(name, result.getMessage() + " (retry interrupted)", cause);
+            }
+        }
+    }
+
+    /**
+     * Runs one attempt, converting an exception or timeout into a failed result with a cause.
+     */
+    private static ValidationResult attempt(String name, ValidationTask task, TestContext context,
+                                            Duration timeout) {
+        if (timeout == null) {
+            try {
+                return task.execute(context);
+            } catch (RuntimeException e) {
+                return new ValidationResult(name, "Threw " + e, e);
+            }
+        }
+
+        FutureTask<ValidationResult> run = new FutureTask<>(() -> task.execute(context));
+        Thread.ofVirtual().name("task-" + name + "-" + context.getDeviceId()).start(run);
+        try {
+            return run.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            run.cancel(true);
+            String message = "Timed out after " + timeout.toMillis() + " ms";
+            return new ValidationResult(name, message, new TimeoutException(message));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            return new ValidationResult(name, "Threw " + cause, cause);
+        } catch (InterruptedException e) {
+            run.cancel(true);
+            Thread.currentThread().interrupt();
+            return new ValidationResult(name, "Interrupted", e);
+        }
+    }
+
+    /**
+     * Hands a completed result to every attached sink.
+     */
+    private ValidationResult publish(TestContext context, ValidationResult result) {
+        for (ResultSink sink : sinks) {
+            sink.accept(context, result);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the task graph: each task starts as soon as all of its prerequisites have
+     * completed, and is skipped if any of them failed.
+     */
+    private void runGraph(TestContext context, TestReport report) {
+        List<TaskGraph.Node> nodes = graph.getNodes();
+        List<CompletableFuture<ValidationResult>> futures = new ArrayList<>(nodes.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < nodes.size(); i++) {
+                TaskGraph.Node node = nodes.get(i);
+                int[] pre = node.prerequisites();
+                List<CompletableFuture<ValidationResult>> deps = new ArrayList<>(pre.length);
+                for (int p : pre) {
+                    deps.add(futures.get(p));
+                }
+
+                CompletableFuture<?>[] all = deps.toArray(new CompletableFuture<?>[0]);
+                futures.add(CompletableFuture.allOf(all).thenApplyAsync(ignored -> {
+                    for (int j = 0; j < pre.length; j++) {
+                        if (!deps.get(j).join().isPassed()) {
+                            ValidationResult skip = skipped(node, nodes.get(pre[j]));
+                            if (metrics != null) {
+                                metrics.recordResult(skip.getTaskName(), false);
+                            }
+                            return publish(context, skip);
+                        }
+                    }
+                    return runTask(node.getName(), node.getTask(), context);
+                }, executor));
+            }
+
+            for (CompletableFuture<ValidationResult> f : futures) {
+                report.add(f.join());
+            }
+        } catch (CompletionException e) {
+            // Tasks are isolated; anything reaching here came from a sink or an Error
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+
+    private static ValidationResult skipped(TaskGraph.Node node, TaskGraph.Node failedPrerequisite) {
+        return new ValidationResult(
+            node.getName(),
+            false,
+            "Skipped: prerequisite " + failedPrerequisite.getName() + " failed"
+        );
+    }
 }
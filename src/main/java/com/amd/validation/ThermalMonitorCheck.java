@@ -12,6 +12,10 @@ public class ThermalMonitorCheck implements ValidationTask {
     /** SLF4J logger for diagnostic output */
     private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ThermalMonitorCheck.class);
 
+    /** Shared PASS result; results are immutable so one instance serves every call */
+    private static final ValidationResult PASS =
+            new ValidationResult("ThermalMonitorCheck", true, "Thermals OK");
+
     /** Flag indicating whether to suppress detailed logs (useful in summary-only reports) */
     private final boolean summaryOnly;
 
@@ -44,6 +48,13 @@ public class ThermalMonitorCheck implements ValidationTask {
         }
 
         // TODO: Replace with real thermal check (e.g., context.getGpuTemperature())
-        return new ValidationResult("ThermalMonitorCheck", true, "Thermals OK");
+        // The verdict is always PASS, so the window is only summarized for the debug log
+        TelemetrySeries telemetry = context.getTelemetry();
+        if (LOG.isDebugEnabled() && telemetry != null && telemetry.getTemperature().getSize() > 0) {
+            DoubleRingBuffer window = telemetry.getTemperature();
+            LOG.debug("Thermals of {}: min {}°C, mean {}°C, p99 {}°C, max {}°C", context.getDeviceId(),
+                      window.getMin(), window.getMean(), window.getP99(), window.getMax());
+        }
+        return PASS;
     }
 }
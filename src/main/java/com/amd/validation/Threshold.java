@@ -0,0 +1,107 @@
+package com.amd.validation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The tunable limits of the built-in validation tasks.
+ * <p>
+ * Each constant has the key used in threshold profiles and job overrides, and the limit
+ * that applies when no profile sets it. A {@link ThresholdProfile} stores one value per
+ * constant, indexed by {@link #ordinal()}.
+ * </p>
+ */
+public enum Threshold {
+
+    /** Lowest acceptable fan speed, in whole RPM */
+    FAN_MIN_RPM("fan.minRpm", 800, true),
+
+    /** Highest acceptable fan speed, in whole RPM */
+    FAN_MAX_RPM("fan.maxRpm", 3500, true),
+
+    /** Highest acceptable power draw, in watts */
+    POWER_MAX_WATTS("power.maxWatts", 200),
+
+    /** Memory usage, in percent of total, at or above which the memory check fails */
+    MEMORY_MAX_PERCENT("memory.maxPercent", 90),
+
+    /** Highest acceptable temperature for the health check, in °C */
+    HEALTH_MAX_TEMP_C("health.maxTempC", 85),
+
+    /** Highest acceptable memory used for the health check, in GB */
+    HEALTH_MAX_MEMORY_GB("health.maxMemoryGB", Double.POSITIVE_INFINITY),
+
+    /** Steepest acceptable temperature rise over a soak window, in °C per minute */
+    SOAK_MAX_TEMP_SLOPE("soak.maxTempSlopeCPerMin", 2.0),
+
+    /** Most fan speed reversals acceptable within a soak window */
+    SOAK_MAX_FAN_REVERSALS("soak.maxFanReversals", 10),
+
+    /** Largest acceptable share of a soak window's samples above {@code power.maxWatts}, in percent */
+    SOAK_MAX_POWER_SPIKE_PERCENT("soak.maxPowerSpikePercent", 1.0),
+
+    /** Fastest acceptable growth of used memory over a soak window, in GB per hour */
+    SOAK_MAX_MEMORY_CREEP("soak.maxMemoryCreepGBPerHour", 0.5);
+
+    private static final Map<String, Threshold> BY_KEY =
+        Arrays.stream(values()).collect(Collectors.toUnmodifiableMap(Threshold::key, Function.identity()));
+
+    private final String key;
+    private final double defaultValue;
+    private final boolean whole;
+
+    Threshold(String key, double defaultValue) {
+        this(key, defaultValue, false);
+    }
+
+    Threshold(String key, double defaultValue, boolean whole) {
+        this.key = key;
+        this.defaultValue = defaultValue;
+        this.whole = whole;
+    }
+
+    /** @return the key used in profile files and job overrides, e.g. {@code power.maxWatts} */
+    public String key() {
+        return key;
+    }
+
+    /** @return the limit used when no profile sets one */
+    public double defaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Checks a value for this limit: it must be a number, and a whole number for limits
+     * compared against integer readings (fan RPM), so it is never silently truncated.
+     *
+     * @param value the proposed limit
+     * @return the value
+     * @throws IllegalArgumentException if the value is not acceptable
+     */
+    public double check(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Threshold '" + key + "' needs a number");
+        }
+        if (whole && value != Math.rint(value)) {
+            throw new IllegalArgumentException("Threshold '" + key + "' must be a whole number: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Looks up a threshold by key.
+     *
+     * @param key a key such as {@code fan.maxRpm}
+     * @return the threshold
+     * @throws IllegalArgumentException if the key is unknown
+     */
+    public static Threshold forKey(String key) {
+        Threshold t = BY_KEY.get(key);
+        if (t == null) {
+            throw new IllegalArgumentException("Unknown threshold '" + key + "'; expected one of " + BY_KEY.keySet());
+        }
+        return t;
+    }
+}
@@ -0,0 +1,125 @@
+package com.amd.validation;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable set of task limits, one value per {@link Threshold}.
+ * <p>
+ * Profiles are compiled once, when they are loaded or a job is resolved; tasks then read
+ * a limit with {@link #get(Threshold)}, which is a single array access. A profile is
+ * attached to each {@link TestContext}, so a run keeps the limits it started with even if
+ * the profiles are reloaded while it is in flight.
+ * </p>
+ */
+public final class ThresholdProfile {
+
+    /** The built-in limits of every task */
+    public static final ThresholdProfile DEFAULTS = new ThresholdProfile("default", defaults());
+
+    private final String name;
+    private final double[] values;
+
+    private ThresholdProfile(String name, double[] values) {
+        this.name = name;
+        this.values = values;
+    }
+
+    private static double[] defaults() {
+        Threshold[] all = Threshold.values();
+        double[] values = new double[all.length];
+        for (Threshold t : all) {
+            values[t.ordinal()] = t.defaultValue();
+        }
+        return values;
+    }
+
+    /** @return the profile name, usually a SKU such as {@code MI300X} */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param threshold the limit to read
+     * @return its value in this profile
+     */
+    public double get(Threshold threshold) {
+        return values[threshold.ordinal()];
+    }
+
+    /**
+     * Derives a profile with some limits replaced.
+     *
+     * @param name      name of the derived profile
+     * @param overrides values keyed as {@link Threshold#key()}; may be {@code null}
+     * @return the derived profile, or this one if there is nothing to override
+     * @throws IllegalArgumentException for unknown keys, non-numeric values, or fractional
+     *                                  values of whole-number limits
+     */
+    public ThresholdProfile derive(String name, Map<String, Double> overrides) {
+        if ((overrides == null || overrides.isEmpty()) && this.name.equals(name)) {
+            return this;
+        }
+        double[] copy = values.clone();
+        if (overrides != null) {
+            for (Map.Entry<String, Double> e : overrides.entrySet()) {
+                Threshold t = Threshold.forKey(e.getKey());
+                if (e.getValue() == null) {
+                    throw new IllegalArgumentException("Threshold '" + e.getKey() + "' needs a number");
+                }
+                copy[t.ordinal()] = t.check(e.getValue());
+            }
+        }
+        return new ThresholdProfile(name, copy);
+    }
+
+    /**
+     * Derives a profile with one limit replaced, keeping this profile's name.
+     *
+     * @param threshold the limit to replace
+     * @param value     its new value
+     * @return the derived profile
+     * @throws IllegalArgumentException if the value is not acceptable for the limit
+     */
+    public ThresholdProfile with(Threshold threshold, double value) {
+        double[] copy = values.clone();
+        copy[threshold.ordinal()] = threshold.check(value);
+        return new ThresholdProfile(name, copy);
+    }
+
+    /**
+     * Derives a profile with some limits replaced, keeping this profile's name.
+     *
+     * @param overrides values keyed as {@link Threshold#key()}; may be {@code null}
+     * @return the derived profile
+     * @throws IllegalArgumentException for unknown keys
+     */
+    public ThresholdProfile withOverrides(Map<String, Double> overrides) {
+        return derive(name, overrides);
+    }
+
+    /** @return every limit keyed as {@link Threshold#key()}, in declaration order */
+    public Map<String, Double> asMap() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (Threshold t : Threshold.values()) {
+            map.put(t.key(), values[t.ordinal()]);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ThresholdProfile p && name.equals(p.name) && Arrays.equals(values, p.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "ThresholdProfile{" + name + ", " + asMap() + '}';
+    }
+}
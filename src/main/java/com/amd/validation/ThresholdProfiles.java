@@ -0,0 +1,289 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ThresholdProfiles holds the per-SKU {@link ThresholdProfile}s loaded from a JSON file
+ * and, optionally, reloads them when the file changes.
+ * <p>
+ * The file maps profile names to limit overrides. The {@code default} entry applies to
+ * every device and each SKU profile is layered on top of it. Names are case-insensitive,
+ * so two entries that differ only in case are rejected:
+ * </p>
+ * <pre>
+ * {
+ *   "default": {"health.maxTempC": 90},
+ *   "MI300X":  {"power.maxWatts": 750, "fan.maxRpm": 4200},
+ *   "MI250X":  {"power.maxWatts": 560}
+ * }
+ * </pre>
+ * <p>
+ * A reload compiles the whole file first and then swaps it in with one atomic write, so a
+ * run sees either the old profiles or the new ones, never a mix. A file that fails to
+ * parse is logged and ignored; the previous profiles stay in force. Runs already in
+ * flight are unaffected because each {@link TestContext} carries the profile it was
+ * resolved with.
+ * </p>
+ */
+public class ThresholdProfiles implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(ThresholdProfiles.class);
+
+    /** Name of the entry that applies to every SKU */
+    public static final String DEFAULT_PROFILE = "default";
+
+    /**
+     * One compiled version of the file. {@code bySpecificity} lists SKU profiles with the
+     * longest names first, so "MI300X" matches a device name before "MI300" does.
+     */
+    private record Snapshot(ThresholdProfile defaults, Map<String, ThresholdProfile> byName,
+                            List<ThresholdProfile> bySpecificity) {
+    }
+
+    private final Path file;
+    private final AtomicReference<Snapshot> current;
+
+    private WatchService watcher;
+    private Thread watchThread;
+
+    /**
+     * Creates a registry holding only the built-in defaults.
+     */
+    public ThresholdProfiles() {
+        this.file = null;
+        this.current = new AtomicReference<>(
+            new Snapshot(ThresholdProfile.DEFAULTS, Map.of(), List.of()));
+    }
+
+    private ThresholdProfiles(Path file, Snapshot snapshot) {
+        this.file = file;
+        this.current = new AtomicReference<>(snapshot);
+    }
+
+    /**
+     * Loads profiles from a JSON file.
+     *
+     * @param file the profile file
+     * @return the registry
+     * @throws IOException if the file cannot be read or is not a valid profile file
+     */
+    public static ThresholdProfiles load(Path file) throws IOException {
+        ThresholdProfiles profiles = new ThresholdProfiles(file, compile(file));
+        LOG.info("Loaded threshold profiles {} from {}", profiles.names(), file);
+        return profiles;
+    }
+
+    /**
+     * Resolves the profile for one device: the named SKU if given, otherwise the first
+     * profile whose name appears in the device name, otherwise the default profile.
+     *
+     * @param sku        SKU name (case-insensitive); may be {@code null}
+     * @param deviceName device name reported by the sensors; may be {@code null}
+     * @return the profile
+     * @throws IllegalArgumentException if {@code sku} names no profile
+     */
+    public ThresholdProfile resolve(String sku, String deviceName) {
+        Snapshot s = current.get();
+        if (sku != null && !sku.isBlank()) {
+            String key = sku.trim().toLowerCase(Locale.ROOT);
+            if (key.equals(DEFAULT_PROFILE)) {
+                return s.defaults();
+            }
+            ThresholdProfile p = s.byName().get(key);
+            if (p == null) {
+                throw new IllegalArgumentException("Unknown SKU '" + sku + "'; profiles: " + names());
+            }
+            return p;
+        }
+        if (deviceName != null) {
+            String name = deviceName.toLowerCase(Locale.ROOT);
+            for (ThresholdProfile p : s.bySpecificity()) {
+                if (name.contains(p.getName().toLowerCase(Locale.ROOT))) {
+                    return p;
+                }
+            }
+        }
+        return s.defaults();
+    }
+
+    /** @return the SKU profile names currently loaded, excluding the default */
+    public List<String> names() {
+        return current.get().byName().values().stream().map(ThresholdProfile::getName).sorted().toList();
+    }
+
+    /**
+     * Re-reads the file and swaps in the new profiles.
+     *
+     * @return {@code true} if the profiles were replaced; {@code false} if the file could
+     *         not be compiled and the previous profiles were kept
+     */
+    public boolean reload() {
+        if (file == null) {
+            return false;
+        }
+        try {
+            current.set(compile(file));
+            LOG.info("Reloaded threshold profiles {} from {}", names(), file);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Keeping previous threshold profiles; {} is invalid: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Starts reloading the profiles whenever the file is written, created or replaced.
+     * The watch runs on a daemon thread until {@link #close()}.
+     *
+     * @return this registry, for chaining
+     * @throws IOException if the directory cannot be watched
+     */
+    public synchronized ThresholdProfiles watch() throws IOException {
+        if (file == null || watcher != null) {
+            return this;
+        }
+        Path dir = file.toAbsolutePath().getParent();
+        watcher = FileSystems.getDefault().newWatchService();
+        dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchService ws = watcher;
+        Path name = file.getFileName();
+        watchThread = Thread.ofPlatform().daemon().name("threshold-watch").start(() -> watchLoop(ws, name));
+        return this;
+    }
+
+    private void watchLoop(WatchService ws, Path name) {
+        try {
+            while (true) {
+                WatchKey key = ws.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (name.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    // Editors write in several steps; let the burst settle and take the final state
+                    Thread.sleep(50);
+                    drain(ws);
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private static void drain(WatchService ws) {
+        WatchKey key;
+        while ((key = ws.poll()) != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                LOG.debug("Closing watch service failed", e);
+            }
+            watchThread.interrupt();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Parses and compiles a profile file.
+     */
+    private static Snapshot compile(Path file) throws IOException {
+        JsonNode root;
+        try {
+            // Mapper built per load: files are read rarely, and the CLI path stays free of databind
+            root = new ObjectMapper().readTree(Files.readAllBytes(file));
+        } catch (JsonProcessingException e) {
+            throw new IOException("Invalid JSON in " + file + ": " + e.getOriginalMessage(), e);
+        }
+        if (root == null || !root.isObject()) {
+            throw new IOException(file + " must contain a JSON object of profiles");
+        }
+
+        // Profile names are case-insensitive, the default entry's included
+        ThresholdProfile defaults = ThresholdProfile.DEFAULTS;
+        String defaultKey = null;
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> e = it.next();
+            if (!e.getKey().equalsIgnoreCase(DEFAULT_PROFILE)) {
+                continue;
+            }
+            if (defaultKey != null) {
+                throw new IOException(file + " has both '" + defaultKey + "' and '" + e.getKey() + "' profiles");
+            }
+            defaultKey = e.getKey();
+            defaults = defaults.derive(DEFAULT_PROFILE, limits(file, e.getKey(), e.getValue()));
+        }
+
+        Map<String, ThresholdProfile> byName = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> e = it.next();
+            if (e.getKey().equalsIgnoreCase(DEFAULT_PROFILE)) {
+                continue;
+            }
+            ThresholdProfile previous = byName.put(e.getKey().toLowerCase(Locale.ROOT),
+                defaults.derive(e.getKey(), limits(file, e.getKey(), e.getValue())));
+            if (previous != null) {
+                throw new IOException(file + " has both '" + previous.getName() + "' and '" + e.getKey() + "' profiles");
+            }
+        }
+
+        List<ThresholdProfile> bySpecificity = new ArrayList<>(byName.values());
+        bySpecificity.sort(Comparator.comparingInt((ThresholdProfile p) -> p.getName().length()).reversed());
+        return new Snapshot(defaults, Map.copyOf(byName), List.copyOf(bySpecificity));
+    }
+
+    private static Map<String, Double> limits(Path file, String profile, JsonNode node) throws IOException {
+        if (!node.isObject()) {
+            throw new IOException("Profile '" + profile + "' in " + file + " must be an object of limits");
+        }
+        Map<String, Double> limits = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> e = it.next();
+            if (!e.getValue().isNumber()) {
+                throw new IOException("Limit '" + e.getKey() + "' of profile '" + profile + "' must be a number");
+            }
+            try {
+                Threshold.forKey(e.getKey()).check(e.getValue().doubleValue());
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Profile '" + profile + "': " + ex.getMessage());
+            }
+            limits.put(e.getKey(), e.getValue().doubleValue());
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,337 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ValidationDaemon keeps a warm JVM running and accepts validation jobs over loopback HTTP.
+ * <p>
+ * A one-shot CLI run pays for JVM startup, class loading, logging setup and a cold JIT on
+ * every device, which costs more than the validation itself. The daemon pays that once;
+ * station controllers then submit jobs in milliseconds:
+ * </p>
+ * <pre>
+ * curl -sN --data '{"deviceId":"GPU-003","tasks":["pcie","power"]}' http://127.0.0.1:8085/jobs
+ * </pre>
+ * <p>
+ * Endpoints:
+ * </p>
+ * <ul>
+ *   <li>{@code POST /jobs} - body is one {@link ValidationJob}. The response is JSON Lines,
+ *       streamed as the job runs: one {@code "type":"result"} line per task as it completes,
+ *       then one {@code "type":"report"} summary line. Rejected with 503 when the queue is
+ *       full and 400 for malformed jobs.</li>
+ *   <li>{@code GET /status} - queue depth, running and completed job counts.</li>
+ *   <li>{@code GET /metrics} - Prometheus metrics of all jobs run so far.</li>
+ * </ul>
+ * <p>
+ * Jobs wait in a bounded FIFO queue and at most {@code workers} run at once, each on a
+ * virtual thread with its own {@link TestRunner}. The server listens on the loopback
+ * interface only.
+ * </p>
+ */
+public class ValidationDaemon implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOG =
+            org.slf4j.LoggerFactory.getLogger(ValidationDaemon.class);
+
+    public static final int DEFAULT_PORT = 8085;
+    public static final int DEFAULT_WORKERS = FleetRunner.DEFAULT_MAX_CONCURRENCY;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = new JsonFactory().setRootValueSeparator(null);
+
+    private final HttpServer server;
+    private final ExecutorService httpExecutor;
+    private final ThreadPoolExecutor jobs;
+    private final SensorProvider sensors;
+    // One histogram for all device runs: the daemon sees an unbounded stream of device IDs
+    private final MetricsRegistry metrics = new MetricsRegistry().withDeviceLatency(false);
+
+    private Duration taskTimeout;
+    private volatile ThresholdProfiles profiles = new ThresholdProfiles();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Starts a daemon.
+     *
+     * @param port          loopback port; 0 picks a free port
+     * @param sensors       source of device readings for every job
+     * @param workers       jobs run concurrently
+     * @param queueCapacity jobs waiting before new ones are rejected
+     * @throws IOException if the port cannot be bound
+     */
+    public ValidationDaemon(int port, SensorProvider sensors, int workers, int queueCapacity) throws IOException {
+        if (workers <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("workers and queueCapacity must be positive");
+        }
+        this.sensors = sensors;
+        this.jobs = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), Thread.ofVirtual().name("job-", 0).factory());
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(httpExecutor);
+        server.createContext("/jobs", this::handleJob);
+        server.createContext("/status", this::handleStatus);
+        server.createContext("/metrics", exchange -> MetricsServer.serve(metrics, exchange));
+        server.start();
+        LOG.info("Validation daemon listening on http://127.0.0.1:{} ({} workers, queue {})",
+                 getPort(), workers, queueCapacity);
+    }
+
+    /**
+     * Applies a per-task timeout to every job.
+     *
+     * @param timeout the timeout for each task attempt
+     * @return this daemon, for chaining
+     */
+    public ValidationDaemon withTaskTimeout(Duration timeout) {
+        this.taskTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the per-SKU threshold profiles applied to jobs. Profiles that are reloaded (see
+     * {@link ThresholdProfiles#watch()}) take effect from the next job; running jobs keep
+     * the limits they started with.
+     *
+     * @param profiles the profiles
+     * @return this daemon, for chaining
+     */
+    public ValidationDaemon withThresholdProfiles(ThresholdProfiles profiles) {
+        this.profiles = profiles;
+        return this;
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** @return the metrics of every job run by this daemon */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops accepting jobs, lets queued and running jobs finish, and stops the server.
+     */
+    @Override
+    public void close() {
+        jobs.shutdown();
+        try {
+            if (!jobs.awaitTermination(30, TimeUnit.SECONDS)) {
+                jobs.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            jobs.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server.stop(0);
+        httpExecutor.close();
+        LOG.info("Validation daemon stopped after {} jobs", completed.get());
+    }
+
+    /* ========== handlers ================================================== */
+
+    private void handleJob(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use POST");
+                return;
+            }
+
+            ValidationJob job;
+            List<ValidationTask> tasks;
+            try (InputStream in = exchange.getRequestBody()) {
+                job = MAPPER.readValue(in, ValidationJob.class);
+                tasks = job.resolveTasks();
+                if (job.getSku() != null) {
+                    profiles.resolve(job.getSku(), null);
+                }
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            JobStream stream = new JobStream(exchange);
+            Future<TestReport> future;
+            try {
+                future = jobs.submit(() -> run(job, tasks, stream));
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Job queue full");
+                return;
+            }
+
+            TestReport report;
+            try {
+                report = future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                stream.error("Interrupted");
+                return;
+            } catch (ExecutionException e) {
+                LOG.warn("Job {} aborted: {}", job, e.getCause().toString());
+                stream.error("Job aborted: " + e.getCause());
+                return;
+            }
+            stream.report(report);
+        }
+    }
+
+    /**
+     * Runs one job on a worker thread; results stream out as tasks complete.
+     */
+    private TestReport run(ValidationJob job, List<ValidationTask> tasks, JobStream stream) {
+        TestContext ctx = new TestContext(job.getDeviceId());
+        sensors.populate(ctx);
+        ctx.setThresholds(job.resolveThresholds(profiles, ctx.getDeviceName()));
+
+        TestRunner runner = job.isParallel() ? new TestRunner(TaskCatalog.graph(tasks)) : new TestRunner(tasks);
+        runner.withSink(stream).withMetrics(metrics);
+        if (taskTimeout != null) {
+            runner.withTimeout(taskTimeout);
+        }
+        TestReport report = runner.runAll(ctx);
+        completed.incrementAndGet();
+        return report;
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            StringBuilder body = new StringBuilder()
+                .append("{\"queued\":").append(jobs.getQueue().size())
+                .append(",\"running\":").append(jobs.getActiveCount())
+                .append(",\"completed\":").append(completed.get())
+                .append(",\"rejected\":").append(rejected.get())
+                .append("}\n");
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = MAPPER.writeValueAsBytes(Map.of("error", String.valueOf(message)));
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /* ========== response stream =========================================== */
+
+    /**
+     * Streams one job's results to its HTTP response as JSON Lines. The response headers
+     * are sent with the first line, so a queued job holds the connection open silently.
+     */
+    private static final class JobStream implements ResultSink {
+
+        private final HttpExchange exchange;
+        private JsonGenerator gen;
+
+        JobStream(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public synchronized void accept(TestContext context, ValidationResult result) {
+            try {
+                JsonGenerator g = open();
+                g.writeStartObject();
+                g.writeStringField("type", "result");
+                g.writeNumberField("timestamp", System.currentTimeMillis());
+                g.writeStringField("deviceId", context.getDeviceId());
+                g.writeStringField("taskName", result.getTaskName());
+                g.writeBooleanField("passed", result.isPassed());
+                g.writeStringField("message", result.getMessage());
+                g.writeEndObject();
+                g.writeRaw('\n');
+                g.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Client went away", e);
+            }
+        }
+
+        synchronized void report(TestReport report) throws IOException {
+            JsonGenerator g = open();
+            g.writeStartObject();
+            g.writeStringField("type", "report");
+            g.writeStringField("deviceId", report.getContext().getDeviceId());
+            g.writeNumberField("passed", report.passed());
+            g.writeNumberField("failed", report.failed());
+            g.writeNumberField("total", report.total());
+            g.writeEndObject();
+            g.writeRaw('\n');
+            g.close();
+        }
+
+        synchronized void error(String message) throws IOException {
+            JsonGenerator g = open();
+            g.writeStartObject();
+            g.writeStringField("type", "error");
+            g.writeStringField("message", message);
+            g.writeEndObject();
+            g.writeRaw('\n');
+            g.close();
+        }
+
+        private JsonGenerator open() throws IOException {
+            if (gen == null) {
+                exchange.sendResponseHeaders(200, 0); // chunked
+                gen = FACTORY.createGenerator(
+                    new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+            }
+            return gen;
+        }
+
+        @Override
+        public void flush() {
+            // every line is flushed as it is written
+        }
+
+        @Override
+        public void close() {
+            // the handler closes the response after the summary line
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.amd.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A validation request submitted to {@link ValidationDaemon}.
+ * <p>
+ * Deserialized from JSON, for example:
+ * </p>
+ * <pre>
+ * {"deviceId": "GPU-003",
+ *  "sku": "MI300X",
+ *  "tasks": ["pcie", "thermal", "power", "location"],
+ *  "thresholds": {"power.maxWatts": 350},
+ *  "expectedPciLocation": "PCI bus 3, device 0, function 0"}
+ * </pre>
+ * <p>
+ * Task names are those of {@link TaskCatalog} and threshold keys those of {@link Threshold}.
+ * The device's limits are its SKU profile (named by {@code sku}, or matched from the device
+ * name) with the job's {@code thresholds} applied on top. An empty task list runs the
+ * default suite.
+ * </p>
+ */
+public class ValidationJob {
+
+    /** Tasks run when a job names none */
+    static final List<String> DEFAULT_TASKS = List.of("pcie", "thermal", "memory", "fan", "power");
+
+    private String deviceId;
+    private String sku;
+    private List<String> tasks = new ArrayList<>();
+    private Map<String, Double> thresholds = new LinkedHashMap<>();
+    private String expectedPciLocation;
+    private boolean parallel;
+
+    /** Constructs an empty job (for JSON deserialization). */
+    public ValidationJob() {
+    }
+
+    /**
+     * Constructs a job for one device.
+     *
+     * @param deviceId the device to validate
+     * @param tasks    task names; empty for the default suite
+     */
+    public ValidationJob(String deviceId, List<String> tasks) {
+        this.deviceId = deviceId;
+        this.tasks = new ArrayList<>(tasks);
+    }
+
+    /** @return the device to validate */
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    /** @param deviceId sets the device to validate */
+    public void setDeviceId(String deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    /** @return the threshold profile to apply; {@code null} to match it from the device name */
+    public String getSku() {
+        return sku;
+    }
+
+    /** @param sku sets the threshold profile to apply */
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    /** @return the task names; empty for the default suite */
+    public List<String> getTasks() {
+        return tasks;
+    }
+
+    /** @param tasks sets the task names */
+    public void setTasks(List<String> tasks) {
+        this.tasks = tasks != null ? tasks : new ArrayList<>();
+    }
+
+    /** @return threshold overrides keyed as {@link Threshold#key()} */
+    public Map<String, Double> getThresholds() {
+        return thresholds;
+    }
+
+    /** @param thresholds sets the threshold overrides */
+    public void setThresholds(Map<String, Double> thresholds) {
+        this.thresholds = thresholds != null ? thresholds : new LinkedHashMap<>();
+    }
+
+    /** @return the expected PCIe location for the {@code location} task */
+    public String getExpectedPciLocation() {
+        return expectedPciLocation;
+    }
+
+    /** @param expectedPciLocation sets the expected PCIe location */
+    public void setExpectedPciLocation(String expectedPciLocation) {
+        this.expectedPciLocation = expectedPciLocation;
+    }
+
+    /** @return whether independent tasks run concurrently (as with {@code --parallel}) */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** @param parallel sets whether independent tasks run concurrently */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Resolves the job's tasks.
+     *
+     * @return the tasks, in the order named
+     * @throws IllegalArgumentException if the job is incomplete or names unknown tasks/thresholds
+     */
+    List<ValidationTask> resolveTasks() {
+        if (deviceId == null || deviceId.isBlank()) {
+            throw new IllegalArgumentException("Job has no deviceId");
+        }
+        ThresholdProfile.DEFAULTS.withOverrides(thresholds); // validates the keys up front
+        return TaskCatalog.resolve(tasks.isEmpty() ? DEFAULT_TASKS : tasks, expectedPciLocation, true);
+    }
+
+    /**
+     * Resolves the limits for the job's device: its SKU profile plus the job's overrides.
+     *
+     * @param profiles   the loaded profiles
+     * @param deviceName the device name reported by the sensors
+     * @return the profile to attach to the device's context
+     * @throws IllegalArgumentException if the job names an unknown SKU or threshold
+     */
+    ThresholdProfile resolveThresholds(ThresholdProfiles profiles, String deviceName) {
+        return profiles.resolve(sku, deviceName).withOverrides(thresholds);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationJob{deviceId='" + deviceId + "', sku=" + sku + ", tasks=" + tasks
+               + ", thresholds=" + thresholds + '}';
+    }
+}
@@ -1,10 +1,20 @@
 package com.amd.validation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.function.Supplier;
+
 /**
  * Represents the outcome of a single validation task.
  *
  * <p>This class is used to encapsulate the result of executing a {@link ValidationTask},
  * including whether the task passed, a descriptive message, and the task name.</p>
+ *
+ * <p>Results are immutable, so tasks can preallocate their PASS result once and return
+ * the same instance on every call. Failure messages can be supplied lazily: the supplier
+ * runs only when the message is first read (for example when the result is printed or
+ * exported), never on the evaluation path. The numeric evidence behind a verdict (the
+ * measured value and the limit it was compared against) is kept as primitives.</p>
  */
 public class ValidationResult {
 
@@ -14,8 +24,23 @@ public class ValidationResult {
     /** Indicates whether the task passed (true) or failed (false) */
     private final boolean passed;
 
-    /** Additional message describing the result, useful for logs or reports */
-    private final String message;
+    /** Measured value the verdict was based on; NaN if the task has no numeric evidence */
+    private final double value;
+
+    /** Limit the value was compared against; NaN if not applicable */
+    private final double limit;
+
+    /** Exception or timeout that caused a failure; {@code null} for measured verdicts */
+    private final Throwable cause;
+
+    /** Builds the message on first read; {@code null} if the message was given eagerly */
+    private final Supplier<String> messageSupplier;
+
+    /**
+     * Additional message describing the result, useful for logs or reports.
+     * Resolved at most a few times under a race; every resolution yields an equal string.
+     */
+    private String message;
 
     /**
      * Constructs a new ValidationResult.
@@ -25,9 +50,62 @@ public class ValidationResult {
      * @param message  a descriptive message (e.g., error reason or success confirmation)
      */
     public ValidationResult(String taskName, boolean passed, String message) {
+        this(taskName, passed, message, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Constructs a new ValidationResult with numeric evidence.
+     *
+     * @param taskName the name of the validation task
+     * @param passed   true if the task passed; false if it failed
+     * @param message  a descriptive message
+     * @param value    the measured value (NaN if none)
+     * @param limit    the limit the value was compared against (NaN if none)
+     */
+    public ValidationResult(String taskName, boolean passed, String message, double value, double limit) {
         this.taskName = taskName;
         this.passed = passed;
         this.message = message;
+        this.messageSupplier = null;
+        this.value = value;
+        this.limit = limit;
+        this.cause = null;
+    }
+
+    /**
+     * Constructs a failed ValidationResult for a task that did not produce a verdict,
+     * because it threw an exception or timed out.
+     *
+     * @param taskName the name of the validation task
+     * @param message  a descriptive message
+     * @param cause    the exception (a {@link java.util.concurrent.TimeoutException} for timeouts)
+     */
+    public ValidationResult(String taskName, String message, Throwable cause) {
+        this.taskName = taskName;
+        this.passed = false;
+        this.message = message;
+        this.messageSupplier = null;
+        this.value = Double.NaN;
+        this.limit = Double.NaN;
+        this.cause = cause;
+    }
+
+    /**
+     * Constructs a new ValidationResult whose message is built only when first read.
+     *
+     * @param taskName the name of the validation task
+     * @param passed   true if the task passed; false if it failed
+     * @param message  builds the descriptive message on demand
+     * @param value    the measured value (NaN if none)
+     * @param limit    the limit the value was compared against (NaN if none)
+     */
+    public ValidationResult(String taskName, boolean passed, Supplier<String> message, double value, double limit) {
+        this.taskName = taskName;
+        this.passed = passed;
+        this.messageSupplier = message;
+        this.value = value;
+        this.limit = limit;
+        this.cause = null;
     }
 
     /**
@@ -49,12 +127,53 @@ public class ValidationResult {
     }
 
     /**
-     * Gets the descriptive message associated with the result.
+     * Gets the descriptive message associated with the result, building it on first
+     * access if it was supplied lazily.
      *
      * @return result message (e.g., "OK", "Link Down", "Temp exceeded threshold")
      */
     public String getMessage() {
-        return message;
+        String m = message;
+        if (m == null) {
+            Supplier<String> s = messageSupplier;
+            if (s != null) {
+                m = s.get();
+                message = m;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Gets the measured value the verdict was based on. Not serialized, so the JSON
+     * report keeps its schema; binary, columnar and fleet formats record it explicitly.
+     *
+     * @return the value, or NaN if the task has no numeric evidence
+     */
+    @JsonIgnore
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the limit the measured value was compared against. Not serialized.
+     *
+     * @return the limit, or NaN if not applicable
+     */
+    @JsonIgnore
+    public double getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the fault that caused this result, if the task threw or timed out instead of
+     * producing a verdict. Not serialized; the message carries its description.
+     *
+     * @return the cause, or {@code null} for measured results
+     */
+    @JsonIgnore
+    public Throwable getCause() {
+        return cause;
     }
 
     /**
@@ -67,7 +186,7 @@ public class ValidationResult {
         return "ValidationResult{" +
                "taskName='" + taskName + '\'' +
                ", passed=" + passed +
-               ", message='" + message + '\'' +
+               ", message='" + getMessage() + '\'' +
                '}';
     }
 }
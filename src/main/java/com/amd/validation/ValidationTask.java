@@ -17,4 +17,16 @@ public interface ValidationTask {
      * @return a {@link ValidationResult} indicating whether the validation passed or failed
      */
     ValidationResult execute(TestContext context);
+
+    /**
+     * Returns the name under which the runner configures this task (timeouts, retries),
+     * records its metrics and reports faults it raises or its skipping when a prerequisite
+     * failed. Results the task returns should carry the same name, so sinks and metrics
+     * see one name per task.
+     *
+     * @return the task name; the simple class name by default
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
 }
@@ -0,0 +1,90 @@
+package com.amd.validation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BatchThresholdEvaluator} using the incubating Vector API: each check compares a
+ * full vector of rows per instruction and the comparison mask is written straight into the
+ * pass bitmap. Rows past the last full vector go through the scalar loops.
+ * <p>
+ * Only load this class when {@link BatchThresholdEvaluator#vectorAvailable()} is true;
+ * without the {@code jdk.incubator.vector} module its initialization fails.
+ * </p>
+ */
+final class VectorThresholdEvaluator implements BatchThresholdEvaluator {
+
+    static final VectorThresholdEvaluator INSTANCE = new VectorThresholdEvaluator();
+
+    /* Preferred species have 2-16 lanes, so every vector's mask fits within one bitmap word. */
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> I = IntVector.SPECIES_PREFERRED;
+
+    private VectorThresholdEvaluator() {
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + D.vectorBitSize();
+    }
+
+    @Override
+    public PassBitmaps evaluate(FleetTelemetryColumns c) {
+        PassBitmaps result = new PassBitmaps(c.size());
+        fan(c, result.bits(BatchCheck.FAN));
+        power(c, result.bits(BatchCheck.POWER));
+        memory(c, result.bits(BatchCheck.MEMORY));
+        health(c, result.bits(BatchCheck.HEALTH));
+        return result;
+    }
+
+    private static void fan(FleetTelemetryColumns c, long[] bits) {
+        int i = 0;
+        for (int upper = I.loopBound(c.size()); i < upper; i += I.length()) {
+            IntVector rpm = IntVector.fromArray(I, c.fanRpm, i);
+            VectorMask<Integer> pass = rpm.compare(VectorOperators.GE, IntVector.fromArray(I, c.fanMinRpm, i))
+                .and(rpm.compare(VectorOperators.LE, IntVector.fromArray(I, c.fanMaxRpm, i)));
+            bits[i >>> 6] |= pass.toLong() << i;
+        }
+        ScalarThresholdEvaluator.fan(c, i, bits);
+    }
+
+    private static void power(FleetTelemetryColumns c, long[] bits) {
+        int i = 0;
+        for (int upper = D.loopBound(c.size()); i < upper; i += D.length()) {
+            DoubleVector watts = DoubleVector.fromArray(D, c.powerWatts, i);
+            VectorMask<Double> pass = watts.compare(VectorOperators.LE, DoubleVector.fromArray(D, c.powerMaxWatts, i));
+            bits[i >>> 6] |= pass.toLong() << i;
+        }
+        ScalarThresholdEvaluator.power(c, i, bits);
+    }
+
+    private static void memory(FleetTelemetryColumns c, long[] bits) {
+        int i = 0;
+        for (int upper = D.loopBound(c.size()); i < upper; i += D.length()) {
+            DoubleVector used = DoubleVector.fromArray(D, c.memoryUsedGB, i);
+            DoubleVector total = DoubleVector.fromArray(D, c.totalMemoryGB, i);
+            // Lanes with total <= 0 divide to Inf/NaN, which the first mask discards
+            VectorMask<Double> pass = total.compare(VectorOperators.GT, 0.0)
+                .and(used.div(total).mul(100.0)
+                         .compare(VectorOperators.LT, DoubleVector.fromArray(D, c.memoryMaxPercent, i)));
+            bits[i >>> 6] |= pass.toLong() << i;
+        }
+        ScalarThresholdEvaluator.memory(c, i, bits);
+    }
+
+    private static void health(FleetTelemetryColumns c, long[] bits) {
+        int i = 0;
+        for (int upper = D.loopBound(c.size()); i < upper; i += D.length()) {
+            VectorMask<Double> pass = DoubleVector.fromArray(D, c.temperatureC, i)
+                .compare(VectorOperators.LE, DoubleVector.fromArray(D, c.healthMaxTempC, i))
+                .and(DoubleVector.fromArray(D, c.memoryUsedGB, i)
+                         .compare(VectorOperators.LE, DoubleVector.fromArray(D, c.healthMaxMemoryGB, i)));
+            bits[i >>> 6] |= pass.toLong() << i;
+        }
+        ScalarThresholdEvaluator.health(c, i, bits);
+    }
+}
@@ -1,37 +1,95 @@
 package com.amd.validation;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
- * Bundles all files in a directory into a single ZIP archive.
+ * Bundles report files into a single ZIP archive.
+ * <p>
+ * Entries are deflated in parallel by {@link ParallelZipWriter}. Reports can be bundled
+ * from a directory on disk, or streamed straight from memory: each report is rendered
+ * to CSV and JSON on a worker thread and compressed without intermediate files.
+ * </p>
  */
 public final class ZipReportBundler {
 
     private ZipReportBundler() { /* utility class */ }
 
+    /**
+     * Zips every regular file below {@code dir}. The archive itself is skipped if it
+     * lies inside {@code dir}.
+     *
+     * @param dir     the directory to bundle
+     * @param zipPath the archive to create
+     * @throws IOException if a file cannot be read or the archive cannot be written
+     */
     public static void bundleReports(Path dir, Path zipPath) throws IOException {
-        try (OutputStream fos = Files.newOutputStream(zipPath);
-             ZipOutputStream zos = new ZipOutputStream(fos)) {
+        Path target = zipPath.toAbsolutePath().normalize();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(Files::isRegularFile)
+                        .filter(p -> !p.toAbsolutePath().normalize().equals(target))
+                        .sorted()
+                        .toList();
+        }
+
+        try (ParallelZipWriter zip = new ParallelZipWriter(zipPath)) {
+            for (Path file : files) {
+                zip.addFile(entryName(dir.relativize(file)), file);
+            }
+        }
+    }
 
-            Files.walk(dir)
-                 .filter(Files::isRegularFile)
-                 .forEach(file -> addToZip(dir, file, zos));
+    /**
+     * Streams reports into an archive without writing them to disk first. Each report
+     * becomes {@code <deviceId>/report.csv} and {@code <deviceId>/report.json}.
+     * <p>
+     * Characters other than letters, digits, '.', '_' and '-' in the device ID are replaced
+     * with '_', so an ID cannot name a path outside its own directory, and a repeated ID
+     * gets a numeric suffix ({@code GPU-1-2/}) instead of producing duplicate entries.
+     * </p>
+     *
+     * @param reports the reports to bundle
+     * @param zipPath the archive to create
+     * @throws IOException if the archive cannot be written
+     */
+    public static void bundleReports(Collection<TestReport> reports, Path zipPath) throws IOException {
+        Set<String> prefixes = new HashSet<>();
+        try (ParallelZipWriter zip = new ParallelZipWriter(zipPath)) {
+            for (TestReport report : reports) {
+                String prefix = uniquePrefix(report.getContext().getDeviceId(), prefixes);
+                zip.addEntry(prefix + "report.csv", out -> {
+                    Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    CsvReportExporter.export(report, w);
+                    w.flush();
+                });
+                zip.addEntry(prefix + "report.json", out -> JsonReportExporter.export(report, out));
+            }
         }
     }
 
-    private static void addToZip(Path baseDir, Path file, ZipOutputStream zos) {
-        ZipEntry entry = new ZipEntry(baseDir.relativize(file).toString());
-        try (InputStream in = Files.newInputStream(file)) {
-            zos.putNextEntry(entry);
-            in.transferTo(zos);
-            zos.closeEntry();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to zip " + file, e);
+    /** Sanitizes a device ID into a directory name not already in {@code used} */
+    private static String uniquePrefix(String deviceId, Set<String> used) {
+        String base = deviceId == null ? "" : deviceId.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (base.isEmpty() || base.chars().allMatch(c -> c == '.')) {
+            base = base.replace('.', '_') + "_";
         }
+        String name = base;
+        for (int n = 2; !used.add(name); n++) {
+            name = base + "-" + n;
+        }
+        return name + "/";
+    }
+
+    private static String entryName(Path relative) {
+        return relative.toString().replace('\\', '/');
     }
 }
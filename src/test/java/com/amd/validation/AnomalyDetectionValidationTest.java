@@ -0,0 +1,112 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AnomalyDetectionValidation}, {@link FleetStatistics} and
+ * {@link QuantileSketch}.
+ */
+class AnomalyDetectionValidationTest {
+
+    private static TestContext device(String id, String name, double temperature) {
+        TestContext ctx = new TestContext(id);
+        SystemInfoFetcher.populate(ctx);
+        ctx.setDeviceName(name);
+        ctx.setGpuTemperature(temperature);
+        return ctx;
+    }
+
+    /**
+     * A card 15 °C hotter than its siblings fails although it is under the health limit;
+     * its siblings pass, and a SKU with too few devices is not judged.
+     */
+    @Test
+    void testFlagsHotSibling() {
+        List<TestContext> fleet = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            fleet.add(device("GPU-" + i, "MI300X", i == 5 ? 70 : 54 + (i % 3)));
+        }
+        fleet.add(device("GPU-8", "MI250X", 80));
+        FleetStatistics stats = new FleetStatistics().observeAll(fleet);
+        assertEquals(List.of("MI250X", "MI300X"), List.copyOf(stats.skus()));
+
+        AnomalyDetectionValidation check = new AnomalyDetectionValidation(stats);
+        ValidationResult hot = check.execute(fleet.get(5));
+        assertFalse(hot.isPassed(), hot.getMessage());
+        assertTrue(new GpuHealthValidation().execute(fleet.get(5)).isPassed(), "within the fixed limit");
+        assertEquals(70, hot.getValue());
+        assertTrue(hot.getValue() > hot.getLimit());
+        assertTrue(hot.getMessage().startsWith("Temperature 70.0 °C is"), hot.getMessage());
+        for (int i = 0; i < 8; i++) {
+            if (i != 5) assertTrue(check.execute(fleet.get(i)).isPassed(), "GPU-" + i);
+        }
+        assertTrue(check.execute(fleet.get(8)).getMessage().startsWith("Not judged"));
+
+        // With the hot card in the baseline, 8 devices cannot produce a z-score above (n-1)/sqrt(n)
+        AnomalyDetectionValidation z = new AnomalyDetectionValidation(stats, AnomalyDetectionValidation.Method.Z_SCORE, 3.0);
+        assertTrue(z.execute(fleet.get(5)).isPassed());
+        assertThrows(IllegalArgumentException.class, () -> TaskCatalog.resolve(List.of("anomaly"), null, true));
+        assertInstanceOf(AnomalyDetectionValidation.class,
+                         TaskCatalog.resolve(List.of("anomaly"), null, true, stats).get(0));
+    }
+
+    /**
+     * Statistics observed on several threads and merged agree with a single stream: the
+     * moments exactly, the quantiles approximately, in a bounded number of centroids.
+     */
+    @Test
+    void testMergedShardsMatchSingleStream() throws Exception {
+        Random random = new Random(11);
+        double[] temps = new double[100_000];
+        for (int i = 0; i < temps.length; i++) {
+            temps[i] = 60 + 5 * random.nextGaussian();
+        }
+
+        int shards = 4;
+        List<FleetStatistics> parts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < shards; s++) {
+                FleetStatistics part = new FleetStatistics();
+                parts.add(part);
+                int shard = s;
+                executor.submit(() -> {
+                    for (int i = shard; i < temps.length; i += shards) {
+                        part.observe(device("GPU-" + i, "MI300X", temps[i]));
+                    }
+                });
+            }
+        }
+        FleetStatistics merged = new FleetStatistics();
+        parts.forEach(merged::merge);
+        FleetStatistics.Summary s = merged.summary("MI300X", FleetStatistics.Metric.TEMPERATURE);
+
+        double mean = Arrays.stream(temps).average().orElseThrow();
+        double variance = Arrays.stream(temps).map(t -> (t - mean) * (t - mean)).sum() / (temps.length - 1);
+        double[] sorted = temps.clone();
+        Arrays.sort(sorted);
+        assertEquals(temps.length, s.count());
+        assertEquals(mean, s.mean(), 1e-9);
+        assertEquals(variance, s.variance(), 1e-6);
+        assertEquals(sorted[temps.length / 2], s.median(), 0.05);
+        assertEquals(sorted[temps.length / 4], s.q1(), 0.05);
+        assertEquals(sorted[temps.length * 3 / 4], s.q3(), 0.05);
+        assertEquals(1200, merged.summary("MI300X", FleetStatistics.Metric.FAN_SPEED).median());
+
+        QuantileSketch sketch = new QuantileSketch();
+        for (double t : temps) sketch.add(t);
+        assertTrue(sketch.centroidCount() <= QuantileSketch.DEFAULT_COMPRESSION + 1, "memory is bounded");
+        assertEquals(sorted[(int) (temps.length * 0.99)], sketch.quantile(0.99), 0.1);
+        assertEquals(sorted[(int) (temps.length * 0.999)], sketch.quantile(0.999), 0.5);
+        assertEquals(sorted[0], sketch.quantile(0), 1e-12);
+        assertEquals(sorted[temps.length - 1], sketch.quantile(1), 1e-12);
+    }
+}
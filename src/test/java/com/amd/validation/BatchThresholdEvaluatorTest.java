@@ -0,0 +1,119 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BatchThresholdEvaluator}: both implementations must agree with the
+ * task classes on every device.
+ */
+class BatchThresholdEvaluatorTest {
+
+    private static final ThresholdProfile MI300X = ThresholdProfile.DEFAULTS.derive("MI300X",
+        Map.of("power.maxWatts", 750.0, "fan.maxRpm", 4200.0, "health.maxMemoryGB", 180.0));
+
+    /**
+     * Random readings plus exact boundary values, including zero total memory.
+     */
+    private static List<TestContext> fleet(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<TestContext> fleet = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TestContext ctx = new TestContext("GPU-" + i);
+            SystemInfoFetcher.populate(ctx);
+            ctx.setThresholds(random.nextBoolean() ? MI300X : ThresholdProfile.DEFAULTS);
+            ctx.setGpuTemperature(random.nextInt(10) == 0 ? 85.0 : 40 + random.nextDouble() * 60);
+            ctx.setFanSpeedRPM(switch (random.nextInt(10)) {
+                case 0 -> 800;
+                case 1 -> 3500;
+                default -> 500 + random.nextInt(4000);
+            });
+            ctx.setPowerWatts(random.nextInt(10) == 0 ? 200 : 50 + random.nextInt(800));
+            ctx.setTotalMemoryGB(random.nextInt(20) == 0 ? 0 : 192);
+            ctx.setMemoryUsedGB(random.nextInt(10) == 0 ? 172.8 : random.nextDouble() * 200);
+            fleet.add(ctx);
+        }
+        return fleet;
+    }
+
+    private static void assertMatchesTasks(List<TestContext> fleet, PassBitmaps bitmaps) {
+        Map<BatchCheck, ValidationTask> tasks = Map.of(
+            BatchCheck.FAN, new FanSpeedValidation(),
+            BatchCheck.POWER, new PowerConsumptionValidation(),
+            BatchCheck.MEMORY, new GpuMemoryUsageValidation(),
+            BatchCheck.HEALTH, new GpuHealthValidation());
+        assertEquals(fleet.size(), bitmaps.size());
+        for (int i = 0; i < fleet.size(); i++) {
+            for (BatchCheck check : BatchCheck.values()) {
+                assertEquals(tasks.get(check).execute(fleet.get(i)).isPassed(), bitmaps.isPassed(check, i),
+                             check + " differs for row " + i);
+            }
+        }
+    }
+
+    /**
+     * The scalar evaluator gives the tasks' verdicts, at every tail length.
+     */
+    @Test
+    void testScalarMatchesTasks() {
+        for (int size : new int[] {0, 1, 63, 64, 65, 1000}) {
+            List<TestContext> fleet = fleet(size, size);
+            PassBitmaps bitmaps = BatchThresholdEvaluator.scalar().evaluate(FleetTelemetryColumns.of(fleet));
+            assertMatchesTasks(fleet, bitmaps);
+        }
+
+        List<TestContext> fleet = fleet(1000, 7);
+        PassBitmaps bitmaps = BatchThresholdEvaluator.scalar().evaluate(FleetTelemetryColumns.of(fleet));
+        for (BatchCheck check : BatchCheck.values()) {
+            int count = bitmaps.passCount(check);
+            assertTrue(count > 0 && count < 1000, check + " should see both verdicts, passed " + count);
+        }
+    }
+
+    /**
+     * A screen keeps exactly the devices whose task run fails one of the selected checks.
+     */
+    @Test
+    void testScreenKeepsFailedDevices() {
+        List<TestContext> fleet = fleet(500, 11);
+        List<BatchCheck> checks = List.of(BatchCheck.FAN, BatchCheck.POWER);
+        TestRunner runner = new TestRunner(List.of(new FanSpeedValidation(), new PowerConsumptionValidation()));
+
+        List<TestContext> expected = new ArrayList<>();
+        for (TestContext ctx : fleet) {
+            if (runner.runAll(ctx).failed() > 0) {
+                expected.add(ctx);
+            }
+        }
+        assertFalse(expected.isEmpty());
+        assertTrue(expected.size() < fleet.size());
+        assertEquals(expected, BatchThresholdEvaluator.scalar().screen(fleet, checks));
+        assertEquals(expected, BatchThresholdEvaluator.best().screen(fleet, checks));
+        assertEquals(List.of(), BatchThresholdEvaluator.best().screen(fleet, List.of()));
+    }
+
+    /**
+     * The Vector API evaluator (enabled for tests by surefire) returns identical bitmaps.
+     */
+    @Test
+    void testVectorMatchesScalar() {
+        assertTrue(BatchThresholdEvaluator.vectorAvailable(), "tests run with --add-modules jdk.incubator.vector");
+        assertNotEquals("scalar", BatchThresholdEvaluator.best().name());
+
+        for (int size : new int[] {0, 1, 7, 15, 16, 17, 63, 64, 65, 1000, 10_000}) {
+            List<TestContext> fleet = fleet(size, 31 * size);
+            FleetTelemetryColumns columns = FleetTelemetryColumns.of(fleet);
+            PassBitmaps vector = BatchThresholdEvaluator.vector().evaluate(columns);
+            assertEquals(BatchThresholdEvaluator.scalar().evaluate(columns), vector, "size " + size);
+            if (size <= 1000) {
+                assertMatchesTasks(fleet, vector);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BinaryResultLog} and {@link BinaryResultLogReader}.
+ */
+class BinaryResultLogTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Results written by a runner read back with their verdicts, evidence and names.
+     */
+    @Test
+    void testRunnerWritesReadableRecords() throws Exception {
+        Path file = dir.resolve("results.bin");
+        TestContext ctx = new TestContext("GPU-001");
+        SystemInfoFetcher.populate(ctx);
+        ctx.setPowerWatts(250);
+
+        try (BinaryResultLog log = new BinaryResultLog(file)) {
+            new TestRunner(List.of(new FanSpeedValidation(), new PowerConsumptionValidation()))
+                .withSink(log)
+                .runAll(ctx);
+            assertEquals(2, log.size());
+        }
+        assertEquals(BinaryResultLog.HEADER_SIZE + 2L * BinaryResultLog.RECORD_SIZE, Files.size(file));
+
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file)) {
+            assertEquals(2, reader.size());
+            StringBuilder seen = new StringBuilder();
+            reader.forEach((dev, task, passed, ts, value, limit) -> {
+                seen.append(reader.deviceId(dev)).append('/').append(reader.taskName(task))
+                    .append('/').append(passed ? "PASS" : "FAIL");
+                if (!passed) {
+                    assertEquals(250.0, value);
+                    assertEquals(200.0, limit);
+                }
+                seen.append(';');
+            });
+            assertEquals("GPU-001/FanSpeedValidation/PASS;GPU-001/PowerConsumptionValidation/FAIL;",
+                seen.toString());
+        }
+    }
+
+    /**
+     * Reopening a log appends to it and reuses the existing dictionary entries;
+     * logs larger than one mapped segment are handled.
+     */
+    @Test
+    void testReopenAppendsAcrossSegments() throws Exception {
+        Path file = dir.resolve("day.bin");
+        int first = BinaryResultLog.SEGMENT_RECORDS - 3;
+
+        try (BinaryResultLog log = new BinaryResultLog(file)) {
+            for (int i = 0; i < first; i++) {
+                log.append("GPU-" + (i % 8), "Task" + (i % 5), i % 7 != 0, i, 100, i);
+            }
+        }
+        try (BinaryResultLog log = new BinaryResultLog(file)) {
+            for (int i = first; i < first + 10; i++) {
+                log.append("GPU-" + (i % 8), "Task" + (i % 5), i % 7 != 0, i, 100, i);
+            }
+        }
+
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file)) {
+            assertEquals(first + 10L, reader.size());
+            AtomicLong index = new AtomicLong();
+            AtomicLong failed = new AtomicLong();
+            reader.forEach((dev, task, passed, ts, value, limit) -> {
+                long i = index.getAndIncrement();
+                assertEquals("GPU-" + (i % 8), reader.deviceId(dev));
+                assertEquals("Task" + (i % 5), reader.taskName(task));
+                assertEquals((double) i, value);
+                if (!passed) failed.incrementAndGet();
+            });
+            assertEquals((first + 10L + 6) / 7, failed.get());
+        }
+        assertEquals(13, Files.readAllLines(BinaryResultLog.dictionaryPath(file)).size());
+    }
+
+    /**
+     * A dictionary appended twice still loads; one with gaps or conflicting IDs is
+     * rejected with an IOException instead of resolving records to the wrong names.
+     */
+    @Test
+    void testInconsistentDictionaryIsRejected() throws Exception {
+        Path file = dir.resolve("dict.bin");
+        try (BinaryResultLog log = new BinaryResultLog(file)) {
+            log.append("GPU-0", "FanSpeedValidation", true, 0, 1, 2);
+            log.append("GPU-1", "FanSpeedValidation", false, 1, 3, 2);
+        }
+        Path dict = BinaryResultLog.dictionaryPath(file);
+        String original = Files.readString(dict);
+
+        Files.writeString(dict, original + original);
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file)) {
+            assertEquals("GPU-1", reader.deviceId(1));
+        }
+
+        Files.writeString(dict, original.replace("D\t1\t", "D\t5\t"));
+        IOException gap = assertThrows(IOException.class, () -> new BinaryResultLogReader(file));
+        assertTrue(gap.getMessage().contains("gaps"), gap.getMessage());
+
+        Files.writeString(dict, original + "D\t0\tGPU-7\n");
+        assertThrows(IOException.class, () -> new BinaryResultLogReader(file));
+        Files.writeString(dict, original + "D\t1\tGPU-0\n");
+        assertThrows(IOException.class, () -> new BinaryResultLog(file));
+    }
+
+    /**
+     * The log converts back into the CSV and JSON formats on demand, with the device
+     * properties and the time each result was logged.
+     */
+    @Test
+    void testExportToCsv() throws Exception {
+        Path file = dir.resolve("export.bin");
+        TestContext ctx = new TestContext("GPU-7");
+        ctx.setDeviceName("AMD Instinct MI300X");
+        ctx.setDriverVersion("6.7.0");
+        ctx.setPciLocation("PCIe Slot 3");
+        try (BinaryResultLog log = new BinaryResultLog(file)) {
+            log.accept(ctx, new ValidationResult("FanSpeedValidation", false, "too fast", 4000, 3500), 1L);
+            log.accept(ctx, new ValidationResult("PCIeLinkValidation", true, "ok"), 2L);
+        }
+
+        StringWriter json = new StringWriter();
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file);
+             JsonLinesResultSink sink = new JsonLinesResultSink(json, 100, Duration.ofHours(1))) {
+            reader.exportTo(sink);
+        }
+        assertTrue(json.toString().startsWith("{\"timestamp\":1,\"deviceId\":\"GPU-7\""), json.toString());
+        assertTrue(json.toString().contains("{\"timestamp\":2,"), json.toString());
+
+        StringWriter out = new StringWriter();
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file);
+             CsvResultSink csv = new CsvResultSink(out, 100, Duration.ofHours(1))) {
+            reader.exportTo(csv);
+        }
+
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("\"FanSpeedValidation\",\"FAIL\",\"FAIL: value 4000.000, limit 3500.000\",\"GPU-7\","
+                     + "\"AMD Instinct MI300X\",\"6.7.0\",\"PCIe Slot 3\"", lines.get(1));
+        assertTrue(lines.get(2).startsWith("\"PCIeLinkValidation\",\"PASS\",\"PASS\""));
+    }
+}
@@ -0,0 +1,146 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ColumnarReportWriter} and {@link ColumnarReportReader}.
+ */
+class ColumnarReportTest {
+
+    @TempDir
+    Path dir;
+
+    private static final String[] TASKS = {"PCIeLinkValidation", "FanSpeedValidation", "PowerConsumptionValidation"};
+
+    private static List<TestReport> reports(int devices) {
+        SplittableRandom random = new SplittableRandom(3);
+        List<TestReport> reports = new ArrayList<>();
+        for (int d = 0; d < devices; d++) {
+            TestContext ctx = new TestContext("GPU-" + d);
+            SystemInfoFetcher.populate(ctx);
+            ctx.setPciLocation(d % 4 == 0 ? null : "PCI bus " + d % 3 + ", device 0, function 0");
+            TestReport report = new TestReport();
+            for (String task : TASKS) {
+                double value = 100 + random.nextInt(200);
+                boolean passed = random.nextInt(4) > 0;
+                report.add(random.nextBoolean()
+                    ? new ValidationResult(task, passed, "value " + value, value, 250)
+                    : new ValidationResult(task, passed, passed ? "OK" : null));
+            }
+            report.setContext(ctx);
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    /**
+     * Every field survives the round trip across several row groups, including a short
+     * group written by flush, null strings and missing values.
+     */
+    @Test
+    void testRoundTrip() throws Exception {
+        List<TestReport> reports = reports(40);
+        Path file = dir.resolve("results.gcol");
+        try (ColumnarReportWriter writer = new ColumnarReportWriter(file, 16)) {
+            for (int i = 0; i < reports.size(); i++) {
+                writer.write(reports.get(i));
+                if (i == 10) writer.flush();
+            }
+            assertEquals(120, writer.getRowCount());
+        }
+
+        List<TestContext> contexts = new ArrayList<>();
+        List<ValidationResult> rows = new ArrayList<>();
+        ResultSink collect = new ResultSink() {
+            @Override
+            public void accept(TestContext context, ValidationResult result) {
+                contexts.add(context);
+                rows.add(result);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertEquals(120, new ColumnarReportReader(file).exportTo(collect));
+
+        int row = 0;
+        for (TestReport report : reports) {
+            TestContext expected = report.getContext();
+            for (ValidationResult r : report.getResults()) {
+                TestContext ctx = contexts.get(row);
+                ValidationResult actual = rows.get(row++);
+                assertEquals(expected.getDeviceId(), ctx.getDeviceId());
+                assertEquals(expected.getDeviceName(), ctx.getDeviceName());
+                assertEquals(expected.getDriverVersion(), ctx.getDriverVersion());
+                assertEquals(expected.getPciLocation(), ctx.getPciLocation());
+                assertEquals(r.getTaskName(), actual.getTaskName());
+                assertEquals(r.isPassed(), actual.isPassed());
+                assertEquals(r.getMessage(), actual.getMessage());
+                assertEquals(r.getValue(), actual.getValue());
+                assertEquals(r.getLimit(), actual.getLimit());
+            }
+        }
+    }
+
+    /**
+     * A projected scan decodes only the requested columns and agrees with the reports;
+     * files that are not complete columnar reports are rejected.
+     */
+    @Test
+    void testProjectionAndCorruptFiles() throws Exception {
+        List<TestReport> reports = reports(500);
+        Path file = dir.resolve("results.gcol");
+        assertEquals(1500, ColumnarReportWriter.export(reports, file));
+
+        long expectedFailed = reports.stream().mapToLong(TestReport::failed).sum();
+        long[] failed = new long[1];
+        List<Integer> groups = new ArrayList<>();
+        long rows = new ColumnarReportReader(file).scan(EnumSet.of(ReportColumn.PASSED), g -> {
+            failed[0] += g.rowCount() - g.passedCount();
+            groups.add(g.rowCount());
+            assertThrows(IllegalStateException.class, () -> g.codes(ReportColumn.TASK));
+            assertThrows(IllegalStateException.class, () -> g.doubles(ReportColumn.VALUE));
+        });
+        assertEquals(1500, rows);
+        assertEquals(List.of(1500), groups);
+        assertEquals(expectedFailed, failed[0]);
+
+        long[] fanFailures = new long[1];
+        new ColumnarReportReader(file).scan(EnumSet.of(ReportColumn.TASK, ReportColumn.PASSED), g -> {
+            int fan = List.of(g.dictionary(ReportColumn.TASK)).indexOf("FanSpeedValidation");
+            int[] codes = g.codes(ReportColumn.TASK);
+            for (int i = 0; i < g.rowCount(); i++) {
+                if (codes[i] == fan && !g.passed()[i]) fanFailures[0]++;
+            }
+        });
+        assertEquals(reports.stream().flatMap(r -> r.getResults().stream())
+                            .filter(r -> r.getTaskName().equals("FanSpeedValidation") && !r.isPassed()).count(),
+                     fanFailures[0]);
+
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = dir.resolve("truncated.gcol");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class,
+            () -> new ColumnarReportReader(truncated).scan(EnumSet.allOf(ReportColumn.class), g -> { }));
+        Path csv = dir.resolve("report.csv");
+        Files.writeString(csv, "Task,Status,Message\n");
+        assertThrows(IOException.class, () -> new ColumnarReportReader(csv));
+    }
+}
@@ -0,0 +1,173 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FleetCoordinator} and {@link FleetWorker}.
+ */
+class FleetCoordinatorTest {
+
+    private static List<ValidationJob> jobs(String prefix, int count) {
+        List<ValidationJob> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(new ValidationJob(String.format("%s-%03d", prefix, i), List.of("pcie", "fan", "power")));
+        }
+        return jobs;
+    }
+
+    private static void assertMerged(List<ValidationJob> jobs, FleetReport fleet) {
+        assertEquals(jobs.size(), fleet.deviceCount());
+        for (int i = 0; i < jobs.size(); i++) {
+            TestReport r = fleet.getReports().get(i);
+            assertEquals(jobs.get(i).getDeviceId(), r.getContext().getDeviceId());
+            assertEquals(3, r.total());
+            assertEquals(0, r.failed(), r.toString());
+        }
+    }
+
+    /** Mock sensors that take a while per device and signal the first read. */
+    private static final class SlowSensors extends MockSensorProvider {
+        final CountDownLatch started = new CountDownLatch(1);
+
+        @Override
+        public void populate(TestContext ctx) {
+            started.countDown();
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.populate(ctx);
+        }
+    }
+
+    /**
+     * A worker that dies mid-shard has its unreported devices re-dispatched, and an idle
+     * worker steals from a straggler's shard; every device is reported once, in job order.
+     */
+    @Test
+    void testRedispatchesLostWorkAndStealsFromStragglers() throws Exception {
+        List<ValidationJob> jobs = jobs("GPU", 24);
+        ThresholdProfiles profiles = new ThresholdProfiles();
+        ExecutorService threads = Executors.newCachedThreadPool();
+        try (FleetCoordinator coordinator = new FleetCoordinator(4)) {
+            // A worker that takes the first shard, reports one device and crashes
+            Socket crasher = new Socket(coordinator.getAddress().getAddress(), coordinator.getPort());
+            Writer out = new OutputStreamWriter(crasher.getOutputStream(), StandardCharsets.UTF_8);
+            BufferedReader in = new BufferedReader(new InputStreamReader(crasher.getInputStream(), StandardCharsets.UTF_8));
+            FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.READY));
+            assertTrue(coordinator.awaitWorkers(1, Duration.ofSeconds(10)));
+
+            Future<FleetReport> lot = threads.submit(() -> coordinator.run(jobs));
+            JsonNode shard = FleetProtocol.MAPPER.readTree(in.readLine());
+            assertEquals(4, shard.get("jobs").size());
+            JsonNode first = shard.get("jobs").get(0);
+            ValidationJob job = FleetProtocol.MAPPER.treeToValue(first.get("job"), ValidationJob.class);
+            TestReport report = new FleetWorker(new MockSensorProvider(), profiles, 1).validate(job);
+            FleetProtocol.send(out, FleetProtocol.encodeReport(shard.get("lot").asLong(), first.get("device").asInt(), report));
+            crasher.close();
+
+            // The straggler holds a shard while the fast worker drains the queue
+            SlowSensors slow = new SlowSensors();
+            threads.submit(() -> new FleetWorker(slow, profiles, 1).run(coordinator.getAddress()));
+            assertTrue(slow.started.await(10, TimeUnit.SECONDS));
+            threads.submit(() -> new FleetWorker(new MockSensorProvider(), profiles, 4).run(coordinator.getAddress()));
+
+            FleetReport fleet = lot.get(30, TimeUnit.SECONDS);
+            assertMerged(jobs, fleet);
+            assertEquals(3, coordinator.getRequeuedDevices());
+            assertTrue(coordinator.getStolenDevices() > 0, "the fast worker stole from the straggler");
+        } finally {
+            threads.shutdown();
+            assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS), "workers stop when the coordinator closes");
+        }
+    }
+
+    /**
+     * A worker that asks for more work without reporting its shard has the devices
+     * re-dispatched; a silent worker cannot hold a lot past its timeout, and a device
+     * whose run throws an Error still gets a failed report.
+     */
+    @Test
+    void testUnreportedDevicesAreRequeuedAndLotsTimeOut() throws Exception {
+        ThresholdProfiles profiles = new ThresholdProfiles();
+        ExecutorService threads = Executors.newCachedThreadPool();
+        try (FleetCoordinator coordinator = new FleetCoordinator(4).withLotTimeout(Duration.ofSeconds(1));
+             Socket silent = new Socket(coordinator.getAddress().getAddress(), coordinator.getPort())) {
+            Writer out = new OutputStreamWriter(silent.getOutputStream(), StandardCharsets.UTF_8);
+            BufferedReader in = new BufferedReader(new InputStreamReader(silent.getInputStream(), StandardCharsets.UTF_8));
+            FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.READY));
+            assertTrue(coordinator.awaitWorkers(1, Duration.ofSeconds(10)));
+
+            // Forgets its shard, then holds the re-sent one without ever answering
+            List<ValidationJob> stuck = jobs("STUCK", 4);
+            long start = System.nanoTime();
+            Future<FleetReport> lot = threads.submit(() -> coordinator.run(stuck));
+            assertEquals(4, FleetProtocol.MAPPER.readTree(in.readLine()).get("jobs").size());
+            FleetProtocol.send(out, FleetProtocol.message(FleetProtocol.READY));
+            assertEquals(4, FleetProtocol.MAPPER.readTree(in.readLine()).get("jobs").size());
+
+            FleetReport timedOut = lot.get(10, TimeUnit.SECONDS);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertEquals(4, coordinator.getRequeuedDevices());
+            assertEquals(4, timedOut.failedDevices());
+            assertEquals("No worker validated the device", timedOut.getReports().get(0).getResults().get(0).getMessage());
+        } finally {
+            threads.shutdown();
+        }
+
+        SensorProvider broken = new MockSensorProvider() {
+            @Override
+            public void populate(TestContext ctx) {
+                throw new AssertionError("sensor firmware assert");
+            }
+        };
+        TestReport report = new FleetWorker(broken, profiles, 1).validate(jobs("GPU", 1).get(0));
+        assertEquals(1, report.failed());
+        assertTrue(report.getResults().get(0).getMessage().contains("sensor firmware assert"));
+    }
+
+    /**
+     * Worker processes on this machine validate a lot over loopback; when one is killed the
+     * next lot runs on the survivor, and the survivor exits when the coordinator closes.
+     */
+    @Test
+    void testLocalWorkerProcesses() throws Exception {
+        List<Process> workers;
+        try (FleetCoordinator coordinator = new FleetCoordinator(3).withWorkerWait(Duration.ofSeconds(20))) {
+            workers = coordinator.spawnLocalWorkers(2, List.of("--summary-only"));
+            assertTrue(coordinator.awaitWorkers(2, Duration.ofSeconds(60)), "both workers connected");
+
+            List<ValidationJob> first = jobs("RACK1", 20);
+            assertMerged(first, coordinator.run(first));
+
+            workers.get(0).destroyForcibly().waitFor();
+            for (int i = 0; i < 100 && coordinator.connectedWorkers() > 1; i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(1, coordinator.connectedWorkers());
+            List<ValidationJob> second = jobs("RACK2", 10);
+            assertMerged(second, coordinator.run(second));
+        }
+        assertTrue(workers.get(1).waitFor(10, TimeUnit.SECONDS));
+        assertEquals(0, workers.get(1).exitValue());
+    }
+}
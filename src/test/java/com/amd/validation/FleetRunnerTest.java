@@ -0,0 +1,118 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FleetRunner} class.
+ *
+ * <p>These tests ensure that devices are validated concurrently, that the per-host
+ * concurrency cap is honoured, and that one aborted device does not affect the others.</p>
+ */
+class FleetRunnerTest {
+
+    private static List<TestContext> devices(int n) {
+        List<TestContext> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            TestContext ctx = new TestContext("GPU-" + i);
+            SystemInfoFetcher.populate(ctx);
+            list.add(ctx);
+        }
+        return list;
+    }
+
+    /**
+     * Runs a full task set on several devices and checks per-device reports and the summary.
+     */
+    @Test
+    void testFleetProducesReportPerDevice() {
+        TestRunner runner = new TestRunner(List.of(
+            new PCIeLinkValidation(true),
+            new ThermalMonitorCheck(true),
+            new FanSpeedValidation()
+        ));
+
+        FleetReport fleet = new FleetRunner(runner).runFleet(devices(5));
+
+        assertEquals(5, fleet.deviceCount());
+        assertEquals(5, fleet.passedDevices());
+        assertEquals(15, fleet.totalResults());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("GPU-" + i, fleet.getReports().get(i).getContext().getDeviceId());
+        }
+        assertNotNull(fleet.getReport("GPU-3"));
+    }
+
+    /**
+     * Devices run at the same time, so wall-clock time tracks the slowest device
+     * while never exceeding the configured concurrency cap.
+     */
+    @Test
+    void testDevicesRunConcurrentlyUnderCap() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        ValidationTask slow = context -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return new ValidationResult("Slow", true, "done");
+        };
+
+        FleetReport fleet = new FleetRunner(new TestRunner(List.of(slow)), 4).runFleet(devices(8));
+
+        assertEquals(8, fleet.passedDevices());
+        assertEquals(4, peak.get(), "Concurrency cap should be reached but not exceeded");
+        assertTrue(fleet.getElapsed().toMillis() < 8 * 200, "Devices should overlap in time");
+    }
+
+    /**
+     * A device whose run aborts gets a failed report; the rest of the fleet is unaffected.
+     */
+    @Test
+    void testAbortedDeviceIsIsolated() {
+        ValidationTask flaky = context -> {
+            if (context.getDeviceId().equals("GPU-1")) {
+                throw new IllegalStateException("sensor bus hung");
+            }
+            return new ValidationResult("Flaky", true, "ok");
+        };
+
+        FleetReport fleet = new FleetRunner(new TestRunner(List.of(flaky))).runFleet(devices(3));
+
+        assertEquals(2, fleet.passedDevices());
+        assertEquals(1, fleet.failedDevices());
+        assertFalse(fleet.getReport("GPU-1").getResults().get(0).isPassed());
+    }
+
+    /**
+     * A device on which no task ran is reported as failed, not as passed.
+     */
+    @Test
+    void testDeviceWithoutResultsFails() {
+        FleetReport fleet = new FleetRunner(new TestRunner(List.of())).runFleet(devices(2));
+
+        assertEquals(0, fleet.passedDevices());
+        assertEquals(2, fleet.failedDevices());
+        assertTrue(fleet.toString().contains("FAIL (0/0 passed)"), fleet.toString());
+    }
+
+    /**
+     * A non-positive concurrency cap is rejected.
+     */
+    @Test
+    void testInvalidConcurrencyCap() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new FleetRunner(new TestRunner(List.of()), 0));
+    }
+}
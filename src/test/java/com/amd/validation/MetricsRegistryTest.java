@@ -0,0 +1,122 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LatencyHistogram}, {@link MetricsRegistry} and {@link MetricsServer}.
+ */
+class MetricsRegistryTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Percentiles stay within the bucket resolution under concurrent recording.
+     */
+    @Test
+    void testHistogramPercentilesUnderConcurrency() throws Exception {
+        LatencyHistogram h = new LatencyHistogram();
+        try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                pool.submit(() -> {
+                    for (long v = 1; v <= 100_000; v++) h.record(v * 1_000);
+                });
+            }
+        }
+
+        assertEquals(400_000, h.getCount());
+        assertEquals(100_000_000L, h.getMax());
+        assertEquals(50_000_000, h.valueAtPercentile(50), 50_000_000 / 64.0);
+        assertEquals(99_000_000, h.valueAtPercentile(99), 99_000_000 / 64.0);
+        assertEquals(100_000_000L, h.valueAtPercentile(100));
+        assertEquals(50_000_500.0, h.getMean(), 1e-6);
+
+        for (long v : new long[]{0, 127, 128, 1_000_003, LatencyHistogram.MAX_TRACKABLE}) {
+            long upper = LatencyHistogram.highestEquivalent(LatencyHistogram.index(v));
+            assertTrue(upper >= v && upper - v <= Math.max(1, v / 64), "bucket of " + v);
+        }
+    }
+
+    /**
+     * An instrumented fleet run records every task, device and outcome, and drains the queue.
+     * Without per-device latency, every device run shares one histogram.
+     */
+    @Test
+    void testRunnerRecordsTaskAndDeviceMetrics() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        TestRunner runner = new TestRunner(List.of(new FanSpeedValidation(), new PowerConsumptionValidation()))
+            .withMetrics(metrics);
+
+        List<TestContext> fleet = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            TestContext ctx = new TestContext("GPU-00" + i);
+            SystemInfoFetcher.populate(ctx);
+            if (i % 2 == 0) ctx.setPowerWatts(250);
+            fleet.add(ctx);
+        }
+        new FleetRunner(runner, 2).runFleet(fleet);
+
+        assertEquals(6, metrics.getTaskLatency("FanSpeedValidation").getCount());
+        assertEquals(6, metrics.getPassCount("FanSpeedValidation"));
+        assertEquals(3, metrics.getPassCount("PowerConsumptionValidation"));
+        assertEquals(3, metrics.getFailCount("PowerConsumptionValidation"));
+        assertEquals(1, metrics.getDeviceLatency("GPU-004").getCount());
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(0, metrics.getActiveDevices());
+
+        StringWriter out = new StringWriter();
+        metrics.writePrometheus(out);
+        String text = out.toString();
+        assertTrue(text.contains("# TYPE gpu_validation_task_duration_seconds summary"));
+        assertTrue(text.contains("gpu_validation_task_results_total{task=\"PowerConsumptionValidation\",result=\"fail\"} 3"));
+        assertTrue(text.contains("gpu_validation_task_duration_seconds_count{task=\"FanSpeedValidation\"} 6"));
+        assertTrue(text.contains("gpu_validation_device_duration_seconds{device=\"GPU-001\",quantile=\"0.99\"} "));
+        assertTrue(text.contains("gpu_validation_runner_queue_depth 0"));
+
+        Path file = dir.resolve("metrics/gpu.prom");
+        metrics.writePrometheus(file);
+        assertEquals(text, Files.readString(file));
+
+        MetricsRegistry shared = new MetricsRegistry().withDeviceLatency(false);
+        shared.recordDevice("GPU-001", 1_000_000);
+        shared.recordDevice("GPU-002", 3_000_000);
+        assertNull(shared.getDeviceLatency("GPU-001"));
+        assertEquals(2, shared.getDeviceLatency(MetricsRegistry.ALL_DEVICES).getCount());
+    }
+
+    /**
+     * The HTTP endpoint serves the registry in the Prometheus content type.
+     */
+    @Test
+    void testServerExposesMetrics() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.recordTask("PCIeLinkValidation", 2_000_000, true);
+
+        try (MetricsServer server = new MetricsServer(metrics, 0)) {
+            HttpClient client = HttpClient.newHttpClient();
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals(MetricsServer.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(""));
+            assertTrue(response.body().contains(
+                "gpu_validation_task_results_total{task=\"PCIeLinkValidation\",result=\"pass\"} 1"));
+        }
+    }
+}
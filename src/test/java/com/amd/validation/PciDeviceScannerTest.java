@@ -0,0 +1,108 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PciDeviceScanner}, run against a fake PCI sysfs tree.
+ */
+class PciDeviceScannerTest {
+
+    @TempDir
+    Path sysRoot;
+
+    private Path function(String bdf, String vendor, String pciClass) throws Exception {
+        Path dir = sysRoot.resolve("bus/pci/devices/" + bdf);
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("vendor"), vendor + "\n");
+        Files.writeString(dir.resolve("class"), pciClass + "\n");
+        return dir;
+    }
+
+    private Path gpu(String bdf, String card, int width, String speed) throws Exception {
+        Path dir = function(bdf, "0x1002", "0x120000");
+        Files.writeString(dir.resolve("device"), "0x74a1\n");
+        Files.writeString(dir.resolve("product_name"), "AMD Instinct MI300X\n");
+        Files.writeString(dir.resolve("current_link_width"), width + "\n");
+        Files.writeString(dir.resolve("max_link_width"), "16\n");
+        Files.writeString(dir.resolve("current_link_speed"), speed + "\n");
+        Files.writeString(dir.resolve("max_link_speed"), "32.0 GT/s PCIe\n");
+        Files.createDirectories(dir.resolve("drm/" + card));
+        return dir;
+    }
+
+    /**
+     * Only AMD display and accelerator functions are reported, in address order, with their
+     * link state parsed; an unreadable function is skipped without hiding the others, and
+     * an unreadable link attribute is reported as unknown.
+     */
+    @Test
+    void testScanFindsGpusInAddressOrder() throws Exception {
+        gpu("0000:83:00.0", "card1", 16, "32.0 GT/s PCIe");
+        gpu("0000:03:00.0", "card0", 8, "16.0 GT/s PCIe");
+        function("0000:03:00.1", "0x1002", "0x040300");   // the GPU's HDMI audio function
+        function("0000:00:1f.6", "0x8086", "0x020000");   // a NIC
+        Path broken = sysRoot.resolve("bus/pci/devices/0000:04:00.0");
+        Files.createDirectories(broken.resolve("vendor"));
+        Path asleep = gpu("0000:c3:00.0", "card2", 16, "32.0 GT/s PCIe");
+        Files.delete(asleep.resolve("current_link_speed"));
+        Files.createDirectories(asleep.resolve("current_link_speed"));
+
+        List<PciDeviceScanner.PciDevice> gpus = new PciDeviceScanner(sysRoot).scan();
+
+        assertEquals(3, gpus.size());
+        assertTrue(Double.isNaN(gpus.get(2).linkSpeed()));
+        assertEquals(16, gpus.get(2).linkWidth());
+        PciDeviceScanner.PciDevice first = gpus.get(0);
+        assertEquals(PciAddress.parse("0000:03:00.0"), first.address());
+        assertEquals("GPU-0000:03:00.0", first.contextId());
+        assertEquals(0x74a1, first.deviceId());
+        assertEquals("card0", first.card());
+        assertEquals(8, first.linkWidth());
+        assertEquals(16.0, first.linkSpeed());
+        assertTrue(first.isDegraded());
+        assertTrue(first.toString().contains("x8/x16"), first.toString());
+
+        PciDeviceScanner.PciDevice second = gpus.get(1);
+        assertEquals("card1", second.card());
+        assertEquals(32.0, second.maxLinkSpeed());
+        assertFalse(second.isDegraded());
+
+        assertThrows(java.io.UncheckedIOException.class,
+                     () -> new PciDeviceScanner(sysRoot.resolve("missing")).scan());
+    }
+
+    /**
+     * Discovered devices read their own DRM card through the sysfs provider, and their
+     * location satisfies the location check without a hand-typed expectation per device.
+     */
+    @Test
+    void testDiscoveredDevicesReadTheirCards() throws Exception {
+        for (String card : List.of("card0", "card1")) {
+            Path hwmon = sysRoot.resolve("class/drm/" + card + "/device/hwmon/hwmon0");
+            Files.createDirectories(hwmon);
+            Files.writeString(hwmon.resolve("temp1_input"), card.equals("card0") ? "50000\n" : "65000\n");
+        }
+        gpu("0000:03:00.0", "card0", 16, "32.0 GT/s PCIe");
+        gpu("0000:83:00.0", "card1", 16, "32.0 GT/s PCIe");
+
+        try (SysfsSensorProvider sensors = new SysfsSensorProvider(sysRoot)) {
+            for (PciDeviceScanner.PciDevice d : new PciDeviceScanner(sysRoot).scan()) {
+                sensors.bind(d.contextId(), d.card());
+                TestContext ctx = new TestContext(d.contextId());
+                sensors.populate(ctx);
+                d.applyTo(ctx);
+
+                assertEquals("AMD Instinct MI300X", ctx.getDeviceName());
+                assertEquals(d.card().equals("card0") ? 50.0 : 65.0, ctx.getGpuTemperature());
+                assertTrue(new PCIeLocationValidation(d.address().toLocationString()).execute(ctx).isPassed());
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ResultCache} and cached execution in {@link TestRunner}.
+ */
+class ResultCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static final String LOCATION = "PCI bus 4, device 0, function 0";
+
+    /** A clock the test moves by hand. */
+    private static final class ManualClock extends Clock {
+        final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+
+    /** A cacheable check on the driver version that counts its executions. */
+    private static final class DriverCheck implements CacheableTask {
+        final AtomicInteger executions = new AtomicInteger();
+        final int version;
+        final boolean fault;
+
+        DriverCheck(int version, boolean fault) {
+            this.version = version;
+            this.fault = fault;
+        }
+
+        @Override
+        public ValidationResult execute(TestContext context) {
+            executions.incrementAndGet();
+            if (fault) {
+                throw new IllegalStateException("driver query failed");
+            }
+            return new ValidationResult("DriverCheck", context.getDriverVersion().startsWith("31."),
+                                        () -> "Driver " + context.getDriverVersion(), 31, Double.NaN);
+        }
+
+        @Override
+        public int version() {
+            return version;
+        }
+
+        @Override
+        public List<Object> cacheInputs(TestContext context) {
+            return List.of(context.getDriverVersion());
+        }
+    }
+
+    private static TestContext device(String id) {
+        TestContext ctx = new TestContext(id);
+        SystemInfoFetcher.populate(ctx);
+        return ctx;
+    }
+
+    /**
+     * Retests reuse cached verdicts; changed inputs, a new task version or a fault
+     * re-execute, and tasks that are not cacheable always run.
+     */
+    @Test
+    void testRunnerReusesUnchangedResults() {
+        ResultCache cache = new ResultCache(100, Duration.ofHours(1));
+        DriverCheck driver = new DriverCheck(1, false);
+        AtomicInteger fanRuns = new AtomicInteger();
+        ValidationTask fan = ctx -> {
+            fanRuns.incrementAndGet();
+            return new FanSpeedValidation().execute(ctx);
+        };
+        TestRunner runner = new TestRunner(List.of(new PCIeLocationValidation(LOCATION), driver, fan))
+            .withResultCache(cache);
+
+        TestReport first = runner.runAll(device("GPU-1"));
+        TestReport second = runner.runAll(device("GPU-1"));
+        assertEquals(1, driver.executions.get());
+        assertEquals(2, fanRuns.get());
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        for (int i = 0; i < first.total(); i++) {
+            ValidationResult a = first.getResults().get(i), b = second.getResults().get(i);
+            assertEquals(a.getTaskName(), b.getTaskName());
+            assertEquals(a.isPassed(), b.isPassed());
+            assertEquals(a.getMessage(), b.getMessage());
+            assertEquals(a.getValue(), b.getValue());
+        }
+
+        TestContext moved = device("GPU-1");
+        moved.setPciLocation("PCI bus 5, device 0, function 0");
+        moved.setDriverVersion("32.0.1");
+        TestReport retest = runner.runAll(moved);
+        assertFalse(retest.getResults().get(0).isPassed(), "new location is checked, not reused");
+        assertFalse(retest.getResults().get(1).isPassed());
+        assertEquals(2, driver.executions.get());
+
+        DriverCheck upgraded = new DriverCheck(2, false);
+        new TestRunner(List.of(upgraded)).withResultCache(cache).runAll(device("GPU-1"));
+        assertEquals(1, upgraded.executions.get(), "a new version does not reuse old results");
+
+        DriverCheck faulty = new DriverCheck(3, true);
+        TestRunner faultyRunner = new TestRunner(List.of(faulty)).withResultCache(cache);
+        faultyRunner.runAll(device("GPU-1"));
+        faultyRunner.runAll(device("GPU-1"));
+        assertEquals(2, faulty.executions.get(), "faults are not cached");
+    }
+
+    /**
+     * The least recently used entry is evicted, entries expire after the TTL, and a saved
+     * cache reloads with its order and ages.
+     */
+    @Test
+    void testEvictionExpiryAndPersistence() throws Exception {
+        ManualClock clock = new ManualClock();
+        Path file = dir.resolve("cache").resolve("results.json");
+        ResultCache cache = ResultCache.load(file, 2, Duration.ofMinutes(10), clock);
+        assertEquals(0, cache.size());
+
+        ValidationResult pass = new ValidationResult("PCIeLocationValidation", true, "PCIe location matched");
+        ValidationResult fail = new ValidationResult("PowerConsumptionValidation", false, "too high", 250, 200);
+        cache.put("a", pass);
+        clock.millis.addAndGet(60_000);
+        cache.put("b", fail);
+        assertNotNull(cache.get("a"));
+        cache.put("c", pass);
+        assertNull(cache.get("b"), "b was least recently used");
+        assertNotNull(cache.get("a"));
+        cache.save();
+
+        ResultCache reloaded = ResultCache.load(file, 2, Duration.ofMinutes(10), clock);
+        assertEquals(2, reloaded.size());
+        ValidationResult a = reloaded.get("a");
+        assertTrue(a.isPassed());
+        assertEquals("PCIe location matched", a.getMessage());
+        assertTrue(Double.isNaN(a.getValue()));
+        reloaded.put("d", fail);
+        assertNull(reloaded.get("c"), "the order survived the reload");
+        assertEquals(250, reloaded.get("d").getValue());
+
+        clock.millis.addAndGet(9 * 60_000);
+        assertNull(reloaded.get("a"), "a is ten minutes old");
+        assertNotNull(reloaded.get("d"));
+        reloaded.save();
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(List.of("results.json"), files.map(p -> p.getFileName().toString()).toList());
+        }
+        clock.millis.addAndGet(10 * 60_000);
+        assertEquals(0, ResultCache.load(file, 2, Duration.ofMinutes(10), clock).size());
+
+        Files.writeString(file, "{\"version\": 1, \"entries\": [{\"key\": 7}]}");
+        assertThrows(IOException.class, () -> ResultCache.load(file, 2, Duration.ofMinutes(10)));
+        assertThrows(IllegalStateException.class, () -> new ResultCache(2, Duration.ofMinutes(1)).save());
+    }
+}
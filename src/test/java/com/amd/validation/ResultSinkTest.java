@@ -0,0 +1,116 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming {@link ResultSink} implementations.
+ */
+class ResultSinkTest {
+
+    @TempDir
+    Path dir;
+
+    private static TestContext device(String id) {
+        TestContext ctx = new TestContext(id);
+        SystemInfoFetcher.populate(ctx);
+        return ctx;
+    }
+
+    /**
+     * Results reach disk while the run is still going, not only after runAll returns.
+     */
+    @Test
+    void testResultsAreWrittenIncrementally() throws Exception {
+        Path jsonl = dir.resolve("results.jsonl");
+        JsonLinesResultSink sink = new JsonLinesResultSink(
+            Files.newBufferedWriter(jsonl), 1, Duration.ofHours(1));
+
+        ValidationTask first = context -> new ValidationResult("First", true, "ok");
+        ValidationTask observer = context -> {
+            try {
+                // The first result must already be on disk when the second task runs
+                boolean seen = Files.readString(jsonl).contains("\"taskName\":\"First\"");
+                return new ValidationResult("Observer", seen, seen ? "first result visible" : "not flushed");
+            } catch (java.io.IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        };
+
+        TestReport report = new TestRunner(List.of(first, observer)).withSink(sink).runAll(device("GPU-001"));
+        sink.close();
+
+        assertEquals(0, report.failed(), report.toString());
+
+        List<String> lines = Files.readAllLines(jsonl);
+        assertEquals(2, lines.size());
+        JsonNode node = new ObjectMapper().readTree(lines.get(1));
+        assertEquals("GPU-001", node.get("deviceId").asText());
+        assertEquals("Observer", node.get("taskName").asText());
+        assertTrue(node.get("passed").asBoolean());
+    }
+
+    /**
+     * The CSV sink uses the same layout as the CSV report exporter and is safe to share
+     * between concurrently validated devices.
+     */
+    @Test
+    void testCsvSinkWithFleet() throws Exception {
+        Path csv = dir.resolve("results.csv");
+        TestRunner runner = new TestRunner(List.of(new FanSpeedValidation(), new PowerConsumptionValidation()));
+
+        try (CsvResultSink sink = new CsvResultSink(csv)) {
+            runner.withSink(sink);
+            new FleetRunner(runner).runFleet(List.of(device("A"), device("B"), device("C")));
+        }
+
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(7, lines.size());
+        assertTrue(lines.get(0).startsWith("\"Task\",\"Status\""));
+        assertEquals(2, lines.stream().filter(l -> l.contains("\"B\"")).count());
+    }
+
+    /**
+     * Results stay buffered until the flush threshold is reached.
+     */
+    @Test
+    void testBoundedBufferFlushesOnThreshold() {
+        StringWriter out = new StringWriter();
+        CsvResultSink sink = new CsvResultSink(out, 3, Duration.ofHours(1));
+        TestContext ctx = device("GPU-001");
+
+        sink.accept(ctx, new ValidationResult("T1", true, "ok"));
+        sink.accept(ctx, new ValidationResult("T2", true, "ok"));
+        assertEquals("", out.toString());
+
+        sink.accept(ctx, new ValidationResult("T3", false, "bad"));
+        assertEquals(4, out.toString().lines().count());
+        sink.close();
+    }
+
+    /**
+     * A result followed by no others is flushed by the timer once the interval has passed.
+     */
+    @Test
+    void testIdleSinkFlushesOnTimer() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvResultSink sink = new CsvResultSink(out, 100, Duration.ofMillis(20))) {
+            sink.accept(device("GPU-001"), new ValidationResult("T1", true, "ok"));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (out.toString().lines().count() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, out.toString().lines().count(), "header and row written without another result");
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RunIndex}.
+ */
+class RunIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 3, 1);
+    private static final String[] TASKS = {"PCIeLinkValidation", "FanSpeedValidation", "PowerConsumptionValidation"};
+    private static final String[] DRIVERS = {"31.0.21914.6001", "32.0.11000.1"};
+
+    /** Reports written so far, for computing the expected answers */
+    private final List<TestReport> written = new ArrayList<>();
+    private final List<LocalDate> writtenDays = new ArrayList<>();
+
+    private TestReport report(SplittableRandom random, String deviceId) {
+        TestContext ctx = new TestContext(deviceId);
+        SystemInfoFetcher.populate(ctx);
+        ctx.setDriverVersion(DRIVERS[random.nextInt(DRIVERS.length)]);
+        ctx.setGpuTemperature(40 + random.nextInt(500) / 10.0);
+        if (random.nextBoolean()) {
+            ctx.setDeviceName("AMD Instinct MI300X");
+        }
+        TestReport report = new TestReport();
+        for (String task : TASKS) {
+            report.add(new ValidationResult(task, random.nextInt(5) > 0, "msg"));
+        }
+        report.setContext(ctx);
+        return report;
+    }
+
+    private Path writeRun(LocalDate day, int second, TestReport... reports) throws IOException {
+        Path run = dir.resolve(String.format("run-%s-1200%02d", day.toString().replace("-", ""), second));
+        if (reports.length == 1) {
+            Files.createDirectories(run);
+            JsonReportExporter.export(reports[0], run.resolve("report.json"));
+        } else {
+            for (TestReport r : reports) {
+                Path device = Files.createDirectories(run.resolve(r.getContext().getDeviceId()));
+                JsonReportExporter.export(r, device.resolve("report.json"));
+            }
+        }
+        for (TestReport r : reports) {
+            written.add(r);
+            writtenDays.add(day);
+        }
+        return run;
+    }
+
+    private static String sku(TestReport r) {
+        return r.getContext().getDeviceName();
+    }
+
+    /**
+     * Each query agrees with a direct count over the reports, incomplete runs are picked
+     * up once they are complete, and indexed runs are not parsed again.
+     */
+    @Test
+    void testQueriesMatchStoredReports() throws Exception {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int d = 0; d < 3; d++) {
+            for (int run = 0; run < 20; run++) {
+                writeRun(DAY1.plusDays(d), run, report(random, "GPU-" + run));
+            }
+        }
+        writeRun(DAY1.plusDays(2), 50, report(random, "GPU-A"), report(random, "GPU-B"), report(random, "GPU-C"));
+        Path pending = Files.createDirectories(dir.resolve("run-20260303-130000"));
+        Files.writeString(pending.resolve("notes.txt"), "export in progress");
+        Files.createDirectories(dir.resolve("run-20260303-140000"));
+        Files.writeString(dir.resolve("run-20260303-140000").resolve("report.json"), "{\"results\": [");
+        Files.createDirectories(dir.resolve("archive"));
+
+        RunIndex index = new RunIndex(dir);
+        assertEquals(61, index.refresh());
+        assertEquals(63, index.deviceCount());
+        assertEquals(63 * TASKS.length, index.resultCount());
+
+        SortedMap<LocalDate, Map<String, RunIndex.PassRate>> byDay = index.taskRatesByDay(null, null);
+        assertEquals(List.of(DAY1, DAY1.plusDays(1), DAY1.plusDays(2)), List.copyOf(byDay.keySet()));
+        for (LocalDate day : byDay.keySet()) {
+            for (String task : TASKS) {
+                long total = 0, passed = 0;
+                for (int i = 0; i < written.size(); i++) {
+                    if (!writtenDays.get(i).equals(day)) continue;
+                    for (ValidationResult r : written.get(i).getResults()) {
+                        if (r.getTaskName().equals(task)) {
+                            total++;
+                            if (r.isPassed()) passed++;
+                        }
+                    }
+                }
+                assertEquals(new RunIndex.PassRate(passed, total), byDay.get(day).get(task), day + " " + task);
+            }
+        }
+        assertEquals(1, index.taskRatesByDay(DAY1.plusDays(1), DAY1.plusDays(1)).size());
+        assertTrue(index.taskRatesByDay(DAY1.plusDays(5), null).isEmpty());
+
+        Map<String, long[]> drivers = new HashMap<>();
+        Map<String, List<Double>> temps = new HashMap<>();
+        for (TestReport r : written) {
+            long[] c = drivers.computeIfAbsent(r.getContext().getDriverVersion(), k -> new long[2]);
+            c[0]++;
+            if (r.failed() == 0) c[1]++;
+            temps.computeIfAbsent(sku(r), k -> new ArrayList<>()).add(r.getContext().getGpuTemperature());
+        }
+        SortedMap<String, RunIndex.PassRate> byDriver = index.passRateByDriver(null, null);
+        assertEquals(drivers.keySet(), byDriver.keySet());
+        drivers.forEach((driver, c) -> assertEquals(new RunIndex.PassRate(c[1], c[0]), byDriver.get(driver)));
+
+        SortedMap<String, RunIndex.TemperatureStats> bySku = index.temperatureBySku(null, null);
+        assertEquals(temps.keySet(), bySku.keySet());
+        temps.forEach((sku, values) -> {
+            values.sort(null);
+            RunIndex.TemperatureStats t = bySku.get(sku);
+            assertEquals(values.size(), t.count());
+            assertEquals(values.get(0), t.min());
+            assertEquals(values.get(values.size() - 1), t.max());
+            assertEquals(values.get((int) Math.ceil(0.5 * values.size()) - 1), t.p50());
+            assertEquals(values.stream().mapToDouble(Double::doubleValue).average().orElseThrow(), t.mean(), 1e-9);
+        });
+        assertTrue(index.summary(null, null).contains("Task failure rate per day"));
+
+        // Incomplete runs were left for later; indexed runs are not parsed again
+        writeRun(DAY1.plusDays(2), 99, report(random, "GPU-LATE"));
+        Files.move(dir.resolve("run-20260303-120099"), pending.resolve("GPU-LATE"));
+        assertEquals(1, index.refresh());
+        assertEquals(0, index.refresh());
+        assertEquals(64, index.deviceCount());
+        assertEquals(62, index.runCount());
+    }
+
+    /**
+     * A saved index reloads with the same answers and only indexes runs added since.
+     */
+    @Test
+    void testSavedIndexResumes() throws Exception {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int run = 0; run < 10; run++) {
+            writeRun(DAY1.plusDays(run % 2), run, report(random, "GPU-" + run));
+        }
+        RunIndex index = new RunIndex(dir);
+        index.refresh();
+        Path file = dir.resolve("index.bin");
+        index.save(file);
+
+        RunIndex loaded = RunIndex.load(file, dir);
+        assertEquals(10, loaded.runCount());
+        assertEquals(index.summary(null, null), loaded.summary(null, null));
+        assertEquals(0, loaded.refresh());
+
+        writeRun(DAY1.plusDays(3), 0, report(random, "GPU-NEW"));
+        assertEquals(1, loaded.refresh());
+        assertEquals(11, loaded.deviceCount());
+        assertEquals(DAY1.plusDays(3), loaded.taskRatesByDay(null, null).lastKey());
+
+        assertEquals(0, RunIndex.load(dir.resolve("missing.bin"), dir).runCount());
+        Files.writeString(file, "not an index");
+        assertThrows(IOException.class, () -> RunIndex.load(file, dir));
+    }
+}
@@ -0,0 +1,116 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SensorProvider} SPI and its built-in implementations.
+ *
+ * <p>The sysfs provider is exercised against a fake DRM/hwmon directory tree, so these
+ * tests run on machines without a GPU.</p>
+ */
+class SensorProviderTest {
+
+    @TempDir
+    Path sysRoot;
+
+    private Path fakeCard(String card, String slot) throws Exception {
+        Path device = sysRoot.resolve("class/drm/" + card + "/device");
+        Path hwmon = device.resolve("hwmon/hwmon3");
+        Files.createDirectories(hwmon);
+        Files.writeString(device.resolve("uevent"), "DRIVER=amdgpu\nPCI_SLOT_NAME=" + slot + "\n");
+        Files.writeString(device.resolve("product_name"), "AMD Instinct MI300X\n");
+        Files.writeString(device.resolve("mem_info_vram_total"), String.valueOf(192L << 30) + "\n");
+        Files.writeString(device.resolve("mem_info_vram_used"), String.valueOf(12L << 30) + "\n");
+        Files.writeString(hwmon.resolve("temp1_input"), "61000\n");
+        Files.writeString(hwmon.resolve("fan1_input"), "1850\n");
+        Files.writeString(hwmon.resolve("power1_average"), "155000000\n");
+        return hwmon;
+    }
+
+    /**
+     * All three built-in providers are registered with ServiceLoader.
+     */
+    @Test
+    void testProvidersAreDiscovered() {
+        assertTrue(SensorProviders.available().containsAll(java.util.List.of("mock", "sysfs", "replay")));
+        assertInstanceOf(MockSensorProvider.class, SensorProviders.load("mock"));
+        assertThrows(IllegalArgumentException.class, () -> SensorProviders.load("nvml"));
+    }
+
+    /**
+     * The sysfs reader decodes hwmon/DRM units into the context fields.
+     */
+    @Test
+    void testSysfsProviderReadsFakeTree() throws Exception {
+        fakeCard("card0", "0000:03:00.0");
+
+        try (SysfsSensorProvider provider = new SysfsSensorProvider(sysRoot)) {
+            TestContext ctx = new TestContext("GPU-001");
+            provider.populate(ctx);
+
+            assertEquals("AMD Instinct MI300X", ctx.getDeviceName());
+            assertEquals("PCI bus 3, device 0, function 0", ctx.getPciLocation());
+            assertEquals(61.0, ctx.getGpuTemperature());
+            assertEquals(1850, ctx.getFanSpeedRPM());
+            assertEquals(155, ctx.getPowerWatts());
+            assertEquals(192.0, ctx.getTotalMemoryGB(), 1e-9);
+            assertEquals(12.0, ctx.getMemoryUsedGB(), 1e-9);
+        }
+    }
+
+    /**
+     * Open channels observe updated values on every read, and bound devices read their own card.
+     */
+    @Test
+    void testSysfsProviderRereadsOpenChannels() throws Exception {
+        Path hwmon0 = fakeCard("card0", "0000:03:00.0");
+        fakeCard("card1", "0000:83:00.0");
+
+        try (SysfsSensorProvider provider = new SysfsSensorProvider(sysRoot).bind("GPU-002", "card1")) {
+            TestContext ctx = new TestContext("GPU-001");
+            provider.populate(ctx);
+            assertEquals(61.0, ctx.getGpuTemperature());
+
+            Files.writeString(hwmon0.resolve("temp1_input"), "74500\n");
+            provider.populate(ctx);
+            assertEquals(74.5, ctx.getGpuTemperature());
+
+            TestContext other = new TestContext("GPU-002");
+            provider.populate(other);
+            assertEquals("PCI bus 131, device 0, function 0", other.getPciLocation());
+        }
+    }
+
+    /**
+     * The replay provider cycles through each device's recorded samples.
+     */
+    @Test
+    void testReplayProviderCyclesSamples() throws Exception {
+        Path csv = sysRoot.resolve("replay.csv");
+        Files.writeString(csv, String.join("\n",
+            "deviceId,temperatureC,fanRpm,powerWatts,memoryUsedGB",
+            "GPU-001,50.0,1000,100,1.0",
+            "GPU-001,55.0,1100,120,1.5",
+            "*,40.0,900,80,0.5"));
+
+        SensorProvider provider = new ReplaySensorProvider(csv);
+        TestContext ctx = new TestContext("GPU-001");
+
+        provider.populate(ctx);
+        assertEquals(50.0, ctx.getGpuTemperature());
+        provider.populate(ctx);
+        assertEquals(120, ctx.getPowerWatts());
+        provider.populate(ctx);
+        assertEquals(1000, ctx.getFanSpeedRPM());
+
+        TestContext unknown = new TestContext("GPU-999");
+        provider.populate(unknown);
+        assertEquals(40.0, unknown.getGpuTemperature());
+    }
+}
@@ -0,0 +1,133 @@
+package com.amd.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SoakMonitor} and {@link SoakEngine}.
+ */
+class SoakEngineTest {
+
+    @TempDir
+    Path dir;
+
+    private static ValidationResult result(TestReport report, SoakRule rule) {
+        return report.getResults().get(rule.ordinal());
+    }
+
+    /**
+     * Each rule fails only the run that breaks it, and the incremental slope matches a
+     * least-squares fit recomputed over the window after many laps of the ring.
+     */
+    @Test
+    void testRulesOverSlidingWindows() {
+        double hz = 10;
+        int window = 100;
+        TestContext ctx = new TestContext("GPU-0");
+
+        SoakMonitor steady = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS);
+        SoakMonitor heating = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS);
+        SoakMonitor hunting = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS);
+        SoakMonitor spiking = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS);
+        SoakMonitor leaking = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS);
+        SoakMonitor.SlidingSlope slope = new SoakMonitor.SlidingSlope(window);
+        double[] temps = new double[2_000];
+        for (int i = 0; i < temps.length; i++) {
+            double t = i / hz;
+            // Level temperature with noise; fan jitter stays below the reversal step
+            temps[i] = 60 + Math.sin(i * 0.7) * 0.5;
+            steady.record(temps[i], 1200 + (i % 2) * 40, 150, 2.0);
+            // 3 °C per minute for the second half of the run
+            heating.record(i < 1_000 ? 60 : 60 + (t - 100) * 3 / 60, 1200, 150, 2.0);
+            hunting.record(60, i % 10 < 5 ? 1200 : 1500, 150, 2.0);
+            spiking.record(60, 1200, i % 50 == 0 ? 260 : 150, 2.0);
+            leaking.record(60, 1200, 150, 2.0 + t / 3600);
+            slope.add(temps[i]);
+        }
+
+        assertEquals(4, steady.report(ctx).passed(), steady.report(ctx).toString());
+        assertFalse(result(heating.report(ctx), SoakRule.THERMAL_SLOPE).isPassed());
+        assertEquals(3.0, result(heating.report(ctx), SoakRule.THERMAL_SLOPE).getValue(), 1e-6);
+        assertEquals(3, heating.report(ctx).passed());
+        assertFalse(result(hunting.report(ctx), SoakRule.FAN_OSCILLATION).isPassed());
+        assertEquals(20, result(hunting.report(ctx), SoakRule.FAN_OSCILLATION).getValue());
+        assertFalse(result(spiking.report(ctx), SoakRule.POWER_SPIKES).isPassed());
+        assertEquals(2.0, result(spiking.report(ctx), SoakRule.POWER_SPIKES).getValue(), 1e-9);
+        assertFalse(result(leaking.report(ctx), SoakRule.MEMORY_CREEP).isPassed());
+        assertEquals(1.0, result(leaking.report(ctx), SoakRule.MEMORY_CREEP).getValue(), 1e-6);
+        assertTrue(result(leaking.report(ctx), SoakRule.MEMORY_CREEP).getMessage().contains("first at 10.0 s"));
+
+        double n = window, sx = 0, sy = 0, sxy = 0, sxx = 0;
+        for (int x = 0; x < window; x++) {
+            double y = temps[temps.length - window + x];
+            sx += x;
+            sy += y;
+            sxy += x * y;
+            sxx += (double) x * x;
+        }
+        assertEquals((n * sxy - sx * sy) / (n * sxx - sx * sx), slope.slope(), 1e-9);
+
+        TestReport early = new SoakMonitor(hz, window, ThresholdProfile.DEFAULTS).report(ctx);
+        assertEquals(0, early.passed(), "no verdict before a window fills");
+    }
+
+    /**
+     * Devices are soaked concurrently, interim reports are taken once per window and the
+     * last one on disk is the final report.
+     */
+    @Test
+    void testCheckpointsAndFleet() throws Exception {
+        AtomicInteger checkpoints = new AtomicInteger();
+        SoakEngine engine = new SoakEngine(ctx -> {
+            SystemInfoFetcher.populate(ctx);
+            if (ctx.getDeviceId().equals("GPU-1")) {
+                ctx.setPowerWatts(500);
+            }
+        }, 1_000, Duration.ofMillis(50))
+            .withCheckpoints(dir)
+            .withCheckpointListener(r -> checkpoints.incrementAndGet());
+        assertEquals(50, engine.getWindowSamples());
+
+        List<TestContext> devices = List.of(new TestContext("GPU-0"), new TestContext("GPU-1"));
+        FleetReport fleet = engine.soakAll(devices, Duration.ofMillis(300));
+
+        assertEquals(1, fleet.passedDevices());
+        assertEquals(4, fleet.getReport("GPU-0").passed());
+        assertFalse(result(fleet.getReport("GPU-1"), SoakRule.POWER_SPIKES).isPassed());
+        // 5 interim checkpoints plus the final report per device
+        assertEquals(12, checkpoints.get());
+
+        JsonNode saved = new ObjectMapper().readTree(Files.readString(SoakEngine.checkpointFile(dir, "GPU-1")));
+        assertEquals("SoakPowerSpikes", saved.path("results").get(2).path("taskName").asText());
+        assertFalse(saved.path("results").get(2).path("passed").asBoolean());
+        assertTrue(saved.path("results").get(2).path("message").asText().contains("251 windows"));
+        assertFalse(Files.exists(dir.resolve("GPU-1.soak.json.tmp")));
+        assertEquals(0, engine.getFailedCheckpoints());
+    }
+
+    /**
+     * A checkpoint that cannot be written is counted, and the soak still runs to the end.
+     */
+    @Test
+    void testFailedCheckpointsDoNotAbortTheSoak() throws Exception {
+        Path notADir = Files.writeString(dir.resolve("checkpoints"), "a file, not a directory");
+        SoakEngine engine = new SoakEngine(SystemInfoFetcher::populate, 1_000, Duration.ofMillis(50))
+            .withCheckpoints(notADir);
+
+        TestReport report = engine.soak(new TestContext("GPU-0"), Duration.ofMillis(300));
+
+        assertEquals(4, report.passed());
+        assertEquals(6, engine.getFailedCheckpoints());
+        assertEquals("a file, not a directory", Files.readString(notADir));
+    }
+}
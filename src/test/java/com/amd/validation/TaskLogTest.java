@@ -0,0 +1,137 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TaskLog}.
+ */
+class TaskLogTest {
+
+    /**
+     * A runner with a task log records each task's start and verdict per the task's
+     * verbosity, and the writer receives them formatted, in order.
+     */
+    @Test
+    void testRunnerEventsAndLevels() {
+        ValidationTask passing = named("Passing", ctx -> new ValidationResult("Passing", true, "fine"));
+        ValidationTask faulting = named("Faulting", ctx -> {
+            throw new IllegalStateException("sensor gone");
+        });
+        List<TaskLog.Event> events = Collections.synchronizedList(new ArrayList<>());
+        try (TaskLog log = new TaskLog(64, TaskLog.Overflow.DROP_NEWEST, events::addAll)
+                .withLevels("warn,Passing=debug")) {
+            new TestRunner(List.of(passing, faulting)).withTaskLog(log).runAll(new TestContext("GPU-7"));
+            assertTrue(log.flush(Duration.ofSeconds(5)));
+            assertEquals(3, log.getWritten());
+            assertEquals(0, log.getDropped());
+        }
+
+        assertEquals(List.of(TaskLog.Level.DEBUG, TaskLog.Level.INFO, TaskLog.Level.WARN),
+                     events.stream().map(TaskLog.Event::level).toList());
+        assertEquals("Running Passing", events.get(0).message());
+        assertEquals("PASS: fine", events.get(1).message());
+        assertEquals("Faulting", events.get(2).task());
+        assertEquals("GPU-7", events.get(2).deviceId());
+        assertTrue(events.get(2).message().startsWith("FAIL: Threw java.lang.IllegalStateException"));
+        try (TaskLog log = new TaskLog().withLevel("Faulting", TaskLog.Level.OFF)) {
+            assertFalse(log.isEnabled("Faulting", TaskLog.Level.WARN));
+            assertTrue(log.isEnabled("Passing", TaskLog.Level.INFO));
+            assertFalse(log.isEnabled("Passing", TaskLog.Level.DEBUG));
+        }
+    }
+
+    /**
+     * Attaching a task log quiets the tasks' own loggers, so their per-call lines do not
+     * go to the appender on the validation thread.
+     */
+    @Test
+    void testTaskLoggersAreRaisedToWarn() {
+        ch.qos.logback.classic.Logger fan = (ch.qos.logback.classic.Logger)
+                org.slf4j.LoggerFactory.getLogger(FanSpeedValidation.class);
+        try (TaskLog log = new TaskLog()) {
+            assertTrue(fan.isDebugEnabled());
+            new TestRunner(List.of(new FanSpeedValidation())).withTaskLog(log);
+            assertFalse(fan.isInfoEnabled());
+            assertTrue(fan.isWarnEnabled());
+        } finally {
+            fan.setLevel(null);
+        }
+    }
+
+    /**
+     * While the writer is stalled, a full queue drops the newest or the oldest events
+     * without blocking the caller; the blocking policy waits for the writer instead.
+     */
+    @Test
+    void testOverflowPolicies() throws Exception {
+        for (TaskLog.Overflow overflow : List.of(TaskLog.Overflow.DROP_NEWEST, TaskLog.Overflow.DROP_OLDEST)) {
+            CountDownLatch release = new CountDownLatch(1);
+            List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+            try (TaskLog log = new TaskLog(4, overflow, batch -> {
+                awaitQuietly(release);
+                batch.forEach(e -> written.add((Integer) e.args()[0]));
+            })) {
+                log.log(TaskLog.Level.INFO, "T", "GPU-0", "{}", 0);
+                Thread.sleep(100); // the writer takes event 0 and stalls
+                for (int i = 1; i <= 10; i++) {
+                    log.log(TaskLog.Level.INFO, "T", "GPU-0", "{}", i);
+                }
+                assertEquals(6, log.getDropped(), overflow.toString());
+                release.countDown();
+                assertTrue(log.flush(Duration.ofSeconds(5)));
+            }
+            assertEquals(overflow == TaskLog.Overflow.DROP_NEWEST ? List.of(0, 1, 2, 3, 4) : List.of(0, 7, 8, 9, 10),
+                         written, overflow.toString());
+        }
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        try (TaskLog log = new TaskLog(2, TaskLog.Overflow.BLOCK, batch -> {
+            awaitQuietly(release);
+            batch.forEach(e -> written.add((Integer) e.args()[0]));
+        })) {
+            Thread producer = Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 20; i++) {
+                    log.log(TaskLog.Level.INFO, "T", "GPU-0", "{}", i);
+                }
+            });
+            assertFalse(producer.join(Duration.ofMillis(200)), "producer should wait for the writer");
+            release.countDown();
+            assertTrue(producer.join(Duration.ofSeconds(5)));
+            assertTrue(log.flush(Duration.ofSeconds(5)));
+            assertEquals(0, log.getDropped());
+        }
+        assertEquals(20, written.size());
+    }
+
+    private static ValidationTask named(String name, ValidationTask task) {
+        return new ValidationTask() {
+            @Override
+            public ValidationResult execute(TestContext context) {
+                return task.execute(context);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TelemetryCaptureWriter}, {@link TelemetryCaptureReader} and
+ * {@link ReplayEngine}.
+ */
+class TelemetryCaptureTest {
+
+    @TempDir
+    Path dir;
+
+    private static final ThresholdProfile MI300X = ThresholdProfile.DEFAULTS.derive("MI300X",
+        Map.of("power.maxWatts", 750.0, "fan.maxRpm", 4200.0));
+
+    /**
+     * Records sysfs-like readings (millidegrees, bytes) with some raw doubles mixed in.
+     */
+    private static TestContext sampled(String id, int samples, long seed, TelemetryCaptureWriter capture) {
+        SplittableRandom random = new SplittableRandom(seed);
+        TestContext ctx = new TestContext(id);
+        SystemInfoFetcher.populate(ctx);
+        ctx.setThresholds(MI300X);
+        ctx.setTotalMemoryGB(192);
+        TelemetrySeries series = new TelemetrySeries(1000);
+        ctx.setTelemetry(series);
+        long milliC = 60_000;
+        long bytes = 100L << 30;
+        for (int i = 0; i < samples; i++) {
+            milliC += random.nextInt(-50, 51);
+            bytes += random.nextLong(-(1L << 24), 1L << 24);
+            ctx.setGpuTemperature(i % 100 == 0 ? milliC / 1000.0 + 1e-9 : milliC / 1000.0);
+            ctx.setFanSpeedRPM(3000 + random.nextInt(-50, 51));
+            ctx.setPowerWatts(i >= samples - 20 ? 740 : 500 + random.nextInt(-20, 21));
+            ctx.setMemoryUsedGB(bytes / (double) (1L << 30));
+            series.record(ctx);
+            capture.sample(ctx);
+        }
+        return ctx;
+    }
+
+    private static void assertSameDevice(TestContext expected, TestContext actual) {
+        assertEquals(expected.getDeviceId(), actual.getDeviceId());
+        assertEquals(expected.getDeviceName(), actual.getDeviceName());
+        assertEquals(expected.getPciLocation(), actual.getPciLocation());
+        assertEquals(expected.getDriverVersion(), actual.getDriverVersion());
+        assertEquals(expected.getTotalMemoryGB(), actual.getTotalMemoryGB());
+        assertEquals(expected.getMemoryUsedGB(), actual.getMemoryUsedGB());
+        assertEquals(expected.getSharedMemoryGB(), actual.getSharedMemoryGB());
+        assertEquals(expected.getGpuTemperature(), actual.getGpuTemperature());
+        assertEquals(expected.getFanSpeedRPM(), actual.getFanSpeedRPM());
+        assertEquals(expected.getPowerWatts(), actual.getPowerWatts());
+        assertEquals(expected.getThresholds(), actual.getThresholds());
+
+        TelemetrySeries e = expected.getTelemetry(), a = actual.getTelemetry();
+        if (e == null) {
+            assertNull(a);
+            return;
+        }
+        assertEquals(e.getWindowSize(), a.getWindowSize());
+        assertEquals(e.getTemperature().getSize(), a.getTemperature().getSize());
+        for (int i = 0; i < e.getTemperature().getSize(); i++) {
+            assertEquals(e.getTemperature().get(i), a.getTemperature().get(i));
+            assertEquals(e.getFanSpeedRPM().get(i), a.getFanSpeedRPM().get(i));
+            assertEquals(e.getPowerWatts().get(i), a.getPowerWatts().get(i));
+            assertEquals(e.getMemoryUsedGB().get(i), a.getMemoryUsedGB().get(i));
+        }
+    }
+
+    /**
+     * Every field and sample comes back bit for bit, from the sampler hook as well as from
+     * direct recording, and the delta encoding keeps sysfs-like series small.
+     */
+    @Test
+    void testCaptureRoundTrip() throws Exception {
+        Path file = dir.resolve("day" + TelemetryCaptureWriter.EXTENSION);
+        List<TestContext> devices = new ArrayList<>();
+        try (TelemetryCaptureWriter capture = new TelemetryCaptureWriter(file)) {
+            TestContext polled = new TestContext("GPU-POLLED");
+            new TelemetrySampler(500, Duration.ofMillis(40)).withCapture(capture)
+                .sample(polled, SystemInfoFetcher::populate);
+            devices.add(polled);
+            devices.add(sampled("GPU-A", 20_000, 1, capture));
+            devices.add(sampled("GPU-B", 5, 2, capture));
+
+            TestContext unsampled = new TestContext("GPU-SNAPSHOT");
+            SystemInfoFetcher.populate(unsampled);
+            unsampled.setPciLocation(null);
+            unsampled.setGpuTemperature(-0.0);
+            devices.add(unsampled);
+
+            for (TestContext ctx : devices) {
+                capture.write(ctx);
+            }
+            assertEquals(4, capture.getDeviceCount());
+        }
+
+        List<CapturedDevice> read = TelemetryCaptureReader.read(file);
+        assertEquals(devices.size(), read.size());
+        for (int i = 0; i < devices.size(); i++) {
+            assertSameDevice(devices.get(i), read.get(i).context());
+        }
+        assertEquals(20, read.get(0).sampleCount());
+        assertEquals(20_000, read.get(1).sampleCount());
+        assertEquals(20_000, read.get(1).context().getTelemetry().getSampleCount());
+        assertEquals(0, read.get(3).sampleCount());
+        long[] ts = read.get(0).timestampsMillis();
+        assertTrue(ts[0] <= ts[ts.length - 1] && ts[0] > 0);
+
+        // 28 bytes per sample uncompressed; deltas of whole units need a few bytes
+        assertTrue(Files.size(file) < 20_000 * 8, "capture is " + Files.size(file) + " bytes");
+
+        Files.write(dir.resolve("bad" + TelemetryCaptureWriter.EXTENSION), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThrows(IOException.class, () -> TelemetryCaptureReader.read(dir.resolve("bad.gcap")));
+    }
+
+    /**
+     * Replay reproduces the live verdicts with the captured limits, re-judges against new
+     * profiles, judges anomalies against the replayed fleet, and reports an unreadable capture
+     * without losing the others.
+     */
+    @Test
+    void testReplayEngineRevalidates() throws Exception {
+        List<ValidationTask> tasks = TaskCatalog.resolve(List.of("memory", "fan", "power", "health"), null, true);
+        TestRunner runner = new TestRunner(tasks);
+
+        List<TestReport> live = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            try (TelemetryCaptureWriter capture =
+                     new TelemetryCaptureWriter(dir.resolve("host-" + c + TelemetryCaptureWriter.EXTENSION))) {
+                for (int d = 0; d < 4; d++) {
+                    TestContext ctx = sampled("GPU-" + c + "-" + d, 2_000, 10L * c + d, capture);
+                    live.add(runner.runAll(ctx));
+                    capture.write(ctx);
+                }
+            }
+        }
+        Files.writeString(dir.resolve("host-9" + TelemetryCaptureWriter.EXTENSION), "truncated");
+        Files.writeString(dir.resolve("notes.txt"), "not a capture");
+
+        List<Path> captures = TelemetryCaptureReader.list(dir);
+        assertEquals(4, captures.size());
+
+        FleetReport replayed = new ReplayEngine(runner, 2).replay(captures);
+        assertEquals(13, replayed.deviceCount());
+        for (int i = 0; i < live.size(); i++) {
+            TestReport expected = live.get(i), actual = replayed.getReports().get(i);
+            assertEquals(expected.getContext().getDeviceId(), actual.getContext().getDeviceId());
+            assertEquals(expected.total(), actual.total());
+            for (int r = 0; r < expected.total(); r++) {
+                assertEquals(expected.getResults().get(r).isPassed(), actual.getResults().get(r).isPassed());
+                assertEquals(expected.getResults().get(r).getValue(), actual.getResults().get(r).getValue());
+            }
+        }
+        assertEquals(12, replayed.passedDevices());
+        TestReport failed = replayed.getReports().get(12);
+        assertEquals("host-9.gcap", failed.getContext().getDeviceId());
+        assertEquals("ReplayEngine", failed.getResults().get(0).getTaskName());
+
+        // The same captures against a profile whose power limit the final 740 W burst exceeds
+        Path json = dir.resolve("thresholds.json");
+        Files.writeString(json, "{\"MI300X\": {\"power.maxWatts\": 700}}");
+        ThresholdProfiles profiles = ThresholdProfiles.load(json);
+        FleetReport stricter = new ReplayEngine(runner).withThresholdProfiles(profiles, "mi300x")
+            .replay(captures.subList(0, 3));
+        assertEquals(12, stricter.failedDevices());
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReplayEngine(runner).withThresholdProfiles(profiles, "MI100").replay(captures));
+
+        FleetStatistics baseline = new FleetStatistics();
+        TestRunner anomaly = new TestRunner(TaskCatalog.resolve(List.of("anomaly"), null, true, baseline));
+        FleetReport judged = new ReplayEngine(anomaly, 2).withBaseline(baseline).replay(captures);
+        assertEquals(13, judged.deviceCount());
+        for (TestReport report : judged.getReports().subList(0, 12)) {
+            String message = report.getResults().get(0).getMessage();
+            assertFalse(message.startsWith("Not judged"), message);
+        }
+        assertEquals("ReplayEngine", judged.getReports().get(12).getResults().get(0).getTaskName());
+    }
+}
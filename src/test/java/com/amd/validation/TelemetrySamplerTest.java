@@ -0,0 +1,105 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for telemetry sampling and the primitive ring buffers behind it.
+ */
+class TelemetrySamplerTest {
+
+    /**
+     * The ring buffer keeps only the most recent window and computes stats over it.
+     */
+    @Test
+    void testRingBufferWindowStatistics() {
+        DoubleRingBuffer buf = new DoubleRingBuffer(100);
+        for (int i = 1; i <= 250; i++) {
+            buf.add(i);
+        }
+
+        assertTrue(buf.isFull());
+        assertEquals(100, buf.getSize());
+        assertEquals(151.0, buf.oldest());
+        assertEquals(250.0, buf.latest());
+        assertEquals(151.0, buf.getMin());
+        assertEquals(250.0, buf.getMax());
+        assertEquals(200.5, buf.getMean(), 1e-9);
+        assertEquals(249.0, buf.getP99());
+        assertEquals(200.0, buf.percentile(50));
+    }
+
+    /**
+     * Empty buffers report NaN rather than misleading zeros.
+     */
+    @Test
+    void testEmptyBufferStatistics() {
+        IntRingBuffer buf = new IntRingBuffer(8);
+        assertTrue(Double.isNaN(buf.getMean()));
+        assertTrue(Double.isNaN(buf.getP99()));
+    }
+
+    /**
+     * The sampler polls at the configured rate and records every poll into the series.
+     */
+    @Test
+    void testSamplerRecordsAtRate() {
+        TestContext ctx = new TestContext("GPU-S1");
+        AtomicInteger polls = new AtomicInteger();
+
+        TelemetrySampler sampler = new TelemetrySampler(200, Duration.ofMillis(250));
+        TelemetrySeries series = sampler.sample(ctx, c -> {
+            SystemInfoFetcher.populate(c);
+            c.setPowerWatts(100 + polls.getAndIncrement());
+        });
+
+        assertSame(series, ctx.getTelemetry());
+        assertEquals(50, series.getSampleCount());
+        assertEquals(50, polls.get());
+        assertEquals(100.0, series.getPowerWatts().getMin());
+        assertEquals(149.0, series.getPowerWatts().getMax());
+    }
+
+    /**
+     * Power validation judges the p99 of the window, so a single spike is tolerated
+     * but sustained overdraw fails. A pass is the shared result.
+     */
+    @Test
+    void testPowerValidationUsesWindow() {
+        TestContext ctx = new TestContext("GPU-S2");
+        SystemInfoFetcher.populate(ctx);
+        TelemetrySeries series = new TelemetrySeries(1000);
+        ctx.setTelemetry(series);
+
+        for (int i = 0; i < 999; i++) {
+            series.record(60.0, 1200, 150, 1.5);
+        }
+        series.record(60.0, 1200, 400, 1.5);
+        ValidationResult pass = new PowerConsumptionValidation().execute(ctx);
+        assertTrue(pass.isPassed());
+        assertSame(pass, new PowerConsumptionValidation().execute(ctx), "a passing window allocates no result");
+
+        for (int i = 0; i < 50; i++) {
+            series.record(60.0, 1200, 250, 1.5);
+        }
+        assertFalse(new PowerConsumptionValidation().execute(ctx).isPassed());
+    }
+
+    /**
+     * Several devices are sampled concurrently.
+     */
+    @Test
+    void testSampleAll() {
+        List<TestContext> devices = List.of(new TestContext("A"), new TestContext("B"));
+        new TelemetrySampler(100, Duration.ofMillis(100)).sampleAll(devices, SystemInfoFetcher::populate);
+
+        for (TestContext ctx : devices) {
+            assertEquals(10, ctx.getTelemetry().getSampleCount());
+        }
+    }
+}
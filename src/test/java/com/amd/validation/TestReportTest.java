@@ -0,0 +1,89 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TestReport} class.
+ */
+class TestReportTest {
+
+    /**
+     * Results come back in the order they were added, the running totals match them, and
+     * the list is reused until another result is added.
+     */
+    @Test
+    void testOrderTotalsAndSnapshot() {
+        TestReport report = new TestReport();
+        for (int i = 0; i < 10; i++) {
+            report.add(new ValidationResult("Task" + i, i % 3 != 0, "r" + i));
+        }
+
+        List<ValidationResult> results = report.getResults();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Task" + i, results.get(i).getTaskName());
+        }
+        assertEquals(new TestReport.Summary(6, 4), report.snapshot());
+        assertEquals(10, report.total());
+        assertSame(results, report.getResults());
+        assertThrows(UnsupportedOperationException.class, () -> results.add(results.get(0)));
+
+        report.add(new ValidationResult("Late", false, "added after the snapshot"));
+        assertEquals(10, results.size());
+        assertEquals("Late", report.getResults().get(10).getTaskName());
+        assertEquals(5, report.failed());
+        assertTrue(report.toString().contains("Total: 11  Passed: 6  Failed: 5"));
+    }
+
+    /**
+     * Many threads adding at once lose no result, keep each thread's results in its own
+     * order, and the totals can be read while they are still adding.
+     */
+    @Test
+    void testConcurrentWriters() throws Exception {
+        TestReport report = new TestReport();
+        int threads = 32, perThread = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                String name = "T" + t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        report.add(new ValidationResult(name, i % 2 == 0, String.valueOf(i)));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            long last = 0;
+            while (last < (long) threads * perThread) {
+                TestReport.Summary summary = report.snapshot();
+                assertTrue(summary.total() >= last, "totals never go backwards");
+                assertTrue(report.getResults().size() >= summary.total());
+                last = summary.total();
+            }
+        }
+
+        assertEquals(threads * perThread, report.total());
+        assertEquals(threads * perThread / 2, report.passed());
+        List<List<Integer>> perTask = new ArrayList<>();
+        for (int t = 0; t < threads; t++) perTask.add(new ArrayList<>());
+        for (ValidationResult r : report.getResults()) {
+            perTask.get(Integer.parseInt(r.getTaskName().substring(1))).add(Integer.parseInt(r.getMessage()));
+        }
+        for (List<Integer> seen : perTask) {
+            assertEquals(perThread, seen.size());
+            for (int i = 0; i < perThread; i++) {
+                assertEquals(i, seen.get(i));
+            }
+        }
+    }
+}
@@ -3,9 +3,13 @@ package com.amd.validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,7 +65,8 @@ class TestRunnerTest {
     }
 
     /**
-     * Ensures the runner propagates runtime exceptions from faulty tasks.
+     * Ensures a task that throws becomes a failed result with the exception as its cause,
+     * and the remaining tasks still run.
      */
     @Test
     void testTaskThatThrowsException() {
@@ -69,10 +74,99 @@ class TestRunnerTest {
         ValidationTask faultyTask = context -> {
             throw new RuntimeException("Simulated failure");
         };
+        ValidationTask next = context -> new ValidationResult("Next", true, "ran");
 
-        TestRunner runner = new TestRunner(List.of(faultyTask));
+        TestRunner runner = new TestRunner(List.of(faultyTask, next));
+        TestReport report = assertDoesNotThrow(() -> runner.runAll(context));
 
-        assertThrows(RuntimeException.class, () -> runner.runAll(context));
+        ValidationResult failed = report.getResults().get(0);
+        assertFalse(failed.isPassed());
+        assertEquals("Simulated failure", failed.getCause().getMessage());
+        assertTrue(failed.getMessage().contains("Simulated failure"));
+        assertTrue(report.getResults().get(1).isPassed());
+    }
+
+    /**
+     * A hung task is interrupted at its timeout and reported as failed; the device run
+     * moves on to the next task.
+     */
+    @Test
+    void testHungTaskTimesOut() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        ValidationTask hung = new ValidationTask() {
+            @Override
+            public ValidationResult execute(TestContext context) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return new ValidationResult("Hung", true, "woke up");
+            }
+
+            @Override
+            public String name() {
+                return "Hung";
+            }
+        };
+        ValidationTask quick = context -> new ValidationResult("Quick", true, "ok");
+
+        TestRunner runner = new TestRunner(List.of(hung, quick))
+            .withTimeout("Hung", Duration.ofMillis(100));
+
+        long start = System.nanoTime();
+        TestReport report = runner.runAll(context);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        ValidationResult timedOut = report.getResults().get(0);
+        assertFalse(timedOut.isPassed());
+        assertEquals("Hung", timedOut.getTaskName());
+        assertInstanceOf(TimeoutException.class, timedOut.getCause());
+        assertTrue(report.getResults().get(1).isPassed());
+        assertTrue(elapsedMs < 5_000, "timeout should cut the run short, took " + elapsedMs + " ms");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!interrupted.get()) Thread.sleep(10);
+        });
+    }
+
+    /**
+     * Faults are retried with backoff until an attempt succeeds; FAIL verdicts are not retried.
+     */
+    @Test
+    void testRetryWithBackoff() {
+        AtomicInteger flakyCalls = new AtomicInteger();
+        ValidationTask flaky = context -> {
+            if (flakyCalls.incrementAndGet() < 3) {
+                throw new IllegalStateException("sensor busy");
+            }
+            return new ValidationResult("Flaky", true, "read ok");
+        };
+        AtomicInteger failingCalls = new AtomicInteger();
+        ValidationTask failing = new ValidationTask() {
+            @Override
+            public ValidationResult execute(TestContext context) {
+                failingCalls.incrementAndGet();
+                return new ValidationResult("Failing", false, "over limit");
+            }
+        };
+
+        TestRunner runner = new TestRunner(List.of(flaky, failing))
+            .withRetry(RetryPolicy.exponential(3, Duration.ofMillis(10)));
+        TestReport report = runner.runAll(context);
+
+        assertTrue(report.getResults().get(0).isPassed());
+        assertEquals(3, flakyCalls.get());
+        assertEquals(1, failingCalls.get());
+
+        flakyCalls.set(-10);
+        ValidationResult exhausted = runner.runAll(context).getResults().get(0);
+        assertFalse(exhausted.isPassed());
+        assertTrue(exhausted.getMessage().endsWith("(after 3 attempts)"), exhausted.getMessage());
+
+        RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(100), 3.0, Duration.ofMillis(500));
+        assertEquals(Duration.ofMillis(100), policy.backoff(1));
+        assertEquals(Duration.ofMillis(300), policy.backoff(2));
+        assertEquals(Duration.ofMillis(500), policy.backoff(3));
     }
 
     /**
@@ -118,4 +212,110 @@ class TestRunnerTest {
 
         assertEquals("Step1;Step2;Step3;", log.toString());
     }
+
+    /**
+     * Independent tasks in a graph run concurrently, so total time tracks the longest task.
+     */
+    @Test
+    void testGraphRunsIndependentTasksConcurrently() {
+        ValidationTask slow = context -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ValidationResult("Slow", true, "done");
+        };
+
+        TaskGraph graph = new TaskGraph()
+            .add("a", slow)
+            .add("b", slow)
+            .add("c", slow);
+
+        long start = System.nanoTime();
+        TestReport report = new TestRunner(graph).runAll(context);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(3, report.passed());
+        assertTrue(elapsedMs < 900, "Independent tasks should overlap, took " + elapsedMs + " ms");
+    }
+
+    /**
+     * A failed prerequisite skips its dependents (transitively) without running them,
+     * while unrelated tasks still run. Results keep registration order, and skipped and
+     * executed results are named and counted alike.
+     */
+    @Test
+    void testGraphSkipsDependentsOfFailedPrerequisite() {
+        StringBuffer ran = new StringBuffer();
+        ValidationTask link = context -> {
+            ran.append("link;");
+            return new ValidationResult("Link", false, "Link training failed");
+        };
+        ValidationTask thermal = context -> {
+            ran.append("thermal;");
+            return new ValidationResult("Thermal", true, "ok");
+        };
+        ValidationTask soak = context -> {
+            ran.append("soak;");
+            return new ValidationResult("Soak", true, "ok");
+        };
+        ValidationTask fan = context -> {
+            ran.append("fan;");
+            return new ValidationResult("Fan", true, "ok");
+        };
+
+        TaskGraph graph = new TaskGraph()
+            .add("Link", link)
+            .add("Thermal", thermal, "Link")
+            .add("Soak", soak, "Thermal")
+            .add("Fan", fan);
+
+        MetricsRegistry metrics = new MetricsRegistry();
+        TestReport report = new TestRunner(graph).withMetrics(metrics).runAll(context);
+
+        assertEquals(4, report.total());
+        assertEquals(1, report.passed());
+        assertFalse(ran.toString().contains("thermal"));
+        assertFalse(ran.toString().contains("soak"));
+        assertEquals("Thermal", report.getResults().get(1).getTaskName());
+        assertTrue(report.getResults().get(1).getMessage().contains("Link"));
+        assertEquals("Fan", report.getResults().get(3).getTaskName());
+        assertEquals(1, metrics.getFailCount("Thermal"));
+        assertEquals(1, metrics.getPassCount("Fan"));
+        assertNotNull(metrics.getTaskLatency("Link"));
+    }
+
+    /**
+     * The catalog's graph keeps the task list's order and repeats, moving a thermal check
+     * only as far as its PCIe prerequisite needs; an Error thrown by a graph task reaches
+     * the caller as itself.
+     */
+    @Test
+    void testCatalogGraphMatchesSequentialTaskList() {
+        List<ValidationTask> tasks = TaskCatalog.resolve(List.of("thermal", "fan", "pcie", "fan"), null, true);
+        TaskGraph graph = TaskCatalog.graph(tasks);
+        assertEquals(List.of("FanSpeedValidation", "PCIeLinkValidation", "ThermalMonitorCheck", "FanSpeedValidation#2"),
+                     graph.getNodes().stream().map(TaskGraph.Node::getName).toList());
+
+        TestReport report = new TestRunner(graph).runAll(context);
+        assertEquals(new TestRunner(tasks).runAll(context).total(), report.total());
+        assertEquals("ThermalMonitorCheck", report.getResults().get(2).getTaskName());
+
+        ValidationTask broken = ctx -> {
+            throw new AssertionError("sensor firmware assert");
+        };
+        TestRunner runner = new TestRunner(new TaskGraph().add("Broken", broken));
+        assertThrows(AssertionError.class, () -> runner.runAll(context));
+    }
+
+    /**
+     * Prerequisites must be registered before their dependents.
+     */
+    @Test
+    void testGraphRejectsUnknownPrerequisite() {
+        TaskGraph graph = new TaskGraph();
+        assertThrows(IllegalArgumentException.class,
+            () -> graph.add("thermal", new ThermalMonitorCheck(), "pcie"));
+    }
 }
@@ -0,0 +1,118 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ThresholdProfile} and {@link ThresholdProfiles}.
+ */
+class ThresholdProfilesTest {
+
+    @TempDir
+    Path dir;
+
+    private static final String PROFILES = """
+        {
+          "default": {"health.maxTempC": 90},
+          "MI300":   {"power.maxWatts": 600},
+          "MI300X":  {"power.maxWatts": 750, "fan.maxRpm": 4200},
+          "Radeon":  {"power.maxWatts": 100}
+        }
+        """;
+
+    /** Replaces the file in one step, as deployment tools do. */
+    private static void replace(Path file, String content) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, content);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * SKU profiles layer over the default entry, are found by name or device name, and
+     * drive the tasks' limits.
+     */
+    @Test
+    void testProfilesResolveBySkuAndDeviceName() throws Exception {
+        Path file = dir.resolve("thresholds.json");
+        Files.writeString(file, PROFILES);
+        ThresholdProfiles profiles = ThresholdProfiles.load(file);
+        assertEquals(List.of("MI300", "MI300X", "Radeon"), profiles.names());
+
+        ThresholdProfile mi300x = profiles.resolve("mi300x", null);
+        assertEquals(750, mi300x.get(Threshold.POWER_MAX_WATTS));
+        assertEquals(4200, mi300x.get(Threshold.FAN_MAX_RPM));
+        assertEquals(90, mi300x.get(Threshold.HEALTH_MAX_TEMP_C), "inherits the default entry");
+        assertEquals(800, mi300x.get(Threshold.FAN_MIN_RPM), "inherits the built-in default");
+
+        assertEquals("MI300X", profiles.resolve(null, "AMD Instinct MI300X OAM").getName(), "longest match wins");
+        assertEquals("default", profiles.resolve(null, "AMD Instinct MI210").getName());
+        assertThrows(IllegalArgumentException.class, () -> profiles.resolve("MI100", null));
+
+        // The mock device is a Radeon: 110 W passes the built-in 200 W limit, not the profile's 100 W
+        TestContext ctx = new TestContext("GPU-1");
+        SystemInfoFetcher.populate(ctx);
+        PowerConsumptionValidation power = new PowerConsumptionValidation();
+        assertTrue(power.execute(ctx).isPassed());
+        ctx.setThresholds(profiles.resolve(null, ctx.getDeviceName()));
+        assertFalse(power.execute(ctx).isPassed());
+        assertTrue(new PowerConsumptionValidation(200).execute(ctx).isPassed(), "fixed limits ignore the profile");
+
+        Files.writeString(file, "{\"MI300X\": {\"power.maxWats\": 1}}");
+        assertThrows(IOException.class, () -> ThresholdProfiles.load(file));
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdProfile.DEFAULTS.withOverrides(Map.of("fan.max", 1.0)));
+
+        // "Default" is the default entry, not a SKU, and names may not collide by case
+        Files.writeString(file, "{\"Default\": {\"health.maxTempC\": 85}, \"MI300X\": {}}");
+        ThresholdProfiles cased = ThresholdProfiles.load(file);
+        assertEquals(List.of("MI300X"), cased.names());
+        assertEquals(85, cased.resolve("MI300X", null).get(Threshold.HEALTH_MAX_TEMP_C));
+        Files.writeString(file, "{\"default\": {}, \"DEFAULT\": {}}");
+        assertThrows(IOException.class, () -> ThresholdProfiles.load(file));
+        Files.writeString(file, "{\"MI300X\": {}, \"mi300x\": {}}");
+        assertThrows(IOException.class, () -> ThresholdProfiles.load(file));
+
+        // Fan limits are compared against whole RPM readings and are never truncated
+        Files.writeString(file, "{\"MI300X\": {\"fan.minRpm\": 799.9}}");
+        assertThrows(IOException.class, () -> ThresholdProfiles.load(file));
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdProfile.DEFAULTS.with(Threshold.FAN_MAX_RPM, 3500.5));
+        assertEquals(799, ThresholdProfile.DEFAULTS.with(Threshold.FAN_MIN_RPM, 799.0).get(Threshold.FAN_MIN_RPM));
+    }
+
+    /**
+     * Rewriting the file swaps the profiles in place; a broken file is ignored and a
+     * profile already handed to a run keeps its values.
+     */
+    @Test
+    void testWatchedFileReloads() throws Exception {
+        Path file = dir.resolve("thresholds.json");
+        Files.writeString(file, PROFILES);
+
+        try (ThresholdProfiles profiles = ThresholdProfiles.load(file).watch()) {
+            ThresholdProfile inFlight = profiles.resolve("MI300X", null);
+
+            replace(file, "{\"MI300X\": {\"power.maxWatts\": 700}}");
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (profiles.resolve("MI300X", null).get(Threshold.POWER_MAX_WATTS) != 700) {
+                assertTrue(System.nanoTime() < deadline, "profile was not reloaded");
+                Thread.sleep(20);
+            }
+            assertEquals(List.of("MI300X"), profiles.names());
+            assertEquals(750, inFlight.get(Threshold.POWER_MAX_WATTS));
+
+            Files.writeString(file, "{\"MI300X\": ");
+            assertFalse(profiles.reload());
+            assertEquals(700, profiles.resolve("MI300X", null).get(Threshold.POWER_MAX_WATTS));
+        }
+    }
+}
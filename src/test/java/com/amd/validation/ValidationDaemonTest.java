@@ -0,0 +1,160 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ValidationDaemon} and {@link TaskCatalog}.
+ */
+class ValidationDaemonTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpResponse<String> post(ValidationDaemon daemon, String body) throws Exception {
+        return client.send(request(daemon, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest request(ValidationDaemon daemon, String body) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + daemon.getPort() + "/jobs"))
+                          .POST(HttpRequest.BodyPublishers.ofString(body))
+                          .build();
+    }
+
+    /**
+     * A job streams one line per task and a summary; job thresholds override the defaults.
+     */
+    @Test
+    void testJobStreamsResultsAndReport() throws Exception {
+        try (ValidationDaemon daemon = new ValidationDaemon(0, new MockSensorProvider(), 2, 4)) {
+            HttpResponse<String> response = post(daemon,
+                "{\"deviceId\":\"GPU-007\",\"tasks\":[\"fan\",\"power\",\"location\"],"
+                + "\"thresholds\":{\"power.maxWatts\":100},"
+                + "\"expectedPciLocation\":\"PCI bus 4, device 0, function 0\"}");
+
+            assertEquals(200, response.statusCode());
+            assertEquals(ValidationDaemon.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(""));
+            List<String> lines = response.body().lines().toList();
+            assertEquals(4, lines.size(), response.body());
+            assertTrue(lines.get(0).contains("\"taskName\":\"FanSpeedValidation\",\"passed\":true"));
+            assertTrue(lines.get(1).contains("\"taskName\":\"PowerConsumptionValidation\",\"passed\":false"));
+            assertTrue(lines.get(2).contains("\"taskName\":\"PCIeLocationValidation\",\"passed\":true"));
+            assertEquals("{\"type\":\"report\",\"deviceId\":\"GPU-007\",\"passed\":2,\"failed\":1,\"total\":3}",
+                         lines.get(3));
+
+            assertEquals(1, daemon.getMetrics().getFailCount("PowerConsumptionValidation"));
+        }
+    }
+
+    /**
+     * A parallel job may list a task before its prerequisite and repeat tasks; it runs every
+     * listed task, as a sequential job would, instead of aborting while the graph is built.
+     */
+    @Test
+    void testParallelJobKeepsTaskList() throws Exception {
+        try (ValidationDaemon daemon = new ValidationDaemon(0, new MockSensorProvider(), 1, 2)) {
+            HttpResponse<String> response = post(daemon,
+                "{\"deviceId\":\"GPU-1\",\"tasks\":[\"thermal\",\"fan\",\"pcie\",\"fan\"],\"parallel\":true}");
+
+            assertEquals(200, response.statusCode());
+            assertFalse(response.body().contains("\"type\":\"error\""), response.body());
+            List<String> lines = response.body().lines().toList();
+            assertEquals(5, lines.size(), response.body());
+            assertEquals(2, lines.stream().filter(l -> l.contains("\"taskName\":\"FanSpeedValidation\"")).count());
+            assertTrue(lines.get(4).contains("\"passed\":4,\"failed\":0,\"total\":4"), lines.get(4));
+        }
+    }
+
+    /**
+     * Malformed jobs are rejected with 400 before they are queued.
+     */
+    @Test
+    void testInvalidJobIsRejected() throws Exception {
+        try (ValidationDaemon daemon = new ValidationDaemon(0, new MockSensorProvider(), 1, 1)) {
+            assertEquals(400, post(daemon, "{\"deviceId\":\"GPU-1\",\"tasks\":[\"warp-drive\"]}").statusCode());
+            assertEquals(400, post(daemon, "{\"tasks\":[\"fan\"]}").statusCode());
+            assertEquals(400, post(daemon, "not json").statusCode());
+            assertEquals(400, post(daemon, "{\"deviceId\":\"GPU-1\",\"thresholds\":{\"fan.max\":1}}").statusCode());
+        }
+    }
+
+    /**
+     * When every worker is busy and the queue is full, new jobs get 503 instead of piling up.
+     */
+    @Test
+    void testFullQueueRejectsJobs() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SensorProvider blocking = new SensorProvider() {
+            @Override
+            public String name() {
+                return "blocking";
+            }
+
+            @Override
+            public void populate(TestContext ctx) {
+                SystemInfoFetcher.populate(ctx);
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        try (ValidationDaemon daemon = new ValidationDaemon(0, blocking, 1, 1)) {
+            String job = "{\"deviceId\":\"GPU-1\",\"tasks\":[\"fan\"]}";
+            CompletableFuture<HttpResponse<String>> running =
+                client.sendAsync(request(daemon, job), HttpResponse.BodyHandlers.ofString());
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            CompletableFuture<HttpResponse<String>> queued =
+                client.sendAsync(request(daemon, job), HttpResponse.BodyHandlers.ofString());
+
+            URI status = URI.create("http://127.0.0.1:" + daemon.getPort() + "/status");
+            for (int i = 0; i < 250; i++) {
+                String body = client.send(HttpRequest.newBuilder(status).build(),
+                                          HttpResponse.BodyHandlers.ofString()).body();
+                if (body.contains("\"queued\":1")) break;
+                Thread.sleep(20);
+            }
+
+            HttpResponse<String> rejected = post(daemon, job);
+            assertEquals(503, rejected.statusCode(), "third job should be rejected while the queue is full");
+            assertTrue(rejected.body().contains("queue full"));
+
+            release.countDown();
+            assertEquals(200, running.get(5, TimeUnit.SECONDS).statusCode());
+            assertTrue(queued.get(5, TimeUnit.SECONDS).body().contains("\"type\":\"report\""));
+        }
+    }
+
+    /**
+     * The catalog builds tasks in the order named and validates names; the tasks read
+     * their limits from the context's profile.
+     */
+    @Test
+    void testCatalogResolvesTasksWithThresholds() {
+        List<ValidationTask> tasks = TaskCatalog.resolve(List.of("power", "health"), null, true);
+        assertInstanceOf(PowerConsumptionValidation.class, tasks.get(0));
+
+        TestContext ctx = new TestContext("GPU-1");
+        SystemInfoFetcher.populate(ctx);
+        assertTrue(tasks.get(1).execute(ctx).isPassed());
+        ctx.setThresholds(ThresholdProfile.DEFAULTS.withOverrides(Map.of("health.maxTempC", 50.0)));
+        assertFalse(tasks.get(1).execute(ctx).isPassed(), "54 °C exceeds the 50 °C override");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> TaskCatalog.resolve(List.of("location"), null, true));
+    }
+}
@@ -0,0 +1,184 @@
+package com.amd.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ZipReportBundler} and the {@link ParallelZipWriter} behind it.
+ * Archives are read back with {@link ZipFile} to check they are standard ZIPs.
+ */
+class ZipReportBundlerTest {
+
+    @TempDir
+    Path dir;
+
+    private static String read(ZipFile zip, String name) throws Exception {
+        ZipEntry entry = zip.getEntry(name);
+        assertNotNull(entry, "missing entry " + name);
+        return new String(zip.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Every file below the directory is archived intact, except the archive itself.
+     */
+    @Test
+    void testBundleDirectorySkipsItsOwnArchive() throws Exception {
+        Path reports = Files.createDirectories(dir.resolve("results/GPU-001"));
+        Files.writeString(reports.resolve("report.csv"), "a,b\n1,2\n");
+        Files.writeString(reports.resolve("empty.txt"), "");
+        Files.writeString(dir.resolve("results/big.log"), "line of telemetry\n".repeat(50_000));
+
+        Path zipPath = dir.resolve("results/report_bundle.zip");
+        ZipReportBundler.bundleReports(dir.resolve("results"), zipPath);
+        // A second run must not pick up the archive written by the first
+        ZipReportBundler.bundleReports(dir.resolve("results"), zipPath);
+
+        try (ZipFile zip = new ZipFile(zipPath.toFile())) {
+            List<String> names = new ArrayList<>();
+            zip.stream().forEach(e -> names.add(e.getName()));
+            assertEquals(List.of("GPU-001/empty.txt", "GPU-001/report.csv", "big.log"), names);
+            assertEquals("a,b\n1,2\n", read(zip, "GPU-001/report.csv"));
+            assertEquals("", read(zip, "GPU-001/empty.txt"));
+            assertEquals(50_000 * 18, read(zip, "big.log").length());
+            assertTrue(zip.getEntry("big.log").getCompressedSize() < 50_000);
+        }
+    }
+
+    /**
+     * Reports streamed from memory keep their order across many concurrently deflated entries.
+     */
+    @Test
+    void testBundleReportsStreamsFromMemory() throws Exception {
+        List<TestReport> reports = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            TestContext ctx = new TestContext(String.format("GPU-%03d", i));
+            SystemInfoFetcher.populate(ctx);
+            TestReport report = new TestReport();
+            report.add(new ValidationResult("FanSpeedValidation", i % 3 != 0, "fan " + i));
+            report.setContext(ctx);
+            reports.add(report);
+        }
+
+        Path zipPath = dir.resolve("fleet_bundle.zip");
+        ZipReportBundler.bundleReports(reports, zipPath);
+
+        try (ZipFile zip = new ZipFile(zipPath.toFile())) {
+            assertEquals(400, zip.size());
+            List<String> names = new ArrayList<>();
+            zip.stream().forEach(e -> names.add(e.getName()));
+            List<String> sorted = new ArrayList<>(names);
+            Collections.sort(sorted);
+            assertEquals(sorted, names);
+
+            String csv = read(zip, "GPU-042/report.csv");
+            assertTrue(csv.contains("\"FanSpeedValidation\",\"FAIL\",\"fan 42\",\"GPU-042\""), csv);
+            String json = read(zip, "GPU-199/report.json");
+            assertTrue(json.contains("\"deviceId\" : \"GPU-199\""), json);
+        }
+        assertEquals(List.of("fleet_bundle.zip"), Files.list(dir).map(p -> p.getFileName().toString()).toList());
+    }
+
+    /**
+     * Files above the inline size are streamed with a data descriptor, and more than 65535
+     * entries get ZIP64 records; both read back with {@link ZipFile} and {@link ZipInputStream}.
+     */
+    @Test
+    void testWriterStreamsLargeFilesAndWritesZip64() throws Exception {
+        Path big = dir.resolve("big.log");
+        try (var w = Files.newBufferedWriter(big)) {
+            for (int i = 0; i < 700_000; i++) {
+                w.write("sample " + i + "\n");
+            }
+        }
+        long bigSize = Files.size(big);
+        assertTrue(bigSize > ParallelZipWriter.INLINE_FILE_SIZE);
+
+        Path zipPath = dir.resolve("many.zip");
+        int entries = 70_000;
+        try (ParallelZipWriter zip = new ParallelZipWriter(zipPath, 4)) {
+            zip.addEntry("first.txt", out -> out.write('a'));
+            zip.addFile("big.log", big);
+            for (int i = 2; i < entries; i++) {
+                int n = i;
+                zip.addEntry("e/" + n, out -> out.write(Integer.toString(n).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        try (ZipFile zip = new ZipFile(zipPath.toFile())) {
+            assertEquals(entries, zip.size());
+            assertEquals("a", read(zip, "first.txt"));
+            assertEquals(bigSize, zip.getEntry("big.log").getSize());
+            assertArrayEquals(Files.readAllBytes(big), zip.getInputStream(zip.getEntry("big.log")).readAllBytes());
+            assertEquals("69999", read(zip, "e/69999"));
+        }
+        try (InputStream in = Files.newInputStream(zipPath); ZipInputStream zin = new ZipInputStream(in)) {
+            assertEquals("first.txt", zin.getNextEntry().getName());
+            assertEquals("big.log", zin.getNextEntry().getName());
+            assertEquals(bigSize, zin.readAllBytes().length);
+            assertEquals("e/2", zin.getNextEntry().getName());
+        }
+    }
+
+    /**
+     * An entry that fails deletes the partial archive and surfaces its error.
+     */
+    @Test
+    void testWriterDeletesArchiveWhenAnEntryFails() throws Exception {
+        Path zipPath = dir.resolve("broken.zip");
+        ParallelZipWriter zip = new ParallelZipWriter(zipPath, 2);
+        zip.addEntry("ok.txt", out -> out.write('a'));
+        zip.addEntry("bad.txt", out -> {
+            throw new IOException("sensor log unreadable");
+        });
+        IOException e = assertThrows(IOException.class, zip::close);
+        assertEquals("sensor log unreadable", e.getMessage());
+        assertFalse(Files.exists(zipPath));
+        assertThrows(IOException.class, () -> zip.addEntry("late.txt", out -> out.write('b')));
+
+        try (ParallelZipWriter missing = new ParallelZipWriter(zipPath)) {
+            assertThrows(IOException.class, () -> missing.addFile("gone.log", dir.resolve("gone.log")));
+        }
+        assertFalse(Files.exists(zipPath));
+    }
+
+    /**
+     * Device IDs cannot escape their directory, and repeated IDs get their own directories
+     * instead of failing the bundle with duplicate entries.
+     */
+    @Test
+    void testBundleReportsSanitizesDeviceIds() throws Exception {
+        List<TestReport> reports = new ArrayList<>();
+        for (String id : List.of("../../etc", "..", "GPU-1", "GPU-1", "rack/GPU-1")) {
+            TestReport report = new TestReport();
+            report.add(new ValidationResult("FanSpeedValidation", true, "ok"));
+            report.setContext(new TestContext(id));
+            reports.add(report);
+        }
+
+        Path zipPath = dir.resolve("bundle.zip");
+        ZipReportBundler.bundleReports(reports, zipPath);
+
+        try (ZipFile zip = new ZipFile(zipPath.toFile())) {
+            List<String> dirs = zip.stream().map(ZipEntry::getName)
+                                   .filter(n -> n.endsWith("/report.csv"))
+                                   .map(n -> n.substring(0, n.length() - "/report.csv".length()))
+                                   .toList();
+            assertEquals(List.of(".._.._etc", "___", "GPU-1", "GPU-1-2", "rack_GPU-1"), dirs);
+            assertEquals(10, zip.size());
+        }
+    }
+}